@@ -30,6 +30,9 @@ public enum ErrorStatus implements BaseErrorCode {
 	_BAD_REQUEST(HttpStatus.BAD_REQUEST, "COMMON400", "잘못된 요청입니다."),
 	_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "COMMON401", "인증이 필요합니다."),
 	_FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON403", "금지된 요청입니다."),
+	_TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON429", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+	_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "COMMON503", "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "COMMON4001", "페이지 커서 값은 모두 함께 전달해야 합니다."),
 
 	/// 멤버 관련 에러
 	USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "MEMBER4001", "사용자가 없습니다."),
@@ -52,6 +55,7 @@ public enum ErrorStatus implements BaseErrorCode {
 	// 재활 플랜
 	REHAB_PLAN_NOT_FOUND(HttpStatus.NOT_FOUND, "PLAN_001", "재활 플랜을 찾을 수 없습니다."),
 	NO_ACTIVE_PLAN(HttpStatus.NOT_FOUND, "PLAN_002", "활성화된 재활 플랜이 없습니다."),
+	PLAN_TEMPLATE_NOT_FOUND(HttpStatus.NOT_FOUND, "PLAN_004", "플랜 템플릿을 찾을 수 없습니다."),
 
 	// 플랜 항목
 	PLAN_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "PLAN_003", "플랜 항목을 찾을 수 없습니다."),
@@ -66,6 +70,7 @@ public enum ErrorStatus implements BaseErrorCode {
 
 	// 일일 요약
 	DAILY_SUMMARY_NOT_FOUND(HttpStatus.NOT_FOUND, "SUMMARY_001", "일일 요약을 찾을 수 없습니다."),
+	INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "SUMMARY_002", "시작일은 종료일보다 늦을 수 없습니다."),
 
 	AI_INFERENCE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI_001", "AI 추론에 실패했습니다."),
 	AI_SERVER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI_002", "AI 서버를 사용할 수 없습니다."),
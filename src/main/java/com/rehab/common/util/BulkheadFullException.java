@@ -0,0 +1,14 @@
+package com.rehab.common.util;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * bulkhead 자리를 얻지 못해 요청을 보내지 않았음
+ * 외부 서버의 실패가 아니므로 서킷 브레이커 실패로 세지 않음
+ */
+public class BulkheadFullException extends RestClientException {
+
+	public BulkheadFullException(String message) {
+		super(message);
+	}
+}
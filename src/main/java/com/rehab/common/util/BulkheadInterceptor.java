@@ -0,0 +1,122 @@
+package com.rehab.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RestTemplate 동시 호출 수 제한 (bulkhead)
+ * - 동시에 진행 중인 호출을 maxConcurrentCalls 개로 제한해 외부 서버로 나가는 연결 수도 제한
+ * - 자리가 나기를 maxWaitMillis 까지만 기다리고, 넘으면 BulkheadFullException (요청은 보내지 않음)
+ * - {name}.queue_wait (자리 대기) 와 {name}.duration (실제 호출) 을 따로 측정
+ */
+public class BulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+	private final Semaphore permits;
+	private final long maxWaitMillis;
+
+	private final Timer queueWaitTimer;
+	private final Timer serviceTimer;
+	private final Counter rejectedCounter;
+
+	public BulkheadInterceptor(String name, int maxConcurrentCalls, long maxWaitMillis, MeterRegistry meterRegistry) {
+		this.permits = new Semaphore(maxConcurrentCalls, true);
+		this.maxWaitMillis = maxWaitMillis;
+
+		this.queueWaitTimer = meterRegistry.timer(name + ".queue_wait");
+		this.serviceTimer = meterRegistry.timer(name + ".duration");
+		this.rejectedCounter = meterRegistry.counter(name + ".rejected");
+		meterRegistry.gauge(name + ".in_flight", permits, p -> maxConcurrentCalls - p.availablePermits());
+	}
+
+	@Override
+	public ClientHttpResponse intercept(
+		HttpRequest request,
+		byte[] body,
+		ClientHttpRequestExecution execution
+	) throws IOException {
+		long waitStart = System.nanoTime();
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BulkheadFullException("동시 호출 대기 중 인터럽트: " + request.getURI());
+		}
+		queueWaitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+		if (!acquired) {
+			rejectedCounter.increment();
+			throw new BulkheadFullException("동시 호출 한도 초과: " + request.getURI());
+		}
+
+		long serviceStart = System.nanoTime();
+		try {
+			// 응답 본문을 다 읽고 close 할 때까지 연결을 쓰므로 그때 반납
+			return new PermitReleasingResponse(execution.execute(request, body), serviceStart);
+		} catch (IOException | RuntimeException e) {
+			release(serviceStart);
+			throw e;
+		}
+	}
+
+	private void release(long serviceStart) {
+		serviceTimer.record(System.nanoTime() - serviceStart, TimeUnit.NANOSECONDS);
+		permits.release();
+	}
+
+	private class PermitReleasingResponse implements ClientHttpResponse {
+
+		private final ClientHttpResponse delegate;
+		private final long serviceStart;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		PermitReleasingResponse(ClientHttpResponse delegate, long serviceStart) {
+			this.delegate = delegate;
+			this.serviceStart = serviceStart;
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() throws IOException {
+			return delegate.getStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return delegate.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return delegate.getHeaders();
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			return delegate.getBody();
+		}
+
+		@Override
+		public void close() {
+			try {
+				delegate.close();
+			} finally {
+				if (released.compareAndSet(false, true)) {
+					release(serviceStart);
+				}
+			}
+		}
+	}
+}
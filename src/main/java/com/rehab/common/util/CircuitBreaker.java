@@ -0,0 +1,176 @@
+package com.rehab.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 호출용 서킷 브레이커 (최근 windowSize 개 호출 기준)
+ * - CLOSED: 실패율 ≥ failureRateThreshold 이거나
+ *           latencyPercentile 지연이 slowCallThreshold 를 넘으면 OPEN
+ *           (p90 > 임계값 ⇔ 임계값보다 느린 호출 비율 > 10%)
+ * - OPEN: openDuration 동안 호출하지 않음 (tryAcquire false)
+ * - HALF_OPEN: probeCalls 개만 시험 호출, 모두 정상이면 CLOSED, 하나라도 실패/지연이면 다시 OPEN
+ * 호출 측에서 tryAcquire 가 true 일 때만 호출하고 결과를 onSuccess / onFailure / onIgnored 로 알려야 함
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private static final byte FAILURE = 1;
+	private static final byte SLOW = 2;
+
+	private final int windowSize;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final double slowCallRateThreshold;
+	private final long slowCallThresholdNanos;
+	private final long openDurationNanos;
+	private final int probeCalls;
+
+	// 최근 호출 결과 (FAILURE / SLOW 비트)
+	private final byte[] outcomes;
+	private int position;
+	private int recorded;
+	private int failures;
+	private int slowCalls;
+
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int probesIssued;
+	private int probesSucceeded;
+
+	private final Counter notPermittedCounter;
+	private final Counter openedCounter;
+
+	public CircuitBreaker(
+		String name,
+		int windowSize,
+		int minimumCalls,
+		double failureRateThreshold,
+		double latencyPercentile,
+		long slowCallThresholdMillis,
+		long openDurationMillis,
+		int probeCalls,
+		MeterRegistry meterRegistry
+	) {
+		this.windowSize = windowSize;
+		this.minimumCalls = Math.min(minimumCalls, windowSize);
+		this.failureRateThreshold = failureRateThreshold;
+		this.slowCallRateThreshold = 1.0 - latencyPercentile;
+		this.slowCallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowCallThresholdMillis);
+		this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+		this.probeCalls = probeCalls;
+		this.outcomes = new byte[windowSize];
+
+		this.notPermittedCounter = meterRegistry.counter(name + ".not_permitted");
+		this.openedCounter = meterRegistry.counter(name + ".opened");
+		meterRegistry.gauge(name + ".state", this, breaker -> breaker.getState().ordinal());
+	}
+
+	/**
+	 * 호출 가능 여부 (OPEN 이면 즉시 false)
+	 */
+	public synchronized boolean tryAcquire() {
+		if (state == State.OPEN) {
+			if (System.nanoTime() - openedAt < openDurationNanos) {
+				notPermittedCounter.increment();
+				return false;
+			}
+			state = State.HALF_OPEN;
+			probesIssued = 0;
+			probesSucceeded = 0;
+		}
+		if (state == State.HALF_OPEN) {
+			if (probesIssued >= probeCalls) {
+				notPermittedCounter.increment();
+				return false;
+			}
+			probesIssued++;
+		}
+		return true;
+	}
+
+	public synchronized void onSuccess(long durationNanos) {
+		record(durationNanos >= slowCallThresholdNanos ? SLOW : 0);
+	}
+
+	public synchronized void onFailure(long durationNanos) {
+		record((byte) (FAILURE | (durationNanos >= slowCallThresholdNanos ? SLOW : 0)));
+	}
+
+	/**
+	 * 서버 상태와 무관한 결과 (요청을 보내지 못함 등) - 기록하지 않고 시험 호출 자리만 돌려줌
+	 */
+	public synchronized void onIgnored() {
+		if (state == State.HALF_OPEN && probesIssued > probesSucceeded) {
+			probesIssued--;
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	private void record(byte outcome) {
+		switch (state) {
+			case HALF_OPEN -> {
+				if (outcome != 0) {
+					open();
+				} else if (++probesSucceeded >= probeCalls) {
+					close();
+				}
+			}
+			case CLOSED -> {
+				if (recorded == windowSize) {
+					forget(outcomes[position]);
+				} else {
+					recorded++;
+				}
+				outcomes[position] = outcome;
+				position = (position + 1) % windowSize;
+				if ((outcome & FAILURE) != 0) {
+					failures++;
+				}
+				if ((outcome & SLOW) != 0) {
+					slowCalls++;
+				}
+
+				if (recorded >= minimumCalls
+					&& ((double) failures / recorded >= failureRateThreshold
+					|| (double) slowCalls / recorded > slowCallRateThreshold)) {
+					open();
+				}
+			}
+			// OPEN 전에 나간 호출의 늦은 결과는 무시
+			case OPEN -> {
+			}
+		}
+	}
+
+	private void forget(byte outcome) {
+		if ((outcome & FAILURE) != 0) {
+			failures--;
+		}
+		if ((outcome & SLOW) != 0) {
+			slowCalls--;
+		}
+	}
+
+	private void open() {
+		state = State.OPEN;
+		openedAt = System.nanoTime();
+		openedCounter.increment();
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		position = 0;
+		recorded = 0;
+		failures = 0;
+		slowCalls = 0;
+	}
+}
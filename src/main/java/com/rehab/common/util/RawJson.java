@@ -0,0 +1,74 @@
+package com.rehab.common.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.IOException;
+
+/**
+ * DB JSON 컬럼 값을 파싱 없이 응답에 그대로 싣기 위한 래퍼
+ * - JSON 컬럼(@JdbcTypeCode(SqlTypes.JSON))은 DB 가 유효한 JSON 을 보장하므로
+ *   조회할 때마다 readTree 로 트리를 만들지 않고 저장된 문자열을 그대로 직렬화
+ * - 역직렬화(Redis 캐시 등)는 트리를 읽어 문자열로 보관
+ */
+@Schema(type = "object", description = "JSON 데이터")
+@JsonSerialize(using = RawJson.Serializer.class)
+@JsonDeserialize(using = RawJson.Deserializer.class)
+public final class RawJson {
+
+	private final String json;
+
+	private RawJson(String json) {
+		this.json = json;
+	}
+
+	/**
+	 * 저장된 JSON 문자열을 감쌈 (null 또는 빈 문자열이면 null)
+	 */
+	public static RawJson of(String json) {
+		if (json == null || json.isEmpty()) {
+			return null;
+		}
+		return new RawJson(json);
+	}
+
+	public String value() {
+		return json;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return this == o || (o instanceof RawJson other && json.equals(other.json));
+	}
+
+	@Override
+	public int hashCode() {
+		return json.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return json;
+	}
+
+	static class Serializer extends JsonSerializer<RawJson> {
+		@Override
+		public void serialize(RawJson value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+			gen.writeRawValue(value.json);
+		}
+	}
+
+	static class Deserializer extends JsonDeserializer<RawJson> {
+		@Override
+		public RawJson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+			return RawJson.of(p.readValueAsTree().toString());
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.rehab.common.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * TTL 결과 캐시 + single-flight
+ * - 같은 키로 동시에 들어온 요청은 진행 중인 호출 하나의 결과를 함께 기다림
+ * - 로더는 처음 요청한 스레드에서 실행 (별도 스레드 풀 없음)
+ * - 로더가 실패하면 캐시에 남기지 않고 기다리던 요청 모두에 같은 예외 전달
+ * 캐시된 값은 여러 요청이 공유하므로 호출 측에서 변경하지 말 것
+ */
+public class SingleFlightCache<K, V> {
+
+	private final AsyncCache<K, V> cache;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter coalescedCounter;
+
+	public SingleFlightCache(String name, long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.buildAsync();
+
+		this.hitCounter = meterRegistry.counter(name + ".hit");
+		this.missCounter = meterRegistry.counter(name + ".miss");
+		this.coalescedCounter = meterRegistry.counter(name + ".coalesced");
+	}
+
+	/**
+	 * 캐시 조회, 없으면 loader 실행
+	 * loader 가 던진 예외(Error 포함)는 그대로 다시 던짐
+	 */
+	public Result<V> get(K key, Supplier<V> loader) {
+		CompletableFuture<V> future = new CompletableFuture<>();
+		CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, future);
+
+		if (existing != null) {
+			if (existing.isDone()) {
+				hitCounter.increment();
+			} else {
+				coalescedCounter.increment();
+			}
+			return new Result<>(join(existing), true);
+		}
+
+		missCounter.increment();
+		try {
+			V value = loader.get();
+			future.complete(value);
+			return new Result<>(value, false);
+		} catch (Throwable e) {
+			// Error 로 끝나도 기다리던 요청이 멈추지 않도록 반드시 완료
+			// 실패한 future 는 Caffeine 이 자동으로 제거
+			future.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	public void invalidateAll() {
+		cache.synchronous().invalidateAll();
+	}
+
+	private V join(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * @param cached 캐시 또는 다른 요청의 진행 중 호출에서 얻은 값이면 true
+	 */
+	public record Result<V>(V value, boolean cached) {
+	}
+}
@@ -0,0 +1,55 @@
+package com.rehab.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 64비트 ID 생성기 (DB 없이 미리 발급)
+ * [41비트: 2024-01-01 기준 ms][10비트: 노드 ID][12비트: ms 내 순번]
+ * - 같은 노드에서 발급한 ID 는 항상 증가 (시계가 뒤로 가거나 ms 당 4096 개를 넘으면 다음 ms 를 당겨 씀)
+ * - 노드 ID 가 다르면 충돌하지 않음
+ */
+public class TimeOrderedIdGenerator {
+
+	private static final long EPOCH_MILLIS = 1704067200000L;  // 2024-01-01T00:00:00Z
+
+	private static final int NODE_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+	private final long nodeId;
+
+	// [타임스탬프][순번] — CAS 로 갱신
+	private final AtomicLong state = new AtomicLong();
+
+	public TimeOrderedIdGenerator(int nodeId) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("nodeId 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+		}
+		this.nodeId = nodeId;
+	}
+
+	public long nextId() {
+		while (true) {
+			long now = System.currentTimeMillis() - EPOCH_MILLIS;
+			long prev = state.get();
+			long prevTime = prev >>> SEQUENCE_BITS;
+
+			long next;
+			if (now > prevTime) {
+				next = now << SEQUENCE_BITS;
+			} else if ((prev & SEQUENCE_MASK) < SEQUENCE_MASK) {
+				next = prev + 1;
+			} else {
+				next = (prevTime + 1) << SEQUENCE_BITS;
+			}
+
+			if (state.compareAndSet(prev, next)) {
+				long timestamp = next >>> SEQUENCE_BITS;
+				long sequence = next & SEQUENCE_MASK;
+				return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+			}
+		}
+	}
+}
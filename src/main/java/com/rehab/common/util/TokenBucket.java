@@ -0,0 +1,45 @@
+package com.rehab.common.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA 방식)
+ * - 상태는 "다음 토큰이 비는 이론상 시각(TAT)" 하나뿐이라 AtomicLong CAS 로 갱신
+ * - capacity 만큼 순간 허용, 이후 refillPerSecond 속도로 충전
+ */
+public class TokenBucket {
+
+	private final long intervalNanos;
+	private final long burstNanos;
+	private final AtomicLong theoreticalArrivalTime;
+
+	public TokenBucket(long capacity, double refillPerSecond) {
+		if (capacity <= 0 || refillPerSecond <= 0) {
+			throw new IllegalArgumentException("capacity 와 refillPerSecond 는 0보다 커야 합니다.");
+		}
+		this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+		this.burstNanos = intervalNanos * capacity;
+		this.theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+	}
+
+	/**
+	 * 토큰 1개 획득 시도
+	 *
+	 * @return 0 이면 허용, 아니면 다음 토큰까지 기다려야 하는 나노초
+	 */
+	public long tryAcquire() {
+		long now = System.nanoTime();
+		while (true) {
+			long tat = theoreticalArrivalTime.get();
+			long newTat = Math.max(tat, now) + intervalNanos;
+			long waitNanos = newTat - now - burstNanos;
+			if (waitNanos > 0) {
+				return waitNanos;
+			}
+			if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+				return 0;
+			}
+		}
+	}
+}
@@ -1,11 +1,17 @@
 package com.rehab.config;
 
+import com.rehab.common.util.BulkheadInterceptor;
+import com.rehab.common.util.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 /**
  * AI 모델 서버 통신 설정
  * 학과 서버에 배포된 허깅페이스 모델 엔드포인트와 통신
@@ -22,12 +28,74 @@ public class AiModelConfig {
 	@Value("${ai-model.read-timeout:30000}")
 	private int readTimeout;
 
+	// 동시에 진행 중인 모델 호출 수 (= 모델 서버로 열리는 최대 연결 수)
+	@Value("${ai-model.max-concurrent-calls:16}")
+	private int maxConcurrentCalls;
+
+	@Value("${ai-model.max-wait-ms:500}")
+	private long maxWaitMillis;
+
+	// 서킷 브레이커: 최근 N 개 호출 중 실패율 또는 지연 백분위가 임계값을 넘으면 차단
+	@Value("${ai-model.circuit-breaker.window-size:50}")
+	private int breakerWindowSize;
+
+	@Value("${ai-model.circuit-breaker.minimum-calls:10}")
+	private int breakerMinimumCalls;
+
+	@Value("${ai-model.circuit-breaker.failure-rate:0.5}")
+	private double breakerFailureRate;
+
+	@Value("${ai-model.circuit-breaker.latency-percentile:0.9}")
+	private double breakerLatencyPercentile;
+
+	@Value("${ai-model.circuit-breaker.slow-call-ms:5000}")
+	private long breakerSlowCallMillis;
+
+	@Value("${ai-model.circuit-breaker.open-duration-ms:30000}")
+	private long breakerOpenDurationMillis;
+
+	@Value("${ai-model.circuit-breaker.probe-calls:3}")
+	private int breakerProbeCalls;
+
+	/**
+	 * JDK HttpClient 기반 RestTemplate
+	 * - 연결을 keep-alive 로 재사용 (요청마다 새 연결을 열지 않음), 서버가 지원하면 HTTP/2
+	 * - bulkhead 로 동시 호출 수 제한, 대기/호출 시간 측정 (ai_model.call.*)
+	 */
+	@Bean
+	public RestTemplate aiModelRestTemplate(MeterRegistry meterRegistry) {
+		HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.connectTimeout(Duration.ofMillis(connectTimeout))  // 연결 타임아웃: 5초
+			.build();
+
+		JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+		factory.setReadTimeout(Duration.ofMillis(readTimeout));  // 읽기 타임아웃: 30초
+
+		RestTemplate restTemplate = new RestTemplate(factory);
+		restTemplate.getInterceptors().add(
+			new BulkheadInterceptor("ai_model.call", maxConcurrentCalls, maxWaitMillis, meterRegistry)
+		);
+		return restTemplate;
+	}
+
+	/**
+	 * 모델 서버 서킷 브레이커 (ai_model.circuit.*)
+	 * 기본값: 최근 50회 중 실패 50% 이상 또는 p90 지연 5초 초과면 30초 차단
+	 */
 	@Bean
-	public RestTemplate aiModelRestTemplate() {
-		SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-		factory.setConnectTimeout(connectTimeout);  // 연결 타임아웃: 5초
-		factory.setReadTimeout(readTimeout);        // 읽기 타임아웃: 30초
-		return new RestTemplate(factory);
+	public CircuitBreaker aiModelCircuitBreaker(MeterRegistry meterRegistry) {
+		return new CircuitBreaker(
+			"ai_model.circuit",
+			breakerWindowSize,
+			breakerMinimumCalls,
+			breakerFailureRate,
+			breakerLatencyPercentile,
+			breakerSlowCallMillis,
+			breakerOpenDurationMillis,
+			breakerProbeCalls,
+			meterRegistry
+		);
 	}
 
 	public String getAiModelBaseUrl() {
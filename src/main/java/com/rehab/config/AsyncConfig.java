@@ -0,0 +1,102 @@
+package com.rehab.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 작업 실행 설정
+ * 요청 스레드 밖에서 처리할 작업들의 스레드 풀을 정의
+ */
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+	@Value("${daily-summary.recompute.pool-size:4}")
+	private int dailySummaryPoolSize;
+
+	@Value("${daily-summary.recompute.queue-capacity:1000}")
+	private int dailySummaryQueueCapacity;
+
+	// 기본값: CPU 코어 수
+	@Value("${auth.password-hash.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+	private int passwordHashPoolSize;
+
+	@Value("${auth.password-hash.queue-capacity:100}")
+	private int passwordHashQueueCapacity;
+
+	@Value("${mail.outbox.worker-pool-size:2}")
+	private int mailWorkerPoolSize;
+
+	/**
+	 * 일일 요약 재계산 전용 스레드 풀
+	 * 큐가 가득 차면 TaskRejectedException 발생 → 호출 측에서 다음 주기로 미룸
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor dailySummaryExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(dailySummaryPoolSize);
+		executor.setMaxPoolSize(dailySummaryPoolSize);
+		executor.setQueueCapacity(dailySummaryQueueCapacity);
+		executor.setThreadNamePrefix("daily-summary-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 비밀번호 해시(BCrypt) 전용 스레드 풀
+	 * 로그인 몰림이 요청 스레드와 CPU 를 독점하지 않도록 코어 수로 제한
+	 * 큐가 가득 차면 TaskRejectedException 발생 → 호출 측에서 바로 503 응답
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor passwordHashExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(passwordHashPoolSize);
+		executor.setMaxPoolSize(passwordHashPoolSize);
+		executor.setQueueCapacity(passwordHashQueueCapacity);
+		executor.setThreadNamePrefix("password-hash-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 메일 발송 워커 풀
+	 * 워커 하나가 배치 단위로 SMTP 연결 하나를 재사용해 발송
+	 * 큐 없이 워커 수만큼만 받음 → 나머지는 Redis 아웃박스에 남아 다음 주기에 처리
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor mailSendExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(mailWorkerPoolSize);
+		executor.setMaxPoolSize(mailWorkerPoolSize);
+		executor.setQueueCapacity(0);
+		executor.setThreadNamePrefix("mail-send-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * AI 추론 로그 조기 flush 용 스레드 (버퍼에 배치 크기만큼 쌓였을 때)
+	 * 큐 없음: 이미 flush 중이면 TaskRejectedException → 다음 주기에 처리
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor aiInferenceLogExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(0);
+		executor.setThreadNamePrefix("ai-inference-log-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		executor.initialize();
+		return executor;
+	}
+}
@@ -1,12 +1,18 @@
 package com.rehab.config;
 
 
-import com.rehab.domain.repository.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rehab.oauth.CustomOAuth2UserService;
 import com.rehab.oauth.OAuth2LoginSuccessHandler;
 import com.rehab.security.jwt.JwtAuthenticationFilter;
 import com.rehab.security.jwt.JwtTokenProvider;
+import com.rehab.security.jwt.SessionRevocationRegistry;
+import com.rehab.security.ratelimit.RateLimitFilter;
+import com.rehab.security.ratelimit.RateLimitProperties;
+import com.rehab.security.ratelimit.RedisRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -21,13 +27,18 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
 	private final JwtTokenProvider jwtTokenProvider;
-	private final UserRepository userRepository;
+	private final SessionRevocationRegistry sessionRevocationRegistry;
 	private final CustomOAuth2UserService customOAuth2UserService;
 	private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+	private final RateLimitProperties rateLimitProperties;
+	private final RedisRateLimiter redisRateLimiter;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
 
 
 	@Bean
@@ -67,10 +78,16 @@ public class SecurityConfig {
 			.logout(logout -> logout.disable());
 
 		http.addFilterBefore(
-			new JwtAuthenticationFilter(jwtTokenProvider, userRepository),
+			new JwtAuthenticationFilter(jwtTokenProvider, sessionRevocationRegistry),
 			UsernamePasswordAuthenticationFilter.class
 		);
 
+		// 인증 이후에 실행해야 사용자 단위 한도 적용 가능
+		http.addFilterAfter(
+			new RateLimitFilter(rateLimitProperties, redisRateLimiter, objectMapper, meterRegistry),
+			JwtAuthenticationFilter.class
+		);
+
 		return http.build();
 	}
 
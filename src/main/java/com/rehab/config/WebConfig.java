@@ -1,13 +1,21 @@
 package com.rehab.config;
 
+import com.rehab.security.CurrentUserArgumentResolver;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig {
 
+	private final CurrentUserArgumentResolver currentUserArgumentResolver;
+
 	@Bean
 	public WebMvcConfigurer corsConfigurer() {
 		return new WebMvcConfigurer() {
@@ -21,6 +29,11 @@ public class WebConfig {
 					.allowedMethods("GET","POST","PUT","DELETE","OPTIONS")
 					.allowCredentials(true);
 			}
+
+			@Override
+			public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+				resolvers.add(currentUserArgumentResolver);
+			}
 		};
 	}
 }
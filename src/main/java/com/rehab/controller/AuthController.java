@@ -44,12 +44,25 @@ public class AuthController {
 	) {
 		return ApiResponse.onSuccess(authService.login(request));
 	}
+
+	@PostMapping("/refresh")
+	@Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 액세스/리프레시 토큰 재발급 (리프레시 토큰은 1회용)")
+	public ApiResponse<AuthResponse.TokenResponse> refresh(
+		@RequestBody AuthRequest.RefreshRequest request
+	) {
+		return ApiResponse.onSuccess(authService.refresh(request));
+	}
 	@PostMapping("/auth/email/send")
 	public ApiResponse<?> sendEmailCode(@RequestBody EmailRequest.Send request) {
 
-		String code = codeGenerator.generate6DigitCode();
-		emailVerificationService.saveVerificationCode(request.getEmail(), code);
+		// 유효한 코드가 있으면 재사용 (같은 코드는 메일도 중복 발송하지 않음)
+		String code = emailVerificationService.getVerificationCode(request.getEmail());
+		if (code == null || "VERIFIED".equals(code)) {
+			code = codeGenerator.generate6DigitCode();
+			emailVerificationService.saveVerificationCode(request.getEmail(), code);
+		}
 
+		// 아웃박스에 넣고 바로 반환 (실제 발송은 백그라운드 워커)
 		emailService.sendVerificationCode(request.getEmail(), code);
 
 		return ApiResponse.onSuccess(null);
@@ -1,7 +1,11 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
+import com.rehab.domain.entity.enums.Difficulty;
+import com.rehab.domain.entity.enums.EvidenceLevel;
 import com.rehab.dto.exercise.ExerciseDetailResponse;
+import com.rehab.dto.exercise.ExerciseSearchResponse;
+import com.rehab.service.exercise.ExerciseSearchCondition;
 import com.rehab.service.exercise.ExerciseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,6 +14,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 /**
  * 운동 컨트롤러
  */
@@ -35,6 +41,33 @@ public class ExerciseController {
 		ExerciseDetailResponse response = exerciseService.getExerciseDetail(exerciseId);
 		return ApiResponse.onSuccess(response);
 	}
+
+	/**
+	 * 운동 검색 / 필터
+	 */
+	@GetMapping("/search")
+	@Operation(summary = "운동 검색", description = "제목, 신체 부위, 난이도, 근거 수준, 금기사항으로 운동을 검색합니다.")
+	public ApiResponse<ExerciseSearchResponse> searchExercises(
+		@Parameter(description = "제목 검색어 (선택)") @RequestParam(required = false) String q,
+		@Parameter(description = "신체 부위 (복수 선택 가능)") @RequestParam(required = false) Set<String> bodyPart,
+		@Parameter(description = "난이도 (복수 선택 가능)") @RequestParam(required = false) Set<Difficulty> difficulty,
+		@Parameter(description = "최소 근거 수준 (A 가 가장 높음)") @RequestParam(required = false) EvidenceLevel minEvidenceLevel,
+		@Parameter(description = "제외할 금기 태그 (복수 선택 가능)") @RequestParam(required = false) Set<String> excludeContraindication,
+		@Parameter(description = "금기사항이 있는 운동 모두 제외") @RequestParam(defaultValue = "false") boolean safeOnly,
+		@Parameter(description = "조회 개수 (기본값: 20, 최대 100)") @RequestParam(required = false) Integer limit
+	) {
+		log.info("API 호출: 운동 검색 - q: {}, bodyPart: {}, difficulty: {}", q, bodyPart, difficulty);
+		ExerciseSearchCondition condition = ExerciseSearchCondition.builder()
+			.query(q)
+			.bodyParts(bodyPart)
+			.difficulties(difficulty)
+			.minEvidenceLevel(minEvidenceLevel)
+			.excludeAnyContraindication(safeOnly)
+			.excludedContraindications(excludeContraindication)
+			.limit(limit != null && limit > 0 ? Math.min(limit, 100) : 20)
+			.build();
+		return ApiResponse.onSuccess(exerciseService.searchExercises(condition));
+	}
 }
 
 
@@ -4,10 +4,10 @@ import com.rehab.apiPayload.ApiResponse;
 import com.rehab.domain.entity.User;
 import com.rehab.dto.intake.IntakeDto;
 import com.rehab.service.intakeService.IntakeService;
+import com.rehab.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -21,7 +21,7 @@ public class IntakeController {
 	@PutMapping
 	@Operation(summary = "문진 정보 저장/수정", description = "초기 문진 정보 저장 또는 수정")
 	public ApiResponse<IntakeDto.IntakeResponse> saveOrUpdateIntake(
-		@AuthenticationPrincipal User user,
+		@CurrentUser User user,
 		@RequestBody IntakeDto.IntakeRequest request
 	) {
 		return ApiResponse.onSuccess(intakeService.saveOrUpdateIntake(user, request));
@@ -30,7 +30,7 @@ public class IntakeController {
 	@GetMapping
 	@Operation(summary = "문진 정보 조회", description = "내 문진 정보 조회")
 	public ApiResponse<IntakeDto.IntakeListResponse> getMyIntake(
-		@AuthenticationPrincipal User user
+		@CurrentUser User user
 	) {
 		return ApiResponse.onSuccess(intakeService.getMyIntakes(user));
 	}
@@ -4,13 +4,16 @@ import com.rehab.apiPayload.ApiResponse;
 import com.rehab.domain.entity.User;
 import com.rehab.dto.medication.MedicationDto;
 import com.rehab.service.medicationService.MedicationService;
+import com.rehab.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,7 +27,7 @@ public class MedicationController {
 	@PostMapping
 	@Operation(summary = "복약 등록")
 	public ApiResponse<MedicationDto.Response> createMedication(
-		@AuthenticationPrincipal User user,
+		@CurrentUser User user,
 		@RequestBody MedicationDto.CreateRequest request
 	) {
 		return ApiResponse.onSuccess(medicationService.createMedication(user, request));
@@ -33,7 +36,7 @@ public class MedicationController {
 	@GetMapping
 	@Operation(summary = "내 복약 리스트 조회")
 	public ApiResponse<List<MedicationDto.Response>> getMyMedications(
-		@AuthenticationPrincipal User user
+		@CurrentUser User user
 	) {
 		return ApiResponse.onSuccess(medicationService.getMyMedications(user));
 	}
@@ -50,7 +53,7 @@ public class MedicationController {
 	@PatchMapping("/{medicationId}")
 	@Operation(summary = "복약 정보 수정")
 	public ApiResponse<MedicationDto.Response> updateMedication(
-		@AuthenticationPrincipal User user,
+		@CurrentUser User user,
 		@PathVariable Long medicationId,
 		@RequestBody MedicationDto.UpdateRequest request
 	) {
@@ -69,10 +72,30 @@ public class MedicationController {
 		return ApiResponse.onSuccess(medicationService.recordLog(medicationId, request));
 	}
 
+	@GetMapping("/{medicationId}/logs")
+	@Operation(summary = "복약 기록 조회", description = "약별 복약 기록을 최신순으로 페이지 단위 조회합니다.")
+	public ApiResponse<MedicationDto.LogPageResponse> getMedicationLogs(
+		@CurrentUser User user,
+		@PathVariable Long medicationId,
+
+		@Parameter(description = "다음 페이지 커서 - 이전 응답의 nextCursorTakenAt")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorTakenAt,
+
+		@Parameter(description = "다음 페이지 커서 - 이전 응답의 nextCursorId")
+		@RequestParam(required = false) Long cursorId,
+
+		@Parameter(description = "페이지 크기 (기본값: 20, 최대 100)")
+		@RequestParam(required = false) Integer size
+	) {
+		return ApiResponse.onSuccess(
+			medicationService.getMedicationLogs(user, medicationId, cursorTakenAt, cursorId, size)
+		);
+	}
+
 	@GetMapping("/schedules")
 	@Operation(summary = "특정 날짜 복약 스케줄 조회")
 	public ApiResponse<MedicationDto.DailyScheduleResponse> getSchedulesForDate(
-		@AuthenticationPrincipal User user,
+		@CurrentUser User user,
 		@RequestParam("date") String date
 	) {
 		LocalDate localDate = LocalDate.parse(date);
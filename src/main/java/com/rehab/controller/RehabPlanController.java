@@ -1,10 +1,13 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
+import com.rehab.domain.entity.User;
 import com.rehab.domain.entity.enums.MealTime;
 import com.rehab.domain.entity.enums.PlanPhase;
 import com.rehab.dto.plan.*;
+import com.rehab.security.CurrentUser;
 import com.rehab.service.rehabPlan.RehabPlanService;
+import com.rehab.service.rehabPlan.RehabPlanTemplateService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,6 +21,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -31,6 +35,7 @@ import java.util.List;
 public class RehabPlanController {
 
 	private final RehabPlanService rehabPlanService;
+	private final RehabPlanTemplateService rehabPlanTemplateService;
 
 	/**
 	 * 3.1 현재 활성 플랜 조회
@@ -76,10 +81,19 @@ public class RehabPlanController {
 		@RequestParam("userId") Long userId,
 
 		@Parameter(description = "플랜 상태 필터 (ACTIVE, INACTIVE, COMPLETED)")
-		@RequestParam(required = false) String status
+		@RequestParam(required = false) String status,
+
+		@Parameter(description = "다음 페이지 커서 - 이전 응답의 nextCursorCreatedAt")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+
+		@Parameter(description = "다음 페이지 커서 - 이전 응답의 nextCursorId")
+		@RequestParam(required = false) Long cursorId,
+
+		@Parameter(description = "페이지 크기 (최대 100, 생략 시 전체 조회)")
+		@RequestParam(required = false) Integer size
 	) {
 		log.info("API 호출: 모든 플랜 조회 - userId: {}, status: {}", userId, status);
-		RehabPlanListResponse response = rehabPlanService.getAllPlans(userId, status);
+		RehabPlanListResponse response = rehabPlanService.getAllPlans(userId, status, cursorCreatedAt, cursorId, size);
 		return ApiResponse.onSuccess(response);
 	}
 
@@ -162,11 +176,41 @@ public class RehabPlanController {
 
 		return ApiResponse.onSuccess(response);
 	}
-}
-
-
-
-
-
 
+	/**
+	 * 3.7 기존 플랜을 템플릿으로 저장
+	 */
+	@PostMapping("/plans/{rehabPlanId}/template")
+	@Operation(summary = "플랜 템플릿 저장",
+		description = "기존 재활 플랜과 운동/복약/식단 항목을 복사해 템플릿으로 저장합니다.")
+	public ApiResponse<RehabPlanResponse> saveAsTemplate(
+		@Parameter(hidden = true)
+		@CurrentUser User user,
+		@Parameter(description = "재활 플랜 ID", required = true)
+		@PathVariable Long rehabPlanId
+	) {
+		log.info("API 호출: 플랜 템플릿 저장 - userId: {}, rehabPlanId: {}", user.getUserId(), rehabPlanId);
+		RehabPlanResponse response = rehabPlanTemplateService.saveAsTemplate(user.getUserId(), rehabPlanId);
+		return ApiResponse.onSuccess(response);
+	}
 
+	/**
+	 * 3.8 템플릿 일괄 배정
+	 */
+	@PostMapping("/templates/{templateId}/assignments")
+	@Operation(summary = "플랜 템플릿 일괄 배정",
+		description = "템플릿을 여러 사용자에게 한 번에 배정합니다. 관리자만 호출할 수 있으며 사용자별 성공/실패 결과를 반환합니다.")
+	public ApiResponse<PlanTemplateAssignmentResponse> assignTemplate(
+		@Parameter(hidden = true)
+		@CurrentUser User user,
+		@Parameter(description = "템플릿 ID", required = true)
+		@PathVariable Long templateId,
+		@Parameter(description = "배정 요청", required = true)
+		@Valid @RequestBody AssignPlanTemplateRequest request
+	) {
+		log.info("API 호출: 플랜 템플릿 일괄 배정 - templateId: {}, 사용자 수: {}",
+			templateId, request.getUserIds().size());
+		PlanTemplateAssignmentResponse response = rehabPlanTemplateService.assignTemplate(user, templateId, request);
+		return ApiResponse.onSuccess(response);
+	}
+}
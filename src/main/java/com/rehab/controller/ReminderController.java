@@ -4,9 +4,9 @@ import com.rehab.apiPayload.ApiResponse;
 import com.rehab.domain.entity.User;
 import com.rehab.dto.reminder.ReminderDto;
 import com.rehab.service.reminderService.ReminderService;
+import com.rehab.security.CurrentUser;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -21,7 +21,7 @@ public class ReminderController {
 
 	@PostMapping
 	public ApiResponse<ReminderDto.Response> createReminder(
-		@AuthenticationPrincipal User user,
+		@CurrentUser User user,
 		@RequestBody ReminderDto.CreateRequest request
 	) {
 		return ApiResponse.onSuccess(
@@ -31,7 +31,7 @@ public class ReminderController {
 
 	@PatchMapping("/{id}")
 	public ApiResponse<ReminderDto.Response> updateReminder(
-		@AuthenticationPrincipal User user,
+		@CurrentUser User user,
 		@PathVariable Long id,
 		@RequestBody ReminderDto.UpdateRequest request
 	) {
@@ -42,7 +42,7 @@ public class ReminderController {
 
 	@GetMapping
 	public ApiResponse<List<ReminderDto.Response>> getMyReminders(
-		@AuthenticationPrincipal User user
+		@CurrentUser User user
 	) {
 		return ApiResponse.onSuccess(
 			reminderService.getMyReminders(user)
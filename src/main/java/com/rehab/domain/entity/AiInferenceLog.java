@@ -8,8 +8,6 @@ import com.rehab.domain.entity.base.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -28,8 +26,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class AiInferenceLog extends BaseEntity {
 
+    // 시간 순서 ID, 저장 전에 AiInferenceLogWriter 가 발급 (AUTO_INCREMENT 사용 안 함)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "inference_log_id")
     private Long inferenceLogId;
 
@@ -57,4 +55,8 @@ public class AiInferenceLog extends BaseEntity {
 
     @Column(name = "latency_ms")
     private Integer latencyMs;
+
+    // 결과 캐시(또는 진행 중인 동일 요청)에서 응답했는지 여부
+    @Column(name = "cache_hit")
+    private Boolean cacheHit;
 }
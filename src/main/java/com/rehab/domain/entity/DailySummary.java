@@ -7,14 +7,17 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.Objects;
 
 /**
  * 일일 요약(Daily Summary) 엔티티
  * 하루 단위 운동/복약 완료율, 통증 점수 등을 집계
  */
 @Entity
-@Table(name = "daily_summary")
+@Table(
+	name = "daily_summary",
+	uniqueConstraints = @UniqueConstraint(name = "unique_user_date", columnNames = {"user_id", "date"})
+)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -83,6 +86,48 @@ public class DailySummary extends BaseEntity {
 	@Column(name = "diet_completion_rate")
 	private Integer dietCompletionRate;
 
+	// === 증분 집계용 누적 카운터 ===
+	// 로그 1건이 들어올 때 하루치 로그를 다시 읽지 않고 아래 값에 더한 뒤 비율/평균을 다시 계산
+
+	/**
+	 * 활성 플랜의 운동/복약/식단 항목 수 (마지막 전체 재계산 시점 기준)
+	 */
+	@Column(name = "total_exercises")
+	private Integer totalExercises;
+
+	@Column(name = "total_medications")
+	private Integer totalMedications;
+
+	@Column(name = "total_diets")
+	private Integer totalDiets;
+
+	/**
+	 * 완료된 운동 로그 수 (완료율 80% 이상)
+	 */
+	@Column(name = "completed_exercises")
+	private Integer completedExercises;
+
+	@Column(name = "exercise_duration_sum")
+	private Integer exerciseDurationSum;
+
+	@Column(name = "pain_score_sum")
+	private Integer painScoreSum;
+
+	@Column(name = "pain_score_count")
+	private Integer painScoreCount;
+
+	@Column(name = "rpe_sum")
+	private Integer rpeSum;
+
+	@Column(name = "rpe_count")
+	private Integer rpeCount;
+
+	@Column(name = "taken_medications")
+	private Integer takenMedications;
+
+	@Column(name = "completed_diets")
+	private Integer completedDiets;
+
 	// === 비즈니스 메서드 ===
 
 	/**
@@ -107,6 +152,129 @@ public class DailySummary extends BaseEntity {
 		return meetsExerciseCriteria() || meetsMedicationCriteria();
 	}
 
+	/**
+	 * 누적 카운터 존재 여부
+	 * 카운터 도입 이전에 생성된 요약은 전체 재계산이 필요
+	 */
+	public boolean hasCounters() {
+		return totalExercises != null && totalMedications != null && totalDiets != null
+			&& completedExercises != null && exerciseDurationSum != null
+			&& painScoreSum != null && painScoreCount != null
+			&& rpeSum != null && rpeCount != null
+			&& takenMedications != null && completedDiets != null;
+	}
+
+	/**
+	 * 누적 카운터 초기화 (전체 재계산 시작 시)
+	 */
+	public void resetCounters(int totalExercises, int totalMedications, int totalDiets) {
+		this.totalExercises = totalExercises;
+		this.totalMedications = totalMedications;
+		this.totalDiets = totalDiets;
+		this.completedExercises = 0;
+		this.exerciseDurationSum = 0;
+		this.painScoreSum = 0;
+		this.painScoreCount = 0;
+		this.rpeSum = 0;
+		this.rpeCount = 0;
+		this.takenMedications = 0;
+		this.completedDiets = 0;
+		recalculate();
+	}
+
+	/**
+	 * 로그 기여분을 누적 카운터에 더하고 비율/평균 재계산
+	 */
+	public void accumulate(
+		int completedExercises,
+		int exerciseDurationSec,
+		int painScoreSum,
+		int painScoreCount,
+		int rpeSum,
+		int rpeCount,
+		int takenMedications,
+		int completedDiets
+	) {
+		this.completedExercises += completedExercises;
+		this.exerciseDurationSum += exerciseDurationSec;
+		this.painScoreSum += painScoreSum;
+		this.painScoreCount += painScoreCount;
+		this.rpeSum += rpeSum;
+		this.rpeCount += rpeCount;
+		this.takenMedications += takenMedications;
+		this.completedDiets += completedDiets;
+		recalculate();
+	}
+
+	/**
+	 * 평균 RPE (소수점 1자리)
+	 * 플랜에 운동 항목이 없으면 0
+	 */
+	public double getAvgRpe() {
+		if (totalExercises == null || totalExercises == 0 || rpeCount == null || rpeCount == 0) {
+			return 0.0;
+		}
+		return Math.round((double) rpeSum / rpeCount * 10) / 10.0;
+	}
+
+	/**
+	 * 누적 카운터가 다른 요약과 같은지 비교 (증분 집계 검증용)
+	 */
+	public boolean hasSameCounters(DailySummary other) {
+		return Objects.equals(totalExercises, other.totalExercises)
+			&& Objects.equals(totalMedications, other.totalMedications)
+			&& Objects.equals(totalDiets, other.totalDiets)
+			&& Objects.equals(completedExercises, other.completedExercises)
+			&& Objects.equals(exerciseDurationSum, other.exerciseDurationSum)
+			&& Objects.equals(painScoreSum, other.painScoreSum)
+			&& Objects.equals(painScoreCount, other.painScoreCount)
+			&& Objects.equals(rpeSum, other.rpeSum)
+			&& Objects.equals(rpeCount, other.rpeCount)
+			&& Objects.equals(takenMedications, other.takenMedications)
+			&& Objects.equals(completedDiets, other.completedDiets);
+	}
+
+	/**
+	 * 일일 메트릭스 JSON 갱신
+	 */
+	public void updateDailyMetrics(String dailyMetrics) {
+		this.dailyMetrics = dailyMetrics;
+	}
+
+	/**
+	 * 누적 카운터로부터 완료율/평균 재계산
+	 * 항목이 없는 영역은 완료율 0, 전체 완료 true 로 처리
+	 */
+	private void recalculate() {
+		if (totalExercises == 0) {
+			this.exerciseCompletionRate = 0;
+			this.allExercisesCompleted = true;
+			this.avgPainScore = 0;
+			this.totalDurationSec = 0;
+		} else {
+			this.exerciseCompletionRate = completedExercises * 100 / totalExercises;
+			this.allExercisesCompleted = completedExercises >= totalExercises;
+			this.avgPainScore = painScoreCount == 0 ? 0 : (int) Math.round((double) painScoreSum / painScoreCount);
+			this.totalDurationSec = exerciseDurationSum;
+		}
+
+		if (totalMedications == 0) {
+			this.medicationCompletionRate = 0;
+			this.allMedicationsTaken = true;
+		} else {
+			this.medicationCompletionRate = takenMedications * 100 / totalMedications;
+			this.allMedicationsTaken = takenMedications >= totalMedications;
+		}
+
+		if (totalDiets == 0) {
+			this.dietCompletionRate = 0;
+			this.allDietCompleted = true;
+		} else {
+			this.dietCompletionRate = completedDiets * 100 / totalDiets;
+			this.allDietCompleted = completedDiets >= totalDiets;
+		}
+	}
+
 	/**
 	 * DailySummary 업데이트
 	 */
@@ -4,5 +4,6 @@ public enum RehabPlanStatus {
     ACTIVE,
 	INACTIVE,
     COMPLETED,
-    PAUSED
+    PAUSED,
+	TEMPLATE  // 코호트 배정용 템플릿 (활성 플랜으로 취급하지 않음)
 }
@@ -0,0 +1,76 @@
+package com.rehab.domain.repository.ai;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * AI 추론 로그 일괄 저장 Repository
+ * ID 를 미리 발급하므로 생성 키 조회 없이 다중 행 INSERT 한 문장으로 저장
+ * - insertAll: 일반 INSERT (ID 중복 등 오류를 숨기지 않음)
+ * - insertAllForReplay: 디스크에서 다시 저장할 때 이미 들어간 행(중복 키)만 건너뜀
+ *   (INSERT IGNORE 는 중복 키 외의 오류도 경고로 바꾸므로 쓰지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AiInferenceLogBatchRepository {
+
+	// 한 문장에 담는 최대 행 수 (max_allowed_packet 고려, 스냅샷 JSON 이 커서 작게)
+	private static final int BATCH_CHUNK_SIZE = 200;
+
+	private static final String INSERT_SQL =
+		"INSERT INTO ai_inference_log (" +
+		"inference_log_id, user_id, model_key, model_version, input_snapshot, output_snapshot, " +
+		"knowledge_references, latency_ms, cache_hit, created_at, updated_at) VALUES ";
+	private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String ON_DUPLICATE_KEEP_SQL = " ON DUPLICATE KEY UPDATE inference_log_id = inference_log_id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @return 저장된 행 수
+	 */
+	public int insertAll(List<AiInferenceLogRow> rows) {
+		return insert(rows, "");
+	}
+
+	/**
+	 * 디스크 보관분 재저장 (이미 저장된 ID 는 그대로 둠)
+	 *
+	 * @return 처리한 행 수
+	 */
+	public int insertAllForReplay(List<AiInferenceLogRow> rows) {
+		return insert(rows, ON_DUPLICATE_KEEP_SQL);
+	}
+
+	private int insert(List<AiInferenceLogRow> rows, String suffix) {
+		int inserted = 0;
+
+		for (int from = 0; from < rows.size(); from += BATCH_CHUNK_SIZE) {
+			List<AiInferenceLogRow> chunk = rows.subList(from, Math.min(from + BATCH_CHUNK_SIZE, rows.size()));
+			String sql = INSERT_SQL + String.join(", ", Collections.nCopies(chunk.size(), ROW)) + suffix;
+
+			List<Object> params = new ArrayList<>(chunk.size() * 11);
+			for (AiInferenceLogRow row : chunk) {
+				params.add(row.inferenceLogId());
+				params.add(row.userId());
+				params.add(row.modelKey());
+				params.add(row.modelVersion());
+				params.add(row.inputSnapshot());
+				params.add(row.outputSnapshot());
+				params.add(row.knowledgeReferences() != null ? row.knowledgeReferences() : "[]");
+				params.add(row.latencyMs());
+				params.add(row.cacheHit());
+				params.add(row.createdAt());
+				params.add(row.createdAt());
+			}
+
+			inserted += jdbcTemplate.update(sql, params.toArray());
+		}
+		return inserted;
+	}
+}
@@ -18,14 +18,15 @@ public interface AiInferenceLogRepository extends JpaRepository<AiInferenceLog,
 
 	/**
 	 * 사용자별 AI 추론 로그 조회
+	 * ID 가 시간 순서이므로 created_at 대신 PK 로 정렬 (user_id 인덱스만으로 정렬, filesort 없음)
 	 */
-	@Query("SELECT a FROM AiInferenceLog a WHERE a.user = :user ORDER BY a.createdAt DESC")
+	@Query("SELECT a FROM AiInferenceLog a WHERE a.user = :user ORDER BY a.inferenceLogId DESC")
 	List<AiInferenceLog> findByUser(@Param("user") User user, Pageable pageable);
 
 	/**
 	 * 사용자 및 모델 키로 AI 추론 로그 조회
 	 */
-	@Query("SELECT a FROM AiInferenceLog a WHERE a.user = :user AND a.modelKey = :modelKey ORDER BY a.createdAt DESC")
+	@Query("SELECT a FROM AiInferenceLog a WHERE a.user = :user AND a.modelKey = :modelKey ORDER BY a.inferenceLogId DESC")
 	List<AiInferenceLog> findByUserAndModelKey(
 		@Param("user") User user,
 		@Param("modelKey") String modelKey,
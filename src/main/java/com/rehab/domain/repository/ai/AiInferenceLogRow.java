@@ -0,0 +1,21 @@
+package com.rehab.domain.repository.ai;
+
+import java.time.LocalDateTime;
+
+/**
+ * ai_inference_log 한 행 (배치 저장 / 디스크 임시 보관용)
+ * ID 는 저장 전에 미리 발급
+ */
+public record AiInferenceLogRow(
+	long inferenceLogId,
+	Long userId,
+	String modelKey,
+	String modelVersion,
+	String inputSnapshot,
+	String outputSnapshot,
+	String knowledgeReferences,
+	Integer latencyMs,
+	Boolean cacheHit,
+	LocalDateTime createdAt
+) {
+}
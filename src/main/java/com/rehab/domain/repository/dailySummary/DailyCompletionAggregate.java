@@ -0,0 +1,54 @@
+package com.rehab.domain.repository.dailySummary;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 완료 지표 집계 결과 (엔티티 로딩 없이 SQL 한 번으로 조회)
+ * 활성 플랜이 없으면 activePlanId 는 null, 항목 수는 0
+ */
+public record DailyCompletionAggregate(
+	LocalDate date,
+	Long activePlanId,
+	int totalExercises,
+	int totalMedications,
+	int totalDiets,
+	int completedExercises,
+	int exerciseDurationSum,
+	int painScoreSum,
+	int painScoreCount,
+	int rpeSum,
+	int rpeCount,
+	int takenMedications,
+	int completedDiets
+) {
+
+	public boolean hasActivePlan() {
+		return activePlanId != null;
+	}
+
+	/**
+	 * 로그 집계에 활성 플랜과 항목 수를 채운 결과
+	 */
+	public DailyCompletionAggregate withActivePlan(
+		Long activePlanId,
+		int totalExercises,
+		int totalMedications,
+		int totalDiets
+	) {
+		return new DailyCompletionAggregate(
+			date,
+			activePlanId,
+			totalExercises,
+			totalMedications,
+			totalDiets,
+			completedExercises,
+			exerciseDurationSum,
+			painScoreSum,
+			painScoreCount,
+			rpeSum,
+			rpeCount,
+			takenMedications,
+			completedDiets
+		);
+	}
+}
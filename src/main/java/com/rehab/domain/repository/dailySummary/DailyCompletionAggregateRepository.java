@@ -0,0 +1,176 @@
+package com.rehab.domain.repository.dailySummary;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 완료 지표 집계 Repository
+ * 운동/복약/식단 로그와 활성 플랜 항목 수를 SQL 한 번으로 집계 (엔티티 로딩 없음)
+ * 일일 요약 재계산, 리포트, 배치 백필에서 공용으로 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyCompletionAggregateRepository {
+
+	// 기간 내 모든 날짜를 한 행씩 생성 (로그가 없는 날 포함)
+	private static final String DAYS_CTE =
+		"WITH RECURSIVE days (day) AS ( " +
+		"    SELECT CAST(:startDate AS DATE) " +
+		"    UNION ALL " +
+		"    SELECT day + INTERVAL 1 DAY FROM days WHERE day < CAST(:endDate AS DATE) " +
+		"), ";
+
+	// 사용자의 활성 플랜(가장 최근 ACTIVE)과 항목 수
+	private static final String PLAN_TOTALS_CTE =
+		"active_plan AS ( " +
+		"    SELECT rp.rehab_plan_id FROM rehab_plan rp " +
+		"    WHERE rp.user_id = :userId AND rp.status = 'ACTIVE' " +
+		"    ORDER BY rp.created_at DESC LIMIT 1 " +
+		"), " +
+		"plan_totals AS ( " +
+		"    SELECT ap.rehab_plan_id, " +
+		"        (SELECT COUNT(*) FROM plan_item pi WHERE pi.rehab_plan_id = ap.rehab_plan_id) AS total_exercises, " +
+		"        (SELECT COUNT(*) FROM medication_plan_item mpi WHERE mpi.rehab_plan_id = ap.rehab_plan_id) AS total_medications, " +
+		"        (SELECT COUNT(*) FROM diet_plan_item dpi WHERE dpi.rehab_plan_id = ap.rehab_plan_id) AS total_diets " +
+		"    FROM active_plan ap " +
+		"), ";
+
+	// 날짜별 운동/복약/식단 로그 집계
+	private static final String LOG_TOTALS_CTE =
+		"log_totals AS ( " +
+		"    SELECT l.day, " +
+		"        SUM(l.completed_exercises) AS completed_exercises, " +
+		"        SUM(l.duration_sec) AS exercise_duration_sum, " +
+		"        SUM(l.pain_sum) AS pain_score_sum, " +
+		"        SUM(l.pain_count) AS pain_score_count, " +
+		"        SUM(l.rpe_sum) AS rpe_sum, " +
+		"        SUM(l.rpe_count) AS rpe_count, " +
+		"        SUM(l.taken_medications) AS taken_medications, " +
+		"        SUM(l.completed_diets) AS completed_diets " +
+		"    FROM ( " +
+		"        SELECT DATE(el.logged_at) AS day, " +
+		"            CASE WHEN el.completion_rate >= 80 THEN 1 ELSE 0 END AS completed_exercises, " +
+		"            COALESCE(el.duration_sec, 0) AS duration_sec, " +
+		"            COALESCE(el.pain_after, 0) AS pain_sum, " +
+		"            CASE WHEN el.pain_after IS NOT NULL THEN 1 ELSE 0 END AS pain_count, " +
+		"            COALESCE(el.rpe, 0) AS rpe_sum, " +
+		"            CASE WHEN el.rpe IS NOT NULL THEN 1 ELSE 0 END AS rpe_count, " +
+		"            0 AS taken_medications, 0 AS completed_diets " +
+		"        FROM exercise_log el " +
+		"        WHERE el.user_id = :userId AND el.logged_at >= :startAt AND el.logged_at < :endAt " +
+		"        UNION ALL " +
+		"        SELECT DATE(ml.taken_at), 0, 0, 0, 0, 0, 0, " +
+		"            CASE WHEN ml.taken = 1 THEN 1 ELSE 0 END, 0 " +
+		"        FROM medication_log ml " +
+		"        WHERE ml.user_id = :userId AND ml.taken_at >= :startAt AND ml.taken_at < :endAt " +
+		"        UNION ALL " +
+		"        SELECT DATE(dl.logged_at), 0, 0, 0, 0, 0, 0, 0, " +
+		"            CASE WHEN dl.completed = 1 OR dl.portion_consumed >= 80 THEN 1 ELSE 0 END " +
+		"        FROM diet_log dl " +
+		"        WHERE dl.user_id = :userId AND dl.logged_at >= :startAt AND dl.logged_at < :endAt " +
+		"    ) l " +
+		"    GROUP BY l.day " +
+		") ";
+
+	/**
+	 * 활성 플랜 항목 수 + 날짜별 로그 집계
+	 */
+	private static final String DAILY_AGGREGATE_SQL = DAYS_CTE + PLAN_TOTALS_CTE + LOG_TOTALS_CTE +
+		"SELECT d.day, pt.rehab_plan_id, " +
+		"    COALESCE(pt.total_exercises, 0) AS total_exercises, " +
+		"    COALESCE(pt.total_medications, 0) AS total_medications, " +
+		"    COALESCE(pt.total_diets, 0) AS total_diets, " +
+		"    COALESCE(lt.completed_exercises, 0) AS completed_exercises, " +
+		"    COALESCE(lt.exercise_duration_sum, 0) AS exercise_duration_sum, " +
+		"    COALESCE(lt.pain_score_sum, 0) AS pain_score_sum, " +
+		"    COALESCE(lt.pain_score_count, 0) AS pain_score_count, " +
+		"    COALESCE(lt.rpe_sum, 0) AS rpe_sum, " +
+		"    COALESCE(lt.rpe_count, 0) AS rpe_count, " +
+		"    COALESCE(lt.taken_medications, 0) AS taken_medications, " +
+		"    COALESCE(lt.completed_diets, 0) AS completed_diets " +
+		"FROM days d " +
+		"LEFT JOIN plan_totals pt ON TRUE " +
+		"LEFT JOIN log_totals lt ON lt.day = d.day " +
+		"ORDER BY d.day";
+
+	/**
+	 * 날짜별 로그 집계만 (활성 플랜 항목 수는 호출 측 캐시 사용)
+	 */
+	private static final String DAILY_LOG_TOTALS_SQL = DAYS_CTE + LOG_TOTALS_CTE +
+		"SELECT d.day, NULL AS rehab_plan_id, " +
+		"    0 AS total_exercises, 0 AS total_medications, 0 AS total_diets, " +
+		"    COALESCE(lt.completed_exercises, 0) AS completed_exercises, " +
+		"    COALESCE(lt.exercise_duration_sum, 0) AS exercise_duration_sum, " +
+		"    COALESCE(lt.pain_score_sum, 0) AS pain_score_sum, " +
+		"    COALESCE(lt.pain_score_count, 0) AS pain_score_count, " +
+		"    COALESCE(lt.rpe_sum, 0) AS rpe_sum, " +
+		"    COALESCE(lt.rpe_count, 0) AS rpe_count, " +
+		"    COALESCE(lt.taken_medications, 0) AS taken_medications, " +
+		"    COALESCE(lt.completed_diets, 0) AS completed_diets " +
+		"FROM days d " +
+		"LEFT JOIN log_totals lt ON lt.day = d.day " +
+		"ORDER BY d.day";
+
+	private static final RowMapper<DailyCompletionAggregate> ROW_MAPPER = (rs, rowNum) ->
+		new DailyCompletionAggregate(
+			rs.getObject("day", LocalDate.class),
+			rs.getObject("rehab_plan_id", Long.class),
+			rs.getInt("total_exercises"),
+			rs.getInt("total_medications"),
+			rs.getInt("total_diets"),
+			rs.getInt("completed_exercises"),
+			rs.getInt("exercise_duration_sum"),
+			rs.getInt("pain_score_sum"),
+			rs.getInt("pain_score_count"),
+			rs.getInt("rpe_sum"),
+			rs.getInt("rpe_count"),
+			rs.getInt("taken_medications"),
+			rs.getInt("completed_diets")
+		);
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 특정 날짜의 완료 지표 집계
+	 */
+	public DailyCompletionAggregate findByUserIdAndDate(Long userId, LocalDate date) {
+		return findByUserIdAndDateRange(userId, date, date).get(0);
+	}
+
+	/**
+	 * 기간(양 끝 포함)의 날짜별 완료 지표 집계 - 날짜당 한 행
+	 */
+	public List<DailyCompletionAggregate> findByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
+		return jdbcTemplate.query(DAILY_AGGREGATE_SQL, rangeParams(userId, startDate, endDate), ROW_MAPPER);
+	}
+
+	/**
+	 * 특정 날짜의 로그 집계만 조회 (activePlanId null, 항목 수 0)
+	 * 활성 플랜 항목 수는 DailyCompletionAggregate.withActivePlan 으로 채움
+	 */
+	public DailyCompletionAggregate findLogTotalsByUserIdAndDate(Long userId, LocalDate date) {
+		return findLogTotalsByUserIdAndDateRange(userId, date, date).get(0);
+	}
+
+	/**
+	 * 기간(양 끝 포함)의 날짜별 로그 집계만 조회
+	 */
+	public List<DailyCompletionAggregate> findLogTotalsByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
+		return jdbcTemplate.query(DAILY_LOG_TOTALS_SQL, rangeParams(userId, startDate, endDate), ROW_MAPPER);
+	}
+
+	private MapSqlParameterSource rangeParams(Long userId, LocalDate startDate, LocalDate endDate) {
+		return new MapSqlParameterSource()
+			.addValue("userId", userId)
+			.addValue("startDate", startDate)
+			.addValue("endDate", endDate)
+			.addValue("startAt", startDate.atStartOfDay())
+			.addValue("endAt", endDate.plusDays(1).atStartOfDay());
+	}
+}
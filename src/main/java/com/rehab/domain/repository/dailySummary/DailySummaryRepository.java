@@ -1,7 +1,9 @@
 package com.rehab.domain.repository.dailySummary;
 
 import com.rehab.domain.entity.DailySummary;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,6 +23,19 @@ public interface DailySummaryRepository extends JpaRepository<DailySummary, Long
 	 */
 	Optional<DailySummary> findByUser_UserIdAndDate(Long userId, LocalDateTime date);
 
+	/**
+	 * 특정 날짜의 일일 요약 조회 + 행 잠금 (SELECT ... FOR UPDATE)
+	 * 누적 카운터를 읽고 고치는 동안 다른 인스턴스의 증분 반영 / 전체 재계산을 막음
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT ds FROM DailySummary ds " +
+		"WHERE ds.user.userId = :userId " +
+		"AND ds.date = :date")
+	Optional<DailySummary> findByUserIdAndDateForUpdate(
+		@Param("userId") Long userId,
+		@Param("date") LocalDateTime date
+	);
+
 	/**
 	 * 특정 기간의 일일 요약 조회
 	 */
@@ -55,6 +70,18 @@ public interface DailySummaryRepository extends JpaRepository<DailySummary, Long
 		@Param("startDate") LocalDateTime startDate,
 		@Param("endDate") LocalDateTime endDate
 	);
+
+	/**
+	 * 특정 날짜 이후 일일 요약 무작위 샘플 조회 (증분 집계 검증용)
+	 */
+	@Query(value = "SELECT * FROM daily_summary " +
+		"WHERE date >= :since " +
+		"ORDER BY RAND() " +
+		"LIMIT :limit", nativeQuery = true)
+	List<DailySummary> findRandomSampleSince(
+		@Param("since") LocalDateTime since,
+		@Param("limit") int limit
+	);
 }
 
 
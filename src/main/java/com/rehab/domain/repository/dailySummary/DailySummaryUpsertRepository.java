@@ -0,0 +1,137 @@
+package com.rehab.domain.repository.dailySummary;
+
+import com.rehab.domain.entity.DailySummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DailySummary Upsert Repository
+ * unique_user_date (user_id, date) 기준 INSERT ... ON DUPLICATE KEY UPDATE 로
+ * 조회 없이 한 번에 생성/갱신 (동시 로그 입력 시 중복 키 충돌 방지)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailySummaryUpsertRepository {
+
+	// 일괄 upsert 시 한 문장에 담는 최대 행 수 (max_allowed_packet 고려)
+	private static final int BATCH_CHUNK_SIZE = 500;
+
+	private static final String INSERT_SQL =
+		"INSERT INTO daily_summary (" +
+		"user_id, date, " +
+		"all_exercises_completed, exercise_completion_rate, " +
+		"all_medications_taken, medication_completion_rate, " +
+		"all_diet_completed, diet_completion_rate, " +
+		"avg_pain_score, total_duration_sec, daily_metrics, " +
+		"total_exercises, total_medications, total_diets, " +
+		"completed_exercises, exercise_duration_sum, " +
+		"pain_score_sum, pain_score_count, rpe_sum, rpe_count, " +
+		"taken_medications, completed_diets, " +
+		"created_at, updated_at" +
+		") VALUES ";
+
+	private static final String ROW_PLACEHOLDER =
+		"(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
+
+	// 행 별칭(new)으로 넣으려던 값을 참조 (VALUES() 함수는 MySQL 8.0.20 부터 deprecated, 8.0.19+ 필요)
+	private static final String ON_DUPLICATE_SQL =
+		" AS new ON DUPLICATE KEY UPDATE " +
+		"all_exercises_completed = new.all_exercises_completed, " +
+		"exercise_completion_rate = new.exercise_completion_rate, " +
+		"all_medications_taken = new.all_medications_taken, " +
+		"medication_completion_rate = new.medication_completion_rate, " +
+		"all_diet_completed = new.all_diet_completed, " +
+		"diet_completion_rate = new.diet_completion_rate, " +
+		"avg_pain_score = new.avg_pain_score, " +
+		"total_duration_sec = new.total_duration_sec, " +
+		"daily_metrics = new.daily_metrics, " +
+		"total_exercises = new.total_exercises, " +
+		"total_medications = new.total_medications, " +
+		"total_diets = new.total_diets, " +
+		"completed_exercises = new.completed_exercises, " +
+		"exercise_duration_sum = new.exercise_duration_sum, " +
+		"pain_score_sum = new.pain_score_sum, " +
+		"pain_score_count = new.pain_score_count, " +
+		"rpe_sum = new.rpe_sum, " +
+		"rpe_count = new.rpe_count, " +
+		"taken_medications = new.taken_medications, " +
+		"completed_diets = new.completed_diets, " +
+		"updated_at = NOW()";
+
+	// 이미 있으면 아무것도 바꾸지 않음 (영향받은 행 수 0)
+	private static final String ON_DUPLICATE_KEEP_SQL =
+		" ON DUPLICATE KEY UPDATE summary_id = summary_id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 일일 요약 1건 upsert
+	 */
+	public void upsert(DailySummary summary) {
+		upsertAll(List.of(summary));
+	}
+
+	/**
+	 * 일일 요약이 없을 때만 생성 (있으면 기존 값 유지)
+	 *
+	 * @return 새로 생성했으면 true
+	 */
+	public boolean insertIfAbsent(DailySummary summary) {
+		List<Object> args = new ArrayList<>(22);
+		addRowArgs(args, summary);
+		return jdbcTemplate.update(INSERT_SQL + ROW_PLACEHOLDER + ON_DUPLICATE_KEEP_SQL, args.toArray()) == 1;
+	}
+
+	/**
+	 * 일일 요약 여러 건을 다중 행 INSERT 한 문장으로 upsert (야간 배치용)
+	 *
+	 * @return 영향받은 행 수 (MySQL 기준 신규 1, 갱신 2, 변경 없음 0)
+	 */
+	public int upsertAll(List<DailySummary> summaries) {
+		int affected = 0;
+		for (int from = 0; from < summaries.size(); from += BATCH_CHUNK_SIZE) {
+			List<DailySummary> chunk = summaries.subList(from, Math.min(from + BATCH_CHUNK_SIZE, summaries.size()));
+
+			String sql = INSERT_SQL
+				+ String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER))
+				+ ON_DUPLICATE_SQL;
+
+			List<Object> args = new ArrayList<>(chunk.size() * 22);
+			for (DailySummary summary : chunk) {
+				addRowArgs(args, summary);
+			}
+			affected += jdbcTemplate.update(sql, args.toArray());
+		}
+		return affected;
+	}
+
+	private void addRowArgs(List<Object> args, DailySummary summary) {
+		args.add(summary.getUser().getUserId());
+		args.add(summary.getDate());
+		args.add(summary.getAllExercisesCompleted());
+		args.add(summary.getExerciseCompletionRate());
+		args.add(summary.getAllMedicationsTaken());
+		args.add(summary.getMedicationCompletionRate());
+		args.add(summary.getAllDietCompleted());
+		args.add(summary.getDietCompletionRate());
+		args.add(summary.getAvgPainScore());
+		args.add(summary.getTotalDurationSec());
+		args.add(summary.getDailyMetrics());
+		args.add(summary.getTotalExercises());
+		args.add(summary.getTotalMedications());
+		args.add(summary.getTotalDiets());
+		args.add(summary.getCompletedExercises());
+		args.add(summary.getExerciseDurationSum());
+		args.add(summary.getPainScoreSum());
+		args.add(summary.getPainScoreCount());
+		args.add(summary.getRpeSum());
+		args.add(summary.getRpeCount());
+		args.add(summary.getTakenMedications());
+		args.add(summary.getCompletedDiets());
+	}
+}
@@ -0,0 +1,24 @@
+package com.rehab.domain.repository.exercise;
+
+import com.rehab.domain.entity.ExerciseImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ExerciseImage Repository
+ */
+@Repository
+public interface ExerciseImageRepository extends JpaRepository<ExerciseImage, Long> {
+
+	/**
+	 * 전체 이미지 (운동 카탈로그 적재용, 운동별로 묶기 쉽게 정렬)
+	 */
+	@Query("SELECT i FROM ExerciseImage i ORDER BY i.exercise.exerciseId, i.exerciseImageId")
+	List<ExerciseImage> findAllOrderByExercise();
+
+	@Query("SELECT new com.rehab.domain.repository.exercise.TableStamp(COUNT(i), MAX(i.updatedAt)) FROM ExerciseImage i")
+	TableStamp findStamp();
+}
@@ -0,0 +1,24 @@
+package com.rehab.domain.repository.exercise;
+
+import com.rehab.domain.entity.ExerciseMedia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ExerciseMedia Repository
+ */
+@Repository
+public interface ExerciseMediaRepository extends JpaRepository<ExerciseMedia, Long> {
+
+	/**
+	 * 전체 미디어 (운동 카탈로그 적재용, 운동별로 묶기 쉽게 정렬)
+	 */
+	@Query("SELECT m FROM ExerciseMedia m ORDER BY m.exercise.exerciseId, m.exerciseMediaId")
+	List<ExerciseMedia> findAllOrderByExercise();
+
+	@Query("SELECT new com.rehab.domain.repository.exercise.TableStamp(COUNT(m), MAX(m.updatedAt)) FROM ExerciseMedia m")
+	TableStamp findStamp();
+}
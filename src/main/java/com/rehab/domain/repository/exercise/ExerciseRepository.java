@@ -4,11 +4,9 @@ import com.rehab.domain.entity.Exercise;
 import com.rehab.domain.entity.enums.Difficulty;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Exercise Repository
@@ -16,15 +14,6 @@ import java.util.Optional;
 @Repository
 public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
 
-	/**
-	 * 운동 상세 조회 (이미지, 미디어 함께 로드)
-	 */
-	@Query("SELECT DISTINCT e FROM Exercise e " +
-		"LEFT JOIN FETCH e.exerciseImages " +
-		"LEFT JOIN FETCH e.exerciseMedias " +
-		"WHERE e.exerciseId = :exerciseId")
-	Optional<Exercise> findByIdWithDetails(@Param("exerciseId") Long exerciseId);
-
 	/**
 	 * 신체 부위로 운동 조회
 	 */
@@ -39,4 +28,10 @@ public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
 	 * 신체 부위와 난이도로 운동 조회
 	 */
 	List<Exercise> findByBodyPartAndDifficulty(String bodyPart, Difficulty difficulty);
+
+	/**
+	 * 변경 감지용 행 수 + 마지막 수정 시각 (운동 카탈로그)
+	 */
+	@Query("SELECT new com.rehab.domain.repository.exercise.TableStamp(COUNT(e), MAX(e.updatedAt)) FROM Exercise e")
+	TableStamp findStamp();
 }
@@ -0,0 +1,10 @@
+package com.rehab.domain.repository.exercise;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테이블 변경 감지용 (행 수 + 마지막 수정 시각)
+ * 둘 중 하나라도 바뀌면 추가/수정/삭제가 있었던 것
+ */
+public record TableStamp(Long rowCount, LocalDateTime lastUpdatedAt) {
+}
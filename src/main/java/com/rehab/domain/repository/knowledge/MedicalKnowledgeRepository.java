@@ -0,0 +1,34 @@
+package com.rehab.domain.repository.knowledge;
+
+import com.rehab.domain.entity.MedicalKnowledge;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 의학 지식 Repository
+ * 검색 인덱스(KnowledgeRetrievalService) 적재/동기화용
+ */
+@Repository
+public interface MedicalKnowledgeRepository extends JpaRepository<MedicalKnowledge, Long> {
+
+	/**
+	 * 전체 적재용 키셋 페이지 조회
+	 */
+	List<MedicalKnowledge> findByKnowledgeIdGreaterThanOrderByKnowledgeIdAsc(Long knowledgeId, Pageable pageable);
+
+	/**
+	 * 마지막 동기화 이후 추가/수정된 행
+	 */
+	List<MedicalKnowledge> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+	/**
+	 * 삭제 확인용 전체 ID
+	 */
+	@Query("SELECT k.knowledgeId FROM MedicalKnowledge k")
+	List<Long> findAllIds();
+}
@@ -2,6 +2,19 @@ package com.rehab.domain.repository.medication;
 
 import com.rehab.domain.entity.MediSchedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface MediScheduleRepository extends JpaRepository<MediSchedule, Long> { }
+import java.util.List;
 
+public interface MediScheduleRepository extends JpaRepository<MediSchedule, Long> {
+
+	/**
+	 * 사용자의 전체 복약 스케줄 (약 정보 fetch join, 약 → 스케줄 순)
+	 */
+	@Query("SELECT s FROM MediSchedule s " +
+		"JOIN FETCH s.medication m " +
+		"WHERE m.user.userId = :userId " +
+		"ORDER BY m.medicationId ASC, s.mediScheduleId ASC")
+	List<MediSchedule> findByUserIdWithMedication(@Param("userId") Long userId);
+}
@@ -0,0 +1,14 @@
+package com.rehab.domain.repository.medication;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약별 복약 기록 집계 (기록 엔티티를 읽지 않고 GROUP BY 한 번으로 조회)
+ */
+public record MedicationAdherenceRow(
+	Long medicationId,
+	Long totalCount,
+	Long takenCount,
+	LocalDateTime lastLoggedAt
+) {
+}
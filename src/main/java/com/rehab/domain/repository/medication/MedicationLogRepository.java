@@ -4,7 +4,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.rehab.domain.entity.MedicationLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MedicationLogRepository extends JpaRepository<MedicationLog, Long> {
 
@@ -12,4 +15,51 @@ public interface MedicationLogRepository extends JpaRepository<MedicationLog, Lo
 		Long userId, LocalDateTime startDate, LocalDateTime endDate);
 
 	List<MedicationLog> findByUser_UserIdOrderByTakenAtDesc(Long userId);
+
+	/**
+	 * 사용자의 [from, to) 복약 기록 (idx_medication_log_user_taken 범위 조회)
+	 * medication 은 fetch 하지 않음 (ID 만 사용)
+	 */
+	@Query("SELECT l FROM MedicationLog l " +
+		"WHERE l.user.userId = :userId " +
+		"AND l.takenAt >= :from AND l.takenAt < :to " +
+		"ORDER BY l.takenAt ASC, l.medicationLogId ASC")
+	List<MedicationLog> findByUserIdAndTakenAtRange(
+		@Param("userId") Long userId,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to);
+
+	/**
+	 * 약별 복약 기록 집계 (idx_medication_log_medication_taken)
+	 */
+	@Query("SELECT new com.rehab.domain.repository.medication.MedicationAdherenceRow(" +
+		"l.medication.medicationId, COUNT(l), " +
+		"SUM(CASE WHEN l.taken = true THEN 1L ELSE 0L END), MAX(l.takenAt)) " +
+		"FROM MedicationLog l " +
+		"WHERE l.medication.medicationId IN :medicationIds " +
+		"GROUP BY l.medication.medicationId")
+	List<MedicationAdherenceRow> findAdherenceByMedicationIds(@Param("medicationIds") List<Long> medicationIds);
+
+	/**
+	 * 약별 복약 기록 첫 페이지 (최신순)
+	 */
+	@Query("SELECT l FROM MedicationLog l " +
+		"WHERE l.medication.medicationId = :medicationId " +
+		"ORDER BY l.takenAt DESC, l.medicationLogId DESC")
+	List<MedicationLog> findHistory(@Param("medicationId") Long medicationId, Pageable pageable);
+
+	/**
+	 * 약별 복약 기록 다음 페이지 (커서 (takenAt, medicationLogId) 이전 기록부터)
+	 */
+	@Query("SELECT l FROM MedicationLog l " +
+		"WHERE l.medication.medicationId = :medicationId " +
+		"AND (l.takenAt < :cursorTakenAt " +
+		"OR (l.takenAt = :cursorTakenAt AND l.medicationLogId < :cursorId)) " +
+		"ORDER BY l.takenAt DESC, l.medicationLogId DESC")
+	List<MedicationLog> findHistoryBefore(
+		@Param("medicationId") Long medicationId,
+		@Param("cursorTakenAt") LocalDateTime cursorTakenAt,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable
+	);
 }
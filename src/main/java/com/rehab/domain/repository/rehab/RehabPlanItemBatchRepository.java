@@ -0,0 +1,143 @@
+package com.rehab.domain.repository.rehab;
+
+import com.rehab.domain.entity.DietPlanItem;
+import com.rehab.domain.entity.MedicationPlanItem;
+import com.rehab.domain.entity.PlanItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 플랜 항목 일괄 저장 Repository
+ * IDENTITY 키 때문에 Hibernate 배치 insert 가 꺼지므로
+ * 운동/복약/식단 항목을 테이블별 다중 행 INSERT 한 문장으로 저장하고 생성된 ID 를 순서대로 반환
+ */
+@Repository
+@RequiredArgsConstructor
+public class RehabPlanItemBatchRepository {
+
+	// 한 문장에 담는 최대 행 수 (max_allowed_packet 고려)
+	private static final int BATCH_CHUNK_SIZE = 500;
+
+	private static final String PLAN_ITEM_INSERT_SQL =
+		"INSERT INTO plan_item (" +
+		"rehab_plan_id, exercise_id, phase, dose, status, order_index, recommendation_reason, " +
+		"created_at, updated_at) VALUES ";
+	private static final String PLAN_ITEM_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String MEDICATION_PLAN_ITEM_INSERT_SQL =
+		"INSERT INTO medication_plan_item (" +
+		"rehab_plan_id, medication_id, status, order_index, start_date, end_date, recommendation_reason, " +
+		"created_at, updated_at) VALUES ";
+	private static final String MEDICATION_PLAN_ITEM_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String DIET_PLAN_ITEM_INSERT_SQL =
+		"INSERT INTO diet_plan_item (" +
+		"rehab_plan_id, diet_id, meal_time, portion, status, order_index, recommendation_reason, " +
+		"created_at, updated_at) VALUES ";
+	private static final String DIET_PLAN_ITEM_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 운동 항목 일괄 저장
+	 *
+	 * @return 입력 순서와 같은 순서의 plan_item_id 목록
+	 */
+	public List<Long> insertPlanItems(List<PlanItem> items, LocalDateTime now) {
+		List<Object[]> rows = items.stream()
+			.map(item -> new Object[] {
+				item.getRehabPlan().getRehabPlanId(),
+				item.getExercise().getExerciseId(),
+				item.getPhase() != null ? item.getPhase().name() : null,
+				item.getDose(),
+				item.getStatus() != null ? item.getStatus().name() : null,
+				item.getOrderIndex(),
+				item.getRecommendationReason(),
+				now,
+				now
+			})
+			.toList();
+
+		return insertRows(PLAN_ITEM_INSERT_SQL, PLAN_ITEM_ROW, rows);
+	}
+
+	/**
+	 * 복약 항목 일괄 저장
+	 */
+	public List<Long> insertMedicationPlanItems(List<MedicationPlanItem> items, LocalDateTime now) {
+		List<Object[]> rows = items.stream()
+			.map(item -> new Object[] {
+				item.getRehabPlan().getRehabPlanId(),
+				item.getMedication().getMedicationId(),
+				item.getStatus() != null ? item.getStatus().name() : null,
+				item.getOrderIndex(),
+				item.getStartDate(),
+				item.getEndDate(),
+				item.getRecommendationReason(),
+				now,
+				now
+			})
+			.toList();
+
+		return insertRows(MEDICATION_PLAN_ITEM_INSERT_SQL, MEDICATION_PLAN_ITEM_ROW, rows);
+	}
+
+	/**
+	 * 식단 항목 일괄 저장
+	 */
+	public List<Long> insertDietPlanItems(List<DietPlanItem> items, LocalDateTime now) {
+		List<Object[]> rows = items.stream()
+			.map(item -> new Object[] {
+				item.getRehabPlan().getRehabPlanId(),
+				item.getDiet().getDietId(),
+				item.getMealTime() != null ? item.getMealTime().name() : null,
+				item.getPortion(),
+				item.getStatus() != null ? item.getStatus().name() : null,
+				item.getOrderIndex(),
+				item.getRecommendationReason(),
+				now,
+				now
+			})
+			.toList();
+
+		return insertRows(DIET_PLAN_ITEM_INSERT_SQL, DIET_PLAN_ITEM_ROW, rows);
+	}
+
+	private List<Long> insertRows(String insertSql, String rowPlaceholder, List<Object[]> rows) {
+		List<Long> ids = new ArrayList<>(rows.size());
+
+		for (int from = 0; from < rows.size(); from += BATCH_CHUNK_SIZE) {
+			List<Object[]> chunk = rows.subList(from, Math.min(from + BATCH_CHUNK_SIZE, rows.size()));
+			String sql = insertSql + String.join(", ", Collections.nCopies(chunk.size(), rowPlaceholder));
+
+			KeyHolder keyHolder = new GeneratedKeyHolder();
+			jdbcTemplate.update(connection -> {
+				PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+				int index = 1;
+				for (Object[] row : chunk) {
+					for (Object value : row) {
+						ps.setObject(index++, value);
+					}
+				}
+				return ps;
+			}, keyHolder);
+
+			// MySQL 은 다중 행 INSERT 의 생성 키를 입력 순서대로 반환
+			for (Map<String, Object> key : keyHolder.getKeyList()) {
+				ids.add(((Number) key.values().iterator().next()).longValue());
+			}
+		}
+		return ids;
+	}
+}
@@ -3,11 +3,13 @@ package com.rehab.domain.repository.rehab;
 import com.rehab.domain.entity.RehabPlan;
 import com.rehab.domain.entity.User;
 import com.rehab.domain.entity.enums.RehabPlanStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,4 +43,49 @@ public interface RehabPlanRepository extends JpaRepository<RehabPlan, Long> {
 	 * 상태별 조회 - enum 타입
 	 */
 	List<RehabPlan> findByUserAndStatusOrderByCreatedAtDesc(User user, RehabPlanStatus status);
+
+	/**
+	 * 플랜 목록 첫 페이지 (최신순, 항목 수 포함)
+	 * status 가 null 이면 템플릿을 제외한 전체 상태
+	 */
+	@Query("SELECT new com.rehab.domain.repository.rehab.RehabPlanSummaryRow(" +
+		"rp.rehabPlanId, rp.user.userId, rp.title, rp.status, " +
+		"(SELECT COUNT(pi) FROM PlanItem pi WHERE pi.rehabPlan = rp), " +
+		"(SELECT COUNT(mpi) FROM MedicationPlanItem mpi WHERE mpi.rehabPlan = rp), " +
+		"(SELECT COUNT(dpi) FROM DietPlanItem dpi WHERE dpi.rehabPlan = rp), " +
+		"rp.createdAt, rp.updatedAt) " +
+		"FROM RehabPlan rp " +
+		"WHERE rp.user.userId = :userId " +
+		"AND ((:status IS NULL AND rp.status <> com.rehab.domain.entity.enums.RehabPlanStatus.TEMPLATE) " +
+		"OR rp.status = :status) " +
+		"ORDER BY rp.createdAt DESC, rp.rehabPlanId DESC")
+	List<RehabPlanSummaryRow> findPlanSummaries(
+		@Param("userId") Long userId,
+		@Param("status") RehabPlanStatus status,
+		Pageable pageable
+	);
+
+	/**
+	 * 플랜 목록 다음 페이지 (커서 (createdAt, rehabPlanId) 이전 플랜부터)
+	 */
+	@Query("SELECT new com.rehab.domain.repository.rehab.RehabPlanSummaryRow(" +
+		"rp.rehabPlanId, rp.user.userId, rp.title, rp.status, " +
+		"(SELECT COUNT(pi) FROM PlanItem pi WHERE pi.rehabPlan = rp), " +
+		"(SELECT COUNT(mpi) FROM MedicationPlanItem mpi WHERE mpi.rehabPlan = rp), " +
+		"(SELECT COUNT(dpi) FROM DietPlanItem dpi WHERE dpi.rehabPlan = rp), " +
+		"rp.createdAt, rp.updatedAt) " +
+		"FROM RehabPlan rp " +
+		"WHERE rp.user.userId = :userId " +
+		"AND ((:status IS NULL AND rp.status <> com.rehab.domain.entity.enums.RehabPlanStatus.TEMPLATE) " +
+		"OR rp.status = :status) " +
+		"AND (rp.createdAt < :cursorCreatedAt " +
+		"OR (rp.createdAt = :cursorCreatedAt AND rp.rehabPlanId < :cursorId)) " +
+		"ORDER BY rp.createdAt DESC, rp.rehabPlanId DESC")
+	List<RehabPlanSummaryRow> findPlanSummariesBefore(
+		@Param("userId") Long userId,
+		@Param("status") RehabPlanStatus status,
+		@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable
+	);
 }
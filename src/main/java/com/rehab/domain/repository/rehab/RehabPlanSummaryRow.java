@@ -0,0 +1,25 @@
+package com.rehab.domain.repository.rehab;
+
+import com.rehab.domain.entity.enums.RehabPlanStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 플랜 목록 조회용 프로젝션 (엔티티/연관관계 로딩 없이 항목 수까지 한 번에 조회)
+ */
+public record RehabPlanSummaryRow(
+	Long rehabPlanId,
+	Long userId,
+	String title,
+	RehabPlanStatus status,
+	Long exerciseCount,
+	Long medicationCount,
+	Long dietCount,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt
+) {
+
+	public int totalItems() {
+		return (int) (exerciseCount + medicationCount + dietCount);
+	}
+}
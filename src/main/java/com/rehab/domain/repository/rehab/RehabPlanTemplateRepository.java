@@ -0,0 +1,146 @@
+package com.rehab.domain.repository.rehab;
+
+import com.rehab.domain.entity.RehabPlan;
+import com.rehab.domain.entity.enums.RehabPlanStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 플랜 템플릿 복제 Repository
+ * 템플릿 플랜과 항목을 여러 사용자에게 집합 단위로 복제
+ * - 플랜: 다중 행 INSERT 1회 (생성된 ID 를 사용자 순서대로 반환)
+ * - 항목: 테이블별 INSERT ... SELECT 1회 (템플릿 항목 × 새 플랜)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RehabPlanTemplateRepository {
+
+	// 한 문장에 담는 최대 플랜 수
+	private static final int BATCH_CHUNK_SIZE = 500;
+
+	private static final String PLAN_INSERT_SQL =
+		"INSERT INTO rehab_plan (" +
+		"user_id, title, status, start_date, end_date, meta, generated_by, created_at, updated_at" +
+		") VALUES ";
+	private static final String PLAN_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String CLONE_PLAN_ITEMS_SQL =
+		"INSERT INTO plan_item (" +
+		"rehab_plan_id, exercise_id, phase, dose, status, order_index, recommendation_reason, " +
+		"created_at, updated_at) " +
+		"SELECT rp.rehab_plan_id, pi.exercise_id, pi.phase, pi.dose, pi.status, pi.order_index, " +
+		"pi.recommendation_reason, :now, :now " +
+		"FROM plan_item pi " +
+		"JOIN rehab_plan rp ON rp.rehab_plan_id IN (:planIds) " +
+		"WHERE pi.rehab_plan_id = :templateId";
+
+	private static final String CLONE_MEDICATION_PLAN_ITEMS_SQL =
+		"INSERT INTO medication_plan_item (" +
+		"rehab_plan_id, medication_id, status, order_index, start_date, end_date, recommendation_reason, " +
+		"created_at, updated_at) " +
+		"SELECT rp.rehab_plan_id, mpi.medication_id, mpi.status, mpi.order_index, mpi.start_date, " +
+		"mpi.end_date, mpi.recommendation_reason, :now, :now " +
+		"FROM medication_plan_item mpi " +
+		"JOIN rehab_plan rp ON rp.rehab_plan_id IN (:planIds) " +
+		"WHERE mpi.rehab_plan_id = :templateId";
+
+	private static final String CLONE_DIET_PLAN_ITEMS_SQL =
+		"INSERT INTO diet_plan_item (" +
+		"rehab_plan_id, diet_id, meal_time, portion, status, order_index, recommendation_reason, " +
+		"created_at, updated_at) " +
+		"SELECT rp.rehab_plan_id, dpi.diet_id, dpi.meal_time, dpi.portion, dpi.status, dpi.order_index, " +
+		"dpi.recommendation_reason, :now, :now " +
+		"FROM diet_plan_item dpi " +
+		"JOIN rehab_plan rp ON rp.rehab_plan_id IN (:planIds) " +
+		"WHERE dpi.rehab_plan_id = :templateId";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * 원본 플랜을 사용자별로 복제하고 항목까지 복사
+	 *
+	 * @param source    복제할 플랜 (템플릿)
+	 * @param userIds   대상 사용자 ID (순서 유지)
+	 * @param title     새 플랜 제목 (null 이면 원본 제목)
+	 * @param status    새 플랜 상태
+	 * @return userIds 와 같은 순서의 새 rehab_plan_id 목록
+	 */
+	public List<Long> clonePlan(
+		RehabPlan source,
+		List<Long> userIds,
+		String title,
+		RehabPlanStatus status,
+		LocalDateTime startDate,
+		LocalDateTime endDate,
+		LocalDateTime now
+	) {
+		List<Long> planIds = new ArrayList<>(userIds.size());
+
+		for (int from = 0; from < userIds.size(); from += BATCH_CHUNK_SIZE) {
+			List<Long> chunk = userIds.subList(from, Math.min(from + BATCH_CHUNK_SIZE, userIds.size()));
+			List<Long> chunkPlanIds = insertPlans(source, chunk, title, status, startDate, endDate, now);
+
+			MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("templateId", source.getRehabPlanId())
+				.addValue("planIds", chunkPlanIds)
+				.addValue("now", now);
+			namedParameterJdbcTemplate.update(CLONE_PLAN_ITEMS_SQL, params);
+			namedParameterJdbcTemplate.update(CLONE_MEDICATION_PLAN_ITEMS_SQL, params);
+			namedParameterJdbcTemplate.update(CLONE_DIET_PLAN_ITEMS_SQL, params);
+
+			planIds.addAll(chunkPlanIds);
+		}
+		return planIds;
+	}
+
+	private List<Long> insertPlans(
+		RehabPlan source,
+		List<Long> userIds,
+		String title,
+		RehabPlanStatus status,
+		LocalDateTime startDate,
+		LocalDateTime endDate,
+		LocalDateTime now
+	) {
+		String sql = PLAN_INSERT_SQL + String.join(", ", Collections.nCopies(userIds.size(), PLAN_ROW));
+
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+			int index = 1;
+			for (Long userId : userIds) {
+				ps.setObject(index++, userId);
+				ps.setObject(index++, title != null ? title : source.getTitle());
+				ps.setObject(index++, status.name());
+				ps.setObject(index++, startDate);
+				ps.setObject(index++, endDate);
+				ps.setObject(index++, source.getMeta());
+				ps.setObject(index++, source.getGeneratedBy());
+				ps.setObject(index++, now);
+				ps.setObject(index++, now);
+			}
+			return ps;
+		}, keyHolder);
+
+		// MySQL 은 다중 행 INSERT 의 생성 키를 입력 순서대로 반환
+		List<Long> planIds = new ArrayList<>(userIds.size());
+		for (Map<String, Object> key : keyHolder.getKeyList()) {
+			planIds.add(((Number) key.values().iterator().next()).longValue());
+		}
+		return planIds;
+	}
+}
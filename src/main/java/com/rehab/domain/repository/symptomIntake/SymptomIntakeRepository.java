@@ -41,6 +41,11 @@ public interface SymptomIntakeRepository extends JpaRepository<SymptomIntake, Lo
 	@Query("SELECT COUNT(si) FROM SymptomIntake si WHERE si.user.userId = :userId")
 	long countByUserId(@Param("userId") Long userId);
 
+	/**
+	 * 사용자의 가장 최근 문진 1건
+	 */
+	Optional<SymptomIntake> findFirstByUser_UserIdOrderByCreatedAtDesc(Long userId);
+
 	Optional<SymptomIntake> findByUser(User user);
 	List<SymptomIntake> findAllByUserOrderByCreatedAtDesc(User user);
 
@@ -1,6 +1,8 @@
 package com.rehab.dto.ai;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.rehab.common.util.RawJson;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,7 +32,9 @@ public class AiInferenceLogResponse {
 	@Schema(description = "추론 로그 정보")
 	public static class InferenceLog {
 
-		@Schema(description = "AI 추론 로그 ID", example = "801")
+		// 2^53 을 넘는 ID 라 JS 숫자로는 정확히 표현되지 않으므로 문자열로 내려줌
+		@Schema(description = "AI 추론 로그 ID (문자열)", type = "string", example = "377849263104000001")
+		@JsonSerialize(using = ToStringSerializer.class)
 		private Long aiInferenceLogId;
 
 		@Schema(description = "사용자 ID", example = "123")
@@ -43,14 +47,17 @@ public class AiInferenceLogResponse {
 		private String modelVer;
 
 		@Schema(description = "입력 스냅샷 (JSON)")
-		private JsonNode inputSnapshot;
+		private RawJson inputSnapshot;
 
 		@Schema(description = "출력 스냅샷 (JSON)")
-		private JsonNode outputSnapshot;
+		private RawJson outputSnapshot;
 
 		@Schema(description = "지연 시간 (밀리초)", example = "245")
 		private Integer latencyMs;
 
+		@Schema(description = "결과 캐시 응답 여부", example = "false")
+		private Boolean cacheHit;
+
 		@Schema(description = "지식 참조 수", example = "2")
 		private Integer knowledgeReferences;
 
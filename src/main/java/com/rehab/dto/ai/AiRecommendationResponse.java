@@ -1,5 +1,7 @@
 package com.rehab.dto.ai;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.rehab.domain.entity.enums.Difficulty;
 import com.rehab.domain.entity.enums.EvidenceLevel;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -28,7 +30,9 @@ public class AiRecommendationResponse {
 	@Schema(description = "모델 정보")
 	private ModelInfo modelInfo;
 
-	@Schema(description = "AI 추론 로그 ID")
+	// 2^53 을 넘는 ID 라 JS 숫자로는 정확히 표현되지 않으므로 문자열로 내려줌
+	@Schema(description = "AI 추론 로그 ID (문자열)", type = "string")
+	@JsonSerialize(using = ToStringSerializer.class)
 	private Long aiInferenceLogId;
 
 	@Getter
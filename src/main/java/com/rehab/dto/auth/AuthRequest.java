@@ -25,4 +25,13 @@ public class AuthRequest {
 		private String email;
 		private String password;
 	}
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class RefreshRequest {
+		private String refreshToken;
+	}
 }
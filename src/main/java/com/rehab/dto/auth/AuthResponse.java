@@ -34,4 +34,14 @@ public class AuthResponse {
 		private String accessToken;
 		private String refreshToken;
 	}
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class TokenResponse {
+		private String accessToken;
+		private String refreshToken;
+	}
 }
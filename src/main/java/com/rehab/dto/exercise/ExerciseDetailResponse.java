@@ -1,6 +1,6 @@
 package com.rehab.dto.exercise;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.rehab.common.util.RawJson;
 import com.rehab.domain.entity.enums.Difficulty;
 import com.rehab.domain.entity.enums.EvidenceLevel;
 import com.rehab.domain.entity.enums.MediaType;
@@ -26,8 +26,8 @@ public class ExerciseDetailResponse {
 	private String description;
 	private String bodyPart;
 	private Difficulty difficulty;
-	private JsonNode contraindications; // JSON
-	private JsonNode progressionRules; // JSON
+	private RawJson contraindications; // JSON
+	private RawJson progressionRules; // JSON
 	private EvidenceLevel evidenceLevel;
 	private List<ExerciseImageResponse> images;
 	private List<ExerciseMediaResponse> media;
@@ -41,7 +41,7 @@ public class ExerciseDetailResponse {
 	public static class ExerciseImageResponse {
 		private Long exerciseImageId;
 		private String title;
-		private JsonNode imageUrl; // JSON
+		private RawJson imageUrl; // JSON
 	}
 
 	@Getter
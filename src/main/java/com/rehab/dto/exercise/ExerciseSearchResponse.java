@@ -0,0 +1,36 @@
+package com.rehab.dto.exercise;
+
+import com.rehab.domain.entity.enums.Difficulty;
+import com.rehab.domain.entity.enums.EvidenceLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 운동 검색 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExerciseSearchResponse {
+
+	private int totalCount; // limit 적용 전 전체 일치 수
+	private List<ExerciseSummary> exercises;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class ExerciseSummary {
+		private Long exerciseId;
+		private String title;
+		private String bodyPart;
+		private Difficulty difficulty;
+		private EvidenceLevel evidenceLevel;
+		private List<String> contraindications; // 금기 태그 (소문자)
+	}
+}
@@ -31,7 +31,15 @@ public class MedicationDto {
 		private String description;
 		private MedicationStatus status;
 		private List<ScheduleResponse> schedules;
-		private List<MedicationLogResponse> logs;
+		private AdherenceSummary adherence; // 전체 기록은 GET /medications/{medicationId}/logs
+	}
+
+	// 복약 기록 요약
+	@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+	public static class AdherenceSummary {
+		private Long totalCount;
+		private Long takenCount;
+		private LocalDateTime lastLoggedAt;
 	}
 
 	// 스케줄
@@ -68,6 +76,15 @@ public class MedicationDto {
 		private LocalDateTime takenAt;
 	}
 
+	// 복약 기록 페이지 (최신순, (takenAt, logId) 커서)
+	@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+	public static class LogPageResponse {
+		private List<MedicationLogResponse> logs;
+		private Boolean hasNext;
+		private LocalDateTime nextCursorTakenAt; // hasNext 가 false 면 null
+		private Long nextCursorId;
+	}
+
 	@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 	public static class UpdateRequest {
 		private String name;
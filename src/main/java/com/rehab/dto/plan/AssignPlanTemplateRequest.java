@@ -0,0 +1,36 @@
+package com.rehab.dto.plan;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "플랜 템플릿 일괄 배정 요청")
+public class AssignPlanTemplateRequest {
+
+	@NotEmpty(message = "배정할 사용자 ID는 필수입니다")
+	@Size(max = 1000, message = "한 번에 최대 1000명까지 배정할 수 있습니다")
+	@Builder.Default
+	@Schema(description = "배정할 사용자 ID 리스트", example = "[1, 2, 3]")
+	private List<Long> userIds = new ArrayList<>();
+
+	@Schema(description = "플랜 제목 (생략 시 템플릿 제목)", example = "허리 통증 4주 종합 재활 플랜")
+	private String title;
+
+	@Schema(description = "시작 날짜 (생략 시 현재 시각)", example = "2025-12-01T00:00:00")
+	private LocalDateTime startDate;
+
+	@Schema(description = "종료 날짜", example = "2025-12-28T23:59:59")
+	private LocalDateTime endDate;
+}
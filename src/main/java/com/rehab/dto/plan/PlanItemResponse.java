@@ -1,6 +1,6 @@
 package com.rehab.dto.plan;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.rehab.common.util.RawJson;
 import com.rehab.domain.entity.enums.PlanItemStatus;
 import com.rehab.domain.entity.enums.RehabPhase;
 
@@ -25,8 +25,8 @@ public class PlanItemResponse {
 	private RehabPhase phase;
 	private Integer orderIndex;
 	private PlanItemStatus status;
-	private JsonNode dose; // JSON 데이터
-	private JsonNode recommendationReason; // JSON 데이터
+	private RawJson dose; // JSON 데이터
+	private RawJson recommendationReason; // JSON 데이터
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 }
@@ -0,0 +1,34 @@
+package com.rehab.dto.plan;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 플랜 템플릿 일괄 배정 결과 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanTemplateAssignmentResponse {
+	private Long templateId;
+	private Integer requestedCount;
+	private Integer assignedCount;
+	private Integer failedCount;
+	private List<AssignmentResult> results;
+
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class AssignmentResult {
+		private Long userId;
+		private Boolean success;
+		private Long rehabPlanId;  // 성공 시 생성된 플랜 ID
+		private String errorCode;  // 실패 시 에러 코드
+	}
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.rehab.domain.entity.enums.RehabPlanStatus;
@@ -17,6 +18,11 @@ public class RehabPlanListResponse {
 	private List<RehabPlanSummary> plans;
 	private Integer totalCount;
 
+	// 다음 페이지 커서 (hasNext 가 false 면 null)
+	private Boolean hasNext;
+	private LocalDateTime nextCursorCreatedAt;
+	private Long nextCursorId;
+
 	@Getter
 	@Builder
 	@NoArgsConstructor
@@ -2,7 +2,7 @@ package com.rehab.oauth;
 
 import com.rehab.domain.entity.User;
 import com.rehab.domain.repository.user.UserRepository;
-import com.rehab.security.jwt.JwtTokenProvider;
+import com.rehab.service.authService.RefreshTokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +17,7 @@ import java.io.IOException;
 public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
 	private final UserRepository userRepository;
-	private final JwtTokenProvider jwtTokenProvider;
+	private final RefreshTokenService refreshTokenService;
 
 	@Override
 	public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -42,15 +42,14 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 			});
 
 		// 2) JWT 생성
-		String accessToken = jwtTokenProvider.createAccessToken(user.getUserId(), user.getRole().toString(),null);
-		String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId(), user.getRole().toString());
+		RefreshTokenService.IssuedTokens tokens = refreshTokenService.issue(user.getUserId(), user.getRole().toString());
 
 		// redirect 대신 JSON 응답
 		//프론트가 나중에 만들어지면 그때 다시 redirect 코드
 		response.setContentType("application/json; charset=UTF-8");
 		String json = String.format(
 			"{\"access\":\"%s\", \"refresh\":\"%s\", \"userId\":%d}",
-			accessToken, refreshToken, user.getUserId()
+			tokens.accessToken(), tokens.refreshToken(), user.getUserId()
 		);
 
 		response.getWriter().write(json);
@@ -0,0 +1,18 @@
+package com.rehab.security;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 로그인한 사용자의 User 엔티티 주입
+ * JWT 인증은 클레임만 보관하므로 이 파라미터를 선언한 핸들러에서만 사용자 조회
+ */
+@Parameter(hidden = true)
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
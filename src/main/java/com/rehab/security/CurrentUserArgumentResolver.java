@@ -0,0 +1,50 @@
+package com.rehab.security;
+
+import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.apiPayload.exception.GeneralException;
+import com.rehab.apiPayload.exception.handler.UserHandler;
+import com.rehab.domain.entity.User;
+import com.rehab.domain.repository.user.UserRepository;
+import com.rehab.security.jwt.JwtPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUser User 파라미터 해석
+ * SecurityContext 의 JwtPrincipal 로 User 엔티티를 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private final UserRepository userRepository;
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(CurrentUser.class)
+			&& User.class.isAssignableFrom(parameter.getParameterType());
+	}
+
+	@Override
+	public Object resolveArgument(
+		MethodParameter parameter,
+		ModelAndViewContainer mavContainer,
+		NativeWebRequest webRequest,
+		WebDataBinderFactory binderFactory
+	) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !(authentication.getPrincipal() instanceof JwtPrincipal principal)) {
+			throw new GeneralException(ErrorStatus._UNAUTHORIZED);
+		}
+
+		return userRepository.findById(principal.userId())
+			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+	}
+}
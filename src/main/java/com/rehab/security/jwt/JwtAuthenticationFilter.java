@@ -1,8 +1,5 @@
 package com.rehab.security.jwt;
 
-import com.rehab.domain.entity.User;
-import com.rehab.domain.repository.user.UserRepository;
-
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +18,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenProvider jwtTokenProvider;
-	private final UserRepository userRepository;
+	private final SessionRevocationRegistry sessionRevocationRegistry;
 
 	@Override
 	protected void doFilterInternal(
@@ -34,20 +31,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		if (token != null) {
 			try {
-				Long userId = jwtTokenProvider.getUserId(token);
-				String role = jwtTokenProvider.getRole(token);
-
-				User user = userRepository.findById(userId)
-					.orElse(null);
+				// 클레임만으로 인증 (User 엔티티는 @CurrentUser 로 필요한 곳에서만 조회)
+				JwtPrincipal principal = jwtTokenProvider.getPrincipal(token);
 
-				if (user != null) {
-					var auth = new UsernamePasswordAuthenticationToken(
-						user,
-						null,
-						List.of(new SimpleGrantedAuthority("ROLE_" + role))
-					);
-					SecurityContextHolder.getContext().setAuthentication(auth);
+				// 폐기된 세션(리프레시 토큰 재사용 감지 등)의 토큰은 익명으로 처리
+				if (sessionRevocationRegistry.isRevoked(principal.sessionId())) {
+					filterChain.doFilter(request, response);
+					return;
 				}
+
+				var auth = new UsernamePasswordAuthenticationToken(
+					principal,
+					null,
+					List.of(new SimpleGrantedAuthority("ROLE_" + principal.role()))
+				);
+				SecurityContextHolder.getContext().setAuthentication(auth);
 			} catch (Exception e) {
 				// 토큰 에러 시 그냥 통과시키고, 컨트롤러에서 @PreAuthorize 등으로 막히게
 				SecurityContextHolder.clearContext();
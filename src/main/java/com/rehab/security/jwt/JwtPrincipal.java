@@ -0,0 +1,12 @@
+package com.rehab.security.jwt;
+
+/**
+ * 검증된 액세스 토큰의 클레임으로 만든 인증 주체
+ * User 엔티티 대신 SecurityContext 에 저장 (요청마다 사용자 조회하지 않음)
+ */
+public record JwtPrincipal(
+	Long userId,
+	String role,
+	String sessionId
+) {
+}
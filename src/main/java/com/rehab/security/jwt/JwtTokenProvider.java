@@ -1,5 +1,8 @@
 package com.rehab.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
@@ -10,12 +13,24 @@ import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
+	// 로그인 세션(리프레시 토큰 패밀리) ID
+	public static final String CLAIM_SESSION_ID = "sid";
+	public static final String CLAIM_TOKEN_TYPE = "typ";
+	public static final String REFRESH_TOKEN_TYPE = "refresh";
+
 	private final Key key;
 
+	// 파서는 thread-safe 하므로 한 번만 생성해 재사용
+	private final JwtParser parser;
+
+	// 검증된 토큰 → 인증 주체 (토큰 만료 시각에 맞춰 만료)
+	private final Cache<String, CachedPrincipal> principalCache;
+
 	@Getter
 	private final long accessTokenValidityInSeconds;
 
@@ -25,9 +40,17 @@ public class JwtTokenProvider {
 	public JwtTokenProvider(
 		@Value("${jwt.secret}") String secret,
 		@Value("${jwt.access-token-validity-in-seconds:3600}") long accessTokenValidityInSeconds,
-		@Value("${jwt.refresh-token-validity-in-seconds:1209600}") long refreshTokenValidityInSeconds
+		@Value("${jwt.refresh-token-validity-in-seconds:1209600}") long refreshTokenValidityInSeconds,
+		@Value("${jwt.principal-cache.max-size:10000}") long principalCacheMaxSize
 	) {
 		this.key = Keys.hmacShaKeyFor(secret.getBytes());
+		this.parser = Jwts.parserBuilder()
+			.setSigningKey(key)
+			.build();
+		this.principalCache = Caffeine.newBuilder()
+			.maximumSize(principalCacheMaxSize)
+			.expireAfter(new PrincipalExpiry())
+			.build();
 		this.accessTokenValidityInSeconds = accessTokenValidityInSeconds;
 		this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
 	}
@@ -36,8 +59,18 @@ public class JwtTokenProvider {
 		return createToken(userId, role, additionalClaims, accessTokenValidityInSeconds);
 	}
 
-	public String createRefreshToken(Long userId, String role) {
-		return createToken(userId, role, null, refreshTokenValidityInSeconds);
+	/**
+	 * 리프레시 토큰 발급
+	 *
+	 * @param sessionId 로그인 세션 ID (회전해도 유지)
+	 * @param tokenId   토큰별 ID (jti, 회전할 때마다 새로 발급)
+	 */
+	public String createRefreshToken(Long userId, String role, String sessionId, String tokenId) {
+		return createToken(userId, role, Map.of(
+			CLAIM_TOKEN_TYPE, REFRESH_TOKEN_TYPE,
+			CLAIM_SESSION_ID, sessionId,
+			Claims.ID, tokenId
+		), refreshTokenValidityInSeconds);
 	}
 
 	private String createToken(Long userId, String role, Map<String, Object> additionalClaims, long validitySeconds) {
@@ -59,10 +92,7 @@ public class JwtTokenProvider {
 	}
 
 	public Jws<Claims> parseToken(String token) {
-		return Jwts.parserBuilder()
-			.setSigningKey(key)
-			.build()
-			.parseClaimsJws(token);
+		return parser.parseClaimsJws(token);
 	}
 
 	public Long getUserId(String token) {
@@ -72,4 +102,59 @@ public class JwtTokenProvider {
 	public String getRole(String token) {
 		return (String) parseToken(token).getBody().get("role");
 	}
+
+	/**
+	 * 토큰을 한 번만 검증해 인증 주체로 변환
+	 * 같은 토큰의 재요청은 만료 전까지 캐시에서 바로 반환
+	 *
+	 * @throws JwtException 서명 불일치, 만료 등 유효하지 않은 토큰
+	 */
+	public JwtPrincipal getPrincipal(String token) {
+		CachedPrincipal cached = principalCache.getIfPresent(token);
+		if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+			return cached.principal();
+		}
+
+		Claims claims = parseToken(token).getBody();
+		if (REFRESH_TOKEN_TYPE.equals(claims.get(CLAIM_TOKEN_TYPE))) {
+			throw new UnsupportedJwtException("리프레시 토큰은 인증에 사용할 수 없습니다.");
+		}
+
+		JwtPrincipal principal = new JwtPrincipal(
+			Long.valueOf(claims.getSubject()),
+			(String) claims.get("role"),
+			(String) claims.get(CLAIM_SESSION_ID)
+		);
+
+		Date expiration = claims.getExpiration();
+		if (expiration != null) {
+			principalCache.put(token, new CachedPrincipal(principal, expiration.getTime()));
+		}
+		return principal;
+	}
+
+	private record CachedPrincipal(JwtPrincipal principal, long expiresAtMillis) {
+	}
+
+	/**
+	 * 캐시 항목을 토큰의 exp 시각에 만료
+	 */
+	private static class PrincipalExpiry implements Expiry<String, CachedPrincipal> {
+
+		@Override
+		public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+			long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
 }
@@ -0,0 +1,95 @@
+package com.rehab.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 로그인 세션 목록
+ * - 원본: Redis 키 auth:revoked:{sessionId} (TTL = 액세스 토큰 유효 시간)
+ * - 각 노드는 로컬 맵으로 들고 있어 JwtAuthenticationFilter 가 네트워크 없이 O(1) 로 확인
+ * - 폐기 시 pub/sub 으로 다른 노드에 전파하고, 주기적으로 Redis 와 재동기화
+ * 액세스 토큰 유효 시간이 지나면 해당 세션의 토큰은 모두 만료되므로 항목도 함께 만료
+ */
+@Slf4j
+@Component
+public class SessionRevocationRegistry implements MessageListener {
+
+	private static final String KEY_PREFIX = "auth:revoked:";
+	private static final String REVOCATION_CHANNEL = "auth:revoked";
+
+	private final StringRedisTemplate redisTemplate;
+	private final Duration revocationTtl;
+
+	// sessionId → 만료 시각 (epoch millis)
+	private final Map<String, Long> revokedSessions = new ConcurrentHashMap<>();
+
+	public SessionRevocationRegistry(
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		JwtTokenProvider jwtTokenProvider
+	) {
+		this.redisTemplate = redisTemplate;
+		this.revocationTtl = Duration.ofSeconds(jwtTokenProvider.getAccessTokenValidityInSeconds());
+
+		listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+	}
+
+	/**
+	 * 세션 폐기 (해당 세션으로 발급된 액세스 토큰 거부)
+	 */
+	public void revoke(String sessionId) {
+		revokedSessions.put(sessionId, System.currentTimeMillis() + revocationTtl.toMillis());
+
+		redisTemplate.opsForValue().set(KEY_PREFIX + sessionId, "1", revocationTtl);
+		redisTemplate.convertAndSend(REVOCATION_CHANNEL, sessionId);
+	}
+
+	public boolean isRevoked(String sessionId) {
+		if (sessionId == null) {
+			return false;
+		}
+		Long expiresAt = revokedSessions.get(sessionId);
+		return expiresAt != null && expiresAt > System.currentTimeMillis();
+	}
+
+	/**
+	 * 다른 노드의 폐기 메시지 수신
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String sessionId = new String(message.getBody(), StandardCharsets.UTF_8);
+		revokedSessions.putIfAbsent(sessionId, System.currentTimeMillis() + revocationTtl.toMillis());
+	}
+
+	/**
+	 * Redis 와 재동기화 (pub/sub 메시지 유실 대비) 및 만료 항목 정리
+	 */
+	@Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:60000}")
+	public void synchronize() {
+		long now = System.currentTimeMillis();
+		revokedSessions.values().removeIf(expiresAt -> expiresAt <= now);
+
+		ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				String sessionId = cursor.next().substring(KEY_PREFIX.length());
+				revokedSessions.putIfAbsent(sessionId, now + revocationTtl.toMillis());
+			}
+		} catch (Exception e) {
+			log.warn("세션 폐기 목록 동기화 실패", e);
+		}
+	}
+}
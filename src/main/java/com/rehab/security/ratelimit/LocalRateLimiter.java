@@ -0,0 +1,37 @@
+package com.rehab.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rehab.common.util.TokenBucket;
+
+import java.time.Duration;
+
+/**
+ * 노드 내 속도 제한 (규칙 하나당 인스턴스 하나)
+ * 키마다 버킷을 따로 두어 다른 키와 한도를 공유하지 않음
+ * - 버킷 갱신은 CAS 한 번이라 락이 없음
+ * - 버킷이 가득 찰 만큼 쉬고 있던 키는 새 버킷과 같으므로 그 시간 뒤 버림
+ */
+public class LocalRateLimiter {
+
+	private final Cache<String, TokenBucket> buckets;
+	private final long capacity;
+	private final double refillPerSecond;
+
+	public LocalRateLimiter(long maxKeys, long capacity, double refillPerSecond) {
+		this.capacity = capacity;
+		this.refillPerSecond = refillPerSecond;
+		long refillMillis = (long) Math.ceil(capacity * 1000 / refillPerSecond);
+		this.buckets = Caffeine.newBuilder()
+			.maximumSize(maxKeys)
+			.expireAfterAccess(Duration.ofMillis(Math.max(refillMillis, 1000)))
+			.build();
+	}
+
+	/**
+	 * @return 0 이면 허용, 아니면 다음 토큰까지 기다려야 하는 나노초
+	 */
+	public long tryAcquire(String key) {
+		return buckets.get(key, k -> new TokenBucket(capacity, refillPerSecond)).tryAcquire();
+	}
+}
@@ -0,0 +1,203 @@
+package com.rehab.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.apiPayload.ApiResponse;
+import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.security.jwt.JwtPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로별 요청 속도 제한 필터 (JwtAuthenticationFilter 다음에 실행)
+ * 1단계: 노드 내 키별 버킷 (Caffeine, 규칙마다 최대 rate-limit.max-keys 개, 네트워크 없음)
+ * 2단계: rate-limit.redis-enabled 이면 Redis 로 클러스터 전체 한도 확인 (장애 시 통과)
+ * 초과하면 429 + Retry-After
+ * 클라이언트 IP 는 getRemoteAddr 기준이고, 연결이 rate-limit.trusted-proxies 에서 왔을 때만 X-Forwarded-For 를 따름
+ * (server.forward-headers-strategy 로 이미 원격 주소를 바꿔 두었다면 trusted-proxies 는 비워 둠)
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+	private final List<CompiledRule> rules;
+	private final List<IpAddressMatcher> trustedProxies;
+	private final RedisRateLimiter redisRateLimiter;
+	private final boolean enabled;
+	private final boolean redisEnabled;
+	private final ObjectMapper objectMapper;
+
+	public RateLimitFilter(
+		RateLimitProperties properties,
+		RedisRateLimiter redisRateLimiter,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry
+	) {
+		this.enabled = properties.isEnabled();
+		this.redisEnabled = properties.isRedisEnabled();
+		this.redisRateLimiter = redisRateLimiter;
+		this.objectMapper = objectMapper;
+		this.trustedProxies = properties.getTrustedProxies().stream()
+			.map(IpAddressMatcher::new)
+			.toList();
+		this.rules = properties.getRules().stream()
+			.map(rule -> new CompiledRule(
+				rule,
+				PathPatternParser.defaultInstance.parse(rule.getPattern()),
+				new LocalRateLimiter(properties.getMaxKeys(), rule.getCapacity(), rule.getRefillPerSecond()),
+				meterRegistry.counter("rate_limit.rejected", "rule", rule.getPattern(), "tier", "local"),
+				meterRegistry.counter("rate_limit.rejected", "rule", rule.getPattern(), "tier", "redis")
+			))
+			.toList();
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled || rules.isEmpty();
+	}
+
+	@Override
+	protected void doFilterInternal(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		FilterChain filterChain
+	) throws ServletException, IOException {
+
+		CompiledRule rule = match(request.getRequestURI());
+		if (rule != null) {
+			String key = resolveKey(rule, request);
+
+			long waitNanos = rule.localLimiter().tryAcquire(key);
+			if (waitNanos > 0) {
+				rule.localRejectedCounter().increment();
+				reject(response, waitNanos);
+				return;
+			}
+
+			if (redisEnabled) {
+				waitNanos = acquireDistributed(rule, key);
+				if (waitNanos > 0) {
+					rule.redisRejectedCounter().increment();
+					reject(response, waitNanos);
+					return;
+				}
+			}
+		}
+
+		filterChain.doFilter(request, response);
+	}
+
+	private CompiledRule match(String requestUri) {
+		PathContainer path = PathContainer.parsePath(requestUri);
+		for (CompiledRule rule : rules) {
+			if (rule.pattern().matches(path)) {
+				return rule;
+			}
+		}
+		return null;
+	}
+
+	private String resolveKey(CompiledRule rule, HttpServletRequest request) {
+		String pattern = rule.rule().getPattern();
+		return switch (rule.rule().getKey()) {
+			case ROUTE -> pattern;
+			case USER -> {
+				Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+				if (auth != null && auth.getPrincipal() instanceof JwtPrincipal principal) {
+					yield pattern + "|u:" + principal.userId();
+				}
+				yield pattern + "|ip:" + resolveClientIp(request);
+			}
+			case IP -> pattern + "|ip:" + resolveClientIp(request);
+		};
+	}
+
+	/**
+	 * 클라이언트 IP
+	 * 신뢰하는 프록시를 거쳐 왔으면 X-Forwarded-For 를 오른쪽부터 보며 신뢰하지 않는 첫 주소를 사용
+	 * (왼쪽 값은 클라이언트가 임의로 넣을 수 있으므로 그대로 믿지 않음)
+	 */
+	private String resolveClientIp(HttpServletRequest request) {
+		String remoteAddr = request.getRemoteAddr();
+		String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+		if (forwardedFor == null || forwardedFor.isBlank() || !isTrustedProxy(remoteAddr)) {
+			return remoteAddr;
+		}
+
+		String[] hops = forwardedFor.split(",");
+		for (int i = hops.length - 1; i >= 0; i--) {
+			String hop = hops[i].trim();
+			if (!hop.isEmpty() && !isTrustedProxy(hop)) {
+				return hop;
+			}
+		}
+		// 모두 신뢰하는 프록시면 가장 앞 주소
+		String first = hops[0].trim();
+		return first.isEmpty() ? remoteAddr : first;
+	}
+
+	private boolean isTrustedProxy(String address) {
+		for (IpAddressMatcher matcher : trustedProxies) {
+			try {
+				if (matcher.matches(address)) {
+					return true;
+				}
+			} catch (IllegalArgumentException e) {
+				// IP 형식이 아닌 값 (unknown 등)
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private long acquireDistributed(CompiledRule rule, String key) {
+		try {
+			return redisRateLimiter.tryAcquire(key, rule.rule().getCapacity(), rule.rule().getRefillPerSecond());
+		} catch (Exception e) {
+			// Redis 장애 시 로컬 한도만 적용
+			log.warn("분산 속도 제한 확인 실패 - key: {}", key, e);
+			return 0;
+		}
+	}
+
+	private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+		long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+
+		ErrorStatus status = ErrorStatus._TOO_MANY_REQUESTS;
+		response.setStatus(status.getHttpStatus().value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		objectMapper.writeValue(
+			response.getWriter(),
+			ApiResponse.onFailure(status.getCode(), status.getMessage(), null)
+		);
+	}
+
+	private record CompiledRule(
+		RateLimitProperties.Rule rule,
+		PathPattern pattern,
+		LocalRateLimiter localLimiter,
+		Counter localRejectedCounter,
+		Counter redisRejectedCounter
+	) {
+	}
+}
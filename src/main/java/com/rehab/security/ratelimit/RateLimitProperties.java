@@ -0,0 +1,77 @@
+package com.rehab.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 (rate-limit.*)
+ * 규칙은 위에서부터 처음 일치하는 하나만 적용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+	private boolean enabled = true;
+
+	// 클러스터 전체 한도 (Redis) 사용 여부
+	private boolean redisEnabled = false;
+
+	// 규칙별로 기억하는 최대 키 수 (넘치면 오래 안 쓴 키부터 버림)
+	private long maxKeys = 100_000;
+
+	// X-Forwarded-For 를 믿을 앞단 프록시 주소 (IP 또는 CIDR, 예: 10.0.0.0/8)
+	// 비어 있으면 연결한 주소(getRemoteAddr)를 그대로 클라이언트 IP 로 사용
+	private List<String> trustedProxies = new ArrayList<>();
+
+	private List<Rule> rules = defaultRules();
+
+	@Getter
+	@Setter
+	public static class Rule {
+
+		// 경로 패턴 (PathPattern 문법, 예: /api/v1/ai/**)
+		private String pattern;
+
+		// 순간 허용량
+		private long capacity;
+
+		// 초당 충전량
+		private double refillPerSecond;
+
+		// 버킷 구분 기준
+		private KeyType key = KeyType.IP;
+
+		public Rule() {
+		}
+
+		public Rule(String pattern, long capacity, double refillPerSecond, KeyType key) {
+			this.pattern = pattern;
+			this.capacity = capacity;
+			this.refillPerSecond = refillPerSecond;
+			this.key = key;
+		}
+	}
+
+	public enum KeyType {
+		// 클라이언트 IP
+		IP,
+		// 로그인 사용자 (비로그인은 IP)
+		USER,
+		// 경로 전체 공유
+		ROUTE
+	}
+
+	private static List<Rule> defaultRules() {
+		List<Rule> rules = new ArrayList<>();
+		rules.add(new Rule("/auth/auth/email/**", 5, 5 / 60.0, KeyType.IP));
+		rules.add(new Rule("/auth/login", 10, 10 / 60.0, KeyType.IP));
+		rules.add(new Rule("/auth/**", 30, 30 / 60.0, KeyType.IP));
+		rules.add(new Rule("/api/v1/ai/**", 20, 20 / 60.0, KeyType.USER));
+		return rules;
+	}
+}
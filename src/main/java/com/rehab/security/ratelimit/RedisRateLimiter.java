@@ -0,0 +1,54 @@
+package com.rehab.security.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터 전체 속도 제한 (Redis)
+ * LocalRateLimiter 와 같은 GCRA 토큰 버킷을 Lua 스크립트로 원자적으로 계산
+ * 시각은 Redis TIME 을 사용해 노드 간 시계 차이의 영향을 받지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisRateLimiter {
+
+	private static final String KEY_PREFIX = "rate-limit:";
+
+	// 반환: 0 이면 허용, 아니면 대기 마이크로초
+	private static final RedisScript<Long> GCRA_SCRIPT = new DefaultRedisScript<>(
+		"local t = redis.call('TIME') " +
+		"local now = tonumber(t[1]) * 1000000 + tonumber(t[2]) " +
+		"local interval = tonumber(ARGV[1]) " +
+		"local burst = tonumber(ARGV[2]) " +
+		"local tat = tonumber(redis.call('GET', KEYS[1])) or now " +
+		"if tat < now then tat = now end " +
+		"local newTat = tat + interval " +
+		"local wait = newTat - now - burst " +
+		"if wait > 0 then return wait end " +
+		"redis.call('SET', KEYS[1], newTat, 'PX', math.ceil((newTat - now) / 1000) + 1) " +
+		"return 0",
+		Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * @return 0 이면 허용, 아니면 다음 토큰까지 기다려야 하는 나노초
+	 */
+	public long tryAcquire(String key, long capacity, double refillPerSecond) {
+		long intervalMicros = (long) (TimeUnit.SECONDS.toMicros(1) / refillPerSecond);
+		Long waitMicros = redisTemplate.execute(
+			GCRA_SCRIPT,
+			List.of(KEY_PREFIX + key),
+			String.valueOf(intervalMicros),
+			String.valueOf(intervalMicros * capacity)
+		);
+		return waitMicros == null ? 0 : TimeUnit.MICROSECONDS.toNanos(waitMicros);
+	}
+}
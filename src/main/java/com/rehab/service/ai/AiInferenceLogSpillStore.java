@@ -0,0 +1,188 @@
+package com.rehab.service.ai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.repository.ai.AiInferenceLogRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * DB 가 느리거나 실패할 때 추론 로그를 로컬 디스크에 임시 보관
+ * - JSON Lines 세그먼트 파일에 추가 (세그먼트가 segment-size 를 넘으면 새 파일)
+ * - replayOldest 는 닫힌 세그먼트를 오래된 순으로 하나씩 읽어 저장하고, 성공하면 파일 삭제
+ * - 전체 크기가 max-size 를 넘으면 보관하지 않음 (호출 측에서 버림 처리)
+ * 재시작 후 남아 있는 파일도 같은 방식으로 저장
+ */
+@Slf4j
+@Component
+public class AiInferenceLogSpillStore {
+
+	private static final String SEGMENT_PREFIX = "spill-";
+	private static final String SEGMENT_SUFFIX = ".jsonl";
+
+	private final ObjectMapper objectMapper;
+	private final Path directory;
+	private final long maxBytes;
+	private final long segmentBytes;
+
+	private final AtomicLong totalBytes = new AtomicLong();
+
+	// 현재 쓰는 세그먼트 (lock 으로 보호)
+	private final Object lock = new Object();
+	private Path currentSegment;
+	private long currentSegmentBytes;
+	private long segmentSequence;
+
+	public AiInferenceLogSpillStore(
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${ai.inference-log.spill.dir:${java.io.tmpdir}/ai-inference-log-spill}") String directory,
+		@Value("${ai.inference-log.spill.max-size-mb:512}") long maxSizeMb,
+		@Value("${ai.inference-log.spill.segment-size-mb:8}") long segmentSizeMb
+	) throws IOException {
+		this.objectMapper = objectMapper;
+		this.directory = Paths.get(directory);
+		this.maxBytes = maxSizeMb * 1024 * 1024;
+		this.segmentBytes = segmentSizeMb * 1024 * 1024;
+
+		Files.createDirectories(this.directory);
+		for (Path segment : listSegments()) {
+			totalBytes.addAndGet(Files.size(segment));
+		}
+		if (totalBytes.get() > 0) {
+			log.info("이전 실행에서 남은 추론 로그 임시 파일 - {} bytes", totalBytes.get());
+		}
+
+		meterRegistry.gauge("ai.inference_log.spill.bytes", totalBytes);
+	}
+
+	/**
+	 * 디스크에 보관
+	 *
+	 * @return 용량 초과나 I/O 오류로 보관하지 못하면 false
+	 */
+	public boolean spill(List<AiInferenceLogRow> rows) {
+		StringBuilder lines = new StringBuilder();
+		for (AiInferenceLogRow row : rows) {
+			try {
+				lines.append(objectMapper.writeValueAsString(row)).append('\n');
+			} catch (JsonProcessingException e) {
+				log.error("추론 로그 임시 저장 직렬화 실패 - id: {}", row.inferenceLogId(), e);
+			}
+		}
+		byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+		synchronized (lock) {
+			if (totalBytes.get() + bytes.length > maxBytes) {
+				return false;
+			}
+			try {
+				if (currentSegment == null || currentSegmentBytes >= segmentBytes) {
+					currentSegment = directory.resolve(
+						SEGMENT_PREFIX + System.currentTimeMillis() + "-" + (segmentSequence++) + SEGMENT_SUFFIX
+					);
+					currentSegmentBytes = 0;
+				}
+				Files.write(currentSegment, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+				currentSegmentBytes += bytes.length;
+				totalBytes.addAndGet(bytes.length);
+				return true;
+			} catch (IOException e) {
+				log.error("추론 로그 임시 파일 쓰기 실패 - {}", currentSegment, e);
+				return false;
+			}
+		}
+	}
+
+	public boolean isEmpty() {
+		return totalBytes.get() == 0;
+	}
+
+	/**
+	 * 가장 오래된 세그먼트 하나를 sink 로 넘기고, 성공하면 삭제
+	 * (한 번에 하나씩 → flusher 가 버퍼 비우기를 오래 미루지 않음)
+	 * sink 가 예외를 던지면 세그먼트는 남겨 두고 다음에 재시도
+	 *
+	 * @return 넘긴 행 수
+	 */
+	public int replayOldest(Consumer<List<AiInferenceLogRow>> sink) {
+		// 지금 쓰던 세그먼트를 닫고 이후 추가분은 새 세그먼트로
+		synchronized (lock) {
+			currentSegment = null;
+		}
+
+		List<Path> segments = listSegments();
+		if (segments.isEmpty()) {
+			return 0;
+		}
+		Path oldest = segments.get(0);
+		List<AiInferenceLogRow> rows = read(oldest);
+		sink.accept(rows);
+		delete(oldest);
+		return rows.size();
+	}
+
+	private List<AiInferenceLogRow> read(Path segment) {
+		try {
+			List<AiInferenceLogRow> rows = new ArrayList<>();
+			for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+				if (line.isBlank()) {
+					continue;
+				}
+				try {
+					rows.add(objectMapper.readValue(line, AiInferenceLogRow.class));
+				} catch (JsonProcessingException e) {
+					// 종료 중 끊긴 마지막 줄 등
+					log.warn("손상된 추론 로그 임시 데이터 건너뜀 - {}", segment);
+				}
+			}
+			return rows;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void delete(Path segment) {
+		try {
+			long size = Files.size(segment);
+			Files.delete(segment);
+			totalBytes.addAndGet(-size);
+		} catch (IOException e) {
+			log.error("추론 로그 임시 파일 삭제 실패 - {}", segment, e);
+		}
+	}
+
+	// 닫힌 세그먼트만 (파일명 = 생성 시각 순)
+	private List<Path> listSegments() {
+		List<Path> segments = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+			for (Path segment : stream) {
+				synchronized (lock) {
+					if (segment.equals(currentSegment)) {
+						continue;
+					}
+				}
+				segments.add(segment);
+			}
+		} catch (IOException e) {
+			log.error("추론 로그 임시 디렉터리 조회 실패 - {}", directory, e);
+		}
+		segments.sort(null);
+		return segments;
+	}
+}
@@ -0,0 +1,242 @@
+package com.rehab.service.ai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.common.util.TimeOrderedIdGenerator;
+import com.rehab.domain.repository.ai.AiInferenceLogBatchRepository;
+import com.rehab.domain.repository.ai.AiInferenceLogRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AI 추론 로그 저장 (쓰기 단계, append-only)
+ * - 로그 ID 를 미리 발급해 바로 반환 → 응답에 DB 저장을 기다리지 않고 ID 포함
+ * - 고정 크기 버퍼에 넣고, flusher 가 flush-interval-ms 마다 또는 batch-size 개가 쌓이면 다중 행 INSERT
+ * - 버퍼가 가득 차거나(DB 가 느림) INSERT 가 실패하면 디스크에 임시 보관 → DB 가 회복되면 다시 저장
+ * - 디스크도 가득 차면 버림 (ai.inference_log.dropped)
+ * 로그 ID 는 노드 ID 로 구분하므로 ai.inference-log.node-id 를 인스턴스마다 다르게 반드시 설정
+ */
+@Slf4j
+@Component
+public class AiInferenceLogWriter {
+
+	private final AiInferenceLogBatchRepository aiInferenceLogBatchRepository;
+	private final AiInferenceLogSpillStore spillStore;
+	private final ObjectMapper objectMapper;
+	private final ThreadPoolTaskExecutor aiInferenceLogExecutor;
+	private final TimeOrderedIdGenerator idGenerator;
+
+	private final BlockingQueue<AiInferenceLogRow> buffer;
+	private final int batchSize;
+
+	// flush 는 한 번에 하나만 (스케줄러 / 조기 flush / 종료 시)
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final Counter flushedCounter;
+	private final Counter spilledCounter;
+	private final Counter replayedCounter;
+	private final Counter droppedCounter;
+	private final Timer flushTimer;
+
+	public AiInferenceLogWriter(
+		AiInferenceLogBatchRepository aiInferenceLogBatchRepository,
+		AiInferenceLogSpillStore spillStore,
+		ObjectMapper objectMapper,
+		@Qualifier("aiInferenceLogExecutor") ThreadPoolTaskExecutor aiInferenceLogExecutor,
+		MeterRegistry meterRegistry,
+		@Value("${ai.inference-log.buffer-size:10000}") int bufferSize,
+		@Value("${ai.inference-log.batch-size:200}") int batchSize,
+		@Value("${ai.inference-log.node-id:-1}") int nodeId
+	) {
+		this.aiInferenceLogBatchRepository = aiInferenceLogBatchRepository;
+		this.spillStore = spillStore;
+		this.objectMapper = objectMapper;
+		this.aiInferenceLogExecutor = aiInferenceLogExecutor;
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+		this.batchSize = batchSize;
+
+		// 임의 값으로 대신하면 인스턴스끼리 겹쳐 ID 가 충돌할 수 있으므로 기동 실패로 처리
+		if (nodeId < 0) {
+			throw new IllegalStateException(
+				"ai.inference-log.node-id 를 설정해야 합니다 (0 ~ " + TimeOrderedIdGenerator.MAX_NODE_ID + ", 인스턴스마다 다르게)");
+		}
+		this.idGenerator = new TimeOrderedIdGenerator(nodeId);
+
+		meterRegistry.gauge("ai.inference_log.buffer.depth", buffer, BlockingQueue::size);
+		this.flushedCounter = meterRegistry.counter("ai.inference_log.flushed");
+		this.spilledCounter = meterRegistry.counter("ai.inference_log.spilled");
+		this.replayedCounter = meterRegistry.counter("ai.inference_log.replayed");
+		this.droppedCounter = meterRegistry.counter("ai.inference_log.dropped");
+		this.flushTimer = meterRegistry.timer("ai.inference_log.flush");
+	}
+
+	/**
+	 * 추론 로그 저장 요청 (DB 저장은 flusher 가 비동기로)
+	 *
+	 * @param knowledgeReferences 응답에 첨부한 의학 지식 ID
+	 * @return 미리 발급한 로그 ID
+	 */
+	public Long write(
+		Long userId,
+		String modelKey,
+		String modelVersion,
+		Object input,
+		Object output,
+		List<Long> knowledgeReferences,
+		long latencyMs,
+		boolean cacheHit
+	) {
+		// 직렬화는 요청 스레드에서 (응답 객체가 이후에 바뀌어도 스냅샷 유지)
+		AiInferenceLogRow row = new AiInferenceLogRow(
+			idGenerator.nextId(),
+			userId,
+			modelKey,
+			modelVersion,
+			toJson(input),
+			toJson(output),
+			toJson(knowledgeReferences),
+			(int) latencyMs,
+			cacheHit,
+			LocalDateTime.now()
+		);
+
+		if (!buffer.offer(row)) {
+			// 버퍼가 가득 참 = DB 저장이 따라가지 못함
+			spill(List.of(row));
+		} else if (buffer.size() >= batchSize) {
+			requestFlush();
+		}
+		return row.inferenceLogId();
+	}
+
+	/**
+	 * 주기적 flush (+ DB 가 정상이면 디스크에 보관된 로그 재저장)
+	 */
+	@Scheduled(fixedDelayString = "${ai.inference-log.flush-interval-ms:200}")
+	public void flush() {
+		if (!flushLock.tryLock()) {
+			return;
+		}
+		try {
+			List<AiInferenceLogRow> batch = new ArrayList<>(batchSize);
+			while (buffer.drainTo(batch, batchSize) > 0) {
+				if (!insert(batch)) {
+					// DB 오류: 이번 배치만 디스크로, 나머지는 버퍼에 두고 다음 주기에 재시도
+					spill(batch);
+					return;
+				}
+				batch.clear();
+			}
+
+			if (!spillStore.isEmpty()) {
+				replaySpilled();
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flush();
+
+		// 저장하지 못하고 남은 로그는 디스크로
+		List<AiInferenceLogRow> remaining = new ArrayList<>();
+		buffer.drainTo(remaining);
+		if (!remaining.isEmpty()) {
+			spill(remaining);
+		}
+	}
+
+	// 배치가 찼을 때 주기를 기다리지 않고 flush (flusher 가 바쁘면 생략)
+	private void requestFlush() {
+		if (flushLock.isLocked()) {
+			return;
+		}
+		try {
+			aiInferenceLogExecutor.execute(this::flush);
+		} catch (TaskRejectedException e) {
+			// 다음 주기에 처리
+		}
+	}
+
+	private boolean insert(List<AiInferenceLogRow> batch) {
+		long start = System.nanoTime();
+		try {
+			aiInferenceLogBatchRepository.insertAll(batch);
+			flushedCounter.increment(batch.size());
+			return true;
+		} catch (Exception e) {
+			log.warn("추론 로그 일괄 저장 실패 - {}건", batch.size(), e);
+			return false;
+		} finally {
+			flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void replaySpilled() {
+		try {
+			int replayed = spillStore.replayOldest(this::insertReplayed);
+			if (replayed > 0) {
+				replayedCounter.increment(replayed);
+				log.info("디스크에 보관된 추론 로그 재저장 - {}건", replayed);
+			}
+		} catch (Exception e) {
+			log.warn("디스크에 보관된 추론 로그 재저장 실패", e);
+		}
+	}
+
+	// 그 사이 탈퇴한 사용자(FK) 등으로 한 문장이 실패하면 한 행씩 저장하고 실패한 행만 버림
+	private void insertReplayed(List<AiInferenceLogRow> rows) {
+		try {
+			aiInferenceLogBatchRepository.insertAllForReplay(rows);
+		} catch (DataIntegrityViolationException e) {
+			int skipped = 0;
+			for (AiInferenceLogRow row : rows) {
+				try {
+					aiInferenceLogBatchRepository.insertAllForReplay(List.of(row));
+				} catch (DataIntegrityViolationException rowError) {
+					skipped++;
+				}
+			}
+			droppedCounter.increment(skipped);
+			log.warn("디스크에 보관된 추론 로그 중 저장할 수 없는 행 버림 - {}건", skipped);
+		}
+	}
+
+	private void spill(List<AiInferenceLogRow> rows) {
+		if (spillStore.spill(rows)) {
+			spilledCounter.increment(rows.size());
+		} else {
+			droppedCounter.increment(rows.size());
+			log.error("추론 로그 버림 (디스크 보관 실패) - {}건", rows.size());
+		}
+	}
+
+	private String toJson(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			log.error("추론 로그 직렬화 실패", e);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.rehab.service.ai;
+
+import com.rehab.common.util.SingleFlightCache;
+import com.rehab.dto.ai.AiRecommendationRequest;
+import com.rehab.dto.ai.AiRecommendationResponse;
+import com.rehab.dto.ai.RecoveryPredictionRequest;
+import com.rehab.dto.ai.RecoveryPredictionResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * AI 모델 응답 캐시
+ * 요청 컨텍스트를 정규화한 키 + 모델 키/버전으로 응답을 캐시하고,
+ * 동일 요청이 동시에 들어오면 모델 호출 하나만 실행 (single-flight)
+ * 캐시된 응답은 공유 객체이므로 반환 전에 요청별 사본으로 만들어 로그 ID 를 채움
+ */
+@Component
+public class AiResultCache {
+
+	private final SingleFlightCache<String, AiRecommendationResponse> recommendationCache;
+	private final SingleFlightCache<String, RecoveryPredictionResponse> predictionCache;
+
+	public AiResultCache(
+		MeterRegistry meterRegistry,
+		@Value("${ai.result-cache.max-size:10000}") long maxSize,
+		@Value("${ai.result-cache.ttl-minutes:10}") long ttlMinutes
+	) {
+		Duration ttl = Duration.ofMinutes(ttlMinutes);
+		this.recommendationCache = new SingleFlightCache<>("ai.recommendation.cache", maxSize, ttl, meterRegistry);
+		this.predictionCache = new SingleFlightCache<>("ai.prediction.cache", maxSize, ttl, meterRegistry);
+	}
+
+	public SingleFlightCache.Result<AiRecommendationResponse> getRecommendation(
+		String modelKey,
+		String modelVersion,
+		AiRecommendationRequest request,
+		Supplier<AiRecommendationResponse> loader
+	) {
+		AiRecommendationRequest.RecommendationContext context = request.getContext();
+		String key = String.join("|",
+			modelKey,
+			modelVersion,
+			String.valueOf(context.getCurrentPainLevel()),
+			normalizeCode(context.getTargetArea()),
+			normalizeText(context.getGoal())
+		);
+		return recommendationCache.get(key, loader);
+	}
+
+	public SingleFlightCache.Result<RecoveryPredictionResponse> getPrediction(
+		String modelKey,
+		String modelVersion,
+		RecoveryPredictionRequest request,
+		Supplier<RecoveryPredictionResponse> loader
+	) {
+		String key = String.join("|",
+			modelKey,
+			modelVersion,
+			String.valueOf(request.getCurrentPainLevel()),
+			String.valueOf(request.getRecentAdherence()),
+			String.valueOf(request.getDaysInProgram())
+		);
+		return predictionCache.get(key, loader);
+	}
+
+	// LOWER_BACK / lower_back / " Lower_Back " → LOWER_BACK
+	private String normalizeCode(String value) {
+		return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+	}
+
+	// 앞뒤 공백 제거, 연속 공백 하나로, 소문자
+	private String normalizeText(String value) {
+		return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+}
@@ -1,26 +1,40 @@
 package com.rehab.service.ai;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rehab.apiPayload.code.status.ErrorStatus;
 import com.rehab.apiPayload.exception.RehabPlanException;
+import com.rehab.common.util.BulkheadFullException;
+import com.rehab.common.util.CircuitBreaker;
+import com.rehab.common.util.RawJson;
+import com.rehab.common.util.SingleFlightCache;
 import com.rehab.config.AiModelConfig;
 import com.rehab.domain.entity.AiInferenceLog;
 import com.rehab.domain.entity.User;
+import com.rehab.domain.entity.enums.BodyPart;
+import com.rehab.domain.entity.enums.MedicalKnowledgeCategory;
 import com.rehab.domain.repository.ai.AiInferenceLogRepository;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.ai.*;
+import com.rehab.service.knowledge.KnowledgeRetrievalService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -33,140 +47,113 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AiServiceImpl implements AiService {
 
+	private static final String RECOMMENDER_MODEL_KEY = "rehab-recommender-v0";
+	private static final String RECOMMENDER_MODEL_VERSION = "1.0.0";
+	private static final String PREDICTOR_MODEL_KEY = "recovery-predictor-v0";
+	private static final String PREDICTOR_MODEL_VERSION = "1.0.0";
+
+	// 추천 근거로 첨부할 의학 지식 (금기 문서 제외)
+	private static final Set<MedicalKnowledgeCategory> EVIDENCE_CATEGORIES = EnumSet.of(
+		MedicalKnowledgeCategory.GUIDELINE, MedicalKnowledgeCategory.PROTOCOL, MedicalKnowledgeCategory.RESEARCH
+	);
+	private static final int KNOWLEDGE_TOP_K = 3;
+
 	private final RestTemplate aiModelRestTemplate;
 	private final AiModelConfig aiModelConfig;
 	private final AiInferenceLogRepository aiInferenceLogRepository;
 	private final UserRepository userRepository;
+	private final AiInferenceLogWriter aiInferenceLogWriter;
+	private final AiResultCache aiResultCache;
+	private final CircuitBreaker aiModelCircuitBreaker;
+	private final HeuristicExerciseRecommender heuristicExerciseRecommender;
+	private final KnowledgeRetrievalService knowledgeRetrievalService;
 	private final ObjectMapper objectMapper;
 
 	/**
 	 * 8.1 운동 추천 요청
 	 * 학과 서버의 허깅페이스 모델 호출
+	 * 모델 호출(최대 read-timeout) 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+	 * (조회 → 원격 호출 → 로그는 버퍼에 넣고 백그라운드에서 일괄 저장)
 	 */
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public AiRecommendationResponse recommendExercises(Long userId, AiRecommendationRequest request) {
 		log.info("AI 운동 추천 요청 - userId: {}, painLevel: {}, targetArea: {}",
 			userId, request.getContext().getCurrentPainLevel(), request.getContext().getTargetArea());
 
-		long startTime = System.currentTimeMillis();
+		// 1. 조회 단계
+		ensureUserExists(userId);
 
+		// 2. AI 모델 서버 호출 (트랜잭션 밖, 동일 컨텍스트는 캐시/진행 중 호출 공유)
+		long startTime = System.currentTimeMillis();
+		SingleFlightCache.Result<AiRecommendationResponse> result;
 		try {
-			// 1. 사용자 조회
-			User user = userRepository.findById(userId)
-				.orElseThrow(() -> new RehabPlanException(ErrorStatus.USER_NOT_FOUND));
-
-			// 2. AI 모델 서버 호출
-			String url = aiModelConfig.getAiModelBaseUrl() + "/api/v1/recommendations";
-
-			HttpHeaders headers = new HttpHeaders();
-			headers.setContentType(MediaType.APPLICATION_JSON);
-
-			HttpEntity<AiRecommendationRequest> entity = new HttpEntity<>(request, headers);
-
-			log.info("AI 모델 서버 호출 - URL: {}", url);
-
-			ResponseEntity<AiRecommendationResponse> response = aiModelRestTemplate.exchange(
-				url,
-				HttpMethod.POST,
-				entity,
-				AiRecommendationResponse.class
+			result = aiResultCache.getRecommendation(
+				RECOMMENDER_MODEL_KEY, RECOMMENDER_MODEL_VERSION, request,
+				() -> attachKnowledgeReferences(
+					callModel("/api/v1/recommendations", request, AiRecommendationResponse.class, userId),
+					request
+				)
 			);
-
-			AiRecommendationResponse aiResponse = response.getBody();
-			if (aiResponse == null) {
-				throw new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
+		} catch (RehabPlanException e) {
+			if (e.getErrorCode() != ErrorStatus.AI_SERVER_UNAVAILABLE) {
+				throw e;
 			}
+			// 모델 서버 장애/차단 → 규칙 기반 추천으로 대체
+			return recommendWithFallback(userId, request, startTime);
+		}
+		long latencyMs = System.currentTimeMillis() - startTime;
+		log.info("AI 추론 완료 - latency: {}ms, cached: {}", latencyMs, result.cached());
 
-			// 3. 추론 로그 저장
-			long latencyMs = System.currentTimeMillis() - startTime;
-			log.info("AI 추론 완료 - latency: {}ms", latencyMs);
-
-			AiInferenceLog inferenceLog = saveInferenceLog(
-				user,
-				"rehab-recommender-v0",
-				"1.0.0",
-				request,
-				aiResponse,
-				latencyMs
-			);
-
-			// 4. 응답에 로그 ID 추가
-			aiResponse.setAiInferenceLogId(inferenceLog.getInferenceLogId());
+		// 캐시된 응답은 공유 객체이므로 요청별 사본에 로그 ID 설정
+		AiRecommendationResponse aiResponse = AiRecommendationResponse.builder()
+			.recommendations(result.value().getRecommendations())
+			.modelInfo(result.value().getModelInfo())
+			.build();
 
-			return aiResponse;
+		// 3. 쓰기 단계: 추론 로그 버퍼에 넣고 미리 발급된 로그 ID 를 응답에 추가
+		aiResponse.setAiInferenceLogId(aiInferenceLogWriter.write(
+			userId, RECOMMENDER_MODEL_KEY, RECOMMENDER_MODEL_VERSION,
+			request, aiResponse, collectKnowledgeReferences(aiResponse), latencyMs, result.cached()
+		));
 
-		} catch (RestClientException e) {
-			log.error("AI 모델 서버 통신 실패 - userId: {}", userId, e);
-			throw new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
-		} catch (Exception e) {
-			log.error("AI 추론 실패 - userId: {}", userId, e);
-			throw new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
-		}
+		return aiResponse;
 	}
 
 	/**
 	 * 8.2 회복 예측 요청
 	 * 학과 서버의 허깅페이스 모델 호출
 	 */
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public RecoveryPredictionResponse predictRecovery(Long userId, RecoveryPredictionRequest request) {
 		log.info("AI 회복 예측 요청 - userId: {}, painLevel: {}, adherence: {}",
 			userId, request.getCurrentPainLevel(), request.getRecentAdherence());
 
-		long startTime = System.currentTimeMillis();
+		// 1. 조회 단계
+		ensureUserExists(userId);
 
-		try {
-			// 1. 사용자 조회
-			User user = userRepository.findById(userId)
-				.orElseThrow(() -> new RehabPlanException(ErrorStatus.USER_NOT_FOUND));
-
-			// 2. AI 모델 서버 호출
-			String url = aiModelConfig.getAiModelBaseUrl() + "/api/v1/predictions/recovery";
-
-			HttpHeaders headers = new HttpHeaders();
-			headers.setContentType(MediaType.APPLICATION_JSON);
-
-			HttpEntity<RecoveryPredictionRequest> entity = new HttpEntity<>(request, headers);
-
-			log.info("AI 모델 서버 호출 - URL: {}", url);
-
-			ResponseEntity<RecoveryPredictionResponse> response = aiModelRestTemplate.exchange(
-				url,
-				HttpMethod.POST,
-				entity,
-				RecoveryPredictionResponse.class
-			);
-
-			RecoveryPredictionResponse aiResponse = response.getBody();
-			if (aiResponse == null) {
-				throw new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
-			}
-
-			// 3. 추론 로그 저장
-			long latencyMs = System.currentTimeMillis() - startTime;
-			log.info("AI 예측 완료 - latency: {}ms", latencyMs);
-
-			AiInferenceLog inferenceLog = saveInferenceLog(
-				user,
-				"recovery-predictor-v0",
-				"1.0.0",
-				request,
-				aiResponse,
-				latencyMs
-			);
-
-			// 4. 응답에 로그 ID 추가
-			aiResponse.setAiInferenceLogId(inferenceLog.getInferenceLogId());
+		// 2. AI 모델 서버 호출 (트랜잭션 밖, 동일 입력은 캐시/진행 중 호출 공유)
+		long startTime = System.currentTimeMillis();
+		SingleFlightCache.Result<RecoveryPredictionResponse> result = aiResultCache.getPrediction(
+			PREDICTOR_MODEL_KEY, PREDICTOR_MODEL_VERSION, request,
+			() -> callModel("/api/v1/predictions/recovery", request, RecoveryPredictionResponse.class, userId)
+		);
+		long latencyMs = System.currentTimeMillis() - startTime;
+		log.info("AI 예측 완료 - latency: {}ms, cached: {}", latencyMs, result.cached());
+
+		// 캐시된 응답은 공유 객체이므로 요청별 사본에 로그 ID 설정
+		RecoveryPredictionResponse aiResponse = RecoveryPredictionResponse.builder()
+			.prediction(result.value().getPrediction())
+			.factors(result.value().getFactors())
+			.modelInfo(result.value().getModelInfo())
+			.build();
 
-			return aiResponse;
+		// 3. 쓰기 단계: 추론 로그 버퍼에 넣고 미리 발급된 로그 ID 를 응답에 추가
+		aiResponse.setAiInferenceLogId(aiInferenceLogWriter.write(
+			userId, PREDICTOR_MODEL_KEY, PREDICTOR_MODEL_VERSION,
+			request, aiResponse, List.of(), latencyMs, result.cached()
+		));
 
-		} catch (RestClientException e) {
-			log.error("AI 모델 서버 통신 실패 - userId: {}", userId, e);
-			throw new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
-		} catch (Exception e) {
-			log.error("AI 예측 실패 - userId: {}", userId, e);
-			throw new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
-		}
+		return aiResponse;
 	}
 
 	/**
@@ -200,74 +187,181 @@ public class AiServiceImpl implements AiService {
 	// === Private Helper Methods ===
 
 	/**
-	 * 추론 로그 저장
+	 * 규칙 기반 대체 추천
+	 * 결과는 캐시하지 않고, 추론 로그의 modelKey 로 대체 응답임을 구분
 	 */
-	private AiInferenceLog saveInferenceLog(
-		User user,
-		String modelKey,
-		String modelVersion,
-		Object inputData,
-		Object outputData,
-		long latencyMs
+	private AiRecommendationResponse recommendWithFallback(
+		Long userId,
+		AiRecommendationRequest request,
+		long startTime
 	) {
+		AiRecommendationResponse fallback = attachKnowledgeReferences(
+			heuristicExerciseRecommender.recommend(userId, request), request
+		);
+		long latencyMs = System.currentTimeMillis() - startTime;
+		log.warn("AI 모델 서버 사용 불가, 규칙 기반 추천으로 대체 - userId: {}, latency: {}ms", userId, latencyMs);
+
+		fallback.setAiInferenceLogId(aiInferenceLogWriter.write(
+			userId, HeuristicExerciseRecommender.MODEL_KEY, HeuristicExerciseRecommender.MODEL_VERSION,
+			request, fallback, collectKnowledgeReferences(fallback), latencyMs, false
+		));
+		return fallback;
+	}
+
+	/**
+	 * 추천 운동별 근거 의학 지식 ID 첨부 (모델이 이미 채운 항목은 그대로)
+	 * 캐시에 넣기 전에 호출 → 캐시된 응답에도 포함
+	 */
+	private AiRecommendationResponse attachKnowledgeReferences(
+		AiRecommendationResponse response,
+		AiRecommendationRequest request
+	) {
+		if (response.getRecommendations() == null) {
+			return response;
+		}
+		String goal = request.getContext().getGoal();
+		for (AiRecommendationResponse.RecommendedExercise recommendation : response.getRecommendations()) {
+			if (recommendation.getKnowledgeReferences() != null && !recommendation.getKnowledgeReferences().isEmpty()) {
+				continue;
+			}
+			String query = String.join(" ",
+				Objects.toString(recommendation.getTitle(), ""),
+				bodyPartName(recommendation.getBodyPart()),
+				Objects.toString(goal, "")
+			);
+			recommendation.setKnowledgeReferences(
+				knowledgeRetrievalService.search(query, EVIDENCE_CATEGORIES, null, KNOWLEDGE_TOP_K)
+			);
+		}
+		return response;
+	}
+
+	private List<Long> collectKnowledgeReferences(AiRecommendationResponse response) {
+		if (response.getRecommendations() == null) {
+			return List.of();
+		}
+		return response.getRecommendations().stream()
+			.filter(recommendation -> recommendation.getKnowledgeReferences() != null)
+			.flatMap(recommendation -> recommendation.getKnowledgeReferences().stream())
+			.distinct()
+			.toList();
+	}
+
+	// LOWER_BACK → 허리 (지식 본문이 한글이므로)
+	private String bodyPartName(String bodyPart) {
+		if (bodyPart == null) {
+			return "";
+		}
+		try {
+			return BodyPart.valueOf(bodyPart.trim().toUpperCase(Locale.ROOT)).getDescription();
+		} catch (IllegalArgumentException e) {
+			return bodyPart;
+		}
+	}
+
+	private void ensureUserExists(Long userId) {
+		if (!userRepository.existsById(userId)) {
+			throw new RehabPlanException(ErrorStatus.USER_NOT_FOUND);
+		}
+	}
+
+	/**
+	 * AI 모델 서버 호출
+	 * 서킷 브레이커가 열려 있으면 호출하지 않고 바로 AI_SERVER_UNAVAILABLE
+	 * 동시 호출 한도 초과와 4xx 응답(429 제외)은 서버 장애가 아니므로 실패율에 넣지 않음
+	 */
+	private <T> T callModel(String path, Object request, Class<T> responseType, Long userId) {
+		if (!aiModelCircuitBreaker.tryAcquire()) {
+			log.warn("AI 모델 서버 차단 중 - 호출 생략, userId: {}", userId);
+			throw new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
+		}
+
+		String url = aiModelConfig.getAiModelBaseUrl() + path;
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+
+		log.info("AI 모델 서버 호출 - URL: {}", url);
+
+		long callStart = System.nanoTime();
+		ResponseEntity<T> response;
 		try {
-			String inputSnapshot = objectMapper.writeValueAsString(inputData);
-			String outputSnapshot = objectMapper.writeValueAsString(outputData);
-
-			AiInferenceLog log = AiInferenceLog.builder()
-				.user(user)
-				.modelKey(modelKey)
-				.modelVersion(modelVersion)
-				.inputSnapshot(inputSnapshot)
-				.outputSnapshot(outputSnapshot)
-				.latencyMs((int) latencyMs)
-				.knowledgeReferences("[]")
-				.build();
-
-			return aiInferenceLogRepository.save(log);
-
-		} catch (JsonProcessingException e) {
-			log.error("추론 로그 저장 실패", e);
+			response = aiModelRestTemplate.exchange(
+				url,
+				HttpMethod.POST,
+				new HttpEntity<>(request, headers),
+				responseType
+			);
+		} catch (BulkheadFullException e) {
+			aiModelCircuitBreaker.onIgnored();
+			log.warn("AI 모델 서버 동시 호출 한도 초과 - userId: {}", userId);
+			throw new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
+		} catch (HttpClientErrorException e) {
+			long duration = System.nanoTime() - callStart;
+			if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+				aiModelCircuitBreaker.onFailure(duration);
+				log.warn("AI 모델 서버 과부하 응답 (429) - userId: {}", userId);
+				throw new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
+			}
+			// 서버는 정상 응답했으므로 가용성 관점에서는 성공 (지연은 그대로 반영)
+			aiModelCircuitBreaker.onSuccess(duration);
+			log.error("AI 모델 서버 요청 거절 - userId: {}, status: {}", userId, e.getStatusCode(), e);
 			throw new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
+		} catch (RestClientException e) {
+			aiModelCircuitBreaker.onFailure(System.nanoTime() - callStart);
+			log.error("AI 모델 서버 통신 실패 - userId: {}", userId, e);
+			throw new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
 		}
+
+		T body = response.getBody();
+		if (body == null) {
+			aiModelCircuitBreaker.onFailure(System.nanoTime() - callStart);
+			throw new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
+		}
+		aiModelCircuitBreaker.onSuccess(System.nanoTime() - callStart);
+		return body;
 	}
 
 	/**
 	 * AiInferenceLog -> InferenceLog 변환
 	 */
 	private AiInferenceLogResponse.InferenceLog convertToLogResponse(AiInferenceLog log) {
-		JsonNode inputSnapshot = parseJson(log.getInputSnapshot());
-		JsonNode outputSnapshot = parseJson(log.getOutputSnapshot());
-		JsonNode knowledgeReferences = parseJson(log.getKnowledgeReferences());
-
-		int knowledgeRefCount = (knowledgeReferences != null && knowledgeReferences.isArray())
-			? knowledgeReferences.size() : 0;
+		int knowledgeRefCount = countArrayElements(log.getKnowledgeReferences());
 
 		return AiInferenceLogResponse.InferenceLog.builder()
 			.aiInferenceLogId(log.getInferenceLogId())
 			.userId(log.getUser().getUserId())
 			.modelKey(log.getModelKey())
 			.modelVer(log.getModelVersion())
-			.inputSnapshot(inputSnapshot)
-			.outputSnapshot(outputSnapshot)
+			.inputSnapshot(RawJson.of(log.getInputSnapshot()))
+			.outputSnapshot(RawJson.of(log.getOutputSnapshot()))
 			.latencyMs(log.getLatencyMs())
+			.cacheHit(log.getCacheHit())
 			.knowledgeReferences(knowledgeRefCount)
 			.createdAt(log.getCreatedAt())
 			.build();
 	}
 
 	/**
-	 * JSON 문자열 파싱
+	 * JSON 배열 원소 수 (트리를 만들지 않고 스트리밍으로 셈)
 	 */
-	private JsonNode parseJson(String jsonString) {
+	private int countArrayElements(String jsonString) {
 		if (jsonString == null || jsonString.isEmpty()) {
-			return null;
+			return 0;
 		}
-		try {
-			return objectMapper.readTree(jsonString);
-		} catch (JsonProcessingException e) {
+		try (JsonParser parser = objectMapper.getFactory().createParser(jsonString)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				return 0;
+			}
+			int count = 0;
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				parser.skipChildren();
+				count++;
+			}
+			return count;
+		} catch (IOException e) {
 			log.error("JSON 파싱 실패: {}", jsonString, e);
-			return null;
+			return 0;
 		}
 	}
 }
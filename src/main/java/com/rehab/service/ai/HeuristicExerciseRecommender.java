@@ -0,0 +1,182 @@
+package com.rehab.service.ai;
+
+import com.rehab.domain.entity.SymptomIntake;
+import com.rehab.domain.entity.enums.BodyPart;
+import com.rehab.domain.entity.enums.Difficulty;
+import com.rehab.domain.entity.enums.ExerciseExperience;
+import com.rehab.domain.repository.symptomIntake.SymptomIntakeRepository;
+import com.rehab.dto.ai.AiRecommendationRequest;
+import com.rehab.dto.ai.AiRecommendationResponse;
+import com.rehab.dto.exercise.ExerciseSearchResponse;
+import com.rehab.service.exercise.ExerciseCatalog;
+import com.rehab.service.exercise.ExerciseSearchCondition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 규칙 기반 운동 추천 (AI 모델 서버 장애/차단 시 대체 응답)
+ * - 대상 부위: 요청의 targetArea, 없으면 최근 문진의 통증 부위 (+ 전신 운동)
+ * - 난이도 상한: 운동 경험으로 정하고 통증이 심할수록 낮춤
+ * - 통증 7 이상이면 금기사항이 있는 운동 제외, 그 외에는 후순위
+ * - 근거 수준(A → D) 순으로 정렬
+ */
+@Slf4j
+@Component
+public class HeuristicExerciseRecommender {
+
+	public static final String MODEL_KEY = "rehab-recommender-fallback";
+	public static final String MODEL_VERSION = "heuristic-1.0.0";
+
+	private static final int SEVERE_PAIN = 7;
+	private static final int MODERATE_PAIN = 4;
+
+	private final ExerciseCatalog exerciseCatalog;
+	private final SymptomIntakeRepository symptomIntakeRepository;
+	private final int maxRecommendations;
+
+	public HeuristicExerciseRecommender(
+		ExerciseCatalog exerciseCatalog,
+		SymptomIntakeRepository symptomIntakeRepository,
+		@Value("${ai.fallback.max-recommendations:5}") int maxRecommendations
+	) {
+		this.exerciseCatalog = exerciseCatalog;
+		this.symptomIntakeRepository = symptomIntakeRepository;
+		this.maxRecommendations = maxRecommendations;
+	}
+
+	public AiRecommendationResponse recommend(Long userId, AiRecommendationRequest request) {
+		AiRecommendationRequest.RecommendationContext context = request.getContext();
+		SymptomIntake intake = symptomIntakeRepository.findFirstByUser_UserIdOrderByCreatedAtDesc(userId)
+			.orElse(null);
+
+		int painLevel = resolvePainLevel(context, intake);
+		String bodyPart = resolveBodyPart(context, intake);
+		Difficulty maxDifficulty = maxDifficulty(intake != null ? intake.getExerciseExperience() : null, painLevel);
+		boolean severe = painLevel >= SEVERE_PAIN;
+
+		// 메모리 운동 인덱스에서 후보 필터 (DB 조회 없음)
+		Set<String> bodyParts = new HashSet<>();
+		bodyParts.add(BodyPart.FULL_BODY.name());
+		if (bodyPart != null) {
+			bodyParts.add(bodyPart);
+		}
+		List<ExerciseSearchResponse.ExerciseSummary> candidates = exerciseCatalog.current().searchIndex()
+			.search(ExerciseSearchCondition.builder()
+				.bodyParts(bodyParts)
+				.difficulties(EnumSet.range(Difficulty.BEGINNER, maxDifficulty))
+				.excludeAnyContraindication(severe)
+				.build())
+			.exercises();
+
+		List<AiRecommendationResponse.RecommendedExercise> recommendations = candidates.stream()
+			.sorted(Comparator
+				.comparing((ExerciseSearchResponse.ExerciseSummary exercise) -> exercise.getEvidenceLevel() == null
+					? Integer.MAX_VALUE : exercise.getEvidenceLevel().ordinal())
+				.thenComparing(this::hasContraindications)
+				.thenComparing(ExerciseSearchResponse.ExerciseSummary::getDifficulty,
+					Comparator.nullsLast(Comparator.reverseOrder()))
+				.thenComparing(ExerciseSearchResponse.ExerciseSummary::getExerciseId))
+			.limit(maxRecommendations)
+			.map(exercise -> toRecommendation(exercise, painLevel, maxDifficulty))
+			.toList();
+
+		log.info("규칙 기반 운동 추천 - userId: {}, bodyPart: {}, painLevel: {}, maxDifficulty: {}, count: {}",
+			userId, bodyPart, painLevel, maxDifficulty, recommendations.size());
+
+		return AiRecommendationResponse.builder()
+			.recommendations(recommendations)
+			.modelInfo(AiRecommendationResponse.ModelInfo.builder()
+				.modelKey(MODEL_KEY)
+				.modelVer(MODEL_VERSION)
+				.build())
+			.build();
+	}
+
+	// === Private Helper Methods ===
+
+	private int resolvePainLevel(AiRecommendationRequest.RecommendationContext context, SymptomIntake intake) {
+		if (context.getCurrentPainLevel() != null) {
+			return context.getCurrentPainLevel();
+		}
+		if (intake != null && intake.getPainLevel() != null) {
+			return intake.getPainLevel();
+		}
+		// 통증 정보가 없으면 보수적으로
+		return SEVERE_PAIN;
+	}
+
+	private String resolveBodyPart(AiRecommendationRequest.RecommendationContext context, SymptomIntake intake) {
+		if (context.getTargetArea() != null && !context.getTargetArea().isBlank()) {
+			return context.getTargetArea().trim().toUpperCase(Locale.ROOT);
+		}
+		if (intake != null && intake.getPainArea() != null) {
+			return intake.getPainArea().name();
+		}
+		return null;
+	}
+
+	/**
+	 * 난이도 상한
+	 * 경험: 초보/초급 → BEGINNER, 중급 → INTERMEDIATE, 고급 이상 → ADVANCED
+	 * 통증: 7 이상 → BEGINNER, 4 이상 → 최대 INTERMEDIATE
+	 */
+	private Difficulty maxDifficulty(ExerciseExperience experience, int painLevel) {
+		Difficulty byExperience;
+		if (experience == null || experience.getLevel() <= ExerciseExperience.NOVICE.getLevel()) {
+			byExperience = Difficulty.BEGINNER;
+		} else if (experience == ExerciseExperience.INTERMEDIATE) {
+			byExperience = Difficulty.INTERMEDIATE;
+		} else {
+			byExperience = Difficulty.ADVANCED;
+		}
+
+		if (painLevel >= SEVERE_PAIN) {
+			return Difficulty.BEGINNER;
+		}
+		if (painLevel >= MODERATE_PAIN && byExperience == Difficulty.ADVANCED) {
+			return Difficulty.INTERMEDIATE;
+		}
+		return byExperience;
+	}
+
+	private boolean hasContraindications(ExerciseSearchResponse.ExerciseSummary exercise) {
+		return !exercise.getContraindications().isEmpty();
+	}
+
+	private AiRecommendationResponse.RecommendedExercise toRecommendation(
+		ExerciseSearchResponse.ExerciseSummary exercise,
+		int painLevel,
+		Difficulty maxDifficulty
+	) {
+		return AiRecommendationResponse.RecommendedExercise.builder()
+			.exerciseId(exercise.getExerciseId())
+			.title(exercise.getTitle())
+			.bodyPart(exercise.getBodyPart())
+			.difficulty(exercise.getDifficulty())
+			.reason(String.format("통증 수준 %d 기준 %s 이하 난이도의 운동입니다 (규칙 기반 추천)",
+				painLevel, maxDifficulty))
+			.doseSuggestion(doseFor(painLevel))
+			.evidenceLevel(exercise.getEvidenceLevel())
+			.knowledgeReferences(List.of())
+			.build();
+	}
+
+	// 통증이 심할수록 세트/반복을 줄이고 휴식을 늘림
+	private AiRecommendationResponse.DoseSuggestion doseFor(int painLevel) {
+		if (painLevel >= SEVERE_PAIN) {
+			return new AiRecommendationResponse.DoseSuggestion(2, 8, 60, 5);
+		}
+		if (painLevel >= MODERATE_PAIN) {
+			return new AiRecommendationResponse.DoseSuggestion(3, 10, 45, 5);
+		}
+		return new AiRecommendationResponse.DoseSuggestion(3, 12, 30, 5);
+	}
+}
@@ -8,4 +8,6 @@ public interface AuthService {
 	AuthResponse.SignupResponse signup(AuthRequest.SignupRequest request);
 
 	AuthResponse.LoginResponse login(AuthRequest.LoginRequest request);
+
+	AuthResponse.TokenResponse refresh(AuthRequest.RefreshRequest request);
 }
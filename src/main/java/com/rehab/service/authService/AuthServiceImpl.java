@@ -8,11 +8,10 @@ import com.rehab.domain.entity.enums.LoginType;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.auth.AuthRequest;
 import com.rehab.dto.auth.AuthResponse;
-import com.rehab.security.jwt.JwtTokenProvider;
 import com.rehab.service.emailService.EmailVerificationService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -23,11 +22,13 @@ import java.time.LocalDateTime;
 public class AuthServiceImpl implements AuthService {
 
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
-	private final JwtTokenProvider jwtTokenProvider;
+	private final PasswordHashService passwordHashService;
+	private final RefreshTokenService refreshTokenService;
 	private final EmailVerificationService emailVerificationService;  // ✅ 이거 추가
 
+	// 비밀번호 해시를 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (저장은 Repository 트랜잭션)
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public AuthResponse.SignupResponse signup(AuthRequest.SignupRequest request) {
 
 		// 1) 이메일 중복 체크
@@ -48,7 +49,7 @@ public class AuthServiceImpl implements AuthService {
 
 
 		// 4) 비밀번호 암호화
-		String encodedPassword = passwordEncoder.encode(request.getPassword());
+		String encodedPassword = passwordHashService.encode(request.getEmail(), request.getPassword());
 
 		// 5) User 생성
 		User user = User.createEmailUser(request.getEmail(), encodedPassword);
@@ -56,22 +57,20 @@ public class AuthServiceImpl implements AuthService {
 
 		// 6) JWT 발급 (role 필드는 User 안에 이미 있을 거라고 가정: UserRole.USER)
 		String role = user.getRole() != null ? user.getRole().name() : "USER";
-		String accessToken = jwtTokenProvider.createAccessToken(user.getUserId(), role, null);
-		String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId(), role);
-
-		// TODO: refreshToken Redis 저장 로직 추가
+		RefreshTokenService.IssuedTokens tokens = refreshTokenService.issue(user.getUserId(), role);
 
 		return AuthResponse.SignupResponse.builder()
 			.userId(user.getUserId())
 			.email(user.getEmail())
 			.loginType(LoginType.EMAIL)
-			.accessToken(accessToken)
-			.refreshToken(refreshToken)
+			.accessToken(tokens.accessToken())
+			.refreshToken(tokens.refreshToken())
 			.createdAt(user.getCreatedAt() != null ? user.getCreatedAt() : LocalDateTime.now())
 			.build();
 	}
 
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public AuthResponse.LoginResponse login(AuthRequest.LoginRequest request) {
 
 		User user = userRepository.findByEmail(request.getEmail())
@@ -83,24 +82,31 @@ public class AuthServiceImpl implements AuthService {
 		}
 
 		// 비밀번호 검증
-		if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+		if (!passwordHashService.matches(request.getEmail(), request.getPassword(), user.getPassword())) {
 			throw new UserHandler(ErrorStatus._BAD_REQUEST); // "비밀번호 불일치"용 코드 추가해도 좋음
 		}
 
 		String role = user.getRole() != null ? user.getRole().name() : "USER";
-		String accessToken = jwtTokenProvider.createAccessToken(user.getUserId(), role, null);
-		String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId(), role);
-
-		// TODO: refreshToken Redis 저장
+		RefreshTokenService.IssuedTokens tokens = refreshTokenService.issue(user.getUserId(), role);
 
 		return AuthResponse.LoginResponse.builder()
 			.userId(user.getUserId())
 			.email(user.getEmail())
 			.username(user.getUsername())
 			.loginType(user.getLoginType())
-			.accessToken(accessToken)
-			.refreshToken(refreshToken)
+			.accessToken(tokens.accessToken())
+			.refreshToken(tokens.refreshToken())
 			.build();
 	}
-}
 
+	@Override
+	@Transactional(readOnly = true)
+	public AuthResponse.TokenResponse refresh(AuthRequest.RefreshRequest request) {
+		RefreshTokenService.IssuedTokens tokens = refreshTokenService.rotate(request.getRefreshToken());
+
+		return AuthResponse.TokenResponse.builder()
+			.accessToken(tokens.accessToken())
+			.refreshToken(tokens.refreshToken())
+			.build();
+	}
+}
@@ -0,0 +1,160 @@
+package com.rehab.service.authService;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.apiPayload.exception.GeneralException;
+import com.rehab.common.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 단계
+ * - BCrypt 연산은 passwordHashExecutor (코어 수 고정 풀 + 유한 큐) 에서만 실행
+ * - 큐가 가득 차면 대기 없이 503
+ * - IP / 이메일별 토큰 버킷으로 해시 요청 자체를 제한 (429)
+ * - 큐 대기 시간과 해시 시간을 따로 측정
+ */
+@Slf4j
+@Service
+public class PasswordHashService {
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolTaskExecutor passwordHashExecutor;
+	private final long timeoutMillis;
+
+	private final Cache<String, TokenBucket> ipBuckets;
+	private final Cache<String, TokenBucket> emailBuckets;
+	private final Supplier<TokenBucket> ipBucketFactory;
+	private final Supplier<TokenBucket> emailBucketFactory;
+
+	private final Timer encodeQueueWaitTimer;
+	private final Timer encodeHashTimer;
+	private final Timer matchesQueueWaitTimer;
+	private final Timer matchesHashTimer;
+	private final Counter queueFullCounter;
+	private final Counter throttledCounter;
+
+	public PasswordHashService(
+		PasswordEncoder passwordEncoder,
+		@Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+		MeterRegistry meterRegistry,
+		@Value("${auth.password-hash.timeout-ms:5000}") long timeoutMillis,
+		@Value("${auth.password-hash.throttle.ip.capacity:20}") long ipCapacity,
+		@Value("${auth.password-hash.throttle.ip.refill-per-minute:20}") double ipRefillPerMinute,
+		@Value("${auth.password-hash.throttle.email.capacity:5}") long emailCapacity,
+		@Value("${auth.password-hash.throttle.email.refill-per-minute:5}") double emailRefillPerMinute
+	) {
+		this.passwordEncoder = passwordEncoder;
+		this.passwordHashExecutor = passwordHashExecutor;
+		this.timeoutMillis = timeoutMillis;
+
+		// 버킷이 가득 찰 만큼 쉬고 있던 키는 버려도 동작이 같음
+		this.ipBuckets = Caffeine.newBuilder()
+			.maximumSize(100_000)
+			.expireAfterAccess(Duration.ofMinutes(10))
+			.build();
+		this.emailBuckets = Caffeine.newBuilder()
+			.maximumSize(100_000)
+			.expireAfterAccess(Duration.ofMinutes(10))
+			.build();
+		this.ipBucketFactory = () -> new TokenBucket(ipCapacity, ipRefillPerMinute / 60.0);
+		this.emailBucketFactory = () -> new TokenBucket(emailCapacity, emailRefillPerMinute / 60.0);
+
+		this.encodeQueueWaitTimer = meterRegistry.timer("auth.password_hash.queue_wait", "op", "encode");
+		this.encodeHashTimer = meterRegistry.timer("auth.password_hash.duration", "op", "encode");
+		this.matchesQueueWaitTimer = meterRegistry.timer("auth.password_hash.queue_wait", "op", "matches");
+		this.matchesHashTimer = meterRegistry.timer("auth.password_hash.duration", "op", "matches");
+		this.queueFullCounter = meterRegistry.counter("auth.password_hash.rejected", "reason", "queue_full");
+		this.throttledCounter = meterRegistry.counter("auth.password_hash.rejected", "reason", "throttled");
+	}
+
+	/**
+	 * 회원가입용 비밀번호 해시
+	 */
+	public String encode(String email, String rawPassword) {
+		throttle(email);
+		return execute(() -> passwordEncoder.encode(rawPassword), encodeQueueWaitTimer, encodeHashTimer);
+	}
+
+	/**
+	 * 로그인용 비밀번호 검증
+	 */
+	public boolean matches(String email, String rawPassword, String encodedPassword) {
+		throttle(email);
+		return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesQueueWaitTimer, matchesHashTimer);
+	}
+
+	private void throttle(String email) {
+		String clientIp = resolveClientIp();
+		if (clientIp != null && ipBuckets.get(clientIp, key -> ipBucketFactory.get()).tryAcquire() > 0) {
+			throttledCounter.increment();
+			log.warn("비밀번호 해시 요청 제한 (IP) - ip: {}", clientIp);
+			throw new GeneralException(ErrorStatus._TOO_MANY_REQUESTS);
+		}
+		if (email != null && emailBuckets.get(email.toLowerCase(), key -> emailBucketFactory.get()).tryAcquire() > 0) {
+			throttledCounter.increment();
+			log.warn("비밀번호 해시 요청 제한 (이메일) - email: {}", email);
+			throw new GeneralException(ErrorStatus._TOO_MANY_REQUESTS);
+		}
+	}
+
+	private <T> T execute(Supplier<T> task, Timer queueWaitTimer, Timer hashTimer) {
+		long submittedAt = System.nanoTime();
+
+		CompletableFuture<T> future;
+		try {
+			future = CompletableFuture.supplyAsync(() -> {
+				long startedAt = System.nanoTime();
+				queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+				try {
+					return task.get();
+				} finally {
+					hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+				}
+			}, passwordHashExecutor);
+		} catch (TaskRejectedException e) {
+			queueFullCounter.increment();
+			log.warn("비밀번호 해시 큐 포화 - 대기 작업 수: {}", passwordHashExecutor.getQueueSize());
+			throw new GeneralException(ErrorStatus._SERVICE_UNAVAILABLE);
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(false);
+			log.warn("비밀번호 해시 시간 초과 - timeoutMs: {}", timeoutMillis);
+			throw new GeneralException(ErrorStatus._SERVICE_UNAVAILABLE);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GeneralException(ErrorStatus._SERVICE_UNAVAILABLE);
+		} catch (ExecutionException e) {
+			log.error("비밀번호 해시 실패", e.getCause());
+			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	private String resolveClientIp() {
+		if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+			return attributes.getRequest().getRemoteAddr();
+		}
+		return null;
+	}
+}
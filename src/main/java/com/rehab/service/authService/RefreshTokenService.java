@@ -0,0 +1,140 @@
+package com.rehab.service.authService;
+
+import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.apiPayload.exception.handler.UserHandler;
+import com.rehab.domain.entity.User;
+import com.rehab.domain.repository.user.UserRepository;
+import com.rehab.security.jwt.JwtTokenProvider;
+import com.rehab.security.jwt.SessionRevocationRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 저장소 (Redis)
+ * - 로그인 세션마다 현재 유효한 리프레시 토큰의 jti 하나만 저장: refresh-token:{sessionId} → jti
+ * - 재발급 시 jti 를 원자적으로 교체 (회전)
+ * - 이미 교체된 토큰이 다시 쓰이면 탈취로 보고 세션 전체를 폐기 (재사용 감지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+	private static final String KEY_PREFIX = "refresh-token:";
+
+	// 저장된 jti 가 일치할 때만 새 jti 로 교체 (동시 재발급 시 하나만 성공)
+	private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+			"redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+			"return 1 " +
+		"end " +
+		"return 0",
+		Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final JwtTokenProvider jwtTokenProvider;
+	private final SessionRevocationRegistry sessionRevocationRegistry;
+	private final UserRepository userRepository;
+
+	/**
+	 * 새 로그인 세션 시작 (로그인/회원가입/소셜 로그인)
+	 */
+	public IssuedTokens issue(Long userId, String role) {
+		String sessionId = UUID.randomUUID().toString();
+		String tokenId = UUID.randomUUID().toString();
+
+		redisTemplate.opsForValue().set(KEY_PREFIX + sessionId, tokenId, refreshTokenTtl());
+
+		return createTokens(userId, role, sessionId, tokenId);
+	}
+
+	/**
+	 * 리프레시 토큰으로 액세스/리프레시 토큰 재발급 (비밀번호 검증 없음)
+	 */
+	public IssuedTokens rotate(String refreshToken) {
+		if (refreshToken == null || refreshToken.isBlank()) {
+			throw new UserHandler(ErrorStatus.AUTH_INVALID_OR_EXPIRED);
+		}
+
+		Claims claims;
+		try {
+			claims = jwtTokenProvider.parseToken(refreshToken).getBody();
+		} catch (ExpiredJwtException e) {
+			throw new UserHandler(ErrorStatus.AUTH_EXPIRED);
+		} catch (JwtException | IllegalArgumentException e) {
+			throw new UserHandler(ErrorStatus.AUTH_INVALID_OR_EXPIRED);
+		}
+
+		String sessionId = (String) claims.get(JwtTokenProvider.CLAIM_SESSION_ID);
+		String tokenId = claims.getId();
+		if (!JwtTokenProvider.REFRESH_TOKEN_TYPE.equals(claims.get(JwtTokenProvider.CLAIM_TOKEN_TYPE))
+			|| sessionId == null || tokenId == null) {
+			throw new UserHandler(ErrorStatus.AUTH_INVALID_OR_EXPIRED);
+		}
+
+		String key = KEY_PREFIX + sessionId;
+		String storedTokenId = redisTemplate.opsForValue().get(key);
+		if (storedTokenId == null) {
+			throw new UserHandler(ErrorStatus.AUTH_STORED_REFRESH_NULL);
+		}
+
+		String newTokenId = UUID.randomUUID().toString();
+		Long rotated = redisTemplate.execute(
+			ROTATE_SCRIPT,
+			List.of(key),
+			tokenId, newTokenId, String.valueOf(refreshTokenTtl().toMillis())
+		);
+		if (rotated == null || rotated == 0L) {
+			// 이미 회전된 토큰 재사용 → 세션 폐기
+			log.warn("리프레시 토큰 재사용 감지 - userId: {}, sessionId: {}", claims.getSubject(), sessionId);
+			revoke(sessionId);
+			throw new UserHandler(ErrorStatus.AUTH_REFRESH_MISMATCH);
+		}
+
+		// 권한 변경 반영을 위해 현재 사용자 정보로 발급
+		User user = userRepository.findById(Long.valueOf(claims.getSubject()))
+			.orElseThrow(() -> {
+				revoke(sessionId);
+				return new UserHandler(ErrorStatus.AUTH_USER_NOT_FOUND);
+			});
+		String role = user.getRole() != null ? user.getRole().name() : "USER";
+
+		return createTokens(user.getUserId(), role, sessionId, newTokenId);
+	}
+
+	/**
+	 * 세션 폐기 (리프레시 토큰 삭제 + 발급된 액세스 토큰 거부)
+	 */
+	public void revoke(String sessionId) {
+		redisTemplate.delete(KEY_PREFIX + sessionId);
+		sessionRevocationRegistry.revoke(sessionId);
+	}
+
+	private IssuedTokens createTokens(Long userId, String role, String sessionId, String tokenId) {
+		String accessToken = jwtTokenProvider.createAccessToken(
+			userId, role, Map.of(JwtTokenProvider.CLAIM_SESSION_ID, sessionId)
+		);
+		String refreshToken = jwtTokenProvider.createRefreshToken(userId, role, sessionId, tokenId);
+		return new IssuedTokens(accessToken, refreshToken);
+	}
+
+	private Duration refreshTokenTtl() {
+		return Duration.ofSeconds(jwtTokenProvider.getRefreshTokenValidityInSeconds());
+	}
+
+	public record IssuedTokens(String accessToken, String refreshToken) {
+	}
+}
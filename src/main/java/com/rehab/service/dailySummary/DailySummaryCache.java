@@ -0,0 +1,270 @@
+package com.rehab.service.dailySummary;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.rehab.dto.dailySummary.DailySummaryResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 일일 요약 응답 2단 캐시
+ * - L1: 노드별 Caffeine 캐시 (짧은 TTL)
+ * - L2: 노드 간 공유 Redis 캐시
+ * - 로그 기록 / 요약 재계산 커밋 후 해당 (userId, date) 만 무효화하고
+ *   Redis pub/sub 으로 다른 노드의 L1 도 무효화
+ * - 키별 세대(generation) 값으로 "조회 중 무효화" 경합 방지
+ *   (DB 에서 읽는 사이 무효화가 일어나면 읽은 값은 L1/L2 에 채우지 않음)
+ */
+@Slf4j
+@Component
+public class DailySummaryCache implements MessageListener {
+
+	private static final String KEY_PREFIX = "daily-summary:";
+	private static final String GENERATION_KEY_PREFIX = "daily-summary:gen:";
+	private static final String INVALIDATION_CHANNEL = "daily-summary:invalidate";
+
+	// 세대 값이 조회 전과 같을 때만 저장 (둘 다 없음도 같음으로 봄)
+	private static final RedisScript<Long> SET_IF_GENERATION_SCRIPT = new DefaultRedisScript<>(
+		"local current = redis.call('GET', KEYS[2]) " +
+		"if (current == false and ARGV[1] == '') or current == ARGV[1] then " +
+			"redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+			"return 1 " +
+		"end " +
+		"return 0",
+		Long.class
+	);
+
+	// 자기 노드가 보낸 무효화 메시지 구분용
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Cache<DailySummaryKey, DailySummaryResponse> localCache;
+	// 로컬 세대 토큰 (무효화 시 제거되므로 조회 전에 받은 토큰과 다르면 그 사이 무효화된 것)
+	private final Cache<DailySummaryKey, Object> localGenerations;
+	private final Duration redisTtl;
+
+	private final Counter l1HitCounter;
+	private final Counter l2HitCounter;
+	private final Counter missCounter;
+	private final Counter evictionCounter;
+	private final Counter invalidationCounter;
+	private final Counter staleSkipCounter;
+
+	public DailySummaryCache(
+		StringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper,
+		RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${daily-summary.cache.l1.max-size:10000}") long localMaxSize,
+		@Value("${daily-summary.cache.l1.ttl-seconds:30}") long localTtlSeconds,
+		@Value("${daily-summary.cache.l2.ttl-seconds:300}") long redisTtlSeconds
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+		this.l1HitCounter = meterRegistry.counter("daily_summary.cache.hit", "tier", "l1");
+		this.l2HitCounter = meterRegistry.counter("daily_summary.cache.hit", "tier", "l2");
+		this.missCounter = meterRegistry.counter("daily_summary.cache.miss");
+		this.evictionCounter = meterRegistry.counter("daily_summary.cache.eviction");
+		this.invalidationCounter = meterRegistry.counter("daily_summary.cache.invalidation");
+		this.staleSkipCounter = meterRegistry.counter("daily_summary.cache.stale_skip");
+
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.removalListener((DailySummaryKey key, DailySummaryResponse value, RemovalCause cause) -> {
+				if (cause.wasEvicted()) {
+					evictionCounter.increment();
+				}
+			})
+			.build();
+		this.localGenerations = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.build();
+
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	/**
+	 * L1 → L2 → loader 순으로 조회하고 상위 단계에 채움
+	 * loader 실행 중 무효화가 일어났으면 읽은 값은 반환만 하고 캐시에 채우지 않음
+	 */
+	public DailySummaryResponse get(DailySummaryKey key, Supplier<DailySummaryResponse> loader) {
+		DailySummaryResponse cached = localCache.getIfPresent(key);
+		if (cached != null) {
+			l1HitCounter.increment();
+			return cached;
+		}
+
+		Object localToken = localGenerations.get(key, k -> new Object());
+
+		cached = readRedis(key);
+		if (cached != null) {
+			l2HitCounter.increment();
+			putLocalIfCurrent(key, cached, localToken);
+			return cached;
+		}
+
+		missCounter.increment();
+		String generation = readGeneration(key);
+		DailySummaryResponse loaded = loader.get();
+		if (loaded != null && writeRedisIfCurrent(key, loaded, generation)) {
+			putLocalIfCurrent(key, loaded, localToken);
+		}
+		return loaded;
+	}
+
+	/**
+	 * 로그 기록 커밋 후 해당 날짜 캐시 무효화
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDirty(DailySummaryDirtyEvent event) {
+		evict(event.key());
+	}
+
+	/**
+	 * 요약 재계산 커밋 후 해당 날짜 캐시 무효화
+	 * (로그 기록 ~ 재계산 사이에 다시 채워진 캐시 제거)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUpdated(DailySummaryUpdatedEvent event) {
+		evict(event.key());
+	}
+
+	public void evict(DailySummaryKey key) {
+		invalidationCounter.increment();
+		invalidateLocal(key);
+
+		try {
+			// 세대를 먼저 올려 진행 중인 조회가 지운 뒤에 다시 채우지 못하게 함
+			redisTemplate.opsForValue().increment(generationKey(key));
+			redisTemplate.expire(generationKey(key), redisTtl);
+			redisTemplate.delete(redisKey(key));
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+				nodeId + "|" + key.userId() + "|" + key.date());
+		} catch (Exception e) {
+			// Redis 장애 시 L2 는 TTL 로 만료됨
+			log.warn("일일 요약 캐시 무효화 실패 - userId: {}, date: {}", key.userId(), key.date(), e);
+		}
+	}
+
+	/**
+	 * 다른 노드의 무효화 메시지 수신 → 로컬 L1 무효화
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+		if (parts.length != 3 || nodeId.equals(parts[0])) {
+			return;
+		}
+
+		try {
+			invalidateLocal(new DailySummaryKey(Long.valueOf(parts[1]), LocalDate.parse(parts[2])));
+		} catch (RuntimeException e) {
+			log.warn("일일 요약 캐시 무효화 메시지 파싱 실패: {}", message, e);
+		}
+	}
+
+	private DailySummaryResponse readRedis(DailySummaryKey key) {
+		try {
+			String json = redisTemplate.opsForValue().get(redisKey(key));
+			return json == null ? null : objectMapper.readValue(json, DailySummaryResponse.class);
+		} catch (Exception e) {
+			log.warn("일일 요약 캐시 조회 실패 - userId: {}, date: {}", key.userId(), key.date(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * 조회 전 세대 값 (없으면 빈 문자열, Redis 장애 시 null)
+	 */
+	private String readGeneration(DailySummaryKey key) {
+		try {
+			String generation = redisTemplate.opsForValue().get(generationKey(key));
+			return generation != null ? generation : "";
+		} catch (Exception e) {
+			log.warn("일일 요약 캐시 세대 조회 실패 - userId: {}, date: {}", key.userId(), key.date(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * 세대가 조회 전과 같을 때만 L2 저장
+	 * Redis 장애로 세대를 확인할 수 없으면 L2 는 건너뛰고 L1 만 채움
+	 *
+	 * @return 그 사이 무효화되지 않았으면 true
+	 */
+	private boolean writeRedisIfCurrent(DailySummaryKey key, DailySummaryResponse response, String generation) {
+		if (generation == null) {
+			return true;
+		}
+		try {
+			Long written = redisTemplate.execute(
+				SET_IF_GENERATION_SCRIPT,
+				List.of(redisKey(key), generationKey(key)),
+				generation,
+				objectMapper.writeValueAsString(response),
+				String.valueOf(redisTtl.toMillis())
+			);
+			if (written == null || written == 0L) {
+				staleSkipCounter.increment();
+				log.debug("조회 중 무효화되어 캐시에 채우지 않음 - userId: {}, date: {}", key.userId(), key.date());
+				return false;
+			}
+		} catch (JsonProcessingException e) {
+			log.error("일일 요약 캐시 직렬화 실패 - userId: {}, date: {}", key.userId(), key.date(), e);
+		} catch (Exception e) {
+			log.warn("일일 요약 캐시 저장 실패 - userId: {}, date: {}", key.userId(), key.date(), e);
+		}
+		return true;
+	}
+
+	/**
+	 * 조회 전에 받은 로컬 세대 토큰이 그대로일 때만 L1 저장
+	 */
+	private void putLocalIfCurrent(DailySummaryKey key, DailySummaryResponse response, Object localToken) {
+		localCache.asMap().compute(key, (k, existing) -> {
+			if (localGenerations.getIfPresent(k) != localToken) {
+				staleSkipCounter.increment();
+				return existing;
+			}
+			return response;
+		});
+	}
+
+	private void invalidateLocal(DailySummaryKey key) {
+		localGenerations.invalidate(key);
+		localCache.invalidate(key);
+	}
+
+	private String redisKey(DailySummaryKey key) {
+		return KEY_PREFIX + key.userId() + ":" + key.date();
+	}
+
+	private String generationKey(DailySummaryKey key) {
+		return GENERATION_KEY_PREFIX + key.userId() + ":" + key.date();
+	}
+}
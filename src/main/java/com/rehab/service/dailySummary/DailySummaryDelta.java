@@ -0,0 +1,110 @@
+package com.rehab.service.dailySummary;
+
+import com.rehab.domain.entity.DailySummary;
+import com.rehab.domain.entity.DietLog;
+import com.rehab.domain.entity.ExerciseLog;
+import com.rehab.domain.entity.MedicationLog;
+import com.rehab.domain.repository.dailySummary.DailyCompletionAggregate;
+
+/**
+ * 일일 요약 증분 (로그 기여분)
+ * - 같은 (userId, date) 키의 증분은 merge 로 합쳐짐
+ * - full 이면 증분 대신 하루치 로그 전체 재계산 (수정/삭제, 카운터 없는 요약 등)
+ */
+public record DailySummaryDelta(
+	boolean full,
+	int completedExercises,
+	int exerciseDurationSec,
+	int painScoreSum,
+	int painScoreCount,
+	int rpeSum,
+	int rpeCount,
+	int takenMedications,
+	int completedDiets
+) {
+
+	public static final DailySummaryDelta EMPTY = new DailySummaryDelta(false, 0, 0, 0, 0, 0, 0, 0, 0);
+	public static final DailySummaryDelta FULL = new DailySummaryDelta(true, 0, 0, 0, 0, 0, 0, 0, 0);
+
+	/**
+	 * 운동 로그 기여분 (완료율 80% 이상이면 완료)
+	 */
+	public static DailySummaryDelta of(ExerciseLog log) {
+		boolean completed = log.getCompletionRate() != null && log.getCompletionRate() >= 80;
+		return new DailySummaryDelta(
+			false,
+			completed ? 1 : 0,
+			log.getDurationSec() != null ? log.getDurationSec() : 0,
+			log.getPainAfter() != null ? log.getPainAfter() : 0,
+			log.getPainAfter() != null ? 1 : 0,
+			log.getRpe() != null ? log.getRpe() : 0,
+			log.getRpe() != null ? 1 : 0,
+			0,
+			0
+		);
+	}
+
+	/**
+	 * 복약 로그 기여분 (taken = true 이면 복용 완료)
+	 */
+	public static DailySummaryDelta of(MedicationLog log) {
+		boolean taken = Boolean.TRUE.equals(log.getTaken());
+		return new DailySummaryDelta(false, 0, 0, 0, 0, 0, 0, taken ? 1 : 0, 0);
+	}
+
+	/**
+	 * 식단 로그 기여분 (completed = true 또는 portionConsumed >= 80 이면 완료)
+	 */
+	public static DailySummaryDelta of(DietLog log) {
+		boolean completed = Boolean.TRUE.equals(log.getCompleted())
+			|| (log.getPortionConsumed() != null && log.getPortionConsumed() >= 80);
+		return new DailySummaryDelta(false, 0, 0, 0, 0, 0, 0, 0, completed ? 1 : 0);
+	}
+
+	/**
+	 * 하루치 로그 집계 결과를 하나의 기여분으로 변환 (전체 재계산용)
+	 */
+	public static DailySummaryDelta of(DailyCompletionAggregate aggregate) {
+		return new DailySummaryDelta(
+			false,
+			aggregate.completedExercises(),
+			aggregate.exerciseDurationSum(),
+			aggregate.painScoreSum(),
+			aggregate.painScoreCount(),
+			aggregate.rpeSum(),
+			aggregate.rpeCount(),
+			aggregate.takenMedications(),
+			aggregate.completedDiets()
+		);
+	}
+
+	public DailySummaryDelta merge(DailySummaryDelta other) {
+		if (full || other.full) {
+			return FULL;
+		}
+		return new DailySummaryDelta(
+			false,
+			completedExercises + other.completedExercises,
+			exerciseDurationSec + other.exerciseDurationSec,
+			painScoreSum + other.painScoreSum,
+			painScoreCount + other.painScoreCount,
+			rpeSum + other.rpeSum,
+			rpeCount + other.rpeCount,
+			takenMedications + other.takenMedications,
+			completedDiets + other.completedDiets
+		);
+	}
+
+	public void applyTo(DailySummary summary) {
+		summary.accumulate(
+			completedExercises,
+			exerciseDurationSec,
+			painScoreSum,
+			painScoreCount,
+			rpeSum,
+			rpeCount,
+			takenMedications,
+			completedDiets
+		);
+	}
+}
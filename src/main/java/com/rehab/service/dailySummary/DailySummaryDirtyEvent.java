@@ -0,0 +1,21 @@
+package com.rehab.service.dailySummary;
+
+import java.time.LocalDate;
+
+/**
+ * 일일 요약 재계산 필요 이벤트
+ * 운동/복약/식단 로그가 저장되면 (userId, date) 키와 로그 기여분으로 발행
+ */
+public record DailySummaryDirtyEvent(Long userId, LocalDate date, DailySummaryDelta delta) {
+
+	/**
+	 * 하루치 전체 재계산 이벤트 (로그 수정/삭제, 플랜 변경 등)
+	 */
+	public static DailySummaryDirtyEvent full(Long userId, LocalDate date) {
+		return new DailySummaryDirtyEvent(userId, date, DailySummaryDelta.FULL);
+	}
+
+	public DailySummaryKey key() {
+		return new DailySummaryKey(userId, date);
+	}
+}
@@ -0,0 +1,9 @@
+package com.rehab.service.dailySummary;
+
+import java.time.LocalDate;
+
+/**
+ * 일일 요약 식별 키 (user_id, date)
+ */
+public record DailySummaryKey(Long userId, LocalDate date) {
+}
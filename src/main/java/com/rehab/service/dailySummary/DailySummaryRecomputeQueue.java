@@ -0,0 +1,182 @@
+package com.rehab.service.dailySummary;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일일 요약 재계산 큐
+ * - 로그 트랜잭션 커밋 후 (userId, date) 키를 dirty 로 표시하고 로그 기여분(증분)을 쌓음
+ * - 같은 키의 증분은 윈도우 동안 하나로 합쳐짐 (coalesce)
+ * - 주기적으로 dirty 키를 꺼내 전용 스레드 풀에서 증분 반영 또는 전체 재계산
+ * - 전체 재계산 중인 키(요약 행이 없어 대체된 경우 포함)로 들어온 증분은 전체 재계산으로 바꿔 중복 합산 방지
+ * 같은 키를 다른 인스턴스가 동시에 전체 재계산하면 증분이 한 번 더 더해질 수 있음
+ * → DailySummaryVerificationJob 이 불일치를 찾아 전체 재계산으로 바로잡음
+ */
+@Slf4j
+@Component
+public class DailySummaryRecomputeQueue {
+
+	private final DailySummaryService dailySummaryService;
+	private final ThreadPoolTaskExecutor dailySummaryExecutor;
+
+	// 반영 대기 중인 키 → 합쳐진 증분
+	private final Map<DailySummaryKey, DailySummaryDelta> pending = new ConcurrentHashMap<>();
+	// 현재 워커에서 처리 중인 키 → 전체 재계산 여부 (같은 키 동시 실행 방지)
+	private final Map<DailySummaryKey, Boolean> inFlight = new ConcurrentHashMap<>();
+
+	private final Counter enqueuedCounter;
+	private final Counter coalescedCounter;
+	private final Counter failedCounter;
+	private final Timer recomputeTimer;
+
+	public DailySummaryRecomputeQueue(
+		DailySummaryService dailySummaryService,
+		@Qualifier("dailySummaryExecutor") ThreadPoolTaskExecutor dailySummaryExecutor,
+		MeterRegistry meterRegistry
+	) {
+		this.dailySummaryService = dailySummaryService;
+		this.dailySummaryExecutor = dailySummaryExecutor;
+
+		this.enqueuedCounter = meterRegistry.counter("daily_summary.recompute.enqueued");
+		this.coalescedCounter = meterRegistry.counter("daily_summary.recompute.coalesced");
+		this.failedCounter = meterRegistry.counter("daily_summary.recompute.failed");
+		this.recomputeTimer = Timer.builder("daily_summary.recompute.latency")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+
+		Gauge.builder("daily_summary.recompute.queue.depth", pending, Map::size)
+			.register(meterRegistry);
+		Gauge.builder("daily_summary.recompute.coalesce.ratio", this, DailySummaryRecomputeQueue::coalesceRatio)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 로그 트랜잭션 커밋 후 dirty 키 등록
+	 * 트랜잭션 밖에서 발행된 경우에도 등록 (fallbackExecution)
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDirty(DailySummaryDirtyEvent event) {
+		enqueue(event.key(), event.delta());
+	}
+
+	public void enqueue(DailySummaryKey key, DailySummaryDelta delta) {
+		enqueuedCounter.increment();
+
+		boolean[] coalesced = new boolean[1];
+		pending.compute(key, (k, existing) -> {
+			// 전체 재계산이 진행 중인 키는 새 로그가 이미 반영됐을 수 있으므로 증분 대신 전체 재계산
+			// (inFlight 확인을 compute 안에서 해야 upgradeToFull 과 순서가 어긋나지 않음)
+			DailySummaryDelta effective = Boolean.TRUE.equals(inFlight.get(key)) ? DailySummaryDelta.FULL : delta;
+			if (existing == null) {
+				return effective;
+			}
+			coalesced[0] = true;
+			return existing.merge(effective);
+		});
+
+		if (coalesced[0]) {
+			coalescedCounter.increment();
+			log.debug("일일 요약 재계산 병합 - userId: {}, date: {}", key.userId(), key.date());
+		}
+	}
+
+	/**
+	 * 윈도우마다 dirty 키를 꺼내 워커에 제출
+	 */
+	@Scheduled(fixedDelayString = "${daily-summary.recompute.window-ms:500}")
+	public void drain() {
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		List<DailySummaryKey> batch = new ArrayList<>();
+		for (DailySummaryKey key : pending.keySet()) {
+			// 처리 중인 키는 다음 윈도우로 미룸 (같은 키의 증분은 순서대로 반영)
+			if (inFlight.putIfAbsent(key, Boolean.TRUE) == null) {
+				batch.add(key);
+			}
+		}
+
+		for (DailySummaryKey key : batch) {
+			DailySummaryDelta delta = pending.remove(key);
+			if (delta == null) {
+				inFlight.remove(key);
+				continue;
+			}
+			inFlight.put(key, delta.full());
+
+			try {
+				dailySummaryExecutor.execute(() -> recompute(key, delta));
+			} catch (TaskRejectedException e) {
+				// 풀이 포화 상태면 다음 윈도우에 다시 시도
+				inFlight.remove(key);
+				pending.merge(key, delta, DailySummaryDelta::merge);
+				log.warn("일일 요약 재계산 큐 포화 - userId: {}, date: {}", key.userId(), key.date());
+			}
+		}
+	}
+
+	private void recompute(DailySummaryKey key, DailySummaryDelta delta) {
+		try {
+			// 카운터가 없으면 증분 대신 전체 재계산 → 그 사이 쌓인/쌓일 증분도 전체 재계산으로
+			// (그대로 두면 재계산이 이미 센 로그를 증분으로 한 번 더 더함)
+			DailySummaryDelta effective = delta;
+			if (!delta.full() && dailySummaryService.needsFullRecount(key.userId(), key.date())) {
+				upgradeToFull(key);
+				effective = DailySummaryDelta.FULL;
+			}
+			DailySummaryDelta applied = effective;
+			recomputeTimer.record(() ->
+				dailySummaryService.applyDelta(key.userId(), key.date(), applied));
+		} catch (Exception e) {
+			failedCounter.increment();
+			log.error("일일 요약 재계산 실패 - userId: {}, date: {}", key.userId(), key.date(), e);
+			// 증분 반영에 실패하면 기여분이 유실되므로 전체 재계산으로 복구
+			if (!delta.full()) {
+				pending.merge(key, DailySummaryDelta.FULL, DailySummaryDelta::merge);
+			}
+		} finally {
+			inFlight.remove(key);
+		}
+	}
+
+	// 처리 중인 키를 전체 재계산으로 표시하고, 이미 대기 중인 증분도 전체 재계산으로 바꿈
+	private void upgradeToFull(DailySummaryKey key) {
+		inFlight.put(key, Boolean.TRUE);
+		pending.computeIfPresent(key, (k, existing) -> DailySummaryDelta.FULL);
+	}
+
+	/**
+	 * 종료 시 남은 키를 현재 스레드에서 처리
+	 */
+	@PreDestroy
+	public void flush() {
+		for (DailySummaryKey key : pending.keySet()) {
+			DailySummaryDelta delta = pending.remove(key);
+			if (delta != null) {
+				inFlight.put(key, delta.full());
+				recompute(key, delta);
+			}
+		}
+	}
+
+	private double coalesceRatio() {
+		double enqueued = enqueuedCounter.count();
+		return enqueued == 0 ? 0.0 : coalescedCounter.count() / enqueued;
+	}
+}
@@ -1,37 +1,31 @@
 package com.rehab.service.dailySummary;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rehab.apiPayload.code.status.ErrorStatus;
 import com.rehab.apiPayload.exception.RehabPlanException;
+import com.rehab.common.util.RawJson;
 import com.rehab.domain.entity.DailySummary;
-import com.rehab.domain.entity.DietLog;
-import com.rehab.domain.entity.ExerciseLog;
-import com.rehab.domain.entity.MedicationLog;
-import com.rehab.domain.entity.PlanItem;
-import com.rehab.domain.entity.RehabPlan;
 import com.rehab.domain.entity.User;
-import com.rehab.domain.repository.diet.DietLogRepository;
-import com.rehab.domain.repository.diet.DietPlanItemRepository;
-import com.rehab.domain.repository.medication.MedicationLogRepository;
-import com.rehab.domain.repository.medication.MedicationPlanItemRepository;
-import com.rehab.domain.repository.rehab.RehabPlanRepository;
+import com.rehab.domain.repository.dailySummary.DailyCompletionAggregate;
+import com.rehab.domain.repository.dailySummary.DailyCompletionAggregateRepository;
+import com.rehab.domain.repository.dailySummary.DailySummaryUpsertRepository;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.dailySummary.DailySummaryResponse;
 import com.rehab.domain.repository.dailySummary.DailySummaryRepository;
-import com.rehab.domain.repository.exercise.ExerciseLogRepository;
-import com.rehab.domain.repository.plan.PlanItemRepository;
+import com.rehab.service.rehabPlan.ActivePlanCache;
+import com.rehab.service.rehabPlan.ActivePlanSnapshot;
 import com.rehab.service.streak.StreakService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,23 +40,28 @@ import java.util.Map;
 public class DailySummaryService {
 
 	private final DailySummaryRepository dailySummaryRepository;
-	private final ExerciseLogRepository exerciseLogRepository;
-	private final MedicationLogRepository medicationLogRepository;
-	private final DietLogRepository dietLogRepository;
-	private final PlanItemRepository planItemRepository;
-	private final MedicationPlanItemRepository medicationPlanItemRepository;
-	private final DietPlanItemRepository dietPlanItemRepository;
-	private final RehabPlanRepository rehabPlanRepository;
+	private final DailySummaryUpsertRepository dailySummaryUpsertRepository;
+	private final DailyCompletionAggregateRepository dailyCompletionAggregateRepository;
 	private final UserRepository userRepository;
+	private final ActivePlanCache activePlanCache;
 	private final StreakService streakService;
+	private final DailySummaryCache dailySummaryCache;
+	private final ApplicationEventPublisher eventPublisher;
 	private final ObjectMapper objectMapper;
 
 	/**
-	 * 일일 요약 조회
+	 * 일일 요약 조회 (L1/L2 캐시 우선)
 	 */
 	public DailySummaryResponse getDailySummary(Long userId, LocalDate date) {
 		log.info("일일 요약 조회 - userId: {}, date: {}", userId, date);
 
+		return dailySummaryCache.get(new DailySummaryKey(userId, date), () -> loadDailySummary(userId, date));
+	}
+
+	/**
+	 * 일일 요약 DB 조회 (캐시 미스 시)
+	 */
+	private DailySummaryResponse loadDailySummary(Long userId, LocalDate date) {
 		LocalDateTime startOfDay = date.atStartOfDay();
 
 		DailySummary summary = dailySummaryRepository
@@ -94,249 +93,282 @@ public class DailySummaryService {
 	}
 
 	/**
-	 * 일일 요약 업데이트 (운동/복약/식단 로그 생성 시 호출)
+	 * 증분을 더할 누적 카운터가 없어 전체 재계산해야 하는지 (요약 행이 없거나 카운터 이전 행)
+	 * 큐 워커가 증분 반영 전에 확인해, 재계산 중 들어오는 증분을 전체 재계산으로 올리도록 함
+	 */
+	public boolean needsFullRecount(Long userId, LocalDate date) {
+		return dailySummaryRepository.findByUser_UserIdAndDate(userId, date.atStartOfDay())
+			.map(summary -> !summary.hasCounters())
+			.orElse(true);
+	}
+
+	/**
+	 * 일일 요약 증분 반영 (로그 커밋 후 DailySummaryRecomputeQueue 워커에서 호출)
+	 * - 저장된 누적 카운터에 로그 기여분만 더함 (하루치 로그 재조회 없음)
+	 * - 요약 행을 잠그고 읽으므로 여러 인스턴스가 같은 키를 처리해도 증분이 유실되지 않음
+	 * - 전체 재계산 요청이거나 카운터가 없는 요약이면 전체 재계산으로 대체
+	 *   (큐 워커가 needsFullRecount 로 먼저 걸러 전체 재계산으로 표시하므로, 여기 대체는 안전장치)
+	 */
+	@Transactional
+	public void applyDelta(Long userId, LocalDate date, DailySummaryDelta delta) {
+		if (delta.full()) {
+			updateDailySummary(userId, date.atStartOfDay());
+			return;
+		}
+
+		DailySummary summary = lockSummaryRow(userId, date.atStartOfDay());
+
+		if (!summary.hasCounters()) {
+			log.info("누적 카운터가 없어 전체 재계산합니다. userId: {}, date: {}", userId, date);
+			updateDailySummary(userId, date.atStartOfDay());
+			return;
+		}
+
+		delta.applyTo(summary);
+		summary.updateDailyMetrics(convertToJson(buildDailyMetrics(summary)));
+
+		log.info("일일 요약 증분 반영 완료 - summaryId: {}, 운동: {}%, 복약: {}%, 식단: {}%",
+			summary.getSummaryId(),
+			summary.getExerciseCompletionRate(),
+			summary.getMedicationCompletionRate(),
+			summary.getDietCompletionRate());
+
+		eventPublisher.publishEvent(new DailySummaryUpdatedEvent(userId, date));
+		updateStreak(userId, date, summary);
+	}
+
+	/**
+	 * 일일 요약 전체 재계산 (로그 수정/삭제, 카운터 없는 요약 등)
+	 * 저장은 모두 unique_user_date 기준 upsert (조회 → 저장 사이 중복 키 충돌 없음)
 	 */
 	@Transactional
 	public void updateDailySummary(Long userId, LocalDateTime dateTime) {
 		log.info("일일 요약 업데이트 - userId: {}, dateTime: {}", userId, dateTime);
 
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new RehabPlanException(ErrorStatus.USER_NOT_FOUND));
-
 		// 기준 날짜
 		LocalDate targetDate = dateTime.toLocalDate();
 		LocalDateTime startOfDay = targetDate.atStartOfDay();
-		LocalDateTime endOfDay = targetDate.atTime(LocalTime.MAX);
 
-		// 현재 활성 플랜 조회
-		RehabPlan activePlan = rehabPlanRepository
-			.findFirstByUser_UserIdAndStatusOrderByCreatedAtDesc(userId,
-				com.rehab.domain.entity.enums.RehabPlanStatus.ACTIVE)
-			.orElse(null);
+		// 활성 플랜 항목 수는 캐시에서 조회
+		ActivePlanSnapshot activePlan = activePlanCache.get(userId).orElse(null);
 
 		if (activePlan == null) {
 			log.warn("활성 플랜이 없습니다. 빈 DailySummary를 생성합니다. userId: {}, date: {}", userId, targetDate);
 
-			// 활성 플랜이 없어도 빈 DailySummary는 생성
-			DailySummary summary = dailySummaryRepository
-				.findByUser_UserIdAndDate(userId, startOfDay)
-				.orElseGet(() -> {
-					Map<String, Object> emptyMetrics = new HashMap<>();
-					emptyMetrics.put("totalExercises", 0);
-					emptyMetrics.put("completedExercises", 0);
-					emptyMetrics.put("avgRpe", 0.0);
-					emptyMetrics.put("totalMedications", 0);
-					emptyMetrics.put("takenMedications", 0);
-					emptyMetrics.put("totalDiets", 0);
-					emptyMetrics.put("completedDiets", 0);
-
-					DailySummary newSummary = DailySummary.builder()
-						.user(user)
-						.date(startOfDay)
-						.allExercisesCompleted(false)
-						.exerciseCompletionRate(0)
-						.allMedicationsTaken(false)
-						.medicationCompletionRate(0)
-						.allDietCompleted(false)
-						.dietCompletionRate(0)
-						.avgPainScore(0)
-						.totalDurationSec(0)
-						.dailyMetrics(convertToJson(emptyMetrics))
-						.build();
-
-					return dailySummaryRepository.save(newSummary);
-				});
-
-			log.info("빈 DailySummary 생성 완료 - summaryId: {}", summary.getSummaryId());
-			return;
-		}
-
-		// 1. 운동 완료율 계산
-		ExerciseCompletionResult exerciseResult = calculateExerciseCompletion(
-			userId, activePlan.getRehabPlanId(), startOfDay, endOfDay);
-
-		// 2. 복약 완료율 계산
-		MedicationCompletionResult medicationResult = calculateMedicationCompletion(
-			userId, activePlan.getRehabPlanId(), startOfDay, endOfDay);
+			User user = userRepository.findById(userId)
+				.orElseThrow(() -> new RehabPlanException(ErrorStatus.USER_NOT_FOUND));
 
-		// 3. 식단 완료율 계산
-		DietCompletionResult dietResult = calculateDietCompletion(
-			userId, activePlan.getRehabPlanId(), startOfDay, endOfDay);
+			// 활성 플랜이 없어도 빈 DailySummary는 생성 (이미 있으면 그대로 둠)
+			boolean created = dailySummaryUpsertRepository.insertIfAbsent(buildEmptySummary(user, startOfDay));
 
-		// dailyMetrics 구성
-		Map<String, Object> dailyMetrics = new HashMap<>();
-		dailyMetrics.put("totalExercises", exerciseResult.totalCount);
-		dailyMetrics.put("completedExercises", exerciseResult.completedCount);
-		dailyMetrics.put("avgRpe", exerciseResult.avgRpe);
-		dailyMetrics.put("totalMedications", medicationResult.totalCount);
-		dailyMetrics.put("takenMedications", medicationResult.completedCount);
-		dailyMetrics.put("totalDiets", dietResult.totalCount);
-		dailyMetrics.put("completedDiets", dietResult.completedCount);
+			log.info("빈 DailySummary 처리 완료 - userId: {}, date: {}, 생성: {}", userId, targetDate, created);
+			eventPublisher.publishEvent(new DailySummaryUpdatedEvent(userId, targetDate));
+			return;
+		}
 
-		String dailyMetricsJson = convertToJson(dailyMetrics);
+		// 요약 행을 먼저 잠가 진행 중인 증분 반영이 끝난 뒤의 로그로 집계
+		// 행이 없으면 빈 행부터 만들어 존재하는 행만 잠금 (없는 행을 FOR UPDATE 하면 gap lock 으로 동시 INSERT 와 교착)
+		lockSummaryRow(userId, startOfDay);
 
-		// 일일 요약 조회 또는 생성
-		DailySummary summary = dailySummaryRepository
-			.findByUser_UserIdAndDate(userId, startOfDay)
-			.orElseGet(() -> DailySummary.builder()
-				.user(user)
-				.date(startOfDay)
-				.build()
-			);
+		// 하루치 로그 집계 (쿼리 1회)
+		DailyCompletionAggregate aggregate = activePlan.applyTo(
+			dailyCompletionAggregateRepository.findLogTotalsByUserIdAndDate(userId, targetDate));
 
-		// 업데이트
-		DailySummary updatedSummary = DailySummary.builder()
-			.summaryId(summary.getSummaryId())
-			.user(user)
+		// 하루치 로그 전체를 다시 집계 (기존 요약 조회 없이 새 값으로 구성)
+		DailySummary summary = DailySummary.builder()
+			.user(userRepository.getReferenceById(userId))
 			.date(startOfDay)
-			// 운동
-			.allExercisesCompleted(exerciseResult.allCompleted)
-			.exerciseCompletionRate(exerciseResult.completionRate)
-			// 복약
-			.allMedicationsTaken(medicationResult.allCompleted)
-			.medicationCompletionRate(medicationResult.completionRate)
-			// 식단
-			.allDietCompleted(dietResult.allCompleted)
-			.dietCompletionRate(dietResult.completionRate)
-			// 기타
-			.avgPainScore(exerciseResult.avgPainScore)
-			.totalDurationSec(exerciseResult.totalDurationSec)
-			.dailyMetrics(dailyMetricsJson)
 			.build();
+		recount(summary, aggregate);
+		summary.updateDailyMetrics(convertToJson(buildDailyMetrics(summary)));
 
-		dailySummaryRepository.save(updatedSummary);
+		// unique_user_date 기준 upsert (조회 → 저장 경합으로 인한 중복 키 충돌 방지)
+		dailySummaryUpsertRepository.upsert(summary);
 
-		log.info("일일 요약 업데이트 완료 - summaryId: {}, 운동: {}%, 복약: {}%, 식단: {}%",
-			updatedSummary.getSummaryId(),
-			exerciseResult.completionRate,
-			medicationResult.completionRate,
-			dietResult.completionRate);
+		log.info("일일 요약 업데이트 완료 - userId: {}, date: {}, 운동: {}%, 복약: {}%, 식단: {}%",
+			userId,
+			targetDate,
+			summary.getExerciseCompletionRate(),
+			summary.getMedicationCompletionRate(),
+			summary.getDietCompletionRate());
 
-		// Streak 업데이트
-		try {
-			streakService.updateStreakFromDailySummary(
-				userId,
-				targetDate,
-				exerciseResult.completionRate,
-				medicationResult.completionRate
-			);
-			log.info("Streak 업데이트 완료 - userId: {}, date: {}", userId, targetDate);
-		} catch (Exception e) {
-			log.error("Streak 업데이트 실패 - userId: {}, date: {}", userId, targetDate, e);
-		}
+		eventPublisher.publishEvent(new DailySummaryUpdatedEvent(userId, targetDate));
+		updateStreak(userId, targetDate, summary);
 	}
 
 	/**
-	 * 운동 완료율 계산
+	 * 요약 행이 없으면 빈 행을 만든 뒤 잠금
+	 * 항상 존재하는 행에 레코드 락만 잡도록 해, 빈 구간 gap lock 끼리의 교착을 피함
 	 */
-	private ExerciseCompletionResult calculateExerciseCompletion(
-		Long userId, Long rehabPlanId, LocalDateTime startOfDay, LocalDateTime endOfDay) {
-
-		// 해당 플랜의 총 운동 항목 수
-		long totalExercises = planItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId);
+	private DailySummary lockSummaryRow(Long userId, LocalDateTime startOfDay) {
+		dailySummaryUpsertRepository.insertIfAbsent(
+			buildEmptySummary(userRepository.getReferenceById(userId), startOfDay));
+		return dailySummaryRepository.findByUserIdAndDateForUpdate(userId, startOfDay)
+			.orElseThrow(() -> new RehabPlanException(ErrorStatus.DAILY_SUMMARY_NOT_FOUND));
+	}
 
-		// 해당 날짜의 운동 로그
-		List<ExerciseLog> logs = exerciseLogRepository
-			.findByUser_UserIdAndLoggedAtBetween(userId, startOfDay, endOfDay);
+	// 누적 카운터 없이 완료율 0 으로 채운 빈 요약 (카운터는 전체 재계산에서 채움)
+	private DailySummary buildEmptySummary(User user, LocalDateTime startOfDay) {
+		Map<String, Object> emptyMetrics = new HashMap<>();
+		emptyMetrics.put("totalExercises", 0);
+		emptyMetrics.put("completedExercises", 0);
+		emptyMetrics.put("avgRpe", 0.0);
+		emptyMetrics.put("totalMedications", 0);
+		emptyMetrics.put("takenMedications", 0);
+		emptyMetrics.put("totalDiets", 0);
+		emptyMetrics.put("completedDiets", 0);
+
+		return DailySummary.builder()
+			.user(user)
+			.date(startOfDay)
+			.allExercisesCompleted(false)
+			.exerciseCompletionRate(0)
+			.allMedicationsTaken(false)
+			.medicationCompletionRate(0)
+			.allDietCompleted(false)
+			.dietCompletionRate(0)
+			.avgPainScore(0)
+			.totalDurationSec(0)
+			.dailyMetrics(convertToJson(emptyMetrics))
+			.build();
+	}
 
-		if (totalExercises == 0) {
-			return new ExerciseCompletionResult(0, 0, 0, true, 0, 0, 0.0);
+	/**
+	 * 증분 집계 검증
+	 * 최근 요약 중 일부를 무작위로 골라 저장된 누적 카운터와 전체 재집계 결과를 비교
+	 *
+	 * @return 불일치한 요약의 키 목록
+	 */
+	public List<DailySummaryKey> findIncrementalMismatches(LocalDate since, int sampleSize) {
+		List<DailySummary> samples = dailySummaryRepository.findRandomSampleSince(since.atStartOfDay(), sampleSize);
+
+		List<DailySummaryKey> mismatches = new ArrayList<>();
+		for (DailySummary stored : samples) {
+			if (!stored.hasCounters()) {
+				continue;
+			}
+
+			Long userId = stored.getUser().getUserId();
+			LocalDate date = stored.getDate().toLocalDate();
+
+			DailyCompletionAggregate aggregate = dailyCompletionAggregateRepository
+				.findByUserIdAndDate(userId, date);
+			if (!aggregate.hasActivePlan()) {
+				continue;
+			}
+
+			DailySummary recounted = DailySummary.builder()
+				.user(stored.getUser())
+				.date(stored.getDate())
+				.build();
+			recount(recounted, aggregate);
+
+			if (!stored.hasSameCounters(recounted)) {
+				log.warn("일일 요약 증분 집계 불일치 - summaryId: {}, userId: {}, date: {}",
+					stored.getSummaryId(), userId, date);
+				mismatches.add(new DailySummaryKey(userId, date));
+			}
 		}
 
-		// 완료된 운동 (완료율 80% 이상)
-		long completedExercises = logs.stream()
-			.filter(log -> log.getCompletionRate() != null && log.getCompletionRate() >= 80)
-			.count();
-
-		int completionRate = (int) ((completedExercises * 100) / totalExercises);
-		boolean allCompleted = completedExercises >= totalExercises;
-
-		// 평균 통증 점수
-		int avgPainScore = (int) Math.round(logs.stream()
-			.filter(log -> log.getPainAfter() != null)
-			.mapToInt(ExerciseLog::getPainAfter)
-			.average()
-			.orElse(0.0));
-
-		// 총 운동 시간
-		int totalDurationSec = logs.stream()
-			.filter(log -> log.getDurationSec() != null)
-			.mapToInt(ExerciseLog::getDurationSec)
-			.sum();
-
-		// 평균 RPE
-		double avgRpe = Math.round(logs.stream()
-			.filter(log -> log.getRpe() != null)
-			.mapToInt(ExerciseLog::getRpe)
-			.average()
-			.orElse(0.0) * 10) / 10.0;
-
-		return new ExerciseCompletionResult(
-			totalExercises, completedExercises, completionRate, allCompleted,
-			avgPainScore, totalDurationSec, avgRpe);
+		log.info("일일 요약 증분 집계 검증 완료 - 검사: {}, 불일치: {}", samples.size(), mismatches.size());
+		return mismatches;
 	}
 
 	/**
-	 * 복약 완료율 계산
+	 * 기간 일일 요약 일괄 재계산 (배치 백필용)
+	 * 집계 쿼리 1회 + 다중 행 upsert 로 기간 전체를 갱신
+	 * 과거 날짜 재계산이므로 Streak 는 갱신하지 않음
+	 *
+	 * @return 갱신된 요약 수 (활성 플랜이 없으면 0)
 	 */
-	private MedicationCompletionResult calculateMedicationCompletion(
-		Long userId, Long rehabPlanId, LocalDateTime startOfDay, LocalDateTime endOfDay) {
+	@Transactional
+	public int rebuildDailySummaries(Long userId, LocalDate startDate, LocalDate endDate) {
+		log.info("일일 요약 일괄 재계산 - userId: {}, 기간: {} ~ {}", userId, startDate, endDate);
 
-		// 해당 플랜의 총 복약 항목 수
-		long totalMedications = medicationPlanItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId);
+		if (startDate.isAfter(endDate)) {
+			throw new RehabPlanException(ErrorStatus.INVALID_DATE_RANGE);
+		}
 
-		if (totalMedications == 0) {
-			return new MedicationCompletionResult(0, 0, 0, true);
+		ActivePlanSnapshot activePlan = activePlanCache.get(userId).orElse(null);
+		if (activePlan == null) {
+			log.warn("활성 플랜이 없어 일괄 재계산을 건너뜁니다. userId: {}", userId);
+			return 0;
 		}
 
-		// 해당 날짜의 복약 로그
-		List<MedicationLog> logs = medicationLogRepository
-			.findByUser_UserIdAndTakenAtBetween(userId, startOfDay, endOfDay);
+		List<DailyCompletionAggregate> aggregates = dailyCompletionAggregateRepository
+			.findLogTotalsByUserIdAndDateRange(userId, startDate, endDate)
+			.stream()
+			.map(activePlan::applyTo)
+			.toList();
 
-		// 복용 완료된 복약 (taken = true)
-		long takenMedications = logs.stream()
-			.filter(MedicationLog::getTaken)
-			.count();
+		User user = userRepository.getReferenceById(userId);
 
-		int completionRate = (int) ((takenMedications * 100) / totalMedications);
-		boolean allCompleted = takenMedications >= totalMedications;
+		List<DailySummary> summaries = new ArrayList<>(aggregates.size());
+		for (DailyCompletionAggregate aggregate : aggregates) {
+			DailySummary summary = DailySummary.builder()
+				.user(user)
+				.date(aggregate.date().atStartOfDay())
+				.build();
+
+			recount(summary, aggregate);
+			summary.updateDailyMetrics(convertToJson(buildDailyMetrics(summary)));
+			summaries.add(summary);
+		}
 
-		return new MedicationCompletionResult(
-			totalMedications, takenMedications, completionRate, allCompleted);
+		dailySummaryUpsertRepository.upsertAll(summaries);
+		aggregates.forEach(aggregate ->
+			eventPublisher.publishEvent(new DailySummaryUpdatedEvent(userId, aggregate.date())));
+
+		log.info("일일 요약 일괄 재계산 완료 - userId: {}, 갱신: {}", userId, summaries.size());
+		return summaries.size();
 	}
 
 	/**
-	 * 식단 완료율 계산
+	 * 집계 결과로 누적 카운터를 다시 채움
 	 */
-	private DietCompletionResult calculateDietCompletion(
-		Long userId, Long rehabPlanId, LocalDateTime startOfDay, LocalDateTime endOfDay) {
+	private void recount(DailySummary summary, DailyCompletionAggregate aggregate) {
+		summary.resetCounters(
+			aggregate.totalExercises(),
+			aggregate.totalMedications(),
+			aggregate.totalDiets()
+		);
+		DailySummaryDelta.of(aggregate).applyTo(summary);
+	}
 
-		// 해당 플랜의 총 식단 항목 수
-		long totalDiets = dietPlanItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId);
+	/**
+	 * 누적 카운터로 dailyMetrics 구성
+	 * 항목이 없는 영역의 완료 수는 0으로 표기
+	 */
+	private Map<String, Object> buildDailyMetrics(DailySummary summary) {
+		Map<String, Object> dailyMetrics = new HashMap<>();
+		dailyMetrics.put("totalExercises", summary.getTotalExercises());
+		dailyMetrics.put("completedExercises",
+			summary.getTotalExercises() == 0 ? 0 : summary.getCompletedExercises());
+		dailyMetrics.put("avgRpe", summary.getAvgRpe());
+		dailyMetrics.put("totalMedications", summary.getTotalMedications());
+		dailyMetrics.put("takenMedications",
+			summary.getTotalMedications() == 0 ? 0 : summary.getTakenMedications());
+		dailyMetrics.put("totalDiets", summary.getTotalDiets());
+		dailyMetrics.put("completedDiets",
+			summary.getTotalDiets() == 0 ? 0 : summary.getCompletedDiets());
+		return dailyMetrics;
+	}
 
-		if (totalDiets == 0) {
-			return new DietCompletionResult(0, 0, 0, true);
+	/**
+	 * Streak 업데이트 (실패해도 요약 갱신은 유지)
+	 */
+	private void updateStreak(Long userId, LocalDate targetDate, DailySummary summary) {
+		try {
+			streakService.updateStreakFromDailySummary(
+				userId,
+				targetDate,
+				summary.getExerciseCompletionRate(),
+				summary.getMedicationCompletionRate()
+			);
+			log.info("Streak 업데이트 완료 - userId: {}, date: {}", userId, targetDate);
+		} catch (Exception e) {
+			log.error("Streak 업데이트 실패 - userId: {}, date: {}", userId, targetDate, e);
 		}
-
-		// 해당 날짜의 식단 로그
-		List<DietLog> logs = dietLogRepository
-			.findByUser_UserIdAndLoggedAtBetween(userId, startOfDay, endOfDay);
-
-		// 완료된 식단 (completed = true 또는 portionConsumed >= 80)
-		long completedDiets = logs.stream()
-			.filter(log -> {
-				if (log.getCompleted() != null && log.getCompleted()) {
-					return true;
-				}
-				return log.getPortionConsumed() != null && log.getPortionConsumed() >= 80;
-			})
-			.count();
-
-		int completionRate = (int) ((completedDiets * 100) / totalDiets);
-		boolean allCompleted = completedDiets >= totalDiets;
-
-		return new DietCompletionResult(
-			totalDiets, completedDiets, completionRate, allCompleted);
 	}
 
 	/**
@@ -355,27 +387,12 @@ public class DailySummaryService {
 			.dietCompletionRate(summary.getDietCompletionRate())
 			.avgPainScore(summary.getAvgPainScore())
 			.totalDurationSec(summary.getTotalDurationSec())
-			.dailyMetrics(parseJson(summary.getDailyMetrics()))
+			.dailyMetrics(RawJson.of(summary.getDailyMetrics()))
 			.createdAt(summary.getCreatedAt())
 			.updatedAt(summary.getUpdatedAt())
 			.build();
 	}
 
-	/**
-	 * JSON 문자열을 JsonNode로 변환
-	 */
-	private JsonNode parseJson(String jsonString) {
-		if (jsonString == null || jsonString.isEmpty()) {
-			return null;
-		}
-		try {
-			return objectMapper.readTree(jsonString);
-		} catch (JsonProcessingException e) {
-			log.error("JSON 파싱 실패: {}", jsonString, e);
-			return null;
-		}
-	}
-
 	/**
 	 * Map을 JSON 문자열로 변환
 	 */
@@ -387,57 +404,4 @@ public class DailySummaryService {
 			return "{}";
 		}
 	}
-
-	// ===== 내부 클래스 (결과 객체) =====
-
-	private static class ExerciseCompletionResult {
-		long totalCount;
-		long completedCount;
-		int completionRate;
-		boolean allCompleted;
-		int avgPainScore;
-		int totalDurationSec;
-		double avgRpe;
-
-		ExerciseCompletionResult(long totalCount, long completedCount, int completionRate,
-			boolean allCompleted, int avgPainScore, int totalDurationSec, double avgRpe) {
-			this.totalCount = totalCount;
-			this.completedCount = completedCount;
-			this.completionRate = completionRate;
-			this.allCompleted = allCompleted;
-			this.avgPainScore = avgPainScore;
-			this.totalDurationSec = totalDurationSec;
-			this.avgRpe = avgRpe;
-		}
-	}
-
-	private static class MedicationCompletionResult {
-		long totalCount;
-		long completedCount;
-		int completionRate;
-		boolean allCompleted;
-
-		MedicationCompletionResult(long totalCount, long completedCount,
-			int completionRate, boolean allCompleted) {
-			this.totalCount = totalCount;
-			this.completedCount = completedCount;
-			this.completionRate = completionRate;
-			this.allCompleted = allCompleted;
-		}
-	}
-
-	private static class DietCompletionResult {
-		long totalCount;
-		long completedCount;
-		int completionRate;
-		boolean allCompleted;
-
-		DietCompletionResult(long totalCount, long completedCount,
-			int completionRate, boolean allCompleted) {
-			this.totalCount = totalCount;
-			this.completedCount = completedCount;
-			this.completionRate = completionRate;
-			this.allCompleted = allCompleted;
-		}
-	}
 }
@@ -0,0 +1,13 @@
+package com.rehab.service.dailySummary;
+
+import java.time.LocalDate;
+
+/**
+ * 일일 요약 갱신 이벤트 (증분 반영 / 전체 재계산 커밋 후 캐시 무효화)
+ */
+public record DailySummaryUpdatedEvent(Long userId, LocalDate date) {
+
+	public DailySummaryKey key() {
+		return new DailySummaryKey(userId, date);
+	}
+}
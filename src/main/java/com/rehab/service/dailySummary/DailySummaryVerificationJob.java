@@ -0,0 +1,66 @@
+package com.rehab.service.dailySummary;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일일 요약 증분 집계 검증 스케줄러
+ * - 최근 요약을 샘플링해 증분 결과와 전체 재집계 결과를 비교
+ * - 불일치한 요약은 전체 재계산 큐에 넣어 복구
+ */
+@Slf4j
+@Component
+public class DailySummaryVerificationJob {
+
+	private final DailySummaryService dailySummaryService;
+	private final DailySummaryRecomputeQueue recomputeQueue;
+	private final Counter runCounter;
+	private final Counter mismatchCounter;
+
+	@Value("${daily-summary.verify.sample-size:50}")
+	private int sampleSize;
+
+	@Value("${daily-summary.verify.lookback-days:2}")
+	private int lookbackDays;
+
+	public DailySummaryVerificationJob(
+		DailySummaryService dailySummaryService,
+		DailySummaryRecomputeQueue recomputeQueue,
+		MeterRegistry meterRegistry
+	) {
+		this.dailySummaryService = dailySummaryService;
+		this.recomputeQueue = recomputeQueue;
+		this.runCounter = meterRegistry.counter("daily_summary.verify.runs");
+		this.mismatchCounter = meterRegistry.counter("daily_summary.verify.mismatch");
+	}
+
+	/**
+	 * 매일 03:30 증분 집계 검증
+	 */
+	@Scheduled(cron = "${daily-summary.verify.cron:0 30 3 * * *}")
+	public void verifyIncrementalSummaries() {
+		log.info("Starting daily summary incremental verification job");
+
+		try {
+			LocalDate since = LocalDate.now().minusDays(lookbackDays);
+			List<DailySummaryKey> mismatches = dailySummaryService.findIncrementalMismatches(since, sampleSize);
+
+			runCounter.increment();
+			mismatchCounter.increment(mismatches.size());
+
+			for (DailySummaryKey key : mismatches) {
+				recomputeQueue.enqueue(key, DailySummaryDelta.FULL);
+			}
+			log.info("Daily summary verification completed. Mismatch count: {}", mismatches.size());
+		} catch (Exception e) {
+			log.error("Error during daily summary verification", e);
+		}
+	}
+}
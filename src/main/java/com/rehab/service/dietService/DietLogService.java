@@ -10,10 +10,12 @@ import com.rehab.domain.repository.diet.DietPlanItemRepository;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.diet.CreateDietLogRequest;
 import com.rehab.dto.diet.DietLogResponse;
-import com.rehab.service.dailySummary.DailySummaryService;
+import com.rehab.service.dailySummary.DailySummaryDelta;
+import com.rehab.service.dailySummary.DailySummaryDirtyEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,7 +36,7 @@ public class DietLogService {
 	private final DietLogRepository dietLogRepository;
 	private final DietPlanItemRepository dietPlanItemRepository;
 	private final UserRepository userRepository;
-	private final DailySummaryService dailySummaryService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 식단 로그 생성
@@ -65,16 +67,9 @@ public class DietLogService {
 
 		log.info("식단 로그 생성 완료 - dietLogId: {}", savedLog.getDietLogId());
 
-		// 일일 요약 업데이트
-		try {
-			dailySummaryService.updateDailySummary(userId, request.getLoggedAt());
-			log.info("일일 요약 업데이트 완료 - userId: {}, date: {}",
-				userId, request.getLoggedAt().toLocalDate());
-		} catch (Exception e) {
-			log.error("일일 요약 업데이트 실패 - userId: {}, date: {}, error: {}",
-				userId, request.getLoggedAt().toLocalDate(), e.getMessage(), e);
-			// DailySummary 업데이트 실패해도 식단 로그 생성은 성공으로 처리
-		}
+		// 일일 요약 증분 반영 예약 (커밋 후 백그라운드에서 (userId, date) 단위로 병합 처리)
+		eventPublisher.publishEvent(new DailySummaryDirtyEvent(
+			userId, savedLog.getLoggedAt().toLocalDate(), DailySummaryDelta.of(savedLog)));
 
 		return convertToDietLogResponse(savedLog);
 	}
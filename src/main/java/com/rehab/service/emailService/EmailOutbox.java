@@ -0,0 +1,212 @@
+package com.rehab.service.emailService;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 기반 메일 아웃박스
+ * - 요청 스레드는 mail:outbox 리스트에 작업만 넣고 바로 반환
+ * - 스케줄러가 배치로 꺼내 mailSendExecutor 워커에 넘기고,
+ *   워커는 배치 전체를 JavaMailSender.send(...) 한 번으로 보내 SMTP 연결을 재사용
+ * - 실패한 메시지는 지수 백오프로 mail:retry (score = 재시도 시각) 에 넣었다가 다시 아웃박스로 이동
+ */
+@Slf4j
+@Component
+public class EmailOutbox {
+
+	private static final String OUTBOX_KEY = "mail:outbox";
+	private static final String RETRY_KEY = "mail:retry";
+
+	private final StringRedisTemplate redisTemplate;
+	private final JavaMailSender mailSender;
+	private final ThreadPoolTaskExecutor mailSendExecutor;
+	private final ObjectMapper objectMapper;
+
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long backoffBaseMillis;
+
+	private final Counter enqueuedCounter;
+	private final Counter sentCounter;
+	private final Counter retriedCounter;
+	private final Counter failedCounter;
+	private final Timer batchSendTimer;
+
+	public EmailOutbox(
+		StringRedisTemplate redisTemplate,
+		JavaMailSender mailSender,
+		@Qualifier("mailSendExecutor") ThreadPoolTaskExecutor mailSendExecutor,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${mail.outbox.batch-size:50}") int batchSize,
+		@Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+		@Value("${mail.outbox.backoff-base-ms:1000}") long backoffBaseMillis
+	) {
+		this.redisTemplate = redisTemplate;
+		this.mailSender = mailSender;
+		this.mailSendExecutor = mailSendExecutor;
+		this.objectMapper = objectMapper;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.backoffBaseMillis = backoffBaseMillis;
+
+		this.enqueuedCounter = meterRegistry.counter("mail.outbox.enqueued");
+		this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+		this.retriedCounter = meterRegistry.counter("mail.outbox.retried");
+		this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+		this.batchSendTimer = meterRegistry.timer("mail.outbox.batch_send");
+	}
+
+	public void enqueue(MailJob job) {
+		redisTemplate.opsForList().leftPush(OUTBOX_KEY, serialize(job));
+		enqueuedCounter.increment();
+	}
+
+	/**
+	 * 재시도 시각이 된 작업을 아웃박스로 옮기고, 쉬는 워커 수만큼 배치를 꺼내 발송
+	 */
+	@Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:200}")
+	public void poll() {
+		try {
+			promoteDueRetries();
+
+			int idleWorkers = mailSendExecutor.getMaxPoolSize() - mailSendExecutor.getActiveCount();
+			for (int i = 0; i < idleWorkers; i++) {
+				List<String> batch = redisTemplate.opsForList().rightPop(OUTBOX_KEY, batchSize);
+				if (batch == null || batch.isEmpty()) {
+					return;
+				}
+				submit(batch);
+			}
+		} catch (Exception e) {
+			log.warn("메일 아웃박스 처리 실패", e);
+		}
+	}
+
+	private void submit(List<String> batch) {
+		try {
+			mailSendExecutor.execute(() -> send(batch));
+		} catch (TaskRejectedException e) {
+			// 워커가 모두 바쁨 → 다시 넣고 다음 주기에 처리
+			// batch 는 오래된 순이므로 뒤집어 넣어야 가장 오래된 작업이 다시 맨 먼저 꺼내짐 (FIFO 유지)
+			List<String> requeue = new ArrayList<>(batch);
+			Collections.reverse(requeue);
+			redisTemplate.opsForList().rightPushAll(OUTBOX_KEY, requeue);
+		}
+	}
+
+	private void send(List<String> batch) {
+		List<MailJob> jobs = new ArrayList<>(batch.size());
+		for (String payload : batch) {
+			MailJob job = deserialize(payload);
+			if (job != null) {
+				jobs.add(job);
+			}
+		}
+		if (jobs.isEmpty()) {
+			return;
+		}
+
+		SimpleMailMessage[] messages = jobs.stream()
+			.map(this::toMessage)
+			.toArray(SimpleMailMessage[]::new);
+
+		Timer.Sample sample = Timer.start();
+		try {
+			// 배치 전체를 SMTP 연결 하나로 발송
+			mailSender.send(messages);
+			sentCounter.increment(jobs.size());
+		} catch (MailSendException e) {
+			Map<Object, Exception> failed = e.getFailedMessages();
+			sentCounter.increment(jobs.size() - failed.size());
+			for (int i = 0; i < messages.length; i++) {
+				// 실패 메시지 목록이 비어 있으면 연결 자체가 실패한 것 → 전체 재시도
+				if (failed.isEmpty() || failed.containsKey(messages[i])) {
+					scheduleRetry(jobs.get(i), e);
+				}
+			}
+		} catch (MailException e) {
+			jobs.forEach(job -> scheduleRetry(job, e));
+		} finally {
+			sample.stop(batchSendTimer);
+		}
+	}
+
+	private void scheduleRetry(MailJob job, Exception cause) {
+		MailJob next = job.nextAttempt();
+		if (next.attempt() >= maxAttempts) {
+			failedCounter.increment();
+			log.error("메일 발송 최종 실패 - to: {}, 시도 횟수: {}", job.to(), next.attempt(), cause);
+			if (job.dedupeKey() != null) {
+				redisTemplate.delete(job.dedupeKey());
+			}
+			return;
+		}
+
+		long delayMillis = backoffBaseMillis << (next.attempt() - 1);
+		redisTemplate.opsForZSet().add(RETRY_KEY, serialize(next), System.currentTimeMillis() + delayMillis);
+		retriedCounter.increment();
+		log.warn("메일 발송 실패, {}ms 후 재시도 - to: {}, 시도 횟수: {}", delayMillis, job.to(), next.attempt());
+	}
+
+	private void promoteDueRetries() {
+		Set<String> due = redisTemplate.opsForZSet()
+			.rangeByScore(RETRY_KEY, 0, System.currentTimeMillis(), 0, batchSize);
+		if (due == null) {
+			return;
+		}
+		for (String payload : due) {
+			// 여러 노드가 동시에 옮기지 않도록 제거에 성공한 노드만 이동
+			Long removed = redisTemplate.opsForZSet().remove(RETRY_KEY, payload);
+			if (removed != null && removed > 0) {
+				redisTemplate.opsForList().rightPush(OUTBOX_KEY, payload);
+			}
+		}
+	}
+
+	private SimpleMailMessage toMessage(MailJob job) {
+		SimpleMailMessage message = new SimpleMailMessage();
+		message.setTo(job.to());
+		message.setSubject(job.subject());
+		message.setText(job.text());
+		return message;
+	}
+
+	private String serialize(MailJob job) {
+		try {
+			return objectMapper.writeValueAsString(job);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("메일 작업 직렬화 실패", e);
+		}
+	}
+
+	private MailJob deserialize(String payload) {
+		try {
+			return objectMapper.readValue(payload, MailJob.class);
+		} catch (JsonProcessingException e) {
+			log.error("메일 작업 역직렬화 실패: {}", payload, e);
+			return null;
+		}
+	}
+}
@@ -1,22 +1,55 @@
 package com.rehab.service.emailService;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 메일 발송
+ * 발송은 EmailOutbox 에 넣기만 하고 바로 반환
+ * 같은 주소로 같은 인증코드를 유효 시간 안에 다시 요청하면 중복 발송하지 않음
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService {
 
-	private final JavaMailSender mailSender;
+	private static final String SENT_KEY_PREFIX = "mail:verification-sent:";
+
+	private final EmailOutbox emailOutbox;
+	private final StringRedisTemplate redisTemplate;
+	private final Counter deduplicatedCounter;
+
+	public EmailService(EmailOutbox emailOutbox, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+		this.emailOutbox = emailOutbox;
+		this.redisTemplate = redisTemplate;
+		this.deduplicatedCounter = meterRegistry.counter("mail.outbox.deduplicated");
+	}
 
 	public void sendVerificationCode(String email, String code) {
-		SimpleMailMessage message = new SimpleMailMessage();
-		message.setTo(email);
-		message.setSubject("[RehabCoach] 이메일 인증코드");
-		message.setText("인증코드: " + code + "\n5분 안에 입력해주세요.");
+		String sentKey = SENT_KEY_PREFIX + email;
+		Boolean first = redisTemplate.opsForValue()
+			.setIfAbsent(sentKey, code, EmailVerificationService.EXPIRE_MINUTES, TimeUnit.MINUTES);
+
+		if (!Boolean.TRUE.equals(first)) {
+			if (code.equals(redisTemplate.opsForValue().get(sentKey))) {
+				deduplicatedCounter.increment();
+				log.info("인증 메일 중복 요청 - 발송 생략: {}", email);
+				return;
+			}
+			// 코드가 바뀐 경우 (이전 코드 만료 후 재발급) 새 코드로 발송
+			redisTemplate.opsForValue().set(sentKey, code, EmailVerificationService.EXPIRE_MINUTES, TimeUnit.MINUTES);
+		}
 
-		mailSender.send(message);
+		emailOutbox.enqueue(new MailJob(
+			email,
+			"[RehabCoach] 이메일 인증코드",
+			"인증코드: " + code + "\n5분 안에 입력해주세요.",
+			sentKey,
+			0
+		));
 	}
 }
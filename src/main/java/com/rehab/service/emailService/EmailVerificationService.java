@@ -12,7 +12,7 @@ import java.util.concurrent.TimeUnit;
 public class EmailVerificationService {
 
 	private final StringRedisTemplate redisTemplate;
-	private static final long EXPIRE_MINUTES = 5;
+	public static final long EXPIRE_MINUTES = 5;
 
 	public void saveVerificationCode(String email, String code) {
 		ValueOperations<String, String> ops = redisTemplate.opsForValue();
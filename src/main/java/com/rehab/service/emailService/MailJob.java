@@ -0,0 +1,20 @@
+package com.rehab.service.emailService;
+
+/**
+ * 아웃박스에 쌓이는 메일 발송 작업
+ *
+ * @param dedupeKey 중복 발송 방지 키 (최종 실패 시 삭제해 재요청 허용, 없으면 null)
+ * @param attempt   지금까지 실패한 횟수
+ */
+public record MailJob(
+	String to,
+	String subject,
+	String text,
+	String dedupeKey,
+	int attempt
+) {
+
+	public MailJob nextAttempt() {
+		return new MailJob(to, subject, text, dedupeKey, attempt + 1);
+	}
+}
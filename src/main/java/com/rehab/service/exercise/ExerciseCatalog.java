@@ -0,0 +1,226 @@
+package com.rehab.service.exercise;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rehab.common.util.RawJson;
+import com.rehab.domain.entity.Exercise;
+import com.rehab.domain.entity.ExerciseImage;
+import com.rehab.domain.entity.ExerciseMedia;
+import com.rehab.domain.repository.exercise.ExerciseImageRepository;
+import com.rehab.domain.repository.exercise.ExerciseMediaRepository;
+import com.rehab.domain.repository.exercise.ExerciseRepository;
+import com.rehab.domain.repository.exercise.TableStamp;
+import com.rehab.dto.exercise.ExerciseDetailResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 메모리 운동 카탈로그 (운동 데이터는 사실상 읽기 전용)
+ * - 운동 / 이미지 / 미디어를 테이블별 쿼리 한 번씩으로 읽어 운동별 상세 응답을 미리 만들어 둠
+ *   (fetch join 두 개의 카테시안 곱 없음)
+ * - refresh-interval-ms 마다 세 테이블의 (행 수, 마지막 수정 시각) 을 비교해 바뀌었으면 새로 읽어 통째로 교체
+ * - 상세 조회는 Map 조회 한 번, 검색은 스냅샷의 ExerciseSearchIndex
+ * - 없는 ID 는 잠시 기억해 같은 ID 로 DB 를 반복 조회하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExerciseCatalog {
+
+	private final ExerciseRepository exerciseRepository;
+	private final ExerciseImageRepository exerciseImageRepository;
+	private final ExerciseMediaRepository exerciseMediaRepository;
+	private final ObjectMapper objectMapper;
+
+	// 스냅샷에도 DB 에도 없던 ID (새 운동은 길어야 이 시간 뒤, 보통은 다음 갱신 주기에 보임)
+	private final Cache<Long, Boolean> missingIds = Caffeine.newBuilder()
+		.maximumSize(10_000)
+		.expireAfterWrite(Duration.ofSeconds(30))
+		.build();
+
+	private volatile Snapshot snapshot;
+
+	/**
+	 * 카탈로그 한 버전 (만든 뒤에는 바꾸지 않음)
+	 */
+	public record Snapshot(
+		long version,
+		Stamp stamp,
+		List<Exercise> exercises,
+		Map<Long, ExerciseDetailResponse> details,
+		ExerciseSearchIndex searchIndex
+	) {
+	}
+
+	private record Stamp(TableStamp exercise, TableStamp image, TableStamp media) {
+	}
+
+	/**
+	 * 운동 상세 응답 (없으면 empty)
+	 * 아직 반영되지 않은 새 운동일 수 있으므로 DB 에 있으면 다시 읽고 조회
+	 */
+	public Optional<ExerciseDetailResponse> getDetail(Long exerciseId) {
+		ExerciseDetailResponse detail = current().details().get(exerciseId);
+		if (detail != null) {
+			return Optional.of(detail);
+		}
+		if (missingIds.getIfPresent(exerciseId) != null) {
+			return Optional.empty();
+		}
+
+		if (exerciseRepository.existsById(exerciseId)) {
+			detail = reloadIfMissing(exerciseId).details().get(exerciseId);
+		}
+		if (detail == null) {
+			missingIds.put(exerciseId, Boolean.TRUE);
+		}
+		return Optional.ofNullable(detail);
+	}
+
+	/**
+	 * 현재 카탈로그 (처음 호출 시 적재)
+	 */
+	public Snapshot current() {
+		Snapshot current = snapshot;
+		return current != null ? current : loadIfAbsent();
+	}
+
+	@Scheduled(fixedDelayString = "${exercise.catalog.refresh-interval-ms:60000}")
+	public void refreshIfChanged() {
+		try {
+			Snapshot current = snapshot;
+			if (current == null || !current.stamp().equals(readStamp())) {
+				reload();
+			}
+		} catch (Exception e) {
+			log.warn("운동 카탈로그 갱신 실패", e);
+		}
+	}
+
+	/**
+	 * 전체 다시 읽어 교체
+	 * 읽는 동안의 변경을 놓치지 않도록 스탬프를 먼저 읽음 (바뀌었으면 다음 주기에 다시 읽음)
+	 */
+	public synchronized Snapshot reload() {
+		long start = System.currentTimeMillis();
+		Stamp stamp = readStamp();
+
+		List<Exercise> exercises = exerciseRepository.findAll();
+		Map<Long, List<ExerciseDetailResponse.ExerciseImageResponse>> imagesByExercise = new HashMap<>();
+		for (ExerciseImage image : exerciseImageRepository.findAllOrderByExercise()) {
+			imagesByExercise.computeIfAbsent(image.getExercise().getExerciseId(), id -> new ArrayList<>())
+				.add(convertToImageResponse(image));
+		}
+		Map<Long, List<ExerciseDetailResponse.ExerciseMediaResponse>> mediaByExercise = new HashMap<>();
+		for (ExerciseMedia media : exerciseMediaRepository.findAllOrderByExercise()) {
+			mediaByExercise.computeIfAbsent(media.getExercise().getExerciseId(), id -> new ArrayList<>())
+				.add(convertToMediaResponse(media));
+		}
+
+		Map<Long, ExerciseDetailResponse> details = new HashMap<>(exercises.size() * 2);
+		for (Exercise exercise : exercises) {
+			details.put(exercise.getExerciseId(), convertToExerciseDetailResponse(
+				exercise,
+				imagesByExercise.getOrDefault(exercise.getExerciseId(), List.of()),
+				mediaByExercise.getOrDefault(exercise.getExerciseId(), List.of())
+			));
+		}
+
+		Snapshot previous = snapshot;
+		Snapshot next = new Snapshot(
+			previous != null ? previous.version() + 1 : 1,
+			stamp,
+			List.copyOf(exercises),
+			Map.copyOf(details),
+			new ExerciseSearchIndex(exercises, objectMapper)
+		);
+		snapshot = next;
+
+		log.info("운동 카탈로그 적재 - version: {}, 운동 {}건, {}ms",
+			next.version(), exercises.size(), System.currentTimeMillis() - start);
+		return next;
+	}
+
+	// === Private Helper Methods ===
+
+	// 동시에 처음 호출한 요청이 모두 적재하지 않도록 락 안에서 다시 확인
+	private synchronized Snapshot loadIfAbsent() {
+		Snapshot current = snapshot;
+		return current != null ? current : reload();
+	}
+
+	// 같은 새 운동을 동시에 조회한 요청 중 첫 요청만 다시 읽고, 나머지는 그 결과를 사용
+	private synchronized Snapshot reloadIfMissing(Long exerciseId) {
+		Snapshot current = snapshot;
+		if (current != null && current.details().containsKey(exerciseId)) {
+			return current;
+		}
+		return reload();
+	}
+
+	private Stamp readStamp() {
+		return new Stamp(
+			exerciseRepository.findStamp(),
+			exerciseImageRepository.findStamp(),
+			exerciseMediaRepository.findStamp()
+		);
+	}
+
+	/**
+	 * Exercise -> ExerciseDetailResponse 변환 (목록은 수정 불가)
+	 */
+	private ExerciseDetailResponse convertToExerciseDetailResponse(
+		Exercise exercise,
+		List<ExerciseDetailResponse.ExerciseImageResponse> images,
+		List<ExerciseDetailResponse.ExerciseMediaResponse> media
+	) {
+		return ExerciseDetailResponse.builder()
+			.exerciseId(exercise.getExerciseId())
+			.title(exercise.getTitle())
+			.description(exercise.getDescription())
+			.bodyPart(exercise.getBodyPart())
+			.difficulty(exercise.getDifficulty())
+			.contraindications(RawJson.of(exercise.getContraindications()))
+			.progressionRules(RawJson.of(exercise.getProgressionRules()))
+			.evidenceLevel(exercise.getEvidenceLevel())
+			.images(List.copyOf(images))
+			.media(List.copyOf(media))
+			.createdAt(exercise.getCreatedAt())
+			.updatedAt(exercise.getUpdatedAt())
+			.build();
+	}
+
+	/**
+	 * ExerciseImage -> ExerciseImageResponse 변환
+	 */
+	private ExerciseDetailResponse.ExerciseImageResponse convertToImageResponse(ExerciseImage image) {
+		return ExerciseDetailResponse.ExerciseImageResponse.builder()
+			.exerciseImageId(image.getExerciseImageId())
+			.title(image.getTitle())
+			.imageUrl(RawJson.of(image.getImageUrl()))
+			.build();
+	}
+
+	/**
+	 * ExerciseMedia -> ExerciseMediaResponse 변환
+	 */
+	private ExerciseDetailResponse.ExerciseMediaResponse convertToMediaResponse(ExerciseMedia media) {
+		return ExerciseDetailResponse.ExerciseMediaResponse.builder()
+			.exerciseMediaId(media.getExerciseMediaId())
+			.url(media.getUrl())
+			.mediaType(media.getMediaType())
+			.language(media.getLanguage())
+			.duration(media.getDuration())
+			.build();
+	}
+}
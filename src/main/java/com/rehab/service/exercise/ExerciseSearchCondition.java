@@ -0,0 +1,30 @@
+package com.rehab.service.exercise;
+
+import com.rehab.domain.entity.enums.Difficulty;
+import com.rehab.domain.entity.enums.EvidenceLevel;
+import lombok.Builder;
+
+import java.util.Set;
+
+/**
+ * 운동 검색 조건 (비어 있는 조건은 적용하지 않음)
+ *
+ * @param query                     제목 검색어 (부분 일치, 접두 일치 우선)
+ * @param bodyParts                 신체 부위 (OR)
+ * @param difficulties              난이도 (OR)
+ * @param minEvidenceLevel          이 수준 이상 (A 가 가장 높음)
+ * @param excludeAnyContraindication 금기사항이 하나라도 있는 운동 제외
+ * @param excludedContraindications 이 금기 태그가 있는 운동 제외
+ * @param limit                     최대 결과 수
+ */
+@Builder
+public record ExerciseSearchCondition(
+	String query,
+	Set<String> bodyParts,
+	Set<Difficulty> difficulties,
+	EvidenceLevel minEvidenceLevel,
+	boolean excludeAnyContraindication,
+	Set<String> excludedContraindications,
+	int limit
+) {
+}
@@ -0,0 +1,274 @@
+package com.rehab.service.exercise;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.entity.Exercise;
+import com.rehab.domain.entity.enums.Difficulty;
+import com.rehab.domain.entity.enums.EvidenceLevel;
+import com.rehab.dto.exercise.ExerciseSearchResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 운동 검색 인덱스 (카탈로그 스냅샷마다 새로 만들고, 만든 뒤에는 읽기 전용)
+ * - 신체 부위 / 난이도 / 근거 수준 / 금기 태그별 BitSet → AND / NOT 으로 필터
+ * - 제목은 문자 2-gram(한 글자 검색은 1-gram) BitSet 교집합으로 후보를 좁힌 뒤 부분 문자열 확인
+ * - 정렬: 제목 일치도(완전 > 접두 > 단어 접두 > 부분) → 근거 수준 → 운동 ID
+ */
+@Slf4j
+public class ExerciseSearchIndex {
+
+	private static final int EXACT = 4;
+	private static final int PREFIX = 3;
+	private static final int WORD_PREFIX = 2;
+	private static final int CONTAINS = 1;
+
+	private final int size;
+	private final ExerciseSearchResponse.ExerciseSummary[] summaries;
+	private final String[] normalizedTitles;
+	private final List<String>[] titleWords;
+
+	private final Map<String, BitSet> byBodyPart = new HashMap<>();
+	private final Map<Difficulty, BitSet> byDifficulty = new EnumMap<>(Difficulty.class);
+	private final Map<EvidenceLevel, BitSet> byEvidenceLevel = new EnumMap<>(EvidenceLevel.class);
+	private final Map<String, BitSet> byContraindication = new HashMap<>();
+	private final BitSet withContraindications = new BitSet();
+	private final Map<String, BitSet> byTitleGram = new HashMap<>();
+
+	@SuppressWarnings("unchecked")
+	public ExerciseSearchIndex(List<Exercise> exercises, ObjectMapper objectMapper) {
+		List<Exercise> sorted = exercises.stream()
+			.sorted(Comparator.comparing(Exercise::getExerciseId))
+			.toList();
+
+		this.size = sorted.size();
+		this.summaries = new ExerciseSearchResponse.ExerciseSummary[size];
+		this.normalizedTitles = new String[size];
+		this.titleWords = new List[size];
+
+		for (int doc = 0; doc < size; doc++) {
+			Exercise exercise = sorted.get(doc);
+			List<String> tags = contraindicationTags(exercise, objectMapper);
+
+			summaries[doc] = ExerciseSearchResponse.ExerciseSummary.builder()
+				.exerciseId(exercise.getExerciseId())
+				.title(exercise.getTitle())
+				.bodyPart(exercise.getBodyPart())
+				.difficulty(exercise.getDifficulty())
+				.evidenceLevel(exercise.getEvidenceLevel())
+				.contraindications(tags)
+				.build();
+
+			if (exercise.getBodyPart() != null) {
+				posting(byBodyPart, normalizeCode(exercise.getBodyPart())).set(doc);
+			}
+			if (exercise.getDifficulty() != null) {
+				posting(byDifficulty, exercise.getDifficulty()).set(doc);
+			}
+			if (exercise.getEvidenceLevel() != null) {
+				posting(byEvidenceLevel, exercise.getEvidenceLevel()).set(doc);
+			}
+			for (String tag : tags) {
+				posting(byContraindication, tag).set(doc);
+				withContraindications.set(doc);
+			}
+
+			String title = normalizeText(exercise.getTitle());
+			normalizedTitles[doc] = title.replace(" ", "");
+			titleWords[doc] = List.of(title.split(" "));
+			// 1-gram(한 글자 검색용) + 2-gram
+			for (int i = 0; i < normalizedTitles[doc].length(); i++) {
+				posting(byTitleGram, normalizedTitles[doc].substring(i, i + 1)).set(doc);
+			}
+			for (String gram : grams(normalizedTitles[doc])) {
+				posting(byTitleGram, gram).set(doc);
+			}
+		}
+	}
+
+	public record Result(int totalCount, List<ExerciseSearchResponse.ExerciseSummary> exercises) {
+	}
+
+	public Result search(ExerciseSearchCondition condition) {
+		BitSet matches = new BitSet(size);
+		matches.set(0, size);
+
+		if (!isEmpty(condition.bodyParts())) {
+			matches.and(union(byBodyPart, condition.bodyParts(), ExerciseSearchIndex::normalizeCode));
+		}
+		if (!isEmpty(condition.difficulties())) {
+			matches.and(union(byDifficulty, condition.difficulties(), Function.identity()));
+		}
+		if (condition.minEvidenceLevel() != null) {
+			List<EvidenceLevel> levels = new ArrayList<>();
+			for (EvidenceLevel level : EvidenceLevel.values()) {
+				if (level.ordinal() <= condition.minEvidenceLevel().ordinal()) {
+					levels.add(level);
+				}
+			}
+			matches.and(union(byEvidenceLevel, levels, Function.identity()));
+		}
+		if (condition.excludeAnyContraindication()) {
+			matches.andNot(withContraindications);
+		}
+		if (!isEmpty(condition.excludedContraindications())) {
+			matches.andNot(union(byContraindication, condition.excludedContraindications(), ExerciseSearchIndex::normalizeTag));
+		}
+
+		String query = condition.query() != null ? normalizeText(condition.query()).replace(" ", "") : "";
+		if (!query.isEmpty()) {
+			for (String gram : grams(query)) {
+				BitSet posting = byTitleGram.get(gram);
+				if (posting == null) {
+					return new Result(0, List.of());
+				}
+				matches.and(posting);
+			}
+		}
+
+		// 2-gram 교집합은 후보일 뿐이므로 부분 문자열 확인하며 점수 계산
+		List<int[]> scored = new ArrayList<>(matches.cardinality());
+		for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+			int titleScore = query.isEmpty() ? 0 : titleScore(doc, query);
+			if (!query.isEmpty() && titleScore == 0) {
+				continue;
+			}
+			scored.add(new int[] {doc, titleScore});
+		}
+
+		scored.sort(Comparator
+			.comparingInt((int[] entry) -> -entry[1])
+			.thenComparingInt(entry -> evidenceRank(entry[0]))
+			.thenComparingInt(entry -> entry[0]));
+
+		int limit = condition.limit() > 0 ? condition.limit() : scored.size();
+		List<ExerciseSearchResponse.ExerciseSummary> exercises = scored.stream()
+			.limit(limit)
+			.map(entry -> summaries[entry[0]])
+			.toList();
+		return new Result(scored.size(), exercises);
+	}
+
+	// === Private Helper Methods ===
+
+	private int titleScore(int doc, String query) {
+		String title = normalizedTitles[doc];
+		if (title.equals(query)) {
+			return EXACT;
+		}
+		if (title.startsWith(query)) {
+			return PREFIX;
+		}
+		for (String word : titleWords[doc]) {
+			if (word.startsWith(query)) {
+				return WORD_PREFIX;
+			}
+		}
+		return title.contains(query) ? CONTAINS : 0;
+	}
+
+	// A → 0 ... D → 3, 없음 → 맨 뒤
+	private int evidenceRank(int doc) {
+		EvidenceLevel level = summaries[doc].getEvidenceLevel();
+		return level != null ? level.ordinal() : Integer.MAX_VALUE;
+	}
+
+	private <K> BitSet posting(Map<K, BitSet> postings, K key) {
+		return postings.computeIfAbsent(key, k -> new BitSet(size));
+	}
+
+	private <K, V> BitSet union(Map<K, BitSet> postings, Collection<V> values, Function<V, K> toKey) {
+		BitSet union = new BitSet(size);
+		for (V value : values) {
+			BitSet posting = postings.get(toKey.apply(value));
+			if (posting != null) {
+				union.or(posting);
+			}
+		}
+		return union;
+	}
+
+	/**
+	 * 금기사항 JSON 에서 태그 추출 (문자열 값, 객체는 키 포함)
+	 * 예) ["급성 요통", "Pregnancy"] → [급성 요통, pregnancy]
+	 */
+	private static List<String> contraindicationTags(Exercise exercise, ObjectMapper objectMapper) {
+		String json = exercise.getContraindications();
+		if (json == null || json.isBlank()) {
+			return List.of();
+		}
+		Set<String> tags = new LinkedHashSet<>();
+		try {
+			collectTags(objectMapper.readTree(json), tags);
+		} catch (Exception e) {
+			log.warn("운동 금기사항 JSON 파싱 실패 - exerciseId: {}", exercise.getExerciseId());
+		}
+		return List.copyOf(tags);
+	}
+
+	private static void collectTags(JsonNode node, Set<String> tags) {
+		if (node.isTextual()) {
+			String tag = normalizeTag(node.asText());
+			if (!tag.isEmpty()) {
+				tags.add(tag);
+			}
+		} else if (node.isArray()) {
+			node.forEach(child -> collectTags(child, tags));
+		} else if (node.isObject()) {
+			node.fields().forEachRemaining(field -> {
+				String tag = normalizeTag(field.getKey());
+				if (!tag.isEmpty()) {
+					tags.add(tag);
+				}
+				collectTags(field.getValue(), tags);
+			});
+		}
+	}
+
+	private static List<String> grams(String text) {
+		if (text.length() <= 1) {
+			return text.isEmpty() ? List.of() : List.of(text);
+		}
+		List<String> grams = new ArrayList<>(text.length() - 1);
+		for (int i = 0; i + 1 < text.length(); i++) {
+			grams.add(text.substring(i, i + 2));
+		}
+		return grams;
+	}
+
+	private static boolean isEmpty(Collection<?> values) {
+		return values == null || values.isEmpty();
+	}
+
+	private static String normalizeCode(String value) {
+		return value.trim().toUpperCase(Locale.ROOT);
+	}
+
+	private static String normalizeTag(String value) {
+		return normalizeText(value);
+	}
+
+	// NFKC + 소문자 + 연속 공백 하나로
+	private static String normalizeText(String value) {
+		if (value == null) {
+			return "";
+		}
+		return Normalizer.normalize(value, Normalizer.Form.NFKC)
+			.toLowerCase(Locale.ROOT)
+			.trim()
+			.replaceAll("\\s+", " ");
+	}
+}
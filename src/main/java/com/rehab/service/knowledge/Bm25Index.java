@@ -0,0 +1,306 @@
+package com.rehab.service.knowledge;
+
+import com.rehab.domain.entity.enums.EvidenceLevel;
+import com.rehab.domain.entity.enums.MedicalKnowledgeCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 + BM25 점수
+ * - 문서는 슬롯 번호로 배열에 저장, 용어별 posting 은 (슬롯, 빈도) 배열
+ * - 수정 = 기존 슬롯 삭제 표시 + 끝에 새 슬롯 추가, 삭제 표시가 compact-ratio 를 넘으면 compactIfNeeded 로 정리
+ *   (Lucene 처럼 df/N 은 정리 전까지 삭제 표시된 문서도 포함)
+ * - 제목 용어는 TITLE_WEIGHT 배로 셈
+ * 검색은 읽기 락, 갱신은 쓰기 락
+ */
+public class Bm25Index {
+
+	private static final float K1 = 1.2f;
+	private static final float B = 0.75f;
+	private static final int TITLE_WEIGHT = 2;
+	private static final double COMPACT_RATIO = 0.2;
+
+	private static final MedicalKnowledgeCategory[] CATEGORIES = MedicalKnowledgeCategory.values();
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, Postings> postings = new HashMap<>();
+	private final Map<Long, Integer> slotById = new HashMap<>();
+
+	// 슬롯별 문서 정보 (삭제 표시 포함)
+	private long[] knowledgeIds = new long[1024];
+	private int[] lengths = new int[1024];
+	private byte[] categories = new byte[1024];
+	private byte[] evidenceLevels = new byte[1024];  // -1 = 근거 수준 없음
+	private final BitSet deleted = new BitSet();
+	private int slots;
+	private long totalLength;
+
+	public record Hit(long knowledgeId, float score) {
+	}
+
+	public void upsert(
+		long knowledgeId,
+		String title,
+		String content,
+		MedicalKnowledgeCategory category,
+		EvidenceLevel evidenceLevel
+	) {
+		// 토큰화는 락 밖에서
+		Map<String, Integer> termFrequencies = new HashMap<>();
+		for (String token : KnowledgeTokenizer.tokenize(title)) {
+			termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+		}
+		for (String token : KnowledgeTokenizer.tokenize(content)) {
+			termFrequencies.merge(token, 1, Integer::sum);
+		}
+		int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+		lock.writeLock().lock();
+		try {
+			removeInternal(knowledgeId);
+			ensureCapacity(slots + 1);
+
+			int slot = slots++;
+			knowledgeIds[slot] = knowledgeId;
+			lengths[slot] = length;
+			categories[slot] = (byte) (category != null ? category.ordinal() : -1);
+			evidenceLevels[slot] = (byte) (evidenceLevel != null ? evidenceLevel.ordinal() : -1);
+			totalLength += length;
+			slotById.put(knowledgeId, slot);
+
+			termFrequencies.forEach((term, frequency) ->
+				postings.computeIfAbsent(term, t -> new Postings()).add(slot, frequency));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(long knowledgeId) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(knowledgeId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * ids 에 없는 문서 삭제
+	 *
+	 * @return 삭제한 문서 수
+	 */
+	public int retainOnly(Set<Long> knowledgeIdsToKeep) {
+		lock.writeLock().lock();
+		try {
+			List<Long> removed = slotById.keySet().stream()
+				.filter(id -> !knowledgeIdsToKeep.contains(id))
+				.toList();
+			removed.forEach(this::removeInternal);
+			return removed.size();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return slotById.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * BM25 상위 topK
+	 *
+	 * @param categoryFilter    null 또는 비어 있으면 전체
+	 * @param minEvidenceLevel  null 이면 전체, 아니면 이 수준 이상(A 가 가장 높음)만
+	 */
+	public List<Hit> search(
+		String query,
+		Set<MedicalKnowledgeCategory> categoryFilter,
+		EvidenceLevel minEvidenceLevel,
+		int topK
+	) {
+		Set<String> terms = new LinkedHashSet<>(KnowledgeTokenizer.tokenize(query));
+		if (terms.isEmpty() || topK <= 0) {
+			return List.of();
+		}
+		boolean[] allowedCategories = allowedCategories(categoryFilter);
+		int maxEvidence = minEvidenceLevel != null ? minEvidenceLevel.ordinal() : Integer.MAX_VALUE;
+
+		lock.readLock().lock();
+		try {
+			if (slots == 0) {
+				return List.of();
+			}
+
+			float[] scores = new float[slots];
+			float averageLength = (float) totalLength / slots;
+			for (String term : terms) {
+				Postings posting = postings.get(term);
+				if (posting == null) {
+					continue;
+				}
+				double idf = Math.log(1 + (slots - posting.size + 0.5) / (posting.size + 0.5));
+				for (int i = 0; i < posting.size; i++) {
+					int slot = posting.slots[i];
+					int frequency = posting.frequencies[i];
+					float norm = K1 * (1 - B + B * lengths[slot] / averageLength);
+					scores[slot] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+				}
+			}
+
+			PriorityQueue<Hit> heap = new PriorityQueue<>(topK, Comparator.comparingDouble(Hit::score));
+			for (int slot = 0; slot < slots; slot++) {
+				float score = scores[slot];
+				if (score <= 0 || deleted.get(slot)) {
+					continue;
+				}
+				if (allowedCategories != null
+					&& (categories[slot] < 0 || !allowedCategories[categories[slot]])) {
+					continue;
+				}
+				if (evidenceLevels[slot] > maxEvidence
+					|| (minEvidenceLevel != null && evidenceLevels[slot] < 0)) {
+					continue;
+				}
+				if (heap.size() < topK) {
+					heap.add(new Hit(knowledgeIds[slot], score));
+				} else if (score > heap.peek().score()) {
+					heap.poll();
+					heap.add(new Hit(knowledgeIds[slot], score));
+				}
+			}
+
+			List<Hit> hits = new ArrayList<>(heap);
+			hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+			return hits;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 삭제 표시된 슬롯이 많으면 슬롯 번호를 다시 매겨 posting 에서 제거
+	 */
+	public void compactIfNeeded() {
+		lock.writeLock().lock();
+		try {
+			int deletedCount = deleted.cardinality();
+			if (deletedCount == 0 || deletedCount < slots * COMPACT_RATIO) {
+				return;
+			}
+
+			int[] remap = new int[slots];
+			int next = 0;
+			long newTotalLength = 0;
+			for (int slot = 0; slot < slots; slot++) {
+				if (deleted.get(slot)) {
+					remap[slot] = -1;
+					continue;
+				}
+				remap[slot] = next;
+				knowledgeIds[next] = knowledgeIds[slot];
+				lengths[next] = lengths[slot];
+				categories[next] = categories[slot];
+				evidenceLevels[next] = evidenceLevels[slot];
+				slotById.put(knowledgeIds[next], next);
+				newTotalLength += lengths[next];
+				next++;
+			}
+
+			Iterator<Postings> iterator = postings.values().iterator();
+			while (iterator.hasNext()) {
+				Postings posting = iterator.next();
+				posting.remap(remap);
+				if (posting.size == 0) {
+					iterator.remove();
+				}
+			}
+
+			slots = next;
+			totalLength = newTotalLength;
+			deleted.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// === Private Helper Methods ===
+
+	private void removeInternal(long knowledgeId) {
+		Integer slot = slotById.remove(knowledgeId);
+		if (slot != null) {
+			deleted.set(slot);
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= knowledgeIds.length) {
+			return;
+		}
+		int newCapacity = Math.max(capacity, knowledgeIds.length * 2);
+		knowledgeIds = Arrays.copyOf(knowledgeIds, newCapacity);
+		lengths = Arrays.copyOf(lengths, newCapacity);
+		categories = Arrays.copyOf(categories, newCapacity);
+		evidenceLevels = Arrays.copyOf(evidenceLevels, newCapacity);
+	}
+
+	private boolean[] allowedCategories(Set<MedicalKnowledgeCategory> categoryFilter) {
+		if (categoryFilter == null || categoryFilter.isEmpty()) {
+			return null;
+		}
+		boolean[] allowed = new boolean[CATEGORIES.length];
+		for (MedicalKnowledgeCategory category : categoryFilter) {
+			allowed[category.ordinal()] = true;
+		}
+		return allowed;
+	}
+
+	/**
+	 * 용어 하나의 posting (슬롯 오름차순)
+	 */
+	private static class Postings {
+
+		private int[] slots = new int[4];
+		private int[] frequencies = new int[4];
+		private int size;
+
+		void add(int slot, int frequency) {
+			if (size == slots.length) {
+				slots = Arrays.copyOf(slots, size * 2);
+				frequencies = Arrays.copyOf(frequencies, size * 2);
+			}
+			slots[size] = slot;
+			frequencies[size] = frequency;
+			size++;
+		}
+
+		void remap(int[] remap) {
+			int write = 0;
+			for (int read = 0; read < size; read++) {
+				int slot = remap[slots[read]];
+				if (slot >= 0) {
+					slots[write] = slot;
+					frequencies[write] = frequencies[read];
+					write++;
+				}
+			}
+			size = write;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.rehab.service.knowledge;
+
+import com.rehab.domain.entity.MedicalKnowledge;
+import com.rehab.domain.entity.enums.EvidenceLevel;
+import com.rehab.domain.entity.enums.MedicalKnowledgeCategory;
+import com.rehab.domain.repository.knowledge.MedicalKnowledgeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 의학 지식 검색 (프로세스 내 BM25 인덱스, 외부 검색 서버 없음)
+ * - 첫 동기화 때 medical_knowledge 전체를 키셋 페이지로 읽어 인덱스 생성 (생성이 끝나면 교체)
+ * - 이후 sync-interval-ms 마다 updated_at 이후 변경분만 반영
+ * - 삭제는 건수가 다르면 바로, 아니어도 reconcile-interval-ms 마다 전체 ID 와 비교해 정리
+ *   (삭제와 추가가 같은 주기에 있으면 건수만으로는 알 수 없음)
+ * 인덱스가 준비되기 전에는 빈 결과
+ */
+@Slf4j
+@Service
+public class KnowledgeRetrievalService {
+
+	private final MedicalKnowledgeRepository medicalKnowledgeRepository;
+	private final int pageSize;
+	private final long reconcileIntervalMillis;
+
+	private volatile Bm25Index index;
+	private LocalDateTime watermark;
+	private long lastReconciledAt;
+
+	public KnowledgeRetrievalService(
+		MedicalKnowledgeRepository medicalKnowledgeRepository,
+		@Value("${ai.knowledge.load-page-size:1000}") int pageSize,
+		@Value("${ai.knowledge.reconcile-interval-ms:600000}") long reconcileIntervalMillis
+	) {
+		this.medicalKnowledgeRepository = medicalKnowledgeRepository;
+		this.pageSize = pageSize;
+		this.reconcileIntervalMillis = reconcileIntervalMillis;
+	}
+
+	/**
+	 * 쿼리와 가장 관련 있는 의학 지식 ID (점수 내림차순)
+	 */
+	public List<Long> search(
+		String query,
+		Set<MedicalKnowledgeCategory> categories,
+		EvidenceLevel minEvidenceLevel,
+		int topK
+	) {
+		Bm25Index current = index;
+		if (current == null) {
+			return List.of();
+		}
+		return current.search(query, categories, minEvidenceLevel, topK).stream()
+			.map(Bm25Index.Hit::knowledgeId)
+			.toList();
+	}
+
+	@Scheduled(fixedDelayString = "${ai.knowledge.sync-interval-ms:60000}")
+	public void sync() {
+		try {
+			if (index == null) {
+				rebuild();
+			} else {
+				applyChanges();
+			}
+		} catch (Exception e) {
+			log.warn("의학 지식 인덱스 동기화 실패", e);
+		}
+	}
+
+	private void rebuild() {
+		long start = System.currentTimeMillis();
+		Bm25Index newIndex = new Bm25Index();
+		LocalDateTime maxUpdatedAt = null;
+
+		long lastId = 0;
+		while (true) {
+			List<MedicalKnowledge> page = medicalKnowledgeRepository.findByKnowledgeIdGreaterThanOrderByKnowledgeIdAsc(
+				lastId, PageRequest.of(0, pageSize)
+			);
+			for (MedicalKnowledge knowledge : page) {
+				add(newIndex, knowledge);
+				maxUpdatedAt = later(maxUpdatedAt, knowledge.getUpdatedAt());
+			}
+			if (page.size() < pageSize) {
+				break;
+			}
+			lastId = page.get(page.size() - 1).getKnowledgeId();
+		}
+
+		watermark = maxUpdatedAt != null ? maxUpdatedAt : LocalDateTime.now();
+		lastReconciledAt = start;
+		index = newIndex;
+		log.info("의학 지식 인덱스 생성 - {}건, {}ms", newIndex.size(), System.currentTimeMillis() - start);
+	}
+
+	private void applyChanges() {
+		// 같은 시각에 수정된 행을 놓치지 않도록 >= (이미 반영한 행은 다시 덮어씀)
+		List<MedicalKnowledge> changed = medicalKnowledgeRepository.findByUpdatedAtGreaterThanEqual(watermark);
+		for (MedicalKnowledge knowledge : changed) {
+			add(index, knowledge);
+			watermark = later(watermark, knowledge.getUpdatedAt());
+		}
+
+		int removed = 0;
+		long now = System.currentTimeMillis();
+		if (now - lastReconciledAt >= reconcileIntervalMillis
+			|| medicalKnowledgeRepository.count() != index.size()) {
+			removed = index.retainOnly(new HashSet<>(medicalKnowledgeRepository.findAllIds()));
+			lastReconciledAt = now;
+		}
+		index.compactIfNeeded();
+
+		if (removed > 0 || changed.size() > 0) {
+			log.debug("의학 지식 인덱스 갱신 - 변경 {}건, 삭제 {}건", changed.size(), removed);
+		}
+	}
+
+	private void add(Bm25Index target, MedicalKnowledge knowledge) {
+		target.upsert(
+			knowledge.getKnowledgeId(),
+			knowledge.getTitle(),
+			knowledge.getContent(),
+			knowledge.getCategory(),
+			knowledge.getEvidenceLevel()
+		);
+	}
+
+	private LocalDateTime later(LocalDateTime current, LocalDateTime candidate) {
+		if (candidate == null) {
+			return current;
+		}
+		return current == null || candidate.isAfter(current) ? candidate : current;
+	}
+}
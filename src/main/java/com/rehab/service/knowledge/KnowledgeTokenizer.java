@@ -0,0 +1,63 @@
+package com.rehab.service.knowledge;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 의학 지식 검색용 토크나이저
+ * - 한글 음절 구간: 2-gram (한 글자 구간은 그대로) → 형태소 분석기 없이 조사/어미가 붙은 단어도 매칭
+ *   예) "허리통증을" → 허리, 리통, 통증, 증을
+ * - 영문/숫자 구간: 소문자 단어 하나
+ * - 그 외 문자는 구분자
+ */
+public final class KnowledgeTokenizer {
+
+	private KnowledgeTokenizer() {
+	}
+
+	public static List<String> tokenize(String text) {
+		if (text == null || text.isEmpty()) {
+			return List.of();
+		}
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		List<String> tokens = new ArrayList<>();
+
+		int length = normalized.length();
+		int i = 0;
+		while (i < length) {
+			char c = normalized.charAt(i);
+			int start = i;
+			if (isHangulSyllable(c)) {
+				while (i < length && isHangulSyllable(normalized.charAt(i))) {
+					i++;
+				}
+				addBigrams(normalized, start, i, tokens);
+			} else if (Character.isLetterOrDigit(c)) {
+				while (i < length && Character.isLetterOrDigit(normalized.charAt(i))
+					&& !isHangulSyllable(normalized.charAt(i))) {
+					i++;
+				}
+				tokens.add(normalized.substring(start, i));
+			} else {
+				i++;
+			}
+		}
+		return tokens;
+	}
+
+	private static void addBigrams(String text, int start, int end, List<String> tokens) {
+		if (end - start == 1) {
+			tokens.add(text.substring(start, end));
+			return;
+		}
+		for (int i = start; i + 1 < end; i++) {
+			tokens.add(text.substring(i, i + 2));
+		}
+	}
+
+	private static boolean isHangulSyllable(char c) {
+		return c >= '가' && c <= '힣';
+	}
+}
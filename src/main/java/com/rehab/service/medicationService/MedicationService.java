@@ -4,6 +4,7 @@ import com.rehab.domain.entity.User;
 import com.rehab.dto.medication.MedicationDto;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MedicationService {
@@ -20,4 +21,7 @@ public interface MedicationService {
 
 	MedicationDto.DailyScheduleResponse getSchedulesForDate(User user, LocalDate date);
 
+	MedicationDto.LogPageResponse getMedicationLogs(User user, Long medicationId,
+		LocalDateTime cursorTakenAt, Long cursorId, Integer size);
+
 }
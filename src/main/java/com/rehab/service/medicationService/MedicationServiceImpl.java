@@ -7,17 +7,23 @@ import com.rehab.domain.entity.Medication;
 import com.rehab.domain.entity.MedicationLog;
 import com.rehab.domain.entity.User;
 import com.rehab.domain.entity.enums.MedicationStatus;
+import com.rehab.domain.entity.enums.TimeOfDay;
 import com.rehab.domain.repository.medication.MediScheduleRepository;
+import com.rehab.domain.repository.medication.MedicationAdherenceRow;
 import com.rehab.domain.repository.medication.MedicationLogRepository;
 import com.rehab.domain.repository.medication.MedicationRepository;
 import com.rehab.dto.medication.MedicationDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -25,6 +31,10 @@ import java.util.List;
 @Transactional
 public class MedicationServiceImpl implements MedicationService {
 
+	// 복약 기록 한 페이지 기본 / 최대 크기
+	private static final int DEFAULT_LOG_PAGE_SIZE = 20;
+	private static final int MAX_LOG_PAGE_SIZE = 100;
+
 	private final MedicationRepository medicationRepository;
 	private final MediScheduleRepository scheduleRepository;
 	private final MedicationLogRepository logRepository;
@@ -44,7 +54,7 @@ public class MedicationServiceImpl implements MedicationService {
 
 		medicationRepository.save(medication);
 
-		return toResponse(medication);
+		return toResponse(medication, List.of(), null);
 	}
 	@Override
 	public MedicationDto.Response updateMedication(User user, Long medicationId, MedicationDto.UpdateRequest request) {
@@ -68,15 +78,41 @@ public class MedicationServiceImpl implements MedicationService {
 
 		medicationRepository.save(medication);
 
-		return toResponse(medication);
+		MedicationAdherenceRow adherence = logRepository.findAdherenceByMedicationIds(List.of(medicationId))
+			.stream()
+			.findFirst()
+			.orElse(null);
+		return toResponse(medication, medication.getMediSchedules(), adherence);
 	}
 
 
+	/**
+	 * 내 복약 목록 (스케줄 + 복약 기록 요약)
+	 * 약 / 스케줄 / 기록 집계를 각각 한 번씩 조회하므로 기록이 쌓여도 응답 크기가 일정
+	 */
 	@Override
+	@Transactional(readOnly = true)
 	public List<MedicationDto.Response> getMyMedications(User user) {
-		return medicationRepository.findByUser(user)
+		List<Medication> medications = medicationRepository.findByUser(user);
+		if (medications.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, List<MediSchedule>> schedulesByMedication = scheduleRepository
+			.findByUserIdWithMedication(user.getUserId())
 			.stream()
-			.map(this::toResponse)
+			.collect(Collectors.groupingBy(schedule -> schedule.getMedication().getMedicationId()));
+
+		Map<Long, MedicationAdherenceRow> adherenceByMedication = logRepository
+			.findAdherenceByMedicationIds(medications.stream().map(Medication::getMedicationId).toList())
+			.stream()
+			.collect(Collectors.toMap(MedicationAdherenceRow::medicationId, row -> row));
+
+		return medications.stream()
+			.map(med -> toResponse(
+				med,
+				schedulesByMedication.getOrDefault(med.getMedicationId(), List.of()),
+				adherenceByMedication.get(med.getMedicationId())))
 			.toList();
 	}
 
@@ -107,37 +143,38 @@ public class MedicationServiceImpl implements MedicationService {
 	@Transactional(readOnly = true)
 	public MedicationDto.DailyScheduleResponse getSchedulesForDate(User user, LocalDate date) {
 
-		List<Medication> medications = medicationRepository.findByUser(user);
+		// 스케줄(+약) 한 번, 그 날짜의 기록만 한 번 조회 (전체 복약 이력을 읽지 않음)
+		List<MediSchedule> mediSchedules = scheduleRepository.findByUserIdWithMedication(user.getUserId());
+		List<MedicationLog> logs = logRepository.findByUserIdAndTakenAtRange(
+			user.getUserId(), date.atStartOfDay(), date.plusDays(1).atStartOfDay());
 
-		List<MedicationDto.ScheduleWithStatus> schedules = new ArrayList<>();
-
-		for (Medication med : medications) {
-			for (MediSchedule schedule : med.getMediSchedules()) {
-
-				// 해당 날짜 + timeOfDay 기준으로 log 하나 찾기
-				MedicationLog matchedLog = med.getMedicationLogs().stream()
-					.filter(log -> log.getTimeOfDay() == schedule.getTimeOfDay()
-						&& log.getTakenAt() != null
-						&& log.getTakenAt().toLocalDate().equals(date))
-					.findFirst()
-					.orElse(null);
-
-				schedules.add(
-					MedicationDto.ScheduleWithStatus.builder()
-						.scheduleId(schedule.getMediScheduleId())
-						.medicationId(med.getMedicationId())
-						.medicationName(med.getName())
-						.dose(med.getDose())
-						.timeOfDay(schedule.getTimeOfDay())
-						.notify(schedule.getNotify())
-						.rrule(schedule.getRrule())
-						.taken(matchedLog != null && Boolean.TRUE.equals(matchedLog.getTaken()))
-						.takenAt(matchedLog != null ? matchedLog.getTakenAt() : null)
-						.build()
-				);
-			}
+		// (약, timeOfDay) 별 그날 첫 기록
+		Map<ScheduleKey, MedicationLog> logsBySchedule = new HashMap<>(logs.size() * 2);
+		for (MedicationLog log : logs) {
+			logsBySchedule.putIfAbsent(
+				new ScheduleKey(log.getMedication().getMedicationId(), log.getTimeOfDay()), log);
 		}
 
+		List<MedicationDto.ScheduleWithStatus> schedules = mediSchedules.stream()
+			.map(schedule -> {
+				Medication med = schedule.getMedication();
+				MedicationLog matchedLog = logsBySchedule.get(
+					new ScheduleKey(med.getMedicationId(), schedule.getTimeOfDay()));
+
+				return MedicationDto.ScheduleWithStatus.builder()
+					.scheduleId(schedule.getMediScheduleId())
+					.medicationId(med.getMedicationId())
+					.medicationName(med.getName())
+					.dose(med.getDose())
+					.timeOfDay(schedule.getTimeOfDay())
+					.notify(schedule.getNotify())
+					.rrule(schedule.getRrule())
+					.taken(matchedLog != null && Boolean.TRUE.equals(matchedLog.getTaken()))
+					.takenAt(matchedLog != null ? matchedLog.getTakenAt() : null)
+					.build();
+			})
+			.toList();
+
 		return MedicationDto.DailyScheduleResponse.builder()
 			.date(date)
 			.schedules(schedules)
@@ -163,16 +200,60 @@ public class MedicationServiceImpl implements MedicationService {
 
 		logRepository.save(log);
 
-		return MedicationDto.MedicationLogResponse.builder()
-			.logId(log.getMedicationLogId())
-			.timeOfDay(log.getTimeOfDay())
-			.taken(log.getTaken())
-			.notes(log.getNotes())
-			.takenAt(log.getTakenAt())
+		return toLogResponse(log);
+	}
+
+	/**
+	 * 약별 복약 기록 조회 (최신순, (takenAt, medicationLogId) 커서로 keyset 페이지네이션)
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public MedicationDto.LogPageResponse getMedicationLogs(User user, Long medicationId,
+		LocalDateTime cursorTakenAt, Long cursorId, Integer size) {
+
+		// 커서는 둘 다 있거나 둘 다 없어야 함 (하나만 오면 첫 페이지를 반복해 돌려주게 됨)
+		if ((cursorTakenAt == null) != (cursorId == null)) {
+			throw new UserHandler(ErrorStatus.INVALID_CURSOR);
+		}
+
+		Medication medication = medicationRepository.findById(medicationId)
+			.orElseThrow(() -> new UserHandler(ErrorStatus.MEDICATION_NOT_FOUND));
+
+		// 본인 약인지 체크
+		if (!medication.getUser().getUserId().equals(user.getUserId())) {
+			throw new UserHandler(ErrorStatus._UNAUTHORIZED);
+		}
+
+		// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+		int pageSize = size == null ? DEFAULT_LOG_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_LOG_PAGE_SIZE);
+		Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+		List<MedicationLog> logs;
+		if (cursorTakenAt != null) {
+			logs = logRepository.findHistoryBefore(medicationId, cursorTakenAt, cursorId, pageable);
+		} else {
+			logs = logRepository.findHistory(medicationId, pageable);
+		}
+
+		boolean hasNext = logs.size() > pageSize;
+		if (hasNext) {
+			logs = logs.subList(0, pageSize);
+		}
+		MedicationLog last = hasNext ? logs.get(logs.size() - 1) : null;
+
+		return MedicationDto.LogPageResponse.builder()
+			.logs(logs.stream().map(this::toLogResponse).toList())
+			.hasNext(hasNext)
+			.nextCursorTakenAt(last != null ? last.getTakenAt() : null)
+			.nextCursorId(last != null ? last.getMedicationLogId() : null)
 			.build();
 	}
 
-	private MedicationDto.Response toResponse(Medication med) {
+	private record ScheduleKey(Long medicationId, TimeOfDay timeOfDay) {
+	}
+
+	private MedicationDto.Response toResponse(Medication med, List<MediSchedule> schedules,
+		MedicationAdherenceRow adherence) {
 		return MedicationDto.Response.builder()
 			.medicationId(med.getMedicationId())
 			.name(med.getName())
@@ -182,7 +263,7 @@ public class MedicationServiceImpl implements MedicationService {
 			.description(med.getDescription())
 			.status(med.getStatus())
 			.schedules(
-				med.getMediSchedules().stream()
+				schedules.stream()
 					.map(s -> MedicationDto.ScheduleResponse.builder()
 						.scheduleId(s.getMediScheduleId())
 						.timeOfDay(s.getTimeOfDay())
@@ -191,17 +272,21 @@ public class MedicationServiceImpl implements MedicationService {
 						.build())
 					.toList()
 			)
-			.logs(
-				med.getMedicationLogs().stream()
-					.map(l -> MedicationDto.MedicationLogResponse.builder()
-						.logId(l.getMedicationLogId())
-						.timeOfDay(l.getTimeOfDay())
-						.taken(l.getTaken())
-						.notes(l.getNotes())
-						.takenAt(l.getTakenAt())
-						.build())
-					.toList()
-			)
+			.adherence(MedicationDto.AdherenceSummary.builder()
+				.totalCount(adherence != null ? adherence.totalCount() : 0L)
+				.takenCount(adherence != null ? adherence.takenCount() : 0L)
+				.lastLoggedAt(adherence != null ? adherence.lastLoggedAt() : null)
+				.build())
+			.build();
+	}
+
+	private MedicationDto.MedicationLogResponse toLogResponse(MedicationLog log) {
+		return MedicationDto.MedicationLogResponse.builder()
+			.logId(log.getMedicationLogId())
+			.timeOfDay(log.getTimeOfDay())
+			.taken(log.getTaken())
+			.notes(log.getNotes())
+			.takenAt(log.getTakenAt())
 			.build();
 	}
 }
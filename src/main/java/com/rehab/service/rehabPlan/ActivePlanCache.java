@@ -0,0 +1,166 @@
+package com.rehab.service.rehabPlan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rehab.domain.entity.RehabPlan;
+import com.rehab.domain.entity.enums.RehabPlanStatus;
+import com.rehab.domain.repository.diet.DietPlanItemRepository;
+import com.rehab.domain.repository.medication.MedicationPlanItemRepository;
+import com.rehab.domain.repository.plan.PlanItemRepository;
+import com.rehab.domain.repository.rehab.RehabPlanRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 사용자별 활성 플랜 캐시
+ * - 활성 플랜 ID 와 운동/복약/식단 항목 수를 조회 시점에 채움 (lazy)
+ * - 플랜 생성/상태 변경 커밋 후 해당 사용자만 무효화하고
+ *   Redis pub/sub 으로 다른 노드에도 전파
+ * - 활성 플랜이 없는 사용자도 Optional.empty() 로 캐시
+ * - 조회는 별도 읽기 트랜잭션에서 (호출 측 트랜잭션의 오래된 스냅샷 / 커밋 전 변경을 캐시하지 않음)
+ *   조회 중 무효화가 일어났으면 결과는 반환만 하고 캐시에 넣지 않음
+ */
+@Slf4j
+@Component
+public class ActivePlanCache implements MessageListener {
+
+	private static final String INVALIDATION_CHANNEL = "active-plan:invalidate";
+
+	// 자기 노드가 보낸 무효화 메시지 구분용
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final RehabPlanRepository rehabPlanRepository;
+	private final PlanItemRepository planItemRepository;
+	private final MedicationPlanItemRepository medicationPlanItemRepository;
+	private final DietPlanItemRepository dietPlanItemRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final TransactionTemplate loadTransaction;
+	private final Cache<Long, Optional<ActivePlanSnapshot>> cache;
+	// 사용자별 세대 토큰 (무효화 시 제거되므로 조회 전에 받은 토큰과 다르면 그 사이 무효화된 것)
+	private final Cache<Long, Object> generations;
+
+	public ActivePlanCache(
+		RehabPlanRepository rehabPlanRepository,
+		PlanItemRepository planItemRepository,
+		MedicationPlanItemRepository medicationPlanItemRepository,
+		DietPlanItemRepository dietPlanItemRepository,
+		StringRedisTemplate redisTemplate,
+		PlatformTransactionManager transactionManager,
+		RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry,
+		@Value("${active-plan.cache.max-size:10000}") long maxSize,
+		@Value("${active-plan.cache.ttl-minutes:10}") long ttlMinutes
+	) {
+		this.rehabPlanRepository = rehabPlanRepository;
+		this.planItemRepository = planItemRepository;
+		this.medicationPlanItemRepository = medicationPlanItemRepository;
+		this.dietPlanItemRepository = dietPlanItemRepository;
+		this.redisTemplate = redisTemplate;
+
+		this.loadTransaction = new TransactionTemplate(transactionManager);
+		this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.loadTransaction.setReadOnly(true);
+
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+			.recordStats()
+			.build();
+		this.generations = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "active_plan");
+
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	/**
+	 * 사용자의 활성 플랜 조회 (캐시 미스 시 DB 조회 후 저장)
+	 */
+	public Optional<ActivePlanSnapshot> get(Long userId) {
+		Optional<ActivePlanSnapshot> cached = cache.getIfPresent(userId);
+		if (cached != null) {
+			return cached;
+		}
+
+		Object token = generations.get(userId, id -> new Object());
+		Optional<ActivePlanSnapshot> loaded = loadTransaction.execute(status -> load(userId));
+
+		// 조회 중 무효화되지 않았을 때만 저장 (무효화와 같은 키 잠금으로 직렬화)
+		cache.asMap().compute(userId, (id, existing) ->
+			generations.getIfPresent(id) == token ? loaded : existing);
+		return loaded;
+	}
+
+	/**
+	 * 플랜 변경 커밋 후 무효화
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onActivePlanChanged(ActivePlanChangedEvent event) {
+		evict(event.userId());
+	}
+
+	public void evict(Long userId) {
+		invalidateLocal(userId);
+
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + userId);
+		} catch (Exception e) {
+			// 다른 노드는 TTL 로 만료됨
+			log.warn("활성 플랜 캐시 무효화 전파 실패 - userId: {}", userId, e);
+		}
+	}
+
+	/**
+	 * 다른 노드의 무효화 메시지 수신
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+		if (parts.length != 2 || nodeId.equals(parts[0])) {
+			return;
+		}
+
+		try {
+			invalidateLocal(Long.valueOf(parts[1]));
+		} catch (NumberFormatException e) {
+			log.warn("활성 플랜 캐시 무효화 메시지 파싱 실패: {}", message, e);
+		}
+	}
+
+	private void invalidateLocal(Long userId) {
+		generations.invalidate(userId);
+		cache.invalidate(userId);
+	}
+
+	private Optional<ActivePlanSnapshot> load(Long userId) {
+		log.debug("활성 플랜 캐시 미스 - userId: {}", userId);
+
+		return rehabPlanRepository
+			.findFirstByUser_UserIdAndStatusOrderByCreatedAtDesc(userId, RehabPlanStatus.ACTIVE)
+			.map(RehabPlan::getRehabPlanId)
+			.map(rehabPlanId -> new ActivePlanSnapshot(
+				rehabPlanId,
+				(int) planItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId),
+				(int) medicationPlanItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId),
+				(int) dietPlanItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId)
+			));
+	}
+}
@@ -0,0 +1,8 @@
+package com.rehab.service.rehabPlan;
+
+/**
+ * 활성 플랜 변경 이벤트 (플랜 생성, 상태 변경, 항목 추가/삭제)
+ * 커밋 후 ActivePlanCache 에서 해당 사용자 항목을 무효화
+ */
+public record ActivePlanChangedEvent(Long userId) {
+}
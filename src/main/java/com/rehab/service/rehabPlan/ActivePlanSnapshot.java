@@ -0,0 +1,21 @@
+package com.rehab.service.rehabPlan;
+
+import com.rehab.domain.repository.dailySummary.DailyCompletionAggregate;
+
+/**
+ * 사용자의 현재 활성 플랜 포인터 (플랜 ID + 운동/복약/식단 항목 수)
+ */
+public record ActivePlanSnapshot(
+	Long rehabPlanId,
+	int totalExercises,
+	int totalMedications,
+	int totalDiets
+) {
+
+	/**
+	 * 로그 집계에 활성 플랜 항목 수를 채움
+	 */
+	public DailyCompletionAggregate applyTo(DailyCompletionAggregate logTotals) {
+		return logTotals.withActivePlan(rehabPlanId, totalExercises, totalMedications, totalDiets);
+	}
+}
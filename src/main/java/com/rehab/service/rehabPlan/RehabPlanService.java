@@ -1,14 +1,12 @@
 package com.rehab.service.rehabPlan;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rehab.apiPayload.code.status.ErrorStatus;
 import com.rehab.apiPayload.exception.GeneralException;
 import com.rehab.apiPayload.exception.RehabPlanException;
 import com.rehab.apiPayload.exception.handler.ExerciseHandler;
 import com.rehab.apiPayload.exception.handler.RehabPlanHandler;
 import com.rehab.apiPayload.exception.handler.UserHandler;
+import com.rehab.common.util.RawJson;
 import com.rehab.domain.entity.*;
 import com.rehab.domain.entity.enums.MealTime;
 import com.rehab.domain.entity.enums.PlanPhase;
@@ -20,19 +18,29 @@ import com.rehab.domain.repository.exercise.ExerciseRepository;
 import com.rehab.domain.repository.medication.MedicationPlanItemRepository;
 import com.rehab.domain.repository.medication.MedicationRepository;
 import com.rehab.domain.repository.plan.PlanItemRepository;
+import com.rehab.domain.repository.rehab.RehabPlanItemBatchRepository;
 import com.rehab.domain.repository.rehab.RehabPlanRepository;
+import com.rehab.domain.repository.rehab.RehabPlanSummaryRow;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.plan.*;
+import com.rehab.service.dailySummary.DailySummaryDirtyEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 재활 플랜 서비스
@@ -43,17 +51,21 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RehabPlanService {
 
+	// 플랜 목록 한 페이지 최대 크기
+	private static final int MAX_PLAN_PAGE_SIZE = 100;
+
 	private final RehabPlanRepository rehabPlanRepository;
 	private final PlanItemRepository planItemRepository;
 	private final MedicationPlanItemRepository medicationPlanItemRepository;
 	private final DietPlanItemRepository dietPlanItemRepository;
 	private final ExerciseLogRepository exerciseLogRepository;
 	private final UserRepository userRepository;
-	private final ObjectMapper objectMapper;
 	private final ExerciseRepository exerciseRepository;
 	private final MedicationRepository  medicationRepository;
 	private final DietRepository  dietRepository;
-
+	private final RehabPlanItemBatchRepository rehabPlanItemBatchRepository;
+	private final ActivePlanCache activePlanCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 현재 활성 플랜 조회
@@ -61,8 +73,11 @@ public class RehabPlanService {
 	public RehabPlanResponse getCurrentPlan(Long userId) {
 		log.info("현재 활성 플랜 조회 - userId: {}", userId);
 
-		RehabPlan rehabPlan = rehabPlanRepository
-			.findFirstByUser_UserIdAndStatusOrderByCreatedAtDesc(userId, RehabPlanStatus.ACTIVE)
+		// 활성 플랜 ID 는 캐시에서 조회 후 PK 로 로딩 (플랜 목록 정렬 없음)
+		ActivePlanSnapshot activePlan = activePlanCache.get(userId)
+			.orElseThrow(() -> new RehabPlanException(ErrorStatus.NO_ACTIVE_PLAN));
+
+		RehabPlan rehabPlan = rehabPlanRepository.findById(activePlan.rehabPlanId())
 			.orElseThrow(() -> new RehabPlanException(ErrorStatus.NO_ACTIVE_PLAN));
 
 		return convertToRehabPlanResponse(rehabPlan);
@@ -192,53 +207,74 @@ public class RehabPlanService {
 
 	/**
 	 * 모든 플랜 조회
+	 * 항목 수는 목록 쿼리의 서브쿼리로 함께 조회하고, (createdAt, rehabPlanId) 커서로 keyset 페이지네이션
+	 * size 가 없으면 전체 조회
 	 */
 	@Transactional(readOnly = true)
-	public RehabPlanListResponse getAllPlans(Long userId, String status) {
-		log.info("모든 플랜 조회 시작 - userId: {}, status: {}", userId, status);
+	public RehabPlanListResponse getAllPlans(Long userId, String status,
+		LocalDateTime cursorCreatedAt, Long cursorId, Integer size) {
+		log.info("모든 플랜 조회 시작 - userId: {}, status: {}, cursor: {}/{}, size: {}",
+			userId, status, cursorCreatedAt, cursorId, size);
+
+		// 커서는 둘 다 있거나 둘 다 없어야 함 (하나만 오면 첫 페이지를 반복해 돌려주게 됨)
+		if ((cursorCreatedAt == null) != (cursorId == null)) {
+			throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+		}
 
 		// 사용자 존재 확인
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+		if (!userRepository.existsById(userId)) {
+			throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
+		}
 
-		// 플랜 조회 (상태 필터링)
-		List<RehabPlan> plans;
+		// 상태 필터 (String을 Enum으로 변환)
+		RehabPlanStatus statusEnum = null;
 		if (status != null && !status.isEmpty()) {
 			try {
-				// String을 Enum으로 변환
-				RehabPlanStatus statusEnum = RehabPlanStatus.valueOf(status.toUpperCase());
-				plans = rehabPlanRepository.findByUserAndStatusOrderByCreatedAtDesc(user, statusEnum);
+				statusEnum = RehabPlanStatus.valueOf(status.toUpperCase());
 			} catch (IllegalArgumentException e) {
 				log.error("유효하지 않은 status 값: {}", status, e);
 				throw new GeneralException(ErrorStatus.INVALID_STATUS);
 			}
+		}
+
+		// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+		Pageable pageable = size == null
+			? Pageable.unpaged()
+			: PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PLAN_PAGE_SIZE) + 1);
+
+		List<RehabPlanSummaryRow> rows;
+		if (cursorCreatedAt != null && cursorId != null) {
+			rows = rehabPlanRepository.findPlanSummariesBefore(userId, statusEnum, cursorCreatedAt, cursorId, pageable);
 		} else {
-			plans = rehabPlanRepository.findByUserOrderByCreatedAtDesc(user);
+			rows = rehabPlanRepository.findPlanSummaries(userId, statusEnum, pageable);
+		}
+
+		boolean hasNext = pageable.isPaged() && rows.size() >= pageable.getPageSize();
+		if (hasNext) {
+			rows = rows.subList(0, pageable.getPageSize() - 1);
 		}
 
 		// DTO 변환
-		List<RehabPlanListResponse.RehabPlanSummary> planSummaries = plans.stream()
-			.map(plan -> {
-				int exerciseCount = planItemRepository.countByRehabPlan(plan);
-				int medicationCount = medicationPlanItemRepository.countByRehabPlan(plan);
-				int dietCount = dietPlanItemRepository.countByRehabPlan(plan);
-				int totalItems = exerciseCount + medicationCount + dietCount;
-
-				return RehabPlanListResponse.RehabPlanSummary.builder()
-					.rehabPlanId(plan.getRehabPlanId())
-					.userId(plan.getUser().getUserId())
-					.title(plan.getTitle())
-					.status(plan.getStatus())
-					.totalItems(totalItems)
-					.createdAt(plan.getCreatedAt().toString())
-					.updatedAt(plan.getUpdatedAt().toString())
-					.build();
-			})
+		List<RehabPlanListResponse.RehabPlanSummary> planSummaries = rows.stream()
+			.map(row -> RehabPlanListResponse.RehabPlanSummary.builder()
+				.rehabPlanId(row.rehabPlanId())
+				.userId(row.userId())
+				.title(row.title())
+				.status(row.status())
+				.totalItems(row.totalItems())
+				.createdAt(row.createdAt().toString())
+				.updatedAt(row.updatedAt().toString())
+				.build())
 			.toList();
 
+		RehabPlanSummaryRow last = hasNext ? rows.get(rows.size() - 1) : null;
+
 		return RehabPlanListResponse.builder()
 			.plans(planSummaries)
 			.totalCount(planSummaries.size())
+			.hasNext(hasNext)
+			.nextCursorCreatedAt(last != null ? last.createdAt() : null)
+			.nextCursorId(last != null ? last.rehabPlanId() : null)
 			.build();
 	}
 
@@ -262,16 +298,22 @@ public class RehabPlanService {
 	 * PlanItem -> PlanItemResponse 변환
 	 */
 	private PlanItemResponse convertToPlanItemResponse(PlanItem planItem) {
+		return convertToPlanItemResponse(planItem, planItem.getPlanItemId(),
+			planItem.getCreatedAt(), planItem.getUpdatedAt());
+	}
+
+	private PlanItemResponse convertToPlanItemResponse(PlanItem planItem, Long planItemId,
+		LocalDateTime createdAt, LocalDateTime updatedAt) {
 		return PlanItemResponse.builder()
-			.planItemId(planItem.getPlanItemId())
+			.planItemId(planItemId)
 			.exerciseId(planItem.getExercise().getExerciseId())
 			.phase(planItem.getPhase())
 			.orderIndex(planItem.getOrderIndex())
 			.status(planItem.getStatus())
-			.dose(parseJson(planItem.getDose()))
-			.recommendationReason(parseJson(planItem.getRecommendationReason()))
-			.createdAt(planItem.getCreatedAt())
-			.updatedAt(planItem.getUpdatedAt())
+			.dose(RawJson.of(planItem.getDose()))
+			.recommendationReason(RawJson.of(planItem.getRecommendationReason()))
+			.createdAt(createdAt)
+			.updatedAt(updatedAt)
 			.build();
 	}
 
@@ -279,10 +321,16 @@ public class RehabPlanService {
 	 * MedicationPlanItem -> MedicationPlanItemResponse 변환
 	 */
 	private MedicationPlanItemResponse convertToMedicationPlanItemResponse(MedicationPlanItem item) {
+		return convertToMedicationPlanItemResponse(item, item.getMedicationPlanItemId(),
+			item.getCreatedAt(), item.getUpdatedAt());
+	}
+
+	private MedicationPlanItemResponse convertToMedicationPlanItemResponse(MedicationPlanItem item,
+		Long medicationPlanItemId, LocalDateTime createdAt, LocalDateTime updatedAt) {
 		Medication medication = item.getMedication();
 
 		return MedicationPlanItemResponse.builder()
-			.medicationPlanItemId(item.getMedicationPlanItemId())
+			.medicationPlanItemId(medicationPlanItemId)
 			.medicationId(medication.getMedicationId())
 			.medicationName(medication.getName())
 			.dose(medication.getDose())
@@ -290,9 +338,9 @@ public class RehabPlanService {
 			.orderIndex(item.getOrderIndex())
 			.startDate(item.getStartDate())
 			.endDate(item.getEndDate())
-			.recommendationReason(parseJson(item.getRecommendationReason()))
-			.createdAt(item.getCreatedAt())
-			.updatedAt(item.getUpdatedAt())
+			.recommendationReason(RawJson.of(item.getRecommendationReason()))
+			.createdAt(createdAt)
+			.updatedAt(updatedAt)
 			.build();
 	}
 
@@ -300,24 +348,32 @@ public class RehabPlanService {
 	 * DietPlanItem -> DietPlanItemResponse 변환
 	 */
 	private DietPlanItemResponse convertToDietPlanItemResponse(DietPlanItem item) {
+		return convertToDietPlanItemResponse(item, item.getDietPlanItemId(),
+			item.getCreatedAt(), item.getUpdatedAt());
+	}
+
+	private DietPlanItemResponse convertToDietPlanItemResponse(DietPlanItem item,
+		Long dietPlanItemId, LocalDateTime createdAt, LocalDateTime updatedAt) {
 		Diet diet = item.getDiet();
 
 		return DietPlanItemResponse.builder()
-			.dietPlanItemId(item.getDietPlanItemId())
+			.dietPlanItemId(dietPlanItemId)
 			.dietId(diet.getDietId())
 			.dietTitle(diet.getTitle())
 			.mealTime(item.getMealTime())
 			.portion(item.getPortion())
 			.status(item.getStatus())
 			.orderIndex(item.getOrderIndex())
-			.recommendationReason(parseJson(item.getRecommendationReason()))
-			.createdAt(item.getCreatedAt())
-			.updatedAt(item.getUpdatedAt())
+			.recommendationReason(RawJson.of(item.getRecommendationReason()))
+			.createdAt(createdAt)
+			.updatedAt(updatedAt)
 			.build();
 	}
 
 	/**
 	 * 재활 플랜 통합 생성 (운동 + 복약 + 식단)
+	 * - 참조하는 운동/약/식단은 유형별 findAllById 한 번으로 조회하고 없는 ID 가 있으면 저장 전에 실패
+	 * - 항목은 테이블별 다중 행 INSERT 로 저장하고, 응답은 재조회 없이 구성
 	 */
 	@Transactional
 	public RehabPlanDetailResponse createRehabPlanWithItems(Long userId, CreateRehabPlanRequest request) {
@@ -327,7 +383,21 @@ public class RehabPlanService {
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 
-		// 2. RehabPlan 생성
+		// 2. 참조 데이터 일괄 조회 (없는 ID 가 있으면 즉시 실패)
+		Map<Long, Exercise> exercises = findAllByIdOrThrow(
+			request.getExerciseItems(), CreatePlanItemRequest::getExerciseId,
+			exerciseRepository::findAllById, Exercise::getExerciseId,
+			() -> new ExerciseHandler(ErrorStatus.EXERCISE_NOT_FOUND));
+		Map<Long, Medication> medications = findAllByIdOrThrow(
+			request.getMedicationItems(), CreateMedicationPlanItemRequest::getMedicationId,
+			medicationRepository::findAllById, Medication::getMedicationId,
+			() -> new RehabPlanHandler(ErrorStatus.MEDICATION_NOT_FOUND));
+		Map<Long, Diet> diets = findAllByIdOrThrow(
+			request.getDietItems(), CreateDietPlanItemRequest::getDietId,
+			dietRepository::findAllById, Diet::getDietId,
+			() -> new RehabPlanHandler(ErrorStatus.DIET_NOT_FOUND));
+
+		// 3. RehabPlan 생성
 		RehabPlan rehabPlan = RehabPlan.builder()
 			.user(user)
 			.title(request.getTitle())
@@ -341,101 +411,138 @@ public class RehabPlanService {
 		RehabPlan savedPlan = rehabPlanRepository.save(rehabPlan);
 		log.info("RehabPlan created with ID: {}", savedPlan.getRehabPlanId());
 
-		// 3. 운동 항목 생성
-		List<PlanItem> planItems = createPlanItems(savedPlan, request.getExerciseItems());
+		LocalDateTime now = LocalDateTime.now();
 
-		// 4. 복약 항목 생성
-		List<MedicationPlanItem> medicationPlanItems = createMedicationPlanItems(savedPlan, request.getMedicationItems());
+		// 4. 운동 항목 생성
+		List<PlanItemResponse> planItems = createPlanItems(savedPlan, request.getExerciseItems(), exercises, now);
 
-		// 5. 식단 항목 생성
-		List<DietPlanItem> dietPlanItems = createDietPlanItems(savedPlan, request.getDietItems());
+		// 5. 복약 항목 생성
+		List<MedicationPlanItemResponse> medicationPlanItems =
+			createMedicationPlanItems(savedPlan, request.getMedicationItems(), medications, now);
 
-		// 6. 응답 생성
+		// 6. 식단 항목 생성
+		List<DietPlanItemResponse> dietPlanItems = createDietPlanItems(savedPlan, request.getDietItems(), diets, now);
+
+		// 7. 활성 플랜이 바뀌었으므로 캐시 무효화 + 오늘 일일 요약 전체 재계산 예약
+		eventPublisher.publishEvent(new ActivePlanChangedEvent(userId));
+		eventPublisher.publishEvent(DailySummaryDirtyEvent.full(userId, LocalDate.now()));
+
+		// 8. 응답 생성
 		return convertToRehabPlanDetailResponse(savedPlan, planItems, medicationPlanItems, dietPlanItems);
 	}
 
+	/**
+	 * 요청 항목이 참조하는 ID 를 한 번에 조회
+	 * 요청한 ID 중 하나라도 없으면 notFound 예외
+	 */
+	private <R, E> Map<Long, E> findAllByIdOrThrow(
+		List<R> requests,
+		Function<R, Long> idExtractor,
+		Function<Set<Long>, List<E>> finder,
+		Function<E, Long> entityId,
+		Supplier<? extends RuntimeException> notFound
+	) {
+		if (requests == null || requests.isEmpty()) {
+			return Map.of();
+		}
+
+		Set<Long> ids = requests.stream()
+			.map(idExtractor)
+			.collect(Collectors.toSet());
+		if (ids.contains(null)) {
+			throw notFound.get();
+		}
+
+		Map<Long, E> found = finder.apply(ids).stream()
+			.collect(Collectors.toMap(entityId, Function.identity()));
+		if (found.size() != ids.size()) {
+			throw notFound.get();
+		}
+		return found;
+	}
+
 	/**
 	 * 운동 항목 생성
 	 */
-	private List<PlanItem> createPlanItems(RehabPlan rehabPlan, List<CreatePlanItemRequest> requests) {
+	private List<PlanItemResponse> createPlanItems(RehabPlan rehabPlan, List<CreatePlanItemRequest> requests,
+		Map<Long, Exercise> exercises, LocalDateTime now) {
 		if (requests == null || requests.isEmpty()) {
 			return List.of();
 		}
 
 		List<PlanItem> planItems = requests.stream()
-			.map(req -> {
-				Exercise exercise = exerciseRepository.findById(req.getExerciseId())
-					.orElseThrow(() -> new ExerciseHandler(ErrorStatus.EXERCISE_NOT_FOUND));
-
-				return PlanItem.builder()
-					.rehabPlan(rehabPlan)
-					.exercise(exercise)
-					.phase(req.getPhase())
-					.dose(req.getDose())
-					.status(req.getStatus())
-					.orderIndex(req.getOrderIndex())
-					.recommendationReason(req.getRecommendationReason())
-					.build();
-			})
-			.collect(Collectors.toList());
+			.map(req -> PlanItem.builder()
+				.rehabPlan(rehabPlan)
+				.exercise(exercises.get(req.getExerciseId()))
+				.phase(req.getPhase())
+				.dose(req.getDose())
+				.status(req.getStatus())
+				.orderIndex(req.getOrderIndex())
+				.recommendationReason(req.getRecommendationReason())
+				.build())
+			.toList();
+
+		List<Long> ids = rehabPlanItemBatchRepository.insertPlanItems(planItems, now);
 
-		return planItemRepository.saveAll(planItems);
+		return IntStream.range(0, planItems.size())
+			.mapToObj(i -> convertToPlanItemResponse(planItems.get(i), ids.get(i), now, now))
+			.toList();
 	}
 
 	/**
 	 * 복약 항목 생성
 	 */
-	private List<MedicationPlanItem> createMedicationPlanItems(RehabPlan rehabPlan, List<CreateMedicationPlanItemRequest> requests) {
+	private List<MedicationPlanItemResponse> createMedicationPlanItems(RehabPlan rehabPlan,
+		List<CreateMedicationPlanItemRequest> requests, Map<Long, Medication> medications, LocalDateTime now) {
 		if (requests == null || requests.isEmpty()) {
 			return List.of();
 		}
 
 		List<MedicationPlanItem> medicationPlanItems = requests.stream()
-			.map(req -> {
-				Medication medication = medicationRepository.findById(req.getMedicationId())
-					.orElseThrow(() -> new RehabPlanHandler(ErrorStatus.MEDICATION_NOT_FOUND));
-
-				return MedicationPlanItem.builder()
-					.rehabPlan(rehabPlan)
-					.medication(medication)
-					.status(req.getStatus())
-					.orderIndex(req.getOrderIndex())
-					.startDate(req.getStartDate())
-					.endDate(req.getEndDate())
-					.recommendationReason(req.getRecommendationReason())
-					.build();
-			})
-			.collect(Collectors.toList());
+			.map(req -> MedicationPlanItem.builder()
+				.rehabPlan(rehabPlan)
+				.medication(medications.get(req.getMedicationId()))
+				.status(req.getStatus())
+				.orderIndex(req.getOrderIndex())
+				.startDate(req.getStartDate())
+				.endDate(req.getEndDate())
+				.recommendationReason(req.getRecommendationReason())
+				.build())
+			.toList();
 
-		return medicationPlanItemRepository.saveAll(medicationPlanItems);
+		List<Long> ids = rehabPlanItemBatchRepository.insertMedicationPlanItems(medicationPlanItems, now);
+
+		return IntStream.range(0, medicationPlanItems.size())
+			.mapToObj(i -> convertToMedicationPlanItemResponse(medicationPlanItems.get(i), ids.get(i), now, now))
+			.toList();
 	}
 
 	/**
 	 * 식단 항목 생성
 	 */
-	private List<DietPlanItem> createDietPlanItems(RehabPlan rehabPlan, List<CreateDietPlanItemRequest> requests) {
+	private List<DietPlanItemResponse> createDietPlanItems(RehabPlan rehabPlan,
+		List<CreateDietPlanItemRequest> requests, Map<Long, Diet> diets, LocalDateTime now) {
 		if (requests == null || requests.isEmpty()) {
 			return List.of();
 		}
 
 		List<DietPlanItem> dietPlanItems = requests.stream()
-			.map(req -> {
-				Diet diet = dietRepository.findById(req.getDietId())
-					.orElseThrow(() -> new RehabPlanHandler(ErrorStatus.DIET_NOT_FOUND));
-
-				return DietPlanItem.builder()
-					.rehabPlan(rehabPlan)
-					.diet(diet)
-					.mealTime(req.getMealTime())
-					.portion(req.getPortion())
-					.status(req.getStatus())
-					.orderIndex(req.getOrderIndex())
-					.recommendationReason(req.getRecommendationReason())
-					.build();
-			})
-			.collect(Collectors.toList());
+			.map(req -> DietPlanItem.builder()
+				.rehabPlan(rehabPlan)
+				.diet(diets.get(req.getDietId()))
+				.mealTime(req.getMealTime())
+				.portion(req.getPortion())
+				.status(req.getStatus())
+				.orderIndex(req.getOrderIndex())
+				.recommendationReason(req.getRecommendationReason())
+				.build())
+			.toList();
+
+		List<Long> ids = rehabPlanItemBatchRepository.insertDietPlanItems(dietPlanItems, now);
 
-		return dietPlanItemRepository.saveAll(dietPlanItems);
+		return IntStream.range(0, dietPlanItems.size())
+			.mapToObj(i -> convertToDietPlanItemResponse(dietPlanItems.get(i), ids.get(i), now, now))
+			.toList();
 	}
 
 	/**
@@ -443,9 +550,9 @@ public class RehabPlanService {
 	 */
 	private RehabPlanDetailResponse convertToRehabPlanDetailResponse(
 		RehabPlan plan,
-		List<PlanItem> planItems,
-		List<MedicationPlanItem> medicationPlanItems,
-		List<DietPlanItem> dietPlanItems) {
+		List<PlanItemResponse> planItems,
+		List<MedicationPlanItemResponse> medicationPlanItems,
+		List<DietPlanItemResponse> dietPlanItems) {
 
 		return RehabPlanDetailResponse.builder()
 			.rehabPlanId(plan.getRehabPlanId())
@@ -456,33 +563,12 @@ public class RehabPlanService {
 			.endDate(plan.getEndDate())
 			.meta(plan.getMeta())
 			.generatedBy(plan.getGeneratedBy())
-			.exerciseItems(planItems.stream()
-				.map(this::convertToPlanItemResponse)
-				.collect(Collectors.toList()))
-			.medicationItems(medicationPlanItems.stream()
-				.map(this::convertToMedicationPlanItemResponse)
-				.collect(Collectors.toList()))
-			.dietItems(dietPlanItems.stream()
-				.map(this::convertToDietPlanItemResponse)
-				.collect(Collectors.toList()))
+			.exerciseItems(planItems)
+			.medicationItems(medicationPlanItems)
+			.dietItems(dietPlanItems)
 			.totalItemCount(planItems.size() + medicationPlanItems.size() + dietPlanItems.size())
 			.createdAt(plan.getCreatedAt())
 			.updatedAt(plan.getUpdatedAt())
 			.build();
 	}
-
-	/**
-	 * JSON 문자열을 JsonNode로 변환
-	 */
-	private JsonNode parseJson(String jsonString) {
-		if (jsonString == null || jsonString.isEmpty()) {
-			return null;
-		}
-		try {
-			return objectMapper.readTree(jsonString);
-		} catch (JsonProcessingException e) {
-			log.error("JSON 파싱 실패: {}", jsonString, e);
-			return null;
-		}
-	}
 }
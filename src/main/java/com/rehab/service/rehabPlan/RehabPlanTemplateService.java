@@ -0,0 +1,163 @@
+package com.rehab.service.rehabPlan;
+
+import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.apiPayload.exception.GeneralException;
+import com.rehab.apiPayload.exception.RehabPlanException;
+import com.rehab.apiPayload.exception.handler.UserHandler;
+import com.rehab.domain.entity.RehabPlan;
+import com.rehab.domain.entity.User;
+import com.rehab.domain.entity.enums.RehabPlanStatus;
+import com.rehab.domain.entity.enums.UserRole;
+import com.rehab.domain.repository.rehab.RehabPlanRepository;
+import com.rehab.domain.repository.rehab.RehabPlanTemplateRepository;
+import com.rehab.domain.repository.user.UserRepository;
+import com.rehab.dto.plan.AssignPlanTemplateRequest;
+import com.rehab.dto.plan.PlanTemplateAssignmentResponse;
+import com.rehab.dto.plan.RehabPlanResponse;
+import com.rehab.service.dailySummary.DailySummaryDirtyEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 재활 플랜 템플릿 서비스
+ * 기존 플랜을 템플릿으로 저장하고, 템플릿을 여러 환자에게 한 번에 배정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RehabPlanTemplateService {
+
+	private final RehabPlanRepository rehabPlanRepository;
+	private final RehabPlanTemplateRepository rehabPlanTemplateRepository;
+	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 기존 플랜을 템플릿으로 저장 (플랜 + 운동/복약/식단 항목 복사)
+	 * 본인 플랜만 템플릿으로 저장 가능
+	 */
+	@Transactional
+	public RehabPlanResponse saveAsTemplate(Long userId, Long rehabPlanId) {
+		log.info("플랜 템플릿 저장 - userId: {}, rehabPlanId: {}", userId, rehabPlanId);
+
+		if (!userRepository.existsById(userId)) {
+			throw new UserHandler(ErrorStatus.USER_NOT_FOUND);
+		}
+
+		RehabPlan source = rehabPlanRepository.findById(rehabPlanId)
+			.orElseThrow(() -> new RehabPlanException(ErrorStatus.REHAB_PLAN_NOT_FOUND));
+
+		if (!source.getUser().getUserId().equals(userId)) {
+			throw new GeneralException(ErrorStatus._FORBIDDEN);
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		Long templateId = rehabPlanTemplateRepository.clonePlan(
+			source, List.of(userId), null, RehabPlanStatus.TEMPLATE,
+			source.getStartDate(), source.getEndDate(), now
+		).get(0);
+
+		log.info("플랜 템플릿 저장 완료 - templateId: {}", templateId);
+
+		return RehabPlanResponse.builder()
+			.rehabPlanId(templateId)
+			.userId(userId)
+			.title(source.getTitle())
+			.status(RehabPlanStatus.TEMPLATE)
+			.startDate(source.getStartDate())
+			.endDate(source.getEndDate())
+			.createdAt(now)
+			.updatedAt(now)
+			.build();
+	}
+
+	/**
+	 * 템플릿을 여러 사용자에게 일괄 배정
+	 * 존재하지 않는 사용자는 건너뛰고 사용자별 결과로 보고
+	 * 다른 사용자에게 플랜을 만드는 작업이므로 관리자만 가능
+	 */
+	@Transactional
+	public PlanTemplateAssignmentResponse assignTemplate(User requester, Long templateId, AssignPlanTemplateRequest request) {
+		log.info("플랜 템플릿 일괄 배정 - requesterId: {}, templateId: {}, 요청 사용자 수: {}",
+			requester.getUserId(), templateId, request.getUserIds().size());
+
+		if (requester.getRole() != UserRole.ADMIN) {
+			throw new GeneralException(ErrorStatus._FORBIDDEN);
+		}
+
+		RehabPlan template = rehabPlanRepository.findById(templateId)
+			.filter(plan -> plan.getStatus() == RehabPlanStatus.TEMPLATE)
+			.orElseThrow(() -> new RehabPlanException(ErrorStatus.PLAN_TEMPLATE_NOT_FOUND));
+
+		// 중복 제거 (요청 순서 유지)
+		List<Long> requestedUserIds = new ArrayList<>(new LinkedHashSet<>(request.getUserIds()));
+
+		Set<Long> existingUserIds = userRepository.findAllById(requestedUserIds).stream()
+			.map(User::getUserId)
+			.collect(Collectors.toSet());
+		List<Long> assignableUserIds = requestedUserIds.stream()
+			.filter(existingUserIds::contains)
+			.toList();
+
+		Map<Long, Long> planIdByUserId = new HashMap<>();
+		if (!assignableUserIds.isEmpty()) {
+			LocalDateTime now = LocalDateTime.now();
+			List<Long> planIds = rehabPlanTemplateRepository.clonePlan(
+				template,
+				assignableUserIds,
+				request.getTitle(),
+				RehabPlanStatus.ACTIVE,
+				request.getStartDate() != null ? request.getStartDate() : now,
+				request.getEndDate(),
+				now
+			);
+
+			for (int i = 0; i < assignableUserIds.size(); i++) {
+				planIdByUserId.put(assignableUserIds.get(i), planIds.get(i));
+			}
+
+			// 활성 플랜이 바뀐 사용자의 캐시 무효화 + 오늘 일일 요약 재계산 예약
+			LocalDate today = LocalDate.now();
+			for (Long userId : assignableUserIds) {
+				eventPublisher.publishEvent(new ActivePlanChangedEvent(userId));
+				eventPublisher.publishEvent(DailySummaryDirtyEvent.full(userId, today));
+			}
+		}
+
+		List<PlanTemplateAssignmentResponse.AssignmentResult> results = new ArrayList<>(requestedUserIds.size());
+		for (Long userId : requestedUserIds) {
+			Long planId = planIdByUserId.get(userId);
+			results.add(PlanTemplateAssignmentResponse.AssignmentResult.builder()
+				.userId(userId)
+				.success(planId != null)
+				.rehabPlanId(planId)
+				.errorCode(planId != null ? null : ErrorStatus.USER_NOT_FOUND.getCode())
+				.build());
+		}
+
+		log.info("플랜 템플릿 일괄 배정 완료 - templateId: {}, 성공: {}, 실패: {}",
+			templateId, assignableUserIds.size(), requestedUserIds.size() - assignableUserIds.size());
+
+		return PlanTemplateAssignmentResponse.builder()
+			.templateId(templateId)
+			.requestedCount(requestedUserIds.size())
+			.assignedCount(assignableUserIds.size())
+			.failedCount(requestedUserIds.size() - assignableUserIds.size())
+			.results(results)
+			.build();
+	}
+}
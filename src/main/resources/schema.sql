@@ -136,7 +136,8 @@ CREATE TABLE rehab_plan (
     generated_by VARCHAR(50),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    INDEX idx_rehab_plan_user_created (user_id, created_at, rehab_plan_id)
 );
 
 -- 플랜 아이템 테이블
@@ -186,6 +187,17 @@ CREATE TABLE daily_summary (
     avg_pain_score INT,
     total_duration_sec INT DEFAULT 0,
     daily_metrics JSON,
+    total_exercises INT,
+    total_medications INT,
+    total_diets INT,
+    completed_exercises INT,
+    exercise_duration_sum INT,
+    pain_score_sum INT,
+    pain_score_count INT,
+    rpe_sum INT,
+    rpe_count INT,
+    taken_medications INT,
+    completed_diets INT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
@@ -246,7 +258,9 @@ CREATE TABLE medication_log (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
-    FOREIGN KEY (medication_id) REFERENCES medication(medication_id) ON DELETE CASCADE
+    FOREIGN KEY (medication_id) REFERENCES medication(medication_id) ON DELETE CASCADE,
+    INDEX idx_medication_log_user_taken (user_id, taken_at),
+    INDEX idx_medication_log_medication_taken (medication_id, taken_at, medication_log_id)
 );
 
 -- 알림 테이블
@@ -280,7 +294,7 @@ CREATE TABLE report_snapshot (
 
 -- AI 추론 로그 테이블
 CREATE TABLE ai_inference_log (
-    inference_log_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    inference_log_id BIGINT PRIMARY KEY, -- 애플리케이션에서 발급 (TimeOrderedIdGenerator)
     user_id BIGINT NOT NULL,
     model_key VARCHAR(100) NOT NULL,
     model_version VARCHAR(50),
@@ -288,6 +302,7 @@ CREATE TABLE ai_inference_log (
     output_snapshot JSON,
     knowledge_references JSON,
     latency_ms INT,
+    cache_hit BOOLEAN,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
@@ -328,7 +343,6 @@ CREATE INDEX idx_recovery_score_date ON recovery_score(date);
 CREATE INDEX idx_medication_user_id ON medication(user_id);
 CREATE INDEX idx_medi_schedule_medication_id ON medi_schedule(medication_id);
 CREATE INDEX idx_medication_log_user_id ON medication_log(user_id);
-CREATE INDEX idx_medication_log_medication_id ON medication_log(medication_id);
 CREATE INDEX idx_medication_log_taken_at ON medication_log(taken_at);
 CREATE INDEX idx_reminder_user_id ON reminder(user_id);
 CREATE INDEX idx_reminder_next_fire_at ON reminder(next_fire_at);
@@ -0,0 +1,86 @@
+package com.rehab.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkheadInterceptorTest {
+
+	@Test
+	@DisplayName("자리가 없으면 요청을 보내지 않고 BulkheadFullException 을 던진다")
+	void rejectsWhenFull() throws IOException {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		BulkheadInterceptor interceptor = new BulkheadInterceptor("test.call", 1, 10, meterRegistry);
+		HttpRequest request = request();
+		ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+		when(execution.execute(any(), any())).thenReturn(mock(ClientHttpResponse.class));
+
+		ClientHttpResponse held = interceptor.intercept(request, new byte[0], execution);
+
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution))
+			.isInstanceOf(BulkheadFullException.class);
+		verify(execution, times(1)).execute(any(), any());
+		assertThat(meterRegistry.counter("test.call.rejected").count()).isEqualTo(1);
+
+		// 응답을 닫으면 자리가 반납됨
+		held.close();
+		interceptor.intercept(request, new byte[0], execution).close();
+		verify(execution, times(2)).execute(any(), any());
+	}
+
+	@Test
+	@DisplayName("호출이 예외로 끝나도 자리를 반납한다")
+	void releasesOnFailure() throws IOException {
+		BulkheadInterceptor interceptor = new BulkheadInterceptor("test.call", 1, 10, new SimpleMeterRegistry());
+		HttpRequest request = request();
+		ClientHttpRequestExecution failing = mock(ClientHttpRequestExecution.class);
+		when(failing.execute(any(), any())).thenThrow(new IOException("connection reset"));
+		ClientHttpRequestExecution ok = mock(ClientHttpRequestExecution.class);
+		when(ok.execute(any(), any())).thenReturn(mock(ClientHttpResponse.class));
+
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], failing))
+			.isInstanceOf(IOException.class);
+
+		interceptor.intercept(request, new byte[0], ok).close();
+		verify(ok).execute(any(), any());
+	}
+
+	@Test
+	@DisplayName("close 를 여러 번 불러도 자리는 한 번만 반납한다")
+	void closeIsIdempotent() throws IOException {
+		BulkheadInterceptor interceptor = new BulkheadInterceptor("test.call", 1, 10, new SimpleMeterRegistry());
+		HttpRequest request = request();
+		ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+		when(execution.execute(any(), any())).thenReturn(mock(ClientHttpResponse.class));
+
+		ClientHttpResponse first = interceptor.intercept(request, new byte[0], execution);
+		first.close();
+		first.close();
+
+		ClientHttpResponse second = interceptor.intercept(request, new byte[0], execution);
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution))
+			.isInstanceOf(BulkheadFullException.class);
+		second.close();
+		verify(execution, times(2)).execute(any(), any());
+	}
+
+	private HttpRequest request() {
+		HttpRequest request = mock(HttpRequest.class);
+		when(request.getURI()).thenReturn(URI.create("http://ai-model/predict"));
+		return request;
+	}
+}
@@ -0,0 +1,155 @@
+package com.rehab.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+	// 창 10, 최소 4회, 실패율 50%, p90 100ms, 20ms 차단, 시험 호출 2회
+	private CircuitBreaker breaker() {
+		return new CircuitBreaker("test.circuit", 10, 4, 0.5, 0.9, 100, 20, 2, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("최소 호출 수 전에는 모두 실패해도 열리지 않는다")
+	void staysClosedBelowMinimumCalls() {
+		CircuitBreaker breaker = breaker();
+
+		for (int i = 0; i < 3; i++) {
+			breaker.onFailure(FAST);
+		}
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(breaker.tryAcquire()).isTrue();
+	}
+
+	@Test
+	@DisplayName("실패율이 임계값에 닿으면 열리고 호출을 막는다")
+	void opensOnFailureRate() {
+		CircuitBreaker breaker = breaker();
+
+		breaker.onSuccess(FAST);
+		breaker.onSuccess(FAST);
+		breaker.onFailure(FAST);
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		breaker.onFailure(FAST);
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isFalse();
+	}
+
+	@Test
+	@DisplayName("느린 호출 비율이 (1 - percentile) 을 넘으면 열린다")
+	void opensOnSlowCalls() {
+		CircuitBreaker breaker = breaker();
+
+		for (int i = 0; i < 8; i++) {
+			breaker.onSuccess(FAST);
+		}
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		breaker.onSuccess(SLOW);
+		breaker.onSuccess(SLOW);
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	@DisplayName("창을 벗어난 오래된 실패는 잊는다")
+	void slidingWindowForgetsOldOutcomes() {
+		CircuitBreaker breaker = breaker();
+
+		for (int i = 0; i < 4; i++) {
+			breaker.onFailure(FAST);
+			if (i == 0) {
+				// 첫 실패 뒤 성공으로 채워 창 밖으로 밀어냄
+				for (int j = 0; j < 10; j++) {
+					breaker.onSuccess(FAST);
+				}
+			}
+		}
+
+		// 창(10) 안: 실패 3, 성공 7
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("차단 시간이 지나면 시험 호출만 허용하고 모두 성공하면 닫힌다")
+	void halfOpenClosesAfterSuccessfulProbes() throws Exception {
+		CircuitBreaker breaker = openedBreaker();
+		Thread.sleep(30);
+
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.tryAcquire()).isFalse();
+
+		breaker.onSuccess(FAST);
+		breaker.onSuccess(FAST);
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(breaker.tryAcquire()).isTrue();
+	}
+
+	@Test
+	@DisplayName("시험 호출이 하나라도 실패하면 다시 열린다")
+	void halfOpenReopensOnFailure() throws Exception {
+		CircuitBreaker breaker = openedBreaker();
+		Thread.sleep(30);
+
+		assertThat(breaker.tryAcquire()).isTrue();
+		breaker.onFailure(FAST);
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isFalse();
+	}
+
+	@Test
+	@DisplayName("무시된 시험 호출은 자리를 돌려줘 다른 요청이 시험할 수 있다")
+	void ignoredProbeReturnsSlot() throws Exception {
+		CircuitBreaker breaker = openedBreaker();
+		Thread.sleep(30);
+
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.tryAcquire()).isFalse();
+
+		breaker.onIgnored();
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isTrue();
+	}
+
+	@Test
+	@DisplayName("무시된 호출은 닫힌 상태의 실패율에 들어가지 않는다")
+	void ignoredCallsDoNotCountWhenClosed() {
+		CircuitBreaker breaker = breaker();
+
+		for (int i = 0; i < 20; i++) {
+			assertThat(breaker.tryAcquire()).isTrue();
+			breaker.onIgnored();
+		}
+		breaker.onSuccess(FAST);
+		breaker.onSuccess(FAST);
+		breaker.onSuccess(FAST);
+		breaker.onFailure(FAST);
+
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	private CircuitBreaker openedBreaker() {
+		CircuitBreaker breaker = breaker();
+		for (int i = 0; i < 4; i++) {
+			breaker.onFailure(FAST);
+		}
+		assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		return breaker;
+	}
+}
@@ -0,0 +1,85 @@
+package com.rehab.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.support.BenchmarkRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON 컬럼 응답 직렬화 벤치마크 (플랜 상세 1건 = 항목 30개, 항목마다 dose/recommendationReason)
+ * - 이전: 조회할 때마다 readTree 로 JsonNode 를 만들고 다시 직렬화
+ * - 이후: RawJson 으로 저장된 문자열을 그대로 출력
+ * 요청 1건당 할당 바이트와 지연을 비교
+ */
+@Tag("benchmark")
+class RawJsonBenchmark {
+
+	private static final int ITEMS_PER_PLAN = 30;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	// DB 에서 읽은 JSON 컬럼 값
+	private final List<String[]> rows = IntStream.range(0, ITEMS_PER_PLAN)
+		.mapToObj(i -> new String[] {
+			"{\"sets\":3,\"reps\":" + (10 + i) + ",\"restSec\":60,\"intensity\":\"moderate\",\"tempo\":[2,1,2]}",
+			"{\"source\":\"ai\",\"reasons\":[\"허리 통증 완화\",\"코어 안정화\"],\"priority\":" + i + "}"
+		})
+		.toList();
+
+	@Test
+	@DisplayName("플랜 상세 응답 1건 직렬화: readTree 후 재직렬화 vs RawJson 그대로 출력")
+	void planDetailSerialization() {
+		// 두 방식의 응답 본문이 같아야 비교가 의미 있음
+		assertThat(serializeParsed()).isEqualTo(serializeRaw());
+
+		BenchmarkRunner.Result parsed = BenchmarkRunner.measure(
+			"plan detail (30 items), readTree + JsonNode", 2_000, 5_000, 1, this::serializeParsed);
+		BenchmarkRunner.Result raw = BenchmarkRunner.measure(
+			"plan detail (30 items), RawJson passthrough", 2_000, 5_000, 1, this::serializeRaw);
+
+		if (parsed.allocatedBytesPerOp() >= 0) {
+			assertThat(raw.allocatedBytesPerOp()).isLessThan(parsed.allocatedBytesPerOp());
+		}
+	}
+
+	private String serializeParsed() {
+		try {
+			List<ParsedItem> items = new ArrayList<>(ITEMS_PER_PLAN);
+			for (int i = 0; i < rows.size(); i++) {
+				items.add(new ParsedItem((long)i,
+					objectMapper.readTree(rows.get(i)[0]),
+					objectMapper.readTree(rows.get(i)[1])));
+			}
+			return objectMapper.writeValueAsString(items);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private String serializeRaw() {
+		try {
+			List<RawItem> items = new ArrayList<>(ITEMS_PER_PLAN);
+			for (int i = 0; i < rows.size(); i++) {
+				items.add(new RawItem((long)i, RawJson.of(rows.get(i)[0]), RawJson.of(rows.get(i)[1])));
+			}
+			return objectMapper.writeValueAsString(items);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record ParsedItem(Long planItemId, JsonNode dose, JsonNode recommendationReason) {
+	}
+
+	private record RawItem(Long planItemId, RawJson dose, RawJson recommendationReason) {
+	}
+}
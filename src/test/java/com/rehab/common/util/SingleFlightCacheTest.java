@@ -0,0 +1,120 @@
+package com.rehab.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private SingleFlightCache<String, String> cache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new SingleFlightCache<>("test.cache", 100, Duration.ofMinutes(1), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("두 번째 조회는 캐시된 값을 돌려주고 loader 를 다시 부르지 않는다")
+	void cachesValue() {
+		AtomicInteger loads = new AtomicInteger();
+
+		SingleFlightCache.Result<String> first = cache.get("k", () -> "v" + loads.incrementAndGet());
+		SingleFlightCache.Result<String> second = cache.get("k", () -> "v" + loads.incrementAndGet());
+
+		assertThat(first.cached()).isFalse();
+		assertThat(second.cached()).isTrue();
+		assertThat(second.value()).isEqualTo("v1");
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("동시에 들어온 같은 키 요청은 진행 중인 loader 하나의 결과를 함께 받는다")
+	void coalescesConcurrentCalls() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			Future<SingleFlightCache.Result<String>> leader = pool.submit(() -> cache.get("k", () -> {
+				loads.incrementAndGet();
+				loading.countDown();
+				await(release);
+				return "v";
+			}));
+			assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+
+			Future<SingleFlightCache.Result<String>> follower1 = pool.submit(() -> cache.get("k", () -> "other"));
+			Future<SingleFlightCache.Result<String>> follower2 = pool.submit(() -> cache.get("k", () -> "other"));
+			Thread.sleep(50);
+			release.countDown();
+
+			assertThat(leader.get(1, TimeUnit.SECONDS).value()).isEqualTo("v");
+			assertThat(follower1.get(1, TimeUnit.SECONDS).value()).isEqualTo("v");
+			assertThat(follower2.get(1, TimeUnit.SECONDS).value()).isEqualTo("v");
+			assertThat(loads).hasValue(1);
+			assertThat(meterRegistry.counter("test.cache.coalesced").count()).isEqualTo(2);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("loader 가 실패하면 결과를 캐시하지 않고 다음 요청에서 다시 실행한다")
+	void failureIsNotCached() {
+		assertThatThrownBy(() -> cache.get("k", () -> {
+			throw new IllegalStateException("boom");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(cache.get("k", () -> "v").value()).isEqualTo("v");
+	}
+
+	@Test
+	@DisplayName("loader 가 Error 를 던져도 기다리던 요청이 멈추지 않고 같은 Error 를 받는다")
+	void errorCompletesWaiters() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		try {
+			Future<SingleFlightCache.Result<String>> leader = pool.submit(() -> cache.get("k", () -> {
+				loading.countDown();
+				await(release);
+				throw new StackOverflowError("deep");
+			}));
+			assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+			Future<SingleFlightCache.Result<String>> follower = pool.submit(() -> cache.get("k", () -> "other"));
+			Thread.sleep(50);
+			release.countDown();
+
+			assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(StackOverflowError.class);
+			assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(StackOverflowError.class);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertThat(cache.get("k", () -> "v").value()).isEqualTo("v");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
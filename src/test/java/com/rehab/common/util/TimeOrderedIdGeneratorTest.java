@@ -0,0 +1,82 @@
+package com.rehab.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+
+	@Test
+	@DisplayName("같은 노드에서 발급한 ID 는 ms 당 4096 개를 넘어도 항상 증가한다")
+	void monotonicWithinNode() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7);
+
+		long prev = generator.nextId();
+		for (int i = 0; i < 100_000; i++) {
+			long next = generator.nextId();
+			assertThat(next).isGreaterThan(prev);
+			prev = next;
+		}
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 동시에 발급해도 중복이 없다")
+	void uniqueAcrossThreads() throws Exception {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<List<Long>>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				futures.add(pool.submit(() -> {
+					List<Long> ids = new ArrayList<>(20_000);
+					for (int i = 0; i < 20_000; i++) {
+						ids.add(generator.nextId());
+					}
+					return ids;
+				}));
+			}
+
+			Set<Long> all = new HashSet<>();
+			for (Future<List<Long>> future : futures) {
+				List<Long> ids = future.get();
+				// 스레드 안에서 본 순서도 증가
+				for (int i = 1; i < ids.size(); i++) {
+					assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+				}
+				all.addAll(ids);
+			}
+			assertThat(all).hasSize(8 * 20_000);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("노드 ID 가 다르면 같은 시각에 발급해도 겹치지 않는다")
+	void nodeIdIsEncoded() {
+		long a = new TimeOrderedIdGenerator(1).nextId();
+		long b = new TimeOrderedIdGenerator(2).nextId();
+
+		assertThat((a >>> 12) & TimeOrderedIdGenerator.MAX_NODE_ID).isEqualTo(1);
+		assertThat((b >>> 12) & TimeOrderedIdGenerator.MAX_NODE_ID).isEqualTo(2);
+		assertThat(a).isNotEqualTo(b);
+	}
+
+	@Test
+	@DisplayName("노드 ID 범위를 벗어나면 만들 수 없다")
+	void rejectsInvalidNodeId() {
+		assertThatThrownBy(() -> new TimeOrderedIdGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,89 @@
+package com.rehab.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+	@Test
+	@DisplayName("처음에는 capacity 만큼만 허용하고 그 뒤는 대기 시간을 돌려준다")
+	void allowsBurstUpToCapacity() {
+		// 충전이 사실상 없도록 아주 느리게
+		TokenBucket bucket = new TokenBucket(3, 0.001);
+
+		assertThat(bucket.tryAcquire()).isZero();
+		assertThat(bucket.tryAcquire()).isZero();
+		assertThat(bucket.tryAcquire()).isZero();
+		assertThat(bucket.tryAcquire()).isPositive();
+	}
+
+	@Test
+	@DisplayName("거절된 요청은 토큰을 소비하지 않는다")
+	void rejectionDoesNotConsume() {
+		TokenBucket bucket = new TokenBucket(1, 0.001);
+		bucket.tryAcquire();
+
+		long firstWait = bucket.tryAcquire();
+		long secondWait = bucket.tryAcquire();
+
+		assertThat(firstWait).isPositive();
+		assertThat(secondWait).isPositive().isLessThanOrEqualTo(firstWait);
+	}
+
+	@Test
+	@DisplayName("대기 시간이 지나면 다시 허용된다")
+	void refillsOverTime() throws Exception {
+		TokenBucket bucket = new TokenBucket(1, 1000);
+		assertThat(bucket.tryAcquire()).isZero();
+
+		long waitNanos = bucket.tryAcquire();
+		assertThat(waitNanos).isPositive().isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+
+		TimeUnit.NANOSECONDS.sleep(waitNanos + TimeUnit.MILLISECONDS.toNanos(2));
+		assertThat(bucket.tryAcquire()).isZero();
+	}
+
+	@Test
+	@DisplayName("동시에 요청해도 capacity 보다 많이 허용하지 않는다")
+	void neverOverAdmitsUnderContention() throws Exception {
+		TokenBucket bucket = new TokenBucket(100, 0.001);
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger allowed = new AtomicInteger();
+		try {
+			for (int t = 0; t < 8; t++) {
+				pool.submit(() -> {
+					start.await();
+					for (int i = 0; i < 100; i++) {
+						if (bucket.tryAcquire() == 0) {
+							allowed.incrementAndGet();
+						}
+					}
+					return null;
+				});
+			}
+			start.countDown();
+		} finally {
+			pool.shutdown();
+			assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		}
+
+		assertThat(allowed).hasValue(100);
+	}
+
+	@Test
+	@DisplayName("capacity 나 충전 속도가 0 이하면 만들 수 없다")
+	void rejectsInvalidArguments() {
+		assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,75 @@
+package com.rehab.domain.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailySummaryTest {
+
+	@Test
+	@DisplayName("누적 카운터로 완료율 / 평균을 다시 계산한다")
+	void accumulateRecalculatesRates() {
+		DailySummary summary = DailySummary.builder().build();
+		summary.resetCounters(4, 2, 3);
+
+		summary.accumulate(3, 900, 9, 3, 14, 2, 1, 3);
+
+		assertThat(summary.getExerciseCompletionRate()).isEqualTo(75);
+		assertThat(summary.getAllExercisesCompleted()).isFalse();
+		assertThat(summary.getAvgPainScore()).isEqualTo(3);
+		assertThat(summary.getTotalDurationSec()).isEqualTo(900);
+		assertThat(summary.getAvgRpe()).isEqualTo(7.0);
+		assertThat(summary.getMedicationCompletionRate()).isEqualTo(50);
+		assertThat(summary.getAllMedicationsTaken()).isFalse();
+		assertThat(summary.getDietCompletionRate()).isEqualTo(100);
+		assertThat(summary.getAllDietCompleted()).isTrue();
+	}
+
+	@Test
+	@DisplayName("항목이 없는 영역은 완료율 0, 전체 완료 true")
+	void emptyAreasAreCompleted() {
+		DailySummary summary = DailySummary.builder().build();
+		summary.resetCounters(0, 0, 0);
+
+		summary.accumulate(1, 300, 5, 1, 6, 1, 1, 1);
+
+		assertThat(summary.getExerciseCompletionRate()).isZero();
+		assertThat(summary.getAllExercisesCompleted()).isTrue();
+		assertThat(summary.getAvgPainScore()).isZero();
+		assertThat(summary.getTotalDurationSec()).isZero();
+		assertThat(summary.getAvgRpe()).isZero();
+		assertThat(summary.getMedicationCompletionRate()).isZero();
+		assertThat(summary.getAllMedicationsTaken()).isTrue();
+		assertThat(summary.getDietCompletionRate()).isZero();
+		assertThat(summary.getAllDietCompleted()).isTrue();
+	}
+
+	@Test
+	@DisplayName("증분을 나눠 더해도 한 번에 더한 것과 카운터가 같다")
+	void accumulateIsOrderIndependent() {
+		DailySummary incremental = DailySummary.builder().build();
+		incremental.resetCounters(3, 2, 1);
+		incremental.accumulate(1, 300, 4, 1, 6, 1, 0, 0);
+		incremental.accumulate(0, 200, 2, 1, 0, 0, 1, 1);
+		incremental.accumulate(1, 100, 0, 0, 8, 1, 1, 0);
+
+		DailySummary recounted = DailySummary.builder().build();
+		recounted.resetCounters(3, 2, 1);
+		recounted.accumulate(2, 600, 6, 2, 14, 2, 2, 1);
+
+		assertThat(incremental.hasSameCounters(recounted)).isTrue();
+		assertThat(incremental.getExerciseCompletionRate()).isEqualTo(recounted.getExerciseCompletionRate());
+		assertThat(incremental.getAllMedicationsTaken()).isTrue();
+	}
+
+	@Test
+	@DisplayName("카운터가 하나라도 비어 있으면 hasCounters 는 false")
+	void hasCountersRequiresAllCounters() {
+		assertThat(DailySummary.builder().build().hasCounters()).isFalse();
+
+		DailySummary summary = DailySummary.builder().build();
+		summary.resetCounters(1, 1, 1);
+		assertThat(summary.hasCounters()).isTrue();
+	}
+}
@@ -0,0 +1,180 @@
+package com.rehab.domain.repository.rehab;
+
+import com.rehab.domain.entity.Exercise;
+import com.rehab.domain.entity.PlanItem;
+import com.rehab.domain.entity.RehabPlan;
+import com.rehab.domain.entity.enums.PlanItemStatus;
+import com.rehab.domain.entity.enums.RehabPhase;
+import com.rehab.support.BenchmarkRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랜 항목 저장 벤치마크 (운동 항목 10/50/200 개)
+ * - 이전: 항목마다 findById 1회 + IDENTITY 단건 INSERT 1회
+ * - 이후: findAllById 1회 (IN 조회) + RehabPlanItemBatchRepository 다중 행 INSERT 1회
+ * H2 메모리 DB 라서 문장 수는 정확하지만 지연은 네트워크 왕복이 없는 값 (MySQL 에서는 문장당 왕복만큼 차이가 더 커짐)
+ */
+@Tag("benchmark")
+class RehabPlanItemBatchBenchmark {
+
+	private static final long PLAN_ID = 1L;
+	private static final int EXERCISE_COUNT = 500;
+
+	private final AtomicInteger statements = new AtomicInteger();
+
+	private Connection connection;
+	private JdbcTemplate jdbcTemplate;
+	private RehabPlanItemBatchRepository repository;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		connection = DriverManager.getConnection("jdbc:h2:mem:plan-item-bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(countingProxy(connection), true));
+		repository = new RehabPlanItemBatchRepository(jdbcTemplate);
+
+		jdbcTemplate.execute("DROP TABLE IF EXISTS plan_item");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS exercise");
+		jdbcTemplate.execute("CREATE TABLE exercise (exercise_id BIGINT PRIMARY KEY, title VARCHAR(200))");
+		jdbcTemplate.execute("""
+			CREATE TABLE plan_item (
+			    plan_item_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+			    rehab_plan_id BIGINT NOT NULL,
+			    exercise_id BIGINT NOT NULL,
+			    order_index INT,
+			    phase VARCHAR(20),
+			    dose VARCHAR(1000),
+			    status VARCHAR(20),
+			    recommendation_reason VARCHAR(1000),
+			    created_at TIMESTAMP,
+			    updated_at TIMESTAMP
+			)""");
+		jdbcTemplate.batchUpdate("INSERT INTO exercise (exercise_id, title) VALUES (?, ?)",
+			IntStream.rangeClosed(1, EXERCISE_COUNT)
+				.mapToObj(id -> new Object[] {(long)id, "운동 " + id})
+				.toList());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		connection.close();
+	}
+
+	@ParameterizedTest(name = "{0}개 항목")
+	@ValueSource(ints = {10, 50, 200})
+	@DisplayName("항목 수별 문장 수와 지연: 항목별 조회/INSERT vs 일괄 조회/다중 행 INSERT")
+	void planItemInsert(int itemCount) {
+		List<Long> exerciseIds = IntStream.rangeClosed(1, itemCount).mapToObj(id -> (long)id).toList();
+
+		int perItemStatements = countStatements(() -> insertPerItem(exerciseIds));
+		int batchedStatements = countStatements(() -> insertBatched(exerciseIds));
+		System.out.printf("[benchmark] %d items: per-item %d statements, batched %d statements%n",
+			itemCount, perItemStatements, batchedStatements);
+
+		assertThat(perItemStatements).isEqualTo(itemCount * 2);
+		assertThat(batchedStatements).isEqualTo(2);
+
+		BenchmarkRunner.measure(itemCount + " items, per-item lookup + insert", 20, 50, 1,
+			() -> insertPerItem(exerciseIds));
+		BenchmarkRunner.measure(itemCount + " items, findAllById + multi-row insert", 20, 50, 1,
+			() -> insertBatched(exerciseIds));
+	}
+
+	// 이전 경로: exerciseRepository.findById + planItemRepository.save (IDENTITY 라 항목마다 INSERT)
+	private void insertPerItem(List<Long> exerciseIds) {
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < exerciseIds.size(); i++) {
+			Long exerciseId = exerciseIds.get(i);
+			jdbcTemplate.queryForMap("SELECT exercise_id, title FROM exercise WHERE exercise_id = ?", exerciseId);
+
+			PlanItem item = planItem(exerciseId, i);
+			jdbcTemplate.update(con -> {
+				PreparedStatement ps = con.prepareStatement(
+					"INSERT INTO plan_item (rehab_plan_id, exercise_id, phase, dose, status, order_index, "
+						+ "recommendation_reason, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+					Statement.RETURN_GENERATED_KEYS);
+				ps.setObject(1, PLAN_ID);
+				ps.setObject(2, exerciseId);
+				ps.setObject(3, item.getPhase().name());
+				ps.setObject(4, item.getDose());
+				ps.setObject(5, item.getStatus().name());
+				ps.setObject(6, item.getOrderIndex());
+				ps.setObject(7, item.getRecommendationReason());
+				ps.setObject(8, now);
+				ps.setObject(9, now);
+				return ps;
+			}, new GeneratedKeyHolder());
+		}
+	}
+
+	// 현재 경로: exerciseRepository.findAllById + RehabPlanItemBatchRepository.insertPlanItems
+	private void insertBatched(List<Long> exerciseIds) {
+		String placeholders = String.join(", ", Collections.nCopies(exerciseIds.size(), "?"));
+		List<Long> found = jdbcTemplate.queryForList(
+			"SELECT exercise_id FROM exercise WHERE exercise_id IN (" + placeholders + ")",
+			Long.class, exerciseIds.toArray());
+		assertThat(found).hasSameSizeAs(exerciseIds);
+
+		List<PlanItem> items = IntStream.range(0, exerciseIds.size())
+			.mapToObj(i -> planItem(exerciseIds.get(i), i))
+			.toList();
+		List<Long> ids = repository.insertPlanItems(items, LocalDateTime.now());
+		assertThat(ids).hasSameSizeAs(items);
+	}
+
+	private PlanItem planItem(Long exerciseId, int orderIndex) {
+		return PlanItem.builder()
+			.rehabPlan(RehabPlan.builder().rehabPlanId(PLAN_ID).build())
+			.exercise(Exercise.builder().exerciseId(exerciseId).build())
+			.phase(RehabPhase.SUBACUTE)
+			.dose("{\"sets\": 3, \"reps\": 10}")
+			.status(PlanItemStatus.ACTIVE)
+			.orderIndex(orderIndex)
+			.recommendationReason("{\"source\": \"ai\"}")
+			.build();
+	}
+
+	private int countStatements(Runnable task) {
+		statements.set(0);
+		task.run();
+		return statements.get();
+	}
+
+	// prepareStatement / createStatement 호출 수를 세는 커넥션 (= DB 로 보내는 문장 수)
+	private Connection countingProxy(Connection target) {
+		return (Connection)Proxy.newProxyInstance(
+			Connection.class.getClassLoader(),
+			new Class<?>[] {Connection.class},
+			(proxy, method, args) -> {
+				if (method.getName().equals("prepareStatement") || method.getName().equals("createStatement")) {
+					statements.incrementAndGet();
+				}
+				try {
+					return method.invoke(target, args);
+				} catch (InvocationTargetException e) {
+					throw e.getTargetException();
+				}
+			});
+	}
+}
@@ -0,0 +1,98 @@
+package com.rehab.security.ratelimit;
+
+import com.rehab.support.BenchmarkRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 내 속도 제한(1단계) 오버헤드 벤치마크
+ * 요청당 LocalRateLimiter.tryAcquire 한 번이 1µs 미만인지 확인 (Redis 단계 제외)
+ */
+@Tag("benchmark")
+class LocalRateLimiterBenchmark {
+
+	private static final int OPS_PER_RUN = 10_000;
+
+	// 한도에 걸리지 않도록 넉넉한 버킷 (거절 경로가 아니라 통과 경로를 측정)
+	private static final long CAPACITY = 1_000_000;
+	private static final double REFILL_PER_SECOND = 1_000_000;
+
+	@Test
+	@DisplayName("같은 키 반복 호출")
+	void singleHotKey() {
+		LocalRateLimiter limiter = new LocalRateLimiter(100_000, CAPACITY, REFILL_PER_SECOND);
+		String key = "/auth/login|ip:203.0.113.1";
+
+		BenchmarkRunner.Result result = BenchmarkRunner.measure("tryAcquire, 1 hot key", 200, 500, OPS_PER_RUN, () -> {
+			for (int i = 0; i < OPS_PER_RUN; i++) {
+				limiter.tryAcquire(key);
+			}
+		});
+
+		assertThat(result.p50Nanos()).isLessThan(1_000);
+	}
+
+	@Test
+	@DisplayName("키 1만 개를 돌아가며 호출")
+	void manyKeys() {
+		LocalRateLimiter limiter = new LocalRateLimiter(100_000, CAPACITY, REFILL_PER_SECOND);
+		String[] keys = IntStream.range(0, OPS_PER_RUN)
+			.mapToObj(i -> "/auth/login|ip:10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff))
+			.toArray(String[]::new);
+
+		BenchmarkRunner.Result result = BenchmarkRunner.measure("tryAcquire, 10k keys", 200, 500, OPS_PER_RUN, () -> {
+			for (String key : keys) {
+				limiter.tryAcquire(key);
+			}
+		});
+
+		assertThat(result.p50Nanos()).isLessThan(1_000);
+	}
+
+	@Test
+	@DisplayName("스레드 8개가 같은 키를 동시에 호출")
+	void contendedHotKey() throws Exception {
+		int threads = 8;
+		LocalRateLimiter limiter = new LocalRateLimiter(100_000, CAPACITY, REFILL_PER_SECOND);
+		String key = "/api/v1/ai/**|u:1";
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Long>> results = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					long begin = System.nanoTime();
+					for (int i = 0; i < OPS_PER_RUN * 100; i++) {
+						limiter.tryAcquire(key);
+					}
+					return System.nanoTime() - begin;
+				}));
+			}
+			start.countDown();
+
+			long worstNanos = 0;
+			for (Future<Long> result : results) {
+				worstNanos = Math.max(worstNanos, result.get(60, TimeUnit.SECONDS));
+			}
+			double nanosPerOp = (double)worstNanos / (OPS_PER_RUN * 100);
+			System.out.printf("[benchmark] tryAcquire, 1 hot key, %d threads: %.1f ns/op (slowest thread)%n",
+				threads, nanosPerOp);
+			assertThat(nanosPerOp).isLessThan(1_000);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
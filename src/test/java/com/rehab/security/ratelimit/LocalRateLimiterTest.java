@@ -0,0 +1,35 @@
+package com.rehab.security.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterTest {
+
+	@Test
+	@DisplayName("키마다 버킷이 따로라서 한 키가 한도를 다 써도 다른 키는 영향이 없다")
+	void keysDoNotShareBuckets() {
+		LocalRateLimiter limiter = new LocalRateLimiter(1_000, 2, 0.001);
+
+		assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+		assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+		assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+
+		for (int i = 0; i < 500; i++) {
+			assertThat(limiter.tryAcquire("10.0.1." + i)).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("hashCode 가 같은 키도 서로 다른 버킷을 쓴다")
+	void hashCollisionsAreIsolated() {
+		// "Aa" 와 "BB" 는 hashCode 가 같음
+		assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+		LocalRateLimiter limiter = new LocalRateLimiter(1_000, 1, 0.001);
+
+		assertThat(limiter.tryAcquire("Aa")).isZero();
+		assertThat(limiter.tryAcquire("Aa")).isPositive();
+		assertThat(limiter.tryAcquire("BB")).isZero();
+	}
+}
@@ -0,0 +1,65 @@
+package com.rehab.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RateLimitFilterTest {
+
+	private static final String PATH = "/auth/login";
+
+	@Test
+	@DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For 의 클라이언트 IP 별로 버킷을 나눈다")
+	void trustedProxyUsesForwardedClient() throws Exception {
+		RateLimitFilter filter = filter(List.of("10.0.0.0/8"));
+
+		assertThat(call(filter, "10.0.0.5", "203.0.113.1")).isEqualTo(200);
+		assertThat(call(filter, "10.0.0.5", "203.0.113.2")).isEqualTo(200);
+		assertThat(call(filter, "10.0.0.6", "203.0.113.1")).isEqualTo(429);
+	}
+
+	@Test
+	@DisplayName("클라이언트가 앞에 끼워 넣은 X-Forwarded-For 값은 무시하고 프록시가 붙인 주소를 쓴다")
+	void spoofedLeftmostHopIsIgnored() throws Exception {
+		RateLimitFilter filter = filter(List.of("10.0.0.0/8"));
+
+		assertThat(call(filter, "10.0.0.5", "1.1.1.1, 203.0.113.1")).isEqualTo(200);
+		assertThat(call(filter, "10.0.0.5", "2.2.2.2, 203.0.113.1")).isEqualTo(429);
+	}
+
+	@Test
+	@DisplayName("신뢰하지 않는 주소에서 온 X-Forwarded-For 는 무시한다")
+	void untrustedRemoteIgnoresForwardedFor() throws Exception {
+		RateLimitFilter filter = filter(List.of());
+
+		assertThat(call(filter, "198.51.100.7", "203.0.113.1")).isEqualTo(200);
+		assertThat(call(filter, "198.51.100.7", "203.0.113.2")).isEqualTo(429);
+	}
+
+	private RateLimitFilter filter(List<String> trustedProxies) {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setTrustedProxies(trustedProxies);
+		properties.setRules(List.of(
+			new RateLimitProperties.Rule(PATH, 1, 0.001, RateLimitProperties.KeyType.IP)));
+		return new RateLimitFilter(properties, mock(RedisRateLimiter.class), new ObjectMapper(),
+			new SimpleMeterRegistry());
+	}
+
+	private int call(RateLimitFilter filter, String remoteAddr, String forwardedFor) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+		request.setRemoteAddr(remoteAddr);
+		request.addHeader("X-Forwarded-For", forwardedFor);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response.getStatus();
+	}
+}
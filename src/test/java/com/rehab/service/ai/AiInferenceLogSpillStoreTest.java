@@ -0,0 +1,116 @@
+package com.rehab.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rehab.domain.repository.ai.AiInferenceLogRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiInferenceLogSpillStoreTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("보관한 로그를 그대로 다시 넘기고 파일을 지운다")
+	void replaysSpilledRows() throws IOException {
+		AiInferenceLogSpillStore store = store(512);
+		store.spill(List.of(row(1), row(2)));
+		store.spill(List.of(row(3)));
+
+		List<AiInferenceLogRow> replayed = new ArrayList<>();
+		int count = store.replayOldest(replayed::addAll);
+
+		assertThat(count).isEqualTo(3);
+		assertThat(replayed).containsExactly(row(1), row(2), row(3));
+		assertThat(store.isEmpty()).isTrue();
+		assertThat(store.replayOldest(replayed::addAll)).isZero();
+	}
+
+	@Test
+	@DisplayName("sink 가 실패하면 파일을 남겨 두고 다음에 다시 넘긴다")
+	void keepsSegmentWhenSinkFails() throws IOException {
+		AiInferenceLogSpillStore store = store(512);
+		store.spill(List.of(row(1)));
+
+		assertThatThrownBy(() -> store.replayOldest(rows -> {
+			throw new IllegalStateException("db down");
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(store.isEmpty()).isFalse();
+
+		List<AiInferenceLogRow> replayed = new ArrayList<>();
+		assertThat(store.replayOldest(replayed::addAll)).isEqualTo(1);
+		assertThat(replayed).containsExactly(row(1));
+		assertThat(store.isEmpty()).isTrue();
+	}
+
+	@Test
+	@DisplayName("재저장 중에 들어온 로그는 새 파일에 쓰여 다음 재저장에서 넘어간다")
+	void spillDuringReplayGoesToNextSegment() throws IOException {
+		AiInferenceLogSpillStore store = store(512);
+		store.spill(List.of(row(1)));
+
+		List<AiInferenceLogRow> first = new ArrayList<>();
+		store.replayOldest(rows -> {
+			first.addAll(rows);
+			store.spill(List.of(row(2)));
+		});
+		List<AiInferenceLogRow> second = new ArrayList<>();
+		store.replayOldest(second::addAll);
+
+		assertThat(first).containsExactly(row(1));
+		assertThat(second).containsExactly(row(2));
+		assertThat(store.isEmpty()).isTrue();
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 보관하지 않는다")
+	void rejectsWhenFull() throws IOException {
+		AiInferenceLogSpillStore store = store(0);
+
+		assertThat(store.spill(List.of(row(1)))).isFalse();
+		assertThat(store.isEmpty()).isTrue();
+	}
+
+	@Test
+	@DisplayName("재시작 전에 남은 파일도 넘기고 손상된 줄은 건너뛴다")
+	void replaysLeftoverFilesAndSkipsCorruptLines() throws IOException {
+		String valid = objectMapper.writeValueAsString(row(5));
+		Files.writeString(directory.resolve("spill-1-0.jsonl"),
+			valid + "\n{\"inferenceLogId\": 6, \"userId\"", StandardCharsets.UTF_8);
+
+		AiInferenceLogSpillStore store = store(512);
+		assertThat(store.isEmpty()).isFalse();
+
+		List<AiInferenceLogRow> replayed = new ArrayList<>();
+		assertThat(store.replayOldest(replayed::addAll)).isEqualTo(1);
+		assertThat(replayed).containsExactly(row(5));
+		assertThat(store.isEmpty()).isTrue();
+	}
+
+	private AiInferenceLogSpillStore store(long maxSizeMb) throws IOException {
+		return new AiInferenceLogSpillStore(objectMapper, new SimpleMeterRegistry(), directory.toString(), maxSizeMb, 8);
+	}
+
+	private AiInferenceLogRow row(long id) {
+		return new AiInferenceLogRow(
+			id, 1L, "rehab-recommender-v0", "0.1", "{\"in\":" + id + "}", "{\"out\":" + id + "}",
+			"[]", 12, false, LocalDateTime.of(2026, 1, 1, 9, 0)
+		);
+	}
+}
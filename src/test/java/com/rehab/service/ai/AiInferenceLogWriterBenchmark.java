@@ -0,0 +1,137 @@
+package com.rehab.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.repository.ai.AiInferenceLogBatchRepository;
+import com.rehab.domain.repository.ai.AiInferenceLogRow;
+import com.rehab.support.BenchmarkRunner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 추론 로그 쓰기 벤치마크 (H2 메모리 DB)
+ * - 요청 스레드 비용: 직렬화 + 동기 단건 INSERT vs AiInferenceLogWriter.write (ID 발급 + 버퍼 적재)
+ * - flush 처리량: 행마다 INSERT vs AiInferenceLogBatchRepository 다중 행 INSERT
+ * H2 는 네트워크 왕복이 없으므로 MySQL 에서는 동기 INSERT 쪽 지연이 더 커짐
+ */
+@Tag("benchmark")
+class AiInferenceLogWriterBenchmark {
+
+	private static final int FLUSH_ROWS = 10_000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicLong ids = new AtomicLong();
+
+	private final Map<String, Object> input = Map.of(
+		"context", Map.of("currentPainLevel", 6, "targetArea", "LOWER_BACK", "goal", "허리 통증 완화"));
+	private final Map<String, Object> output = Map.of(
+		"recommendations", IntStream.range(0, 5)
+			.mapToObj(i -> Map.of("exerciseId", 50 + i, "title", "골반 기울이기 " + i, "sets", 3, "reps", 10))
+			.toList());
+
+	private Connection connection;
+	private JdbcTemplate jdbcTemplate;
+	private AiInferenceLogBatchRepository repository;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		connection = DriverManager.getConnection("jdbc:h2:mem:inference-log-bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+		repository = new AiInferenceLogBatchRepository(jdbcTemplate);
+
+		jdbcTemplate.execute("DROP TABLE IF EXISTS ai_inference_log");
+		jdbcTemplate.execute("""
+			CREATE TABLE ai_inference_log (
+			    inference_log_id BIGINT PRIMARY KEY,
+			    user_id BIGINT NOT NULL,
+			    model_key VARCHAR(100) NOT NULL,
+			    model_version VARCHAR(50),
+			    input_snapshot VARCHAR(4000),
+			    output_snapshot VARCHAR(4000),
+			    knowledge_references VARCHAR(1000),
+			    latency_ms INT,
+			    cache_hit BOOLEAN,
+			    created_at TIMESTAMP,
+			    updated_at TIMESTAMP
+			)""");
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		connection.close();
+	}
+
+	@Test
+	@DisplayName("요청 스레드 비용: 동기 단건 INSERT vs 버퍼 적재")
+	void requestThreadCost() {
+		AiInferenceLogSpillStore spillStore = mock(AiInferenceLogSpillStore.class);
+		when(spillStore.isEmpty()).thenReturn(true);
+		// 측정 중 조기 flush 가 끼지 않도록 batch-size 를 버퍼 크기와 같게 (70k 행이 넘치지 않는 크기)
+		AiInferenceLogWriter writer = new AiInferenceLogWriter(
+			repository, spillStore, objectMapper, mock(ThreadPoolTaskExecutor.class),
+			new SimpleMeterRegistry(), 200_000, 200_000, 1);
+
+		BenchmarkRunner.measure("request path, serialize + sync single INSERT", 20, 50, 1_000, () -> {
+			for (int i = 0; i < 1_000; i++) {
+				repository.insertAll(List.of(row()));
+			}
+		});
+		BenchmarkRunner.measure("request path, AiInferenceLogWriter.write", 20, 50, 1_000, () -> {
+			for (int i = 0; i < 1_000; i++) {
+				writer.write(1L, "rehab-recommender-v0", "1.0.0", input, output, List.of(1L, 2L), 120, false);
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("flush 처리량: 행마다 INSERT vs 다중 행 INSERT")
+	void flushThroughput() {
+		List<AiInferenceLogRow> rows = IntStream.range(0, FLUSH_ROWS).mapToObj(i -> row()).toList();
+		long start = System.nanoTime();
+		for (AiInferenceLogRow row : rows) {
+			repository.insertAll(List.of(row));
+		}
+		long rowByRowNanos = System.nanoTime() - start;
+
+		rows = IntStream.range(0, FLUSH_ROWS).mapToObj(i -> row()).toList();
+		start = System.nanoTime();
+		int inserted = repository.insertAll(rows);
+		long batchedNanos = System.nanoTime() - start;
+
+		assertThat(inserted).isEqualTo(FLUSH_ROWS);
+		System.out.printf("[benchmark] %d rows: row-by-row %d statements %.0f rows/s, multi-row %d statements %.0f rows/s%n",
+			FLUSH_ROWS,
+			FLUSH_ROWS, FLUSH_ROWS / (rowByRowNanos / 1e9),
+			(FLUSH_ROWS + 199) / 200, FLUSH_ROWS / (batchedNanos / 1e9));
+	}
+
+	private AiInferenceLogRow row() {
+		try {
+			return new AiInferenceLogRow(
+				ids.incrementAndGet(), 1L, "rehab-recommender-v0", "1.0.0",
+				objectMapper.writeValueAsString(input),
+				objectMapper.writeValueAsString(output),
+				"[1,2]", 120, false, LocalDateTime.now());
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.rehab.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.repository.ai.AiInferenceLogBatchRepository;
+import com.rehab.domain.repository.ai.AiInferenceLogRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiInferenceLogWriterTest {
+
+	private AiInferenceLogBatchRepository repository;
+	private AiInferenceLogSpillStore spillStore;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(AiInferenceLogBatchRepository.class);
+		spillStore = mock(AiInferenceLogSpillStore.class);
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	@DisplayName("노드 ID 를 설정하지 않으면 기동에 실패한다")
+	void requiresNodeId() {
+		assertThatThrownBy(() -> writer(-1)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("요청 경로의 로그는 일반 INSERT 로 저장한다")
+	void flushUsesPlainInsert() {
+		when(spillStore.isEmpty()).thenReturn(true);
+		AiInferenceLogWriter writer = writer(3);
+
+		Long id = writer.write(1L, "model", "v1", "in", "out", List.of(), 10, false);
+		writer.flush();
+
+		verify(repository).insertAll(anyList());
+		verify(repository, never()).insertAllForReplay(anyList());
+		assertThat((id >>> 12) & 1023).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("재저장은 중복을 건너뛰는 INSERT 로, FK 오류가 나면 한 행씩 저장하고 실패한 행만 버린다")
+	@SuppressWarnings("unchecked")
+	void replayFallsBackToRowByRow() {
+		AiInferenceLogRow ok = row(1, 1L);
+		AiInferenceLogRow orphan = row(2, 99L);
+		when(spillStore.isEmpty()).thenReturn(false);
+		doAnswer(invocation -> {
+			Consumer<List<AiInferenceLogRow>> sink = invocation.getArgument(0);
+			sink.accept(List.of(ok, orphan));
+			return 2;
+		}).when(spillStore).replayOldest(any());
+		when(repository.insertAllForReplay(List.of(ok, orphan)))
+			.thenThrow(new DataIntegrityViolationException("fk"));
+		when(repository.insertAllForReplay(List.of(orphan)))
+			.thenThrow(new DataIntegrityViolationException("fk"));
+
+		writer(0).flush();
+
+		verify(repository).insertAllForReplay(List.of(ok));
+		assertThat(meterRegistry.counter("ai.inference_log.dropped").count()).isEqualTo(1);
+	}
+
+	private AiInferenceLogWriter writer(int nodeId) {
+		return new AiInferenceLogWriter(
+			repository, spillStore, new ObjectMapper(), mock(ThreadPoolTaskExecutor.class),
+			meterRegistry, 100, 50, nodeId
+		);
+	}
+
+	private AiInferenceLogRow row(long id, Long userId) {
+		return new AiInferenceLogRow(id, userId, "model", "v1", "{}", "{}", "[]", 10, false, LocalDateTime.of(2026, 1, 1, 9, 0));
+	}
+}
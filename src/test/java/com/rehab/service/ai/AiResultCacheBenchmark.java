@@ -0,0 +1,145 @@
+package com.rehab.service.ai;
+
+import com.rehab.dto.ai.AiRecommendationRequest;
+import com.rehab.dto.ai.AiRecommendationResponse;
+import com.rehab.support.BenchmarkRunner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 추천 결과 캐시 벤치마크 (느린 모델 호출을 sleep 으로 대신)
+ * - 동일 요청 동시 폭주 시 모델 호출 수
+ * - 작은 키 공간(통증 1~10 × 부위 5 × 목표 3)에 몰리는 요청 흐름의 모델 호출 수와 소요 시간
+ * - 캐시 적중 경로의 호출당 지연
+ */
+@Tag("benchmark")
+class AiResultCacheBenchmark {
+
+	private static final String MODEL_KEY = "rehab-recommender-v0";
+	private static final String MODEL_VERSION = "1.0.0";
+	private static final String[] TARGET_AREAS = {"LOWER_BACK", "NECK", "SHOULDER", "KNEE", "ANKLE"};
+	private static final String[] GOALS = {"허리 통증 완화", "가동 범위 회복", "근력 강화"};
+
+	@Test
+	@DisplayName("같은 요청 64개가 동시에 오면 모델은 한 번만 호출된다")
+	void identicalBurstCallsModelOnce() throws Exception {
+		AiResultCache cache = new AiResultCache(new SimpleMeterRegistry(), 10_000, 10);
+		AtomicInteger modelCalls = new AtomicInteger();
+		AiRecommendationRequest request = request(6, "LOWER_BACK", "허리 통증 완화");
+
+		long elapsedMillis = runConcurrently(64, 64, i ->
+			cache.getRecommendation(MODEL_KEY, MODEL_VERSION, request, slowModel(modelCalls, 200)));
+
+		System.out.printf("[benchmark] 64 identical concurrent requests: %d model calls, %d ms wall time%n",
+			modelCalls.get(), elapsedMillis);
+		assertThat(modelCalls.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("작은 키 공간에 몰리는 요청 흐름에서 모델 호출 수는 키 수를 넘지 않는다")
+	void skewedWorkloadCallsModelOncePerKey() throws Exception {
+		AiResultCache cache = new AiResultCache(new SimpleMeterRegistry(), 10_000, 10);
+		AtomicInteger modelCalls = new AtomicInteger();
+		int requests = 3_000;
+		int keySpace = 10 * TARGET_AREAS.length * GOALS.length;
+
+		long elapsedMillis = runConcurrently(16, requests, i -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			AiRecommendationRequest request = request(
+				random.nextInt(1, 11),
+				// 대소문자/공백이 달라도 같은 키로 정규화되는지 함께 확인
+				random.nextBoolean() ? TARGET_AREAS[random.nextInt(TARGET_AREAS.length)]
+					: " " + TARGET_AREAS[random.nextInt(TARGET_AREAS.length)].toLowerCase() + " ",
+				GOALS[random.nextInt(GOALS.length)]);
+			return cache.getRecommendation(MODEL_KEY, MODEL_VERSION, request, slowModel(modelCalls, 20));
+		});
+
+		System.out.printf("[benchmark] %d requests over %d keys, 16 threads: %d model calls (%.1f%% saved), "
+				+ "%d ms wall time (uncached would be about %d ms)%n",
+			requests, keySpace, modelCalls.get(), 100.0 * (requests - modelCalls.get()) / requests,
+			elapsedMillis, (long)requests * 20 / 16);
+		assertThat(modelCalls.get()).isLessThanOrEqualTo(keySpace);
+	}
+
+	@Test
+	@DisplayName("캐시 적중 경로 지연")
+	void cacheHitLatency() {
+		AiResultCache cache = new AiResultCache(new SimpleMeterRegistry(), 10_000, 10);
+		AiRecommendationRequest request = request(6, "LOWER_BACK", "허리 통증 완화");
+		AiRecommendationResponse response = new AiRecommendationResponse();
+		cache.getRecommendation(MODEL_KEY, MODEL_VERSION, request, () -> response);
+
+		BenchmarkRunner.measure("getRecommendation, cache hit", 200, 500, 1_000, () -> {
+			for (int i = 0; i < 1_000; i++) {
+				cache.getRecommendation(MODEL_KEY, MODEL_VERSION, request, () -> {
+					throw new AssertionError("캐시 적중이어야 함");
+				});
+			}
+		});
+	}
+
+	private Supplier<AiRecommendationResponse> slowModel(AtomicInteger modelCalls, long latencyMillis) {
+		return () -> {
+			modelCalls.incrementAndGet();
+			try {
+				Thread.sleep(latencyMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new AiRecommendationResponse();
+		};
+	}
+
+	private long runConcurrently(int threads, int tasks, Task task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>(tasks);
+			for (int i = 0; i < tasks; i++) {
+				int index = i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					return task.run(index);
+				}));
+			}
+			long begin = System.nanoTime();
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private AiRecommendationRequest request(int painLevel, String targetArea, String goal) {
+		return AiRecommendationRequest.builder()
+			.context(AiRecommendationRequest.RecommendationContext.builder()
+				.currentPainLevel(painLevel)
+				.targetArea(targetArea)
+				.goal(goal)
+				.build())
+			.build();
+	}
+
+	@FunctionalInterface
+	private interface Task {
+		Object run(int index) throws Exception;
+	}
+}
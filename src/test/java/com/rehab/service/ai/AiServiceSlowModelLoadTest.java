@@ -0,0 +1,217 @@
+package com.rehab.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.common.util.CircuitBreaker;
+import com.rehab.config.AiModelConfig;
+import com.rehab.domain.repository.ai.AiInferenceLogRepository;
+import com.rehab.domain.repository.user.UserRepository;
+import com.rehab.dto.ai.AiRecommendationRequest;
+import com.rehab.dto.ai.AiRecommendationResponse;
+import com.rehab.service.knowledge.KnowledgeRetrievalService;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 느린 모델 서버 부하 테스트
+ * 커넥션 풀(2개)보다 많은 추천 요청이 모델 응답을 기다리는 동안에도
+ * 풀 커넥션을 잡고 있지 않아 다른 DB 작업이 바로 커넥션을 얻는지 확인
+ */
+@Tag("load")
+class AiServiceSlowModelLoadTest {
+
+	private static final int POOL_SIZE = 2;
+	private static final int CONCURRENT_CALLS = 8;
+
+	// 로컬 모델 서버 스텁 주소 (컨텍스트 생성 전에 설정)
+	private static final AtomicReference<String> MODEL_BASE_URL = new AtomicReference<>();
+
+	private HttpServer modelServer;
+	private CountDownLatch arrived;
+	private CountDownLatch release;
+	private AnnotationConfigApplicationContext context;
+	private ExecutorService callers;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		arrived = new CountDownLatch(CONCURRENT_CALLS);
+		release = new CountDownLatch(1);
+
+		// 요청을 받으면 release 될 때까지 응답하지 않는 느린 모델 서버
+		modelServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		modelServer.setExecutor(Executors.newCachedThreadPool());
+		modelServer.createContext("/api/v1/recommendations", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			arrived.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = "{\"recommendations\":[]}".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		modelServer.start();
+		MODEL_BASE_URL.set("http://127.0.0.1:" + modelServer.getAddress().getPort());
+
+		context = new AnnotationConfigApplicationContext(TestConfig.class);
+		callers = Executors.newFixedThreadPool(CONCURRENT_CALLS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		callers.shutdownNow();
+		context.close();
+		modelServer.stop(0);
+	}
+
+	@Test
+	@DisplayName("모델 응답을 기다리는 요청이 풀 크기보다 많아도 DB 커넥션 풀은 비어 있다")
+	void slowModelDoesNotHoldPoolConnections() throws Exception {
+		AiService aiService = context.getBean(AiService.class);
+		HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+
+		List<Future<AiRecommendationResponse>> results = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_CALLS; i++) {
+			// 통증 수준을 달리해 캐시/single-flight 로 합쳐지지 않게 함
+			AiRecommendationRequest request = recommendationRequest(i + 1);
+			results.add(callers.submit(() -> aiService.recommendExercises(1L, request)));
+		}
+
+		// 풀(2개)보다 많은 8개 요청이 모두 모델 서버까지 도달 → 커넥션 대기로 막힌 요청 없음
+		assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+		HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+		assertThat(pool.getActiveConnections()).isZero();
+		assertThat(pool.getThreadsAwaitingConnection()).isZero();
+
+		// 모델 호출이 진행 중일 때 다른 엔드포인트의 DB 작업도 바로 커넥션을 얻음
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+			context.getBean(PlatformTransactionManager.class));
+		Integer one = transactionTemplate.execute(
+			status -> new JdbcTemplate(dataSource).queryForObject("SELECT 1", Integer.class));
+		assertThat(one).isEqualTo(1);
+
+		release.countDown();
+		for (Future<AiRecommendationResponse> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS).getAiInferenceLogId()).isEqualTo(1L);
+		}
+		verify(context.getBean(AiInferenceLogWriter.class), times(CONCURRENT_CALLS)).write(
+			anyLong(), anyString(), anyString(), any(), any(), any(), anyLong(), anyBoolean());
+	}
+
+	private AiRecommendationRequest recommendationRequest(int painLevel) {
+		return AiRecommendationRequest.builder()
+			.context(AiRecommendationRequest.RecommendationContext.builder()
+				.currentPainLevel(painLevel)
+				.goal("허리 통증 완화")
+				.targetArea("LOWER_BACK")
+				.build())
+			.build();
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	static class TestConfig {
+
+		@Bean(destroyMethod = "close")
+		HikariDataSource dataSource() {
+			HikariDataSource dataSource = new HikariDataSource();
+			dataSource.setJdbcUrl("jdbc:h2:mem:ai-load;DB_CLOSE_DELAY=-1");
+			dataSource.setMaximumPoolSize(POOL_SIZE);
+			dataSource.setConnectionTimeout(250);
+			return dataSource;
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager(HikariDataSource dataSource) {
+			return new DataSourceTransactionManager(dataSource);
+		}
+
+		@Bean
+		UserRepository userRepository(HikariDataSource dataSource, PlatformTransactionManager transactionManager) {
+			// Spring Data 조회처럼 자체 짧은 트랜잭션에서 실제 커넥션을 사용
+			UserRepository userRepository = mock(UserRepository.class);
+			TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+			readOnly.setReadOnly(true);
+			when(userRepository.existsById(anyLong())).thenAnswer(invocation -> readOnly.execute(
+				status -> new JdbcTemplate(dataSource).queryForObject("SELECT 1", Integer.class) == 1));
+			return userRepository;
+		}
+
+		@Bean
+		AiInferenceLogWriter aiInferenceLogWriter() {
+			AiInferenceLogWriter writer = mock(AiInferenceLogWriter.class);
+			when(writer.write(anyLong(), anyString(), anyString(), any(), any(), any(), anyLong(), anyBoolean()))
+				.thenReturn(1L);
+			return writer;
+		}
+
+		@Bean
+		AiService aiService(UserRepository userRepository, AiInferenceLogWriter aiInferenceLogWriter) {
+			JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory();
+			requestFactory.setReadTimeout(Duration.ofSeconds(10));
+
+			AiModelConfig aiModelConfig = mock(AiModelConfig.class);
+			when(aiModelConfig.getAiModelBaseUrl()).thenReturn(MODEL_BASE_URL.get());
+
+			CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
+			when(circuitBreaker.tryAcquire()).thenReturn(true);
+
+			return new AiServiceImpl(
+				new RestTemplate(requestFactory),
+				aiModelConfig,
+				mock(AiInferenceLogRepository.class),
+				userRepository,
+				aiInferenceLogWriter,
+				new AiResultCache(new SimpleMeterRegistry(), 100, 10),
+				circuitBreaker,
+				mock(HeuristicExerciseRecommender.class),
+				mock(KnowledgeRetrievalService.class),
+				new ObjectMapper()
+			);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package com.rehab.service.dailySummary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rehab.dto.dailySummary.DailySummaryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DailySummaryCacheTest {
+
+	private static final DailySummaryKey KEY = new DailySummaryKey(1L, LocalDate.of(2026, 1, 1));
+
+	private StringRedisTemplate redisTemplate;
+	private ValueOperations<String, String> valueOperations;
+	private DailySummaryCache cache;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(StringRedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+		cache = new DailySummaryCache(
+			redisTemplate,
+			new ObjectMapper().registerModule(new JavaTimeModule()),
+			mock(RedisMessageListenerContainer.class),
+			new SimpleMeterRegistry(),
+			100, 30, 300
+		);
+	}
+
+	@Test
+	@DisplayName("세대가 그대로면 읽은 값을 L1 에 채워 다음 조회는 loader 를 부르지 않는다")
+	@SuppressWarnings("unchecked")
+	void populatesWhenNotInvalidated() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+			.thenReturn(1L);
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(KEY, () -> response(loads.incrementAndGet()));
+		DailySummaryResponse second = cache.get(KEY, () -> response(loads.incrementAndGet()));
+
+		assertThat(loads).hasValue(1);
+		assertThat(second.getExerciseCompletionRate()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("loader 실행 중 무효화되면 읽은 값을 L1 에 채우지 않는다")
+	@SuppressWarnings("unchecked")
+	void skipsLocalPopulateWhenEvictedDuringLoad() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+			.thenReturn(1L);
+		AtomicInteger loads = new AtomicInteger();
+
+		DailySummaryResponse stale = cache.get(KEY, () -> {
+			cache.evict(KEY);
+			return response(loads.incrementAndGet());
+		});
+		DailySummaryResponse fresh = cache.get(KEY, () -> response(loads.incrementAndGet()));
+
+		assertThat(stale.getExerciseCompletionRate()).isEqualTo(1);
+		assertThat(fresh.getExerciseCompletionRate()).isEqualTo(2);
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("다른 노드가 세대를 올렸으면 (L2 조건부 저장 실패) L1 에도 채우지 않는다")
+	@SuppressWarnings("unchecked")
+	void skipsLocalPopulateWhenGenerationChanged() {
+		when(valueOperations.get("daily-summary:gen:1:2026-01-01")).thenReturn("3");
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+			.thenReturn(0L);
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(KEY, () -> response(loads.incrementAndGet()));
+		cache.get(KEY, () -> response(loads.incrementAndGet()));
+
+		assertThat(loads).hasValue(2);
+		verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("무효화는 세대를 올린 뒤 값을 지운다")
+	void evictBumpsGenerationBeforeDelete() {
+		cache.evict(KEY);
+
+		InOrder order = inOrder(valueOperations, redisTemplate);
+		order.verify(valueOperations).increment("daily-summary:gen:1:2026-01-01");
+		order.verify(redisTemplate).delete("daily-summary:1:2026-01-01");
+	}
+
+	private DailySummaryResponse response(int marker) {
+		return DailySummaryResponse.builder()
+			.userId(KEY.userId())
+			.date(KEY.date())
+			.exerciseCompletionRate(marker)
+			.dailyMetrics(null)
+			.build();
+	}
+}
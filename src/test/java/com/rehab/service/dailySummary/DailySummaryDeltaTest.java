@@ -0,0 +1,38 @@
+package com.rehab.service.dailySummary;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailySummaryDeltaTest {
+
+	@Test
+	@DisplayName("증분끼리 합치면 항목별로 더해진다")
+	void mergeAddsEachCounter() {
+		DailySummaryDelta a = new DailySummaryDelta(false, 1, 300, 4, 1, 6, 1, 0, 0);
+		DailySummaryDelta b = new DailySummaryDelta(false, 0, 120, 2, 1, 0, 0, 1, 1);
+
+		DailySummaryDelta merged = a.merge(b);
+
+		assertThat(merged).isEqualTo(new DailySummaryDelta(false, 1, 420, 6, 2, 6, 1, 1, 1));
+	}
+
+	@Test
+	@DisplayName("어느 한쪽이라도 전체 재계산이면 결과도 전체 재계산")
+	void mergeWithFullIsFull() {
+		DailySummaryDelta delta = new DailySummaryDelta(false, 1, 300, 4, 1, 6, 1, 0, 0);
+
+		assertThat(delta.merge(DailySummaryDelta.FULL)).isSameAs(DailySummaryDelta.FULL);
+		assertThat(DailySummaryDelta.FULL.merge(delta)).isSameAs(DailySummaryDelta.FULL);
+	}
+
+	@Test
+	@DisplayName("EMPTY 는 합치기의 항등원")
+	void emptyIsIdentity() {
+		DailySummaryDelta delta = new DailySummaryDelta(false, 2, 600, 8, 2, 10, 2, 3, 1);
+
+		assertThat(delta.merge(DailySummaryDelta.EMPTY)).isEqualTo(delta);
+		assertThat(DailySummaryDelta.EMPTY.merge(delta)).isEqualTo(delta);
+	}
+}
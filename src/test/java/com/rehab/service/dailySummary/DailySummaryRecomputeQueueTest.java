@@ -0,0 +1,199 @@
+package com.rehab.service.dailySummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DailySummaryRecomputeQueueTest {
+
+	private static final LocalDate DATE = LocalDate.of(2026, 1, 1);
+	private static final DailySummaryKey KEY = new DailySummaryKey(1L, DATE);
+
+	private DailySummaryService dailySummaryService;
+	private ThreadPoolTaskExecutor executor;
+	private DailySummaryRecomputeQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		dailySummaryService = mock(DailySummaryService.class);
+
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(100);
+		executor.initialize();
+
+		queue = new DailySummaryRecomputeQueue(dailySummaryService, executor, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 키의 증분은 한 번의 반영으로 합쳐진다")
+	void coalescesDeltasForSameKey() {
+		queue.enqueue(KEY, new DailySummaryDelta(false, 1, 300, 0, 0, 0, 0, 0, 0));
+		queue.enqueue(KEY, new DailySummaryDelta(false, 0, 0, 0, 0, 0, 0, 1, 0));
+		queue.enqueue(KEY, new DailySummaryDelta(false, 1, 200, 0, 0, 0, 0, 0, 1));
+
+		queue.drain();
+
+		verify(dailySummaryService, timeout(1000).times(1)).applyDelta(
+			1L, DATE, new DailySummaryDelta(false, 2, 500, 0, 0, 0, 0, 1, 1));
+	}
+
+	@Test
+	@DisplayName("전체 재계산 중에 들어온 증분은 전체 재계산으로 바뀐다")
+	void deltaDuringFullRecomputeBecomesFull() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		doAnswer(invocation -> {
+			if (calls.getAndIncrement() == 0) {
+				started.countDown();
+				release.await(5, TimeUnit.SECONDS);
+			}
+			return null;
+		}).when(dailySummaryService).applyDelta(anyLong(), any(), any());
+
+		queue.enqueue(KEY, DailySummaryDelta.FULL);
+		queue.drain();
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+		queue.enqueue(KEY, new DailySummaryDelta(false, 1, 0, 0, 0, 0, 0, 0, 0));
+		release.countDown();
+
+		// 처리 중인 키는 끝날 때까지 다시 꺼내지 않음
+		verify(dailySummaryService, timeout(1000).times(1)).applyDelta(1L, DATE, DailySummaryDelta.FULL);
+		Thread.sleep(50);
+		queue.drain();
+
+		verify(dailySummaryService, timeout(1000).times(2)).applyDelta(1L, DATE, DailySummaryDelta.FULL);
+	}
+
+	@Test
+	@DisplayName("요약 행이 없어 전체 재계산으로 대체되면 그 전후에 들어온 증분도 전체 재계산이 된다")
+	void noRowFallbackUpgradesConcurrentDeltas() throws Exception {
+		DailySummaryDelta first = new DailySummaryDelta(false, 1, 0, 0, 0, 0, 0, 0, 0);
+		DailySummaryDelta beforeFallback = new DailySummaryDelta(false, 0, 0, 0, 0, 0, 0, 1, 0);
+		DailySummaryDelta duringRecount = new DailySummaryDelta(false, 0, 0, 0, 0, 0, 0, 0, 1);
+
+		CountDownLatch checking = new CountDownLatch(1);
+		CountDownLatch releaseCheck = new CountDownLatch(1);
+		when(dailySummaryService.needsFullRecount(1L, DATE)).thenAnswer(invocation -> {
+			checking.countDown();
+			releaseCheck.await(5, TimeUnit.SECONDS);
+			return true;
+		});
+		CountDownLatch recounting = new CountDownLatch(1);
+		CountDownLatch releaseRecount = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		doAnswer(invocation -> {
+			if (calls.getAndIncrement() == 0) {
+				recounting.countDown();
+				releaseRecount.await(5, TimeUnit.SECONDS);
+			}
+			return null;
+		}).when(dailySummaryService).applyDelta(anyLong(), any(), any());
+
+		queue.enqueue(KEY, first);
+		queue.drain();
+		assertThat(checking.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// 워커가 행 유무를 확인하는 동안 들어온 증분 (아직 전체 재계산 표시 전)
+		queue.enqueue(KEY, beforeFallback);
+		releaseCheck.countDown();
+		assertThat(recounting.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// 전체 재계산 도중 들어온 증분
+		queue.enqueue(KEY, duringRecount);
+		releaseRecount.countDown();
+
+		verify(dailySummaryService, timeout(1000).times(1)).applyDelta(1L, DATE, DailySummaryDelta.FULL);
+		Thread.sleep(50);
+		queue.drain();
+
+		verify(dailySummaryService, timeout(1000).times(2)).applyDelta(1L, DATE, DailySummaryDelta.FULL);
+		verify(dailySummaryService, never()).applyDelta(1L, DATE, first);
+		verify(dailySummaryService, never()).applyDelta(eq(1L), eq(DATE), eq(beforeFallback));
+		verify(dailySummaryService, never()).applyDelta(eq(1L), eq(DATE), eq(duringRecount));
+	}
+
+	@Test
+	@DisplayName("증분 반영에 실패하면 전체 재계산으로 다시 예약된다")
+	void failedDeltaIsRetriedAsFull() throws Exception {
+		DailySummaryDelta delta = new DailySummaryDelta(false, 1, 0, 0, 0, 0, 0, 0, 0);
+		doThrow(new IllegalStateException("db down"))
+			.when(dailySummaryService).applyDelta(1L, DATE, delta);
+
+		queue.enqueue(KEY, delta);
+		queue.drain();
+		verify(dailySummaryService, timeout(1000)).applyDelta(1L, DATE, delta);
+
+		Thread.sleep(50);
+		queue.drain();
+
+		verify(dailySummaryService, timeout(1000)).applyDelta(1L, DATE, DailySummaryDelta.FULL);
+	}
+
+	@Test
+	@DisplayName("같은 키는 동시에 두 워커에서 처리되지 않는다")
+	void sameKeyIsNeverProcessedConcurrently() throws Exception {
+		ConcurrentHashMap<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+		AtomicBoolean overlapped = new AtomicBoolean();
+		AtomicInteger applied = new AtomicInteger();
+		doAnswer(invocation -> {
+			Long userId = invocation.getArgument(0);
+			AtomicInteger counter = running.computeIfAbsent(userId, id -> new AtomicInteger());
+			if (counter.incrementAndGet() > 1) {
+				overlapped.set(true);
+			}
+			Thread.sleep(2);
+			DailySummaryDelta delta = invocation.getArgument(2);
+			applied.addAndGet(delta.completedExercises());
+			counter.decrementAndGet();
+			return null;
+		}).when(dailySummaryService).applyDelta(anyLong(), eq(DATE), any());
+
+		DailySummaryDelta one = new DailySummaryDelta(false, 1, 0, 0, 0, 0, 0, 0, 0);
+		for (int round = 0; round < 50; round++) {
+			for (long userId = 1; userId <= 3; userId++) {
+				queue.enqueue(new DailySummaryKey(userId, DATE), one);
+			}
+			queue.drain();
+		}
+		for (int i = 0; i < 100 && applied.get() < 150; i++) {
+			Thread.sleep(10);
+			queue.drain();
+		}
+
+		assertThat(overlapped).isFalse();
+		assertThat(applied.get()).isEqualTo(150);
+		verify(dailySummaryService, times(0)).applyDelta(anyLong(), eq(DATE), eq(DailySummaryDelta.FULL));
+	}
+}
@@ -0,0 +1,253 @@
+package com.rehab.service.emailService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailOutboxTest {
+
+	private static final long BACKOFF_BASE_MS = 1000;
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	// mail:outbox 리스트 (왼쪽 = first, 오른쪽 = last)
+	private final Deque<String> outbox = new ArrayDeque<>();
+
+	private StringRedisTemplate redisTemplate;
+	private ZSetOperations<String, String> zSetOperations;
+	private JavaMailSender mailSender;
+	private ThreadPoolTaskExecutor executor;
+	private SimpleMeterRegistry meterRegistry;
+	private EmailOutbox emailOutbox;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(StringRedisTemplate.class);
+		ListOperations<String, String> listOperations = mock(ListOperations.class);
+		zSetOperations = mock(ZSetOperations.class);
+		when(redisTemplate.opsForList()).thenReturn(listOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+		// Redis 리스트 명령을 메모리 Deque 로 흉내 (꺼내는 순서 검증용)
+		when(listOperations.leftPush(anyString(), anyString())).thenAnswer(invocation -> {
+			outbox.addFirst(invocation.getArgument(1));
+			return (long)outbox.size();
+		});
+		when(listOperations.rightPush(anyString(), anyString())).thenAnswer(invocation -> {
+			outbox.addLast(invocation.getArgument(1));
+			return (long)outbox.size();
+		});
+		when(listOperations.rightPushAll(anyString(), any(Collection.class))).thenAnswer(invocation -> {
+			Collection<String> values = invocation.getArgument(1);
+			values.forEach(outbox::addLast);
+			return (long)outbox.size();
+		});
+		when(listOperations.rightPop(anyString(), anyLong())).thenAnswer(invocation -> {
+			long count = invocation.getArgument(1);
+			List<String> popped = new ArrayList<>();
+			while (popped.size() < count && !outbox.isEmpty()) {
+				popped.add(outbox.pollLast());
+			}
+			return popped;
+		});
+		when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+			.thenReturn(Set.of());
+
+		mailSender = mock(JavaMailSender.class);
+
+		// 워커 1개, 제출한 작업은 호출 스레드에서 바로 실행
+		executor = mock(ThreadPoolTaskExecutor.class);
+		when(executor.getMaxPoolSize()).thenReturn(1);
+		when(executor.getActiveCount()).thenReturn(0);
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(executor).execute(any(Runnable.class));
+
+		meterRegistry = new SimpleMeterRegistry();
+		emailOutbox = new EmailOutbox(redisTemplate, mailSender, executor, objectMapper, meterRegistry,
+			10, MAX_ATTEMPTS, BACKOFF_BASE_MS);
+	}
+
+	@Test
+	@DisplayName("배치 전체를 넣은 순서대로 send 한 번에 발송한다")
+	void sendsBatchInOneCall() {
+		emailOutbox.enqueue(job("a@test.com", 0));
+		emailOutbox.enqueue(job("b@test.com", 0));
+		emailOutbox.enqueue(job("c@test.com", 0));
+
+		emailOutbox.poll();
+
+		ArgumentCaptor<SimpleMailMessage[]> captor = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+		verify(mailSender, times(1)).send(captor.capture());
+		assertThat(captor.getValue())
+			.extracting(message -> message.getTo()[0])
+			.containsExactly("a@test.com", "b@test.com", "c@test.com");
+		assertThat(meterRegistry.counter("mail.outbox.sent").count()).isEqualTo(3);
+		assertThat(outbox).isEmpty();
+	}
+
+	@Test
+	@DisplayName("일부 메시지만 실패하면 실패한 메시지만 백오프 후 재시도 대기열에 넣는다")
+	void retriesOnlyFailedMessages() throws Exception {
+		doAnswer(invocation -> {
+			SimpleMailMessage[] messages = (SimpleMailMessage[])invocation.getRawArguments()[0];
+			throw new MailSendException(Map.<Object, Exception>of(messages[1], new RuntimeException("550")));
+		}).when(mailSender).send(any(SimpleMailMessage[].class));
+
+		emailOutbox.enqueue(job("a@test.com", 0));
+		emailOutbox.enqueue(job("b@test.com", 0));
+		emailOutbox.enqueue(job("c@test.com", 0));
+
+		long before = System.currentTimeMillis();
+		emailOutbox.poll();
+
+		ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<Double> score = ArgumentCaptor.forClass(Double.class);
+		verify(zSetOperations, times(1)).add(eq("mail:retry"), payload.capture(), score.capture());
+
+		MailJob retried = objectMapper.readValue(payload.getValue(), MailJob.class);
+		assertThat(retried.to()).isEqualTo("b@test.com");
+		assertThat(retried.attempt()).isEqualTo(1);
+		assertThat(score.getValue()).isBetween((double)before + BACKOFF_BASE_MS,
+			(double)System.currentTimeMillis() + BACKOFF_BASE_MS);
+		assertThat(meterRegistry.counter("mail.outbox.sent").count()).isEqualTo(2);
+		assertThat(meterRegistry.counter("mail.outbox.retried").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("연결 실패면 배치 전체를 재시도하고, 지연은 시도 횟수마다 두 배로 늘어난다")
+	void connectionFailureRetriesWholeBatchWithExponentialBackoff() throws Exception {
+		doThrow(new MailSendException("connection refused"))
+			.when(mailSender).send(any(SimpleMailMessage[].class));
+
+		emailOutbox.enqueue(job("a@test.com", 0));
+		emailOutbox.enqueue(job("b@test.com", 1));
+
+		long before = System.currentTimeMillis();
+		emailOutbox.poll();
+
+		ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<Double> score = ArgumentCaptor.forClass(Double.class);
+		verify(zSetOperations, times(2)).add(eq("mail:retry"), payload.capture(), score.capture());
+		long after = System.currentTimeMillis();
+
+		MailJob first = objectMapper.readValue(payload.getAllValues().get(0), MailJob.class);
+		MailJob second = objectMapper.readValue(payload.getAllValues().get(1), MailJob.class);
+		assertThat(first.attempt()).isEqualTo(1);
+		assertThat(second.attempt()).isEqualTo(2);
+		assertThat(score.getAllValues().get(0)).isBetween((double)before + BACKOFF_BASE_MS,
+			(double)after + BACKOFF_BASE_MS);
+		assertThat(score.getAllValues().get(1)).isBetween((double)before + BACKOFF_BASE_MS * 2,
+			(double)after + BACKOFF_BASE_MS * 2);
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수에 닿으면 재시도하지 않고 중복 방지 키를 지운다")
+	void givesUpAfterMaxAttempts() {
+		doThrow(new MailSendException("connection refused"))
+			.when(mailSender).send(any(SimpleMailMessage[].class));
+
+		emailOutbox.enqueue(new MailJob("a@test.com", "제목", "본문", "mail:dedupe:a", MAX_ATTEMPTS - 1));
+
+		emailOutbox.poll();
+
+		verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+		verify(redisTemplate).delete("mail:dedupe:a");
+		assertThat(meterRegistry.counter("mail.outbox.failed").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("재시도 시각이 된 작업은 아웃박스로 옮겨 다시 발송한다")
+	void promotesDueRetries() throws Exception {
+		String payload = objectMapper.writeValueAsString(job("a@test.com", 1));
+		when(zSetOperations.rangeByScore(eq("mail:retry"), anyDouble(), anyDouble(), anyLong(), anyLong()))
+			.thenReturn(new LinkedHashSet<>(List.of(payload)));
+		when(zSetOperations.remove("mail:retry", payload)).thenReturn(1L);
+
+		emailOutbox.poll();
+
+		ArgumentCaptor<SimpleMailMessage[]> captor = ArgumentCaptor.forClass(SimpleMailMessage[].class);
+		verify(mailSender).send(captor.capture());
+		assertThat(captor.getValue()).extracting(message -> message.getTo()[0]).containsExactly("a@test.com");
+	}
+
+	@Test
+	@DisplayName("다른 노드가 먼저 옮긴 재시도 작업은 다시 옮기지 않는다")
+	void skipsRetryRemovedByOtherNode() throws Exception {
+		String payload = objectMapper.writeValueAsString(job("a@test.com", 1));
+		when(zSetOperations.rangeByScore(eq("mail:retry"), anyDouble(), anyDouble(), anyLong(), anyLong()))
+			.thenReturn(new LinkedHashSet<>(List.of(payload)));
+		when(zSetOperations.remove("mail:retry", payload)).thenReturn(0L);
+
+		emailOutbox.poll();
+
+		verify(mailSender, never()).send(any(SimpleMailMessage[].class));
+	}
+
+	@Test
+	@DisplayName("워커가 작업을 거절하면 배치를 원래 순서대로 되돌려 놓는다")
+	void requeuesRejectedBatchInFifoOrder() {
+		doThrow(new TaskRejectedException("busy")).when(executor).execute(any(Runnable.class));
+
+		emailOutbox.enqueue(job("a@test.com", 0));
+		emailOutbox.enqueue(job("b@test.com", 0));
+		emailOutbox.enqueue(job("c@test.com", 0));
+
+		emailOutbox.poll();
+
+		// 거절 전과 같이 가장 오래된 a 가 다시 가장 먼저 꺼내져야 함
+		List<String> order = new ArrayList<>();
+		outbox.descendingIterator().forEachRemaining(payload -> order.add(readTo(payload)));
+		assertThat(order).containsExactly("a@test.com", "b@test.com", "c@test.com");
+		verify(mailSender, never()).send(any(SimpleMailMessage[].class));
+	}
+
+	private MailJob job(String to, int attempt) {
+		return new MailJob(to, "제목", "본문", null, attempt);
+	}
+
+	private String readTo(String payload) {
+		try {
+			return objectMapper.readValue(payload, MailJob.class).to();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
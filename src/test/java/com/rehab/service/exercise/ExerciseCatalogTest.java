@@ -0,0 +1,112 @@
+package com.rehab.service.exercise;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.entity.Exercise;
+import com.rehab.domain.repository.exercise.ExerciseImageRepository;
+import com.rehab.domain.repository.exercise.ExerciseMediaRepository;
+import com.rehab.domain.repository.exercise.ExerciseRepository;
+import com.rehab.dto.exercise.ExerciseDetailResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExerciseCatalogTest {
+
+	private ExerciseRepository exerciseRepository;
+	private ExerciseCatalog catalog;
+
+	@BeforeEach
+	void setUp() {
+		exerciseRepository = mock(ExerciseRepository.class);
+		catalog = new ExerciseCatalog(
+			exerciseRepository,
+			mock(ExerciseImageRepository.class),
+			mock(ExerciseMediaRepository.class),
+			new ObjectMapper()
+		);
+	}
+
+	@Test
+	@DisplayName("DB 에도 없는 ID 는 잠시 기억해 다시 조회하지 않는다")
+	void remembersMissingIds() {
+		when(exerciseRepository.findAll()).thenReturn(List.of());
+		when(exerciseRepository.existsById(99L)).thenReturn(false);
+
+		assertThat(catalog.getDetail(99L)).isEmpty();
+		assertThat(catalog.getDetail(99L)).isEmpty();
+
+		verify(exerciseRepository, times(1)).existsById(99L);
+		verify(exerciseRepository, times(1)).findAll();
+	}
+
+	@Test
+	@DisplayName("스냅샷에 없는 새 운동을 동시에 조회해도 다시 읽기는 한 번만 한다")
+	void concurrentMissesReloadOnce() throws Exception {
+		Exercise squat = Exercise.builder().exerciseId(5L).title("스쿼트").build();
+		when(exerciseRepository.findAll()).thenReturn(List.of(), List.of(squat));
+		when(exerciseRepository.existsById(5L)).thenReturn(true);
+		catalog.current();
+
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Optional<ExerciseDetailResponse>>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					return catalog.getDetail(5L);
+				}));
+			}
+			start.countDown();
+
+			for (Future<Optional<ExerciseDetailResponse>> future : futures) {
+				assertThat(future.get()).map(ExerciseDetailResponse::getTitle).hasValue("스쿼트");
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		verify(exerciseRepository, times(2)).findAll();
+		assertThat(catalog.current().version()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("처음 적재는 동시에 호출해도 한 번만 한다")
+	void initialLoadHappensOnce() throws Exception {
+		when(exerciseRepository.findAll()).thenReturn(List.of());
+
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<ExerciseCatalog.Snapshot>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					return catalog.current();
+				}));
+			}
+			start.countDown();
+			for (Future<ExerciseCatalog.Snapshot> future : futures) {
+				assertThat(future.get().version()).isEqualTo(1);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		verify(exerciseRepository, times(1)).findAll();
+	}
+}
@@ -0,0 +1,101 @@
+package com.rehab.service.exercise;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.entity.Exercise;
+import com.rehab.domain.entity.enums.Difficulty;
+import com.rehab.domain.entity.enums.EvidenceLevel;
+import com.rehab.support.BenchmarkRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운동 검색 인덱스 벤치마크 (합성 카탈로그 1천 / 1만 건)
+ * 추천 대체 경로와 플랜 작성 화면에서 쓰는 형태의 조건으로 검색 지연 측정, 목표는 수십 µs 이내
+ */
+@Tag("benchmark")
+class ExerciseSearchIndexBenchmark {
+
+	private static final String[] BODY_PARTS = {
+		"LOWER_BACK", "NECK", "SHOULDER", "KNEE", "ANKLE", "HIP", "WRIST", "ELBOW"
+	};
+	private static final String[] MODIFIERS = {"벽", "와이드", "점프", "한발", "밴드", "덤벨", "누워서", "앉아서", "서서", "보조"};
+	private static final String[] MOTIONS = {
+		"스쿼트", "런지", "브릿지", "플랭크", "스트레칭", "회전", "들어올리기", "굽혀 펴기", "버티기", "걷기"
+	};
+	private static final String[] CONTRAINDICATIONS = {
+		"[]", "[\"급성 요통\"]", "[\"임신\"]", "{\"Pregnancy\": \"임신 중 금지\"}", "[\"골다공증\", \"급성 요통\"]"
+	};
+
+	private static final List<ExerciseSearchCondition> CONDITIONS = List.of(
+		// 규칙 기반 추천: 부위 + 난이도 + 금기 제외
+		ExerciseSearchCondition.builder()
+			.bodyParts(Set.of("KNEE"))
+			.difficulties(Set.of(Difficulty.BEGINNER, Difficulty.INTERMEDIATE))
+			.excludedContraindications(Set.of("급성 요통"))
+			.limit(10)
+			.build(),
+		// 플랜 작성 화면: 제목 부분 일치
+		ExerciseSearchCondition.builder().query("스쿼트").limit(20).build(),
+		// 제목 한 글자 접두
+		ExerciseSearchCondition.builder().query("벽").limit(20).build(),
+		// 제목 + 부위 + 근거 수준 + 금기 있는 운동 모두 제외
+		ExerciseSearchCondition.builder()
+			.query("브릿지")
+			.bodyParts(Set.of("LOWER_BACK", "HIP"))
+			.minEvidenceLevel(EvidenceLevel.B)
+			.excludeAnyContraindication(true)
+			.limit(20)
+			.build()
+	);
+
+	@ParameterizedTest(name = "운동 {0}개")
+	@ValueSource(ints = {1_000, 10_000})
+	@DisplayName("필터/제목 검색 조건별 지연")
+	void search(int catalogSize) {
+		ExerciseSearchIndex index = new ExerciseSearchIndex(catalog(catalogSize), new ObjectMapper());
+
+		for (ExerciseSearchCondition condition : CONDITIONS) {
+			assertThat(index.search(condition).totalCount()).isPositive();
+		}
+
+		BenchmarkRunner.Result result = BenchmarkRunner.measure(
+			"search, " + catalogSize + " exercises, 4 condition mix", 500, 2_000, CONDITIONS.size(), () -> {
+				for (ExerciseSearchCondition condition : CONDITIONS) {
+					index.search(condition);
+				}
+			});
+
+		if (catalogSize <= 1_000) {
+			assertThat(result.p50Nanos()).isLessThan(100_000);
+		}
+	}
+
+	private List<Exercise> catalog(int size) {
+		Random random = new Random(7);
+		Difficulty[] difficulties = Difficulty.values();
+		EvidenceLevel[] levels = EvidenceLevel.values();
+
+		List<Exercise> exercises = new ArrayList<>(size);
+		for (int i = 1; i <= size; i++) {
+			exercises.add(Exercise.builder()
+				.exerciseId((long)i)
+				.title(MODIFIERS[random.nextInt(MODIFIERS.length)] + " " + MOTIONS[random.nextInt(MOTIONS.length)]
+					+ " " + i)
+				.bodyPart(BODY_PARTS[random.nextInt(BODY_PARTS.length)])
+				.difficulty(difficulties[random.nextInt(difficulties.length)])
+				.evidenceLevel(levels[random.nextInt(levels.length)])
+				.contraindications(CONTRAINDICATIONS[random.nextInt(CONTRAINDICATIONS.length)])
+				.build());
+		}
+		return exercises;
+	}
+}
@@ -0,0 +1,136 @@
+package com.rehab.service.exercise;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.entity.Exercise;
+import com.rehab.domain.entity.enums.Difficulty;
+import com.rehab.domain.entity.enums.EvidenceLevel;
+import com.rehab.dto.exercise.ExerciseSearchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExerciseSearchIndexTest {
+
+	private ExerciseSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ExerciseSearchIndex(List.of(
+			exercise(4L, "점프스쿼트", "KNEE", Difficulty.ADVANCED, EvidenceLevel.C, "{\"Pregnancy\": \"임신 중 금지\"}"),
+			exercise(1L, "스쿼트", "knee", Difficulty.BEGINNER, EvidenceLevel.A, "[\"급성 요통\"]"),
+			exercise(2L, "와이드 스쿼트", "KNEE", Difficulty.INTERMEDIATE, EvidenceLevel.B, null),
+			exercise(3L, "벽 스쿼트", "KNEE", Difficulty.INTERMEDIATE, EvidenceLevel.A, null),
+			exercise(5L, "어깨 회전", "SHOULDER", Difficulty.BEGINNER, null, "[]"),
+			exercise(6L, "aba", null, null, null, "not json")
+		), new ObjectMapper());
+	}
+
+	@Test
+	@DisplayName("검색어가 없으면 근거 수준, 운동 ID 순으로 전체를 돌려준다")
+	void noQueryOrdersByEvidenceThenId() {
+		assertThat(ids(ExerciseSearchCondition.builder().build()))
+			.containsExactly(1L, 3L, 2L, 4L, 5L, 6L);
+	}
+
+	@Test
+	@DisplayName("제목 일치도(완전 > 접두 > 단어 접두 > 부분) 다음 근거 수준 순으로 정렬한다")
+	void ranksByTitleMatch() {
+		assertThat(ids(ExerciseSearchCondition.builder().query("스쿼트").build()))
+			.containsExactly(1L, 3L, 2L, 4L);
+		assertThat(ids(ExerciseSearchCondition.builder().query("점프").build()))
+			.containsExactly(4L);
+	}
+
+	@Test
+	@DisplayName("한 글자 검색어와 전각/대문자 검색어도 찾는다")
+	void singleCharacterAndNormalizedQuery() {
+		assertThat(ids(ExerciseSearchCondition.builder().query("벽").build())).containsExactly(3L);
+		assertThat(ids(ExerciseSearchCondition.builder().query("ＡＢＡ").build())).containsExactly(6L);
+	}
+
+	@Test
+	@DisplayName("2-gram 은 모두 있지만 부분 문자열이 아닌 제목은 제외한다")
+	void gramCandidatesAreVerified() {
+		assertThat(ids(ExerciseSearchCondition.builder().query("abab").build())).isEmpty();
+		assertThat(ids(ExerciseSearchCondition.builder().query("런지").build())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("신체 부위는 대소문자 구분 없이, 난이도는 OR 로 거른다")
+	void filtersByBodyPartAndDifficulty() {
+		assertThat(ids(ExerciseSearchCondition.builder().bodyParts(Set.of("Knee")).build()))
+			.containsExactly(1L, 3L, 2L, 4L);
+		assertThat(ids(ExerciseSearchCondition.builder()
+			.difficulties(Set.of(Difficulty.BEGINNER, Difficulty.ADVANCED)).build()))
+			.containsExactly(1L, 4L, 5L);
+		assertThat(ids(ExerciseSearchCondition.builder()
+			.bodyParts(Set.of("KNEE")).difficulties(Set.of(Difficulty.BEGINNER)).build()))
+			.containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("최소 근거 수준 이상만 남기고 근거 수준이 없는 운동은 제외한다")
+	void filtersByMinimumEvidence() {
+		assertThat(ids(ExerciseSearchCondition.builder().minEvidenceLevel(EvidenceLevel.B).build()))
+			.containsExactly(1L, 3L, 2L);
+	}
+
+	@Test
+	@DisplayName("금기사항이 있는 운동 또는 특정 금기 태그가 있는 운동을 제외한다")
+	void excludesContraindications() {
+		assertThat(ids(ExerciseSearchCondition.builder().excludeAnyContraindication(true).build()))
+			.containsExactly(3L, 2L, 5L, 6L);
+		assertThat(ids(ExerciseSearchCondition.builder().excludedContraindications(Set.of("PREGNANCY")).build()))
+			.containsExactly(1L, 3L, 2L, 5L, 6L);
+		assertThat(ids(ExerciseSearchCondition.builder().excludedContraindications(Set.of("급성  요통")).build()))
+			.containsExactly(3L, 2L, 4L, 5L, 6L);
+	}
+
+	@Test
+	@DisplayName("limit 은 결과 수만 자르고 totalCount 는 전체 일치 수")
+	void limitKeepsTotalCount() {
+		ExerciseSearchIndex.Result result = index.search(ExerciseSearchCondition.builder().query("스쿼트").limit(2).build());
+
+		assertThat(result.totalCount()).isEqualTo(4);
+		assertThat(result.exercises()).extracting(ExerciseSearchResponse.ExerciseSummary::getExerciseId)
+			.containsExactly(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("요약에는 정규화한 금기 태그가 담긴다")
+	void summaryCarriesTags() {
+		ExerciseSearchResponse.ExerciseSummary summary = index.search(
+			ExerciseSearchCondition.builder().query("점프스쿼트").build()).exercises().get(0);
+
+		assertThat(summary.getContraindications()).containsExactly("pregnancy", "임신 중 금지");
+	}
+
+	private List<Long> ids(ExerciseSearchCondition condition) {
+		return index.search(condition).exercises().stream()
+			.map(ExerciseSearchResponse.ExerciseSummary::getExerciseId)
+			.toList();
+	}
+
+	private Exercise exercise(
+		Long id,
+		String title,
+		String bodyPart,
+		Difficulty difficulty,
+		EvidenceLevel evidenceLevel,
+		String contraindications
+	) {
+		return Exercise.builder()
+			.exerciseId(id)
+			.title(title)
+			.bodyPart(bodyPart)
+			.difficulty(difficulty)
+			.evidenceLevel(evidenceLevel)
+			.contraindications(contraindications)
+			.build();
+	}
+}
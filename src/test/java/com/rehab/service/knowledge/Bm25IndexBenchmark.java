@@ -0,0 +1,119 @@
+package com.rehab.service.knowledge;
+
+import com.rehab.domain.entity.enums.EvidenceLevel;
+import com.rehab.domain.entity.enums.MedicalKnowledgeCategory;
+import com.rehab.support.BenchmarkRunner;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 의학 지식 검색 벤치마크 (합성 문서 10만 건)
+ * 추천 1건에 근거를 붙이는 경로와 같은 형태(운동 제목 + 부위 + 목표, 카테고리 필터, top 3)로 검색 지연 측정
+ * 단어는 지수 분포로 골라 실제 문서처럼 흔한 단어와 드문 단어가 섞이게 함
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class Bm25IndexBenchmark {
+
+	private static final int DOCUMENTS = 100_000;
+	private static final int TITLE_WORDS = 4;
+	private static final int CONTENT_WORDS = 60;
+
+	private static final String[] VOCABULARY = {
+		"무릎", "허리", "어깨", "목", "발목", "고관절", "손목", "팔꿈치", "척추", "골반",
+		"통증", "부기", "염증", "경직", "저림", "약화", "불안정", "손상", "파열", "탈구",
+		"운동", "스트레칭", "근력", "가동", "범위", "균형", "보행", "훈련", "재활", "회복",
+		"수술", "보존적", "치료", "관리", "예방", "진단", "평가", "처방", "단계", "기간",
+		"급성기", "아급성기", "만성", "노인", "청소년", "운동선수", "임산부", "환자", "보호자", "전문가",
+		"냉찜질", "온찜질", "테이핑", "보조기", "체중", "부하", "반복", "세트", "휴식", "강도",
+		"코어", "안정화", "신경", "근육", "인대", "힘줄", "연골", "관절", "자세", "교정",
+		"protocol", "ACL", "MRI", "ROM", "RCT", "meta", "analysis", "guideline", "evidence", "cohort"
+	};
+
+	private static final Set<MedicalKnowledgeCategory> EVIDENCE_CATEGORIES = EnumSet.of(
+		MedicalKnowledgeCategory.GUIDELINE, MedicalKnowledgeCategory.PROTOCOL, MedicalKnowledgeCategory.RESEARCH);
+
+	private static final String[] QUERIES = {
+		"골반 기울이기 허리 허리 통증 완화",
+		"무릎 굽혀 펴기 무릎 가동 범위 회복",
+		"어깨 외회전 밴드 운동 어깨 근력 강화",
+		"발목 균형 훈련 발목 보행 회복",
+		"목 스트레칭 목 경직 완화"
+	};
+
+	private final Random random = new Random(42);
+	private Bm25Index index;
+
+	@BeforeAll
+	void buildIndex() {
+		index = new Bm25Index();
+		MedicalKnowledgeCategory[] categories = MedicalKnowledgeCategory.values();
+		EvidenceLevel[] levels = EvidenceLevel.values();
+
+		long start = System.nanoTime();
+		for (int id = 1; id <= DOCUMENTS; id++) {
+			index.upsert(id, words(TITLE_WORDS), words(CONTENT_WORDS),
+				categories[random.nextInt(categories.length)], levels[random.nextInt(levels.length)]);
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		System.out.printf("[benchmark] built BM25 index over %,d documents in %,d ms%n", DOCUMENTS, elapsedMillis);
+		assertThat(index.size()).isEqualTo(DOCUMENTS);
+	}
+
+	@Test
+	@DisplayName("추천 1건 근거 검색 (카테고리 필터, top 3) 은 수 ms 안에 끝난다")
+	void topKSearch() {
+		BenchmarkRunner.Result result = BenchmarkRunner.measure("search top 3, 100k docs, category filter",
+			50, 500, QUERIES.length, () -> {
+				for (String query : QUERIES) {
+					index.search(query, EVIDENCE_CATEGORIES, null, 3);
+				}
+			});
+
+		assertThat(result.p50Nanos()).isLessThan(3_000_000);
+	}
+
+	@Test
+	@DisplayName("최소 근거 수준 필터를 함께 건 검색")
+	void topKSearchWithEvidenceFilter() {
+		BenchmarkRunner.Result result = BenchmarkRunner.measure("search top 3, 100k docs, category + evidence >= B",
+			50, 500, QUERIES.length, () -> {
+				for (String query : QUERIES) {
+					index.search(query, EVIDENCE_CATEGORIES, EvidenceLevel.B, 3);
+				}
+			});
+
+		assertThat(result.p50Nanos()).isLessThan(3_000_000);
+	}
+
+	@Test
+	@DisplayName("문서 1건 증분 반영 (수정)")
+	void incrementalUpsert() {
+		BenchmarkRunner.measure("upsert 1 existing document, 100k docs", 100, 1_000, 1, () ->
+			index.upsert(1 + random.nextInt(DOCUMENTS), words(TITLE_WORDS), words(CONTENT_WORDS),
+				MedicalKnowledgeCategory.GUIDELINE, EvidenceLevel.A));
+		index.compactIfNeeded();
+	}
+
+	// 앞쪽 단어일수록 자주 나오는 지수 분포
+	private String words(int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			int rank = Math.min(VOCABULARY.length - 1, (int)(-Math.log(1 - random.nextDouble()) * 15));
+			if (i > 0) {
+				text.append(' ');
+			}
+			text.append(VOCABULARY[rank]);
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,128 @@
+package com.rehab.service.knowledge;
+
+import com.rehab.domain.entity.enums.EvidenceLevel;
+import com.rehab.domain.entity.enums.MedicalKnowledgeCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Bm25IndexTest {
+
+	@Test
+	@DisplayName("쿼리 용어가 더 많이 나오는 문서가 위로 온다")
+	void ranksByRelevance() {
+		Bm25Index index = new Bm25Index();
+		index.upsert(1, "무릎 수술 후 관리", "무릎 통증 무릎 부기 관리", MedicalKnowledgeCategory.GUIDELINE, EvidenceLevel.A);
+		index.upsert(2, "어깨 운동", "어깨 가동 범위 운동", MedicalKnowledgeCategory.GUIDELINE, EvidenceLevel.A);
+		index.upsert(3, "하지 운동", "무릎 주변 근력 운동", MedicalKnowledgeCategory.PROTOCOL, EvidenceLevel.B);
+
+		List<Bm25Index.Hit> hits = index.search("무릎 통증", null, null, 10);
+
+		assertThat(hits).extracting(Bm25Index.Hit::knowledgeId).containsExactly(1L, 3L);
+		assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+	}
+
+	@Test
+	@DisplayName("제목에 나온 용어는 본문보다 높게 친다")
+	void titleWeighsMore() {
+		Bm25Index index = new Bm25Index();
+		index.upsert(1, "기타", "보행 훈련 방법", MedicalKnowledgeCategory.GUIDELINE, null);
+		index.upsert(2, "보행 훈련", "기타 방법", MedicalKnowledgeCategory.GUIDELINE, null);
+
+		assertThat(index.search("보행", null, null, 10))
+			.extracting(Bm25Index.Hit::knowledgeId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("카테고리와 최소 근거 수준으로 거른다")
+	void filtersByCategoryAndEvidence() {
+		Bm25Index index = new Bm25Index();
+		index.upsert(1, "무릎", "무릎", MedicalKnowledgeCategory.GUIDELINE, EvidenceLevel.A);
+		index.upsert(2, "무릎", "무릎", MedicalKnowledgeCategory.RESEARCH, EvidenceLevel.C);
+		index.upsert(3, "무릎", "무릎", MedicalKnowledgeCategory.GUIDELINE, EvidenceLevel.C);
+		index.upsert(4, "무릎", "무릎", MedicalKnowledgeCategory.GUIDELINE, null);
+
+		assertThat(index.search("무릎", Set.of(MedicalKnowledgeCategory.GUIDELINE), null, 10))
+			.extracting(Bm25Index.Hit::knowledgeId).containsExactlyInAnyOrder(1L, 3L, 4L);
+		assertThat(index.search("무릎", null, EvidenceLevel.B, 10))
+			.extracting(Bm25Index.Hit::knowledgeId).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("수정하면 이전 내용으로는 더 이상 찾을 수 없다")
+	void upsertReplacesDocument() {
+		Bm25Index index = new Bm25Index();
+		index.upsert(1, "어깨", "어깨 운동", MedicalKnowledgeCategory.GUIDELINE, null);
+		index.upsert(1, "허리", "허리 운동", MedicalKnowledgeCategory.GUIDELINE, null);
+
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.search("어깨", null, null, 10)).isEmpty();
+		assertThat(index.search("허리", null, null, 10))
+			.extracting(Bm25Index.Hit::knowledgeId).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("retainOnly 는 목록에 없는 문서만 지우고 개수를 돌려준다")
+	void retainOnlyRemovesMissing() {
+		Bm25Index index = new Bm25Index();
+		for (long id = 1; id <= 5; id++) {
+			index.upsert(id, "운동", "운동", MedicalKnowledgeCategory.GUIDELINE, null);
+		}
+
+		assertThat(index.retainOnly(Set.of(1L, 3L, 5L))).isEqualTo(2);
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.search("운동", null, null, 10))
+			.extracting(Bm25Index.Hit::knowledgeId).containsExactlyInAnyOrder(1L, 3L, 5L);
+	}
+
+	@Test
+	@DisplayName("compact 뒤에도 검색 결과와 점수가 삭제 문서가 없는 새 인덱스와 같다")
+	void compactionKeepsResults() {
+		Bm25Index compacted = new Bm25Index();
+		Bm25Index fresh = new Bm25Index();
+		for (long id = 1; id <= 10; id++) {
+			String content = id % 2 == 0 ? "무릎 근력 운동" : "어깨 가동 범위";
+			compacted.upsert(id, "재활 " + id, content, MedicalKnowledgeCategory.PROTOCOL, EvidenceLevel.B);
+			if (id > 4) {
+				fresh.upsert(id, "재활 " + id, content, MedicalKnowledgeCategory.PROTOCOL, EvidenceLevel.B);
+			}
+		}
+		for (long id = 1; id <= 4; id++) {
+			compacted.remove(id);
+		}
+
+		compacted.compactIfNeeded();
+
+		List<Bm25Index.Hit> expected = fresh.search("무릎 운동", null, null, 10);
+		List<Bm25Index.Hit> actual = compacted.search("무릎 운동", null, null, 10);
+		assertThat(actual).extracting(Bm25Index.Hit::knowledgeId)
+			.containsExactlyElementsOf(expected.stream().map(Bm25Index.Hit::knowledgeId).toList());
+		for (int i = 0; i < expected.size(); i++) {
+			assertThat(actual.get(i).score()).isEqualTo(expected.get(i).score());
+		}
+
+		// compact 후 수정/삭제도 올바른 슬롯에 반영
+		compacted.remove(6);
+		compacted.upsert(8, "재활", "어깨", MedicalKnowledgeCategory.PROTOCOL, EvidenceLevel.B);
+		assertThat(compacted.search("무릎", null, null, 10))
+			.extracting(Bm25Index.Hit::knowledgeId).containsExactlyInAnyOrder(10L);
+	}
+
+	@Test
+	@DisplayName("삭제 표시가 비율 아래면 compact 하지 않아도 삭제 문서는 결과에 없다")
+	void deletedDocsHiddenBeforeCompaction() {
+		Bm25Index index = new Bm25Index();
+		for (long id = 1; id <= 10; id++) {
+			index.upsert(id, "운동", "운동", MedicalKnowledgeCategory.GUIDELINE, null);
+		}
+		index.remove(1);
+		index.compactIfNeeded();
+
+		assertThat(index.search("운동", null, null, 20))
+			.extracting(Bm25Index.Hit::knowledgeId).doesNotContain(1L).hasSize(9);
+	}
+}
@@ -0,0 +1,82 @@
+package com.rehab.service.knowledge;
+
+import com.rehab.domain.entity.MedicalKnowledge;
+import com.rehab.domain.entity.enums.MedicalKnowledgeCategory;
+import com.rehab.domain.repository.knowledge.MedicalKnowledgeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KnowledgeRetrievalServiceTest {
+
+	private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+	private MedicalKnowledgeRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(MedicalKnowledgeRepository.class);
+		when(repository.findByKnowledgeIdGreaterThanOrderByKnowledgeIdAsc(anyLong(), any()))
+			.thenReturn(List.of(knowledge(1L), knowledge(2L)));
+		when(repository.findByUpdatedAtGreaterThanEqual(any())).thenReturn(List.of());
+	}
+
+	@Test
+	@DisplayName("건수가 같아도 주기가 되면 전체 ID 와 비교해 삭제된 문서를 뺀다")
+	void reconcilesEvenWhenCountMatches() {
+		KnowledgeRetrievalService service = new KnowledgeRetrievalService(repository, 100, 0);
+		service.sync();
+
+		// 2 는 지워지고 워터마크보다 이전 시각으로 커밋된 3 이 들어와 건수는 그대로
+		when(repository.count()).thenReturn(2L);
+		when(repository.findAllIds()).thenReturn(List.of(1L, 3L));
+		service.sync();
+
+		assertThat(service.search("무릎", null, null, 10)).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("주기 전이고 건수가 같으면 전체 ID 를 읽지 않는다")
+	void skipsReconcileBeforeInterval() {
+		KnowledgeRetrievalService service = new KnowledgeRetrievalService(repository, 100, Long.MAX_VALUE);
+		service.sync();
+
+		when(repository.count()).thenReturn(2L);
+		when(repository.findAllIds()).thenReturn(List.of(1L, 3L));
+		service.sync();
+
+		assertThat(service.search("무릎", null, null, 10)).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("건수가 다르면 주기와 상관없이 바로 정리한다")
+	void reconcilesOnCountMismatch() {
+		KnowledgeRetrievalService service = new KnowledgeRetrievalService(repository, 100, Long.MAX_VALUE);
+		service.sync();
+
+		when(repository.count()).thenReturn(1L);
+		when(repository.findAllIds()).thenReturn(List.of(1L));
+		service.sync();
+
+		assertThat(service.search("무릎", null, null, 10)).containsExactly(1L);
+	}
+
+	private MedicalKnowledge knowledge(Long id) {
+		MedicalKnowledge knowledge = mock(MedicalKnowledge.class);
+		when(knowledge.getKnowledgeId()).thenReturn(id);
+		when(knowledge.getTitle()).thenReturn("무릎 재활 " + id);
+		when(knowledge.getContent()).thenReturn("무릎 근력 운동");
+		when(knowledge.getCategory()).thenReturn(MedicalKnowledgeCategory.GUIDELINE);
+		when(knowledge.getUpdatedAt()).thenReturn(UPDATED_AT);
+		return knowledge;
+	}
+}
@@ -0,0 +1,45 @@
+package com.rehab.service.knowledge;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KnowledgeTokenizerTest {
+
+	@Test
+	@DisplayName("한글 구간은 2-gram 으로 나눈다")
+	void hangulBigrams() {
+		assertThat(KnowledgeTokenizer.tokenize("허리통증을"))
+			.containsExactly("허리", "리통", "통증", "증을");
+	}
+
+	@Test
+	@DisplayName("한 글자 한글 구간은 그대로 둔다")
+	void singleHangulSyllable() {
+		assertThat(KnowledgeTokenizer.tokenize("목 통증")).containsExactly("목", "통증");
+	}
+
+	@Test
+	@DisplayName("영문/숫자는 소문자 단어 하나, 한글과 붙어 있으면 따로 나눈다")
+	void latinAndDigits() {
+		assertThat(KnowledgeTokenizer.tokenize("ACL 재건술 Phase2"))
+			.containsExactly("acl", "재건", "건술", "phase2");
+		assertThat(KnowledgeTokenizer.tokenize("MRI검사")).containsExactly("mri", "검사");
+	}
+
+	@Test
+	@DisplayName("전각 문자는 NFKC 로 정규화하고 구두점은 구분자로 쓴다")
+	void normalizesAndSplitsOnPunctuation() {
+		assertThat(KnowledgeTokenizer.tokenize("ＲＯＭ, 운동-범위!"))
+			.containsExactly("rom", "운동", "범위");
+	}
+
+	@Test
+	@DisplayName("null 이나 빈 문자열은 토큰이 없다")
+	void emptyInput() {
+		assertThat(KnowledgeTokenizer.tokenize(null)).isEmpty();
+		assertThat(KnowledgeTokenizer.tokenize("")).isEmpty();
+		assertThat(KnowledgeTokenizer.tokenize(" ,.!")).isEmpty();
+	}
+}
@@ -0,0 +1,209 @@
+package com.rehab.service.medicationService;
+
+import com.rehab.domain.entity.enums.TimeOfDay;
+import com.rehab.support.BenchmarkRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하루 복약 스케줄 조회 벤치마크 (약 3종을 하루 3번씩 2년간 기록한 환자, H2 메모리 DB)
+ * getSchedulesForDate 의 조회 형태를 Hibernate 가 내보내는 SQL 그대로 재현해 비교
+ * - 이전: 약 목록 → 약마다 스케줄 지연 로딩 → 약마다 전체 복약 기록 지연 로딩 → 스케줄마다 기록 전체 스트림 필터
+ * - 이후: 스케줄+약 fetch join 1회 + 그날 기록 범위 조회 1회 → (약, timeOfDay) HashMap 매칭
+ * 문장 수와 읽은 행 수는 정확하고, 지연은 네트워크 왕복이 없는 값
+ */
+@Tag("benchmark")
+class DailyScheduleQueryBenchmark {
+
+	private static final long USER_ID = 1L;
+	private static final int MEDICATIONS = 3;
+	private static final int DAYS = 730;
+	private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+	private static final LocalDate TARGET_DAY = FIRST_DAY.plusDays(DAYS - 1);
+	private static final List<TimeOfDay> TIMES = List.of(TimeOfDay.MORNING, TimeOfDay.LUNCH, TimeOfDay.DINNER);
+
+	private final AtomicInteger statements = new AtomicInteger();
+	private final AtomicInteger rowsRead = new AtomicInteger();
+
+	private Connection connection;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		connection = DriverManager.getConnection("jdbc:h2:mem:medication-bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+		jdbcTemplate.execute("DROP TABLE IF EXISTS medication_log");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS medi_schedule");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS medication");
+		jdbcTemplate.execute("""
+			CREATE TABLE medication (
+			    medication_id BIGINT PRIMARY KEY,
+			    user_id BIGINT NOT NULL,
+			    name VARCHAR(255) NOT NULL,
+			    dose VARCHAR(100)
+			)""");
+		jdbcTemplate.execute("""
+			CREATE TABLE medi_schedule (
+			    medi_schedule_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+			    medication_id BIGINT NOT NULL,
+			    time_of_day VARCHAR(20) NOT NULL,
+			    notify BOOLEAN DEFAULT TRUE,
+			    rrule VARCHAR(500)
+			)""");
+		jdbcTemplate.execute("""
+			CREATE TABLE medication_log (
+			    medication_log_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+			    user_id BIGINT NOT NULL,
+			    medication_id BIGINT NOT NULL,
+			    taken_at TIMESTAMP NOT NULL,
+			    time_of_day VARCHAR(20),
+			    taken BOOLEAN DEFAULT FALSE,
+			    notes TEXT
+			)""");
+		jdbcTemplate.execute("CREATE INDEX idx_medi_schedule_medication ON medi_schedule (medication_id)");
+		jdbcTemplate.execute("CREATE INDEX idx_medication_log_user_taken ON medication_log (user_id, taken_at)");
+		jdbcTemplate.execute(
+			"CREATE INDEX idx_medication_log_medication_taken ON medication_log (medication_id, taken_at, medication_log_id)");
+
+		List<Object[]> logs = new ArrayList<>();
+		for (long medicationId = 1; medicationId <= MEDICATIONS; medicationId++) {
+			jdbcTemplate.update("INSERT INTO medication (medication_id, user_id, name, dose) VALUES (?, ?, ?, ?)",
+				medicationId, USER_ID, "약 " + medicationId, "1정");
+			for (TimeOfDay timeOfDay : TIMES) {
+				jdbcTemplate.update("INSERT INTO medi_schedule (medication_id, time_of_day, rrule) VALUES (?, ?, ?)",
+					medicationId, timeOfDay.name(), "FREQ=DAILY");
+			}
+			for (int day = 0; day < DAYS; day++) {
+				for (TimeOfDay timeOfDay : TIMES) {
+					LocalDateTime takenAt = FIRST_DAY.plusDays(day).atTime(8 + TIMES.indexOf(timeOfDay) * 5, 0);
+					// 마지막 날 저녁은 아직 복용 전
+					boolean taken = !(day == DAYS - 1 && timeOfDay == TimeOfDay.DINNER);
+					if (taken) {
+						logs.add(new Object[] {USER_ID, medicationId, Timestamp.valueOf(takenAt), timeOfDay.name(), true});
+					}
+				}
+			}
+		}
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO medication_log (user_id, medication_id, taken_at, time_of_day, taken) VALUES (?, ?, ?, ?, ?)",
+			logs);
+		System.out.printf("[benchmark] seeded %d medications, %d schedules, %,d logs%n",
+			MEDICATIONS, MEDICATIONS * TIMES.size(), logs.size());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		connection.close();
+	}
+
+	@Test
+	@DisplayName("2년치 기록이 있는 환자의 하루 스케줄: 전체 이력 지연 로딩 vs 날짜 범위 조회")
+	void dailySchedule() {
+		Map<String, Boolean> before = measureOnce("before", this::loadAllHistory);
+		Map<String, Boolean> after = measureOnce("after", this::loadDateScoped);
+		assertThat(statements.get()).isEqualTo(2);
+
+		assertThat(after).isEqualTo(before).hasSize(MEDICATIONS * TIMES.size());
+		// 마지막 날 저녁만 미복용
+		assertThat(after.values()).filteredOn(Boolean.FALSE::equals).hasSize(MEDICATIONS);
+
+		BenchmarkRunner.measure("daily schedule, all history + lazy loads", 20, 100, 1, this::loadAllHistory);
+		BenchmarkRunner.measure("daily schedule, join fetch + date range", 20, 100, 1, this::loadDateScoped);
+	}
+
+	private Map<String, Boolean> measureOnce(String label, Supplier<Map<String, Boolean>> task) {
+		statements.set(0);
+		rowsRead.set(0);
+		Map<String, Boolean> result = task.get();
+		System.out.printf("[benchmark] %s: %d statements, %,d rows read%n", label, statements.get(), rowsRead.get());
+		return result;
+	}
+
+	// 이전 경로: medicationRepository.findByUser → med.getMediSchedules() → med.getMedicationLogs() 스트림 필터
+	private Map<String, Boolean> loadAllHistory() {
+		Map<String, Boolean> takenBySchedule = new HashMap<>();
+		List<Long> medicationIds = query("SELECT medication_id FROM medication WHERE user_id = ?",
+			(rs, i) -> rs.getLong(1), USER_ID);
+
+		for (Long medicationId : medicationIds) {
+			List<String> schedules = query(
+				"SELECT time_of_day FROM medi_schedule WHERE medication_id = ?",
+				(rs, i) -> rs.getString(1), medicationId);
+			List<LogRow> history = query(
+				"SELECT time_of_day, taken_at, taken FROM medication_log WHERE medication_id = ?",
+				(rs, i) -> new LogRow(medicationId, rs.getString(1), rs.getTimestamp(2).toLocalDateTime(),
+					rs.getBoolean(3)),
+				medicationId);
+
+			for (String timeOfDay : schedules) {
+				LogRow matched = history.stream()
+					.filter(log -> log.timeOfDay().equals(timeOfDay)
+						&& log.takenAt().toLocalDate().equals(TARGET_DAY))
+					.findFirst()
+					.orElse(null);
+				takenBySchedule.put(medicationId + "|" + timeOfDay, matched != null && matched.taken());
+			}
+		}
+		return takenBySchedule;
+	}
+
+	// 현재 경로: findByUserIdWithMedication + findByUserIdAndTakenAtRange → (약, timeOfDay) HashMap
+	private Map<String, Boolean> loadDateScoped() {
+		List<String[]> schedules = query(
+			"SELECT s.medication_id, s.time_of_day, m.name FROM medi_schedule s "
+				+ "JOIN medication m ON m.medication_id = s.medication_id "
+				+ "WHERE m.user_id = ? ORDER BY m.medication_id, s.medi_schedule_id",
+			(rs, i) -> new String[] {rs.getString(1), rs.getString(2)}, USER_ID);
+		List<LogRow> logs = query(
+			"SELECT medication_id, time_of_day, taken_at, taken FROM medication_log "
+				+ "WHERE user_id = ? AND taken_at >= ? AND taken_at < ? ORDER BY taken_at, medication_log_id",
+			(rs, i) -> new LogRow(rs.getLong(1), rs.getString(2), rs.getTimestamp(3).toLocalDateTime(),
+				rs.getBoolean(4)),
+			USER_ID, Timestamp.valueOf(TARGET_DAY.atStartOfDay()), Timestamp.valueOf(TARGET_DAY.plusDays(1).atStartOfDay()));
+
+		Map<String, LogRow> logsBySchedule = new HashMap<>(logs.size() * 2);
+		for (LogRow log : logs) {
+			logsBySchedule.putIfAbsent(log.medicationId() + "|" + log.timeOfDay(), log);
+		}
+
+		Map<String, Boolean> takenBySchedule = new HashMap<>();
+		for (String[] schedule : schedules) {
+			String key = schedule[0] + "|" + schedule[1];
+			LogRow matched = logsBySchedule.get(key);
+			takenBySchedule.put(key, matched != null && matched.taken());
+		}
+		return takenBySchedule;
+	}
+
+	private <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+		statements.incrementAndGet();
+		return jdbcTemplate.query(sql, (rs, rowNum) -> {
+			rowsRead.incrementAndGet();
+			return rowMapper.mapRow(rs, rowNum);
+		}, args);
+	}
+
+	private record LogRow(long medicationId, String timeOfDay, LocalDateTime takenAt, boolean taken) {
+	}
+}
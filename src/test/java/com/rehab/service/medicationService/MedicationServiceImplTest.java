@@ -0,0 +1,46 @@
+package com.rehab.service.medicationService;
+
+import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.apiPayload.exception.GeneralException;
+import com.rehab.domain.entity.User;
+import com.rehab.domain.repository.medication.MediScheduleRepository;
+import com.rehab.domain.repository.medication.MedicationLogRepository;
+import com.rehab.domain.repository.medication.MedicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class MedicationServiceImplTest {
+
+	private MedicationRepository medicationRepository;
+	private MedicationLogRepository logRepository;
+	private MedicationServiceImpl medicationService;
+
+	@BeforeEach
+	void setUp() {
+		medicationRepository = mock(MedicationRepository.class);
+		logRepository = mock(MedicationLogRepository.class);
+		medicationService = new MedicationServiceImpl(medicationRepository, mock(MediScheduleRepository.class), logRepository);
+	}
+
+	@Test
+	@DisplayName("커서 값이 하나만 오면 400 으로 거절하고 조회하지 않는다")
+	void rejectsHalfCursor() {
+		User user = mock(User.class);
+
+		assertThatThrownBy(() -> medicationService.getMedicationLogs(user, 1L, LocalDateTime.of(2026, 1, 1, 9, 0), null, 20))
+			.isInstanceOf(GeneralException.class)
+			.extracting(e -> ((GeneralException) e).getErrorReasonHttpStatus().getCode())
+			.isEqualTo(ErrorStatus.INVALID_CURSOR.getCode());
+		assertThatThrownBy(() -> medicationService.getMedicationLogs(user, 1L, null, 10L, 20))
+			.isInstanceOf(GeneralException.class);
+
+		verifyNoInteractions(medicationRepository, logRepository);
+	}
+}
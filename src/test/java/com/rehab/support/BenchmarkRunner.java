@@ -0,0 +1,68 @@
+package com.rehab.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 태그 "benchmark" 테스트용 간단한 측정 도구 (./gradlew benchmark)
+ * JIT 워밍업 후 반복 실행해 호출당 지연 백분위와 할당 바이트를 표준 출력으로 남김
+ * JMH 처럼 정밀하지는 않으므로 같은 머신에서 전/후 비교 용도로만 사용
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 * @param warmup     측정 전에 버리는 실행 수
+	 * @param iterations 측정 실행 수
+	 * @param opsPerRun  실행 한 번에 포함된 연산 수 (호출당 값으로 나눔)
+	 */
+	public static Result measure(String label, int warmup, int iterations, int opsPerRun, Runnable task) {
+		for (int i = 0; i < warmup; i++) {
+			task.run();
+		}
+
+		long[] nanos = new long[iterations];
+		long allocatedBefore = allocatedBytes();
+		for (int i = 0; i < iterations; i++) {
+			long start = System.nanoTime();
+			task.run();
+			nanos[i] = System.nanoTime() - start;
+		}
+		long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+
+		Arrays.sort(nanos);
+		Result result = new Result(
+			label,
+			(double)nanos[iterations / 2] / opsPerRun,
+			(double)nanos[Math.min(iterations - 1, (int)(iterations * 0.99))] / opsPerRun,
+			allocated < 0 ? -1 : (double)allocated / ((long)iterations * opsPerRun)
+		);
+		System.out.println(result);
+		return result;
+	}
+
+	// 현재 스레드가 지금까지 할당한 바이트 (HotSpot 외 JVM 이면 -1)
+	private static long allocatedBytes() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean) {
+			return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
+	/**
+	 * 호출당 측정값
+	 *
+	 * @param allocatedBytesPerOp 호출당 할당 바이트 (측정 불가면 음수)
+	 */
+	public record Result(String label, double p50Nanos, double p99Nanos, double allocatedBytesPerOp) {
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT, "[benchmark] %-50s p50 %,12.1f ns  p99 %,12.1f ns  alloc %,10.0f B/op",
+				label, p50Nanos, p99Nanos, allocatedBytesPerOp);
+		}
+	}
+}